@@ -17,6 +17,7 @@ function addFunctions() {
     addSprintfFunctions();
     addIoFunctions();
     addStringFunctions();
+    addTableFunctions();
 }
 
 function addJSONFunctions() {
@@ -139,4 +140,18 @@ function addStringFunctions() {
     functions["benchmarkStringLength"] = benchmarktypes:benchmarkStringLength;
     functions["benchmarkStringSplit"] = benchmarktypes:benchmarkStringSplit;
     functions["benchmarkStringUnescape"] = benchmarktypes:benchmarkStringUnescape;
+    functions["benchmarkStringAppendLoop"] = benchmarktypes:benchmarkStringAppendLoop;
+    functions["benchmarkStringAppendLoopNonBmp"] = benchmarktypes:benchmarkStringAppendLoopNonBmp;
+    functions["benchmarkStringAppendAndRead"] = benchmarktypes:benchmarkStringAppendAndRead;
+    functions["benchmarkStringConcatChain"] = benchmarktypes:benchmarkStringConcatChain;
+}
+
+function addTableFunctions() {
+    functions["benchmarkTableAdd"] = benchmarktypes:benchmarkTableAdd;
+    functions["benchmarkTablePut"] = benchmarktypes:benchmarkTablePut;
+    functions["benchmarkTableGet"] = benchmarktypes:benchmarkTableGet;
+    functions["benchmarkTableHasKey"] = benchmarktypes:benchmarkTableHasKey;
+    functions["benchmarkTableRemoveAndAdd"] = benchmarktypes:benchmarkTableRemoveAndAdd;
+    functions["benchmarkTableMultiKeyAddAndGet"] = benchmarktypes:benchmarkTableMultiKeyAddAndGet;
+    functions["benchmarkTableIterate"] = benchmarktypes:benchmarkTableIterate;
 }
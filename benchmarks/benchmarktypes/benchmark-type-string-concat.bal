@@ -0,0 +1,44 @@
+const int APPEND_COUNT = 2000;
+
+// Appends short fragments to a string in a loop, the way payloads are usually built.
+public function benchmarkStringAppendLoop() {
+    string payload = "";
+    int i = 0;
+    while (i < APPEND_COUNT) {
+        payload = payload + "{\"id\":" + i.toString() + ",\"name\":\"employee\"},";
+        i = i + 1;
+    }
+    int length = payload.length();
+}
+
+// Same as benchmarkStringAppendLoop, with fragments containing characters outside the basic multilingual plane.
+public function benchmarkStringAppendLoopNonBmp() {
+    string payload = "";
+    int i = 0;
+    while (i < APPEND_COUNT) {
+        payload = payload + "\u{1F6F8} item " + i.toString() + " \u{1F47D};";
+        i = i + 1;
+    }
+    int length = payload.length();
+}
+
+// Appends in a loop and reads the intermediate string every few appends, which forces it to be flattened.
+public function benchmarkStringAppendAndRead() {
+    string payload = "";
+    int i = 0;
+    while (i < APPEND_COUNT) {
+        payload = payload + "fragment " + i.toString() + ";";
+        if (i % 100 == 0) {
+            int index = payload.indexOf("fragment") ?: -1;
+        }
+        i = i + 1;
+    }
+}
+
+// A single chain of additions of short strings, which is expected to stay as fast as a plain copy.
+public function benchmarkStringConcatChain() {
+    string firstName = "John";
+    string lastName = "Doe";
+    string city = "Colombo";
+    string result = "name: " + firstName + " " + lastName + ", city: " + city + ".";
+}
@@ -0,0 +1,84 @@
+type Employee record {
+    readonly int id;
+    string name;
+    float salary;
+};
+
+type Grade record {
+    readonly string dept;
+    readonly int level;
+    float band;
+};
+
+const int TABLE_ROWS = 10000;
+
+table<Employee> key(id) lookupTable = createEmployeeTable(TABLE_ROWS);
+
+function createEmployeeTable(int rows) returns table<Employee> key(id) {
+    table<Employee> key(id) tbl = table [];
+    int i = 0;
+    while (i < rows) {
+        tbl.add({id: i, name: "employee", salary: 1000.0});
+        i = i + 1;
+    }
+    return tbl;
+}
+
+// Builds a table with TABLE_ROWS rows. Run with GC logs enabled to compare the memory used per row.
+public function benchmarkTableAdd() {
+    table<Employee> key(id) tbl = createEmployeeTable(TABLE_ROWS);
+}
+
+public function benchmarkTablePut() {
+    int i = 0;
+    while (i < 100) {
+        lookupTable.put({id: i, name: "employee", salary: 2000.0});
+        i = i + 1;
+    }
+}
+
+public function benchmarkTableGet() {
+    int i = 0;
+    while (i < 100) {
+        Employee e = lookupTable.get(i * 97);
+        i = i + 1;
+    }
+}
+
+public function benchmarkTableHasKey() {
+    int i = 0;
+    while (i < 100) {
+        boolean found = lookupTable.hasKey(i + TABLE_ROWS - 50);
+        i = i + 1;
+    }
+}
+
+public function benchmarkTableRemoveAndAdd() {
+    int i = 0;
+    while (i < 100) {
+        Employee e = lookupTable.remove(i);
+        lookupTable.add(e);
+        i = i + 1;
+    }
+}
+
+public function benchmarkTableMultiKeyAddAndGet() {
+    table<Grade> key(dept, level) grades = table [];
+    int i = 0;
+    while (i < 100) {
+        grades.add({dept: "engineering", level: i, band: 1.0});
+        i = i + 1;
+    }
+    i = 0;
+    while (i < 100) {
+        Grade g = grades.get(["engineering", i]);
+        i = i + 1;
+    }
+}
+
+public function benchmarkTableIterate() {
+    float total = 0.0;
+    foreach Employee e in lookupTable {
+        total = total + e.salary;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm.benchmarks;
+
+import org.ballerinalang.jvm.MapUtils;
+import org.ballerinalang.jvm.api.BErrorCreator;
+import org.ballerinalang.jvm.api.BStringUtils;
+import org.ballerinalang.jvm.api.values.BString;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for storing captured variables to a closure map, a {@code map<any|error>}, through the checked generic
+ * map store and through the plain {@code put} the compiler emits for the closure maps it creates. The loads and stores
+ * of a hand-written class with a typed field per captured variable are the baseline for what the closure maps cost.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ClosureMapBenchmark {
+
+    private static final BMapType CLOSURE_MAP_TYPE =
+            new BMapType(new BUnionType(new BType[] { BTypes.typeAny, BTypes.typeError }, 0));
+    private static final BString COUNT = BStringUtils.fromString("count");
+    private static final BString NAME = BStringUtils.fromString("name");
+    private static final BString ITEMS = BStringUtils.fromString("items");
+    private static final BString RESULT = BStringUtils.fromString("result");
+
+    private MapValueImpl<BString, Object> closureMap;
+    private ClosureEnv closureEnv;
+    private long count;
+    private BString name;
+    private ArrayValueImpl items;
+    private Object result;
+
+    @Setup
+    public void setup() {
+        closureMap = new MapValueImpl<>(CLOSURE_MAP_TYPE);
+        closureEnv = new ClosureEnv();
+        count = 42;
+        name = BStringUtils.fromString("John");
+        items = new ArrayValueImpl(new long[] { 1, 2, 3 });
+        result = BErrorCreator.createError(BStringUtils.fromString("failed"));
+        uncheckedStore();
+        fieldStore();
+    }
+
+    @Benchmark
+    public Object checkedStore() {
+        MapUtils.handleMapStore(closureMap, COUNT, count);
+        MapUtils.handleMapStore(closureMap, NAME, name);
+        MapUtils.handleMapStore(closureMap, ITEMS, items);
+        MapUtils.handleMapStore(closureMap, RESULT, result);
+        return closureMap;
+    }
+
+    @Benchmark
+    public Object uncheckedStore() {
+        closureMap.put(COUNT, count);
+        closureMap.put(NAME, name);
+        closureMap.put(ITEMS, items);
+        closureMap.put(RESULT, result);
+        return closureMap;
+    }
+
+    @Benchmark
+    public Object fieldStore() {
+        closureEnv.count = count;
+        closureEnv.name = name;
+        closureEnv.items = items;
+        closureEnv.result = result;
+        return closureEnv;
+    }
+
+    @Benchmark
+    public long mapLoad() {
+        // A captured int is read as `any|error` and cast back to an int.
+        long count = (Long) closureMap.get(COUNT);
+        BString name = (BString) closureMap.get(NAME);
+        ArrayValueImpl items = (ArrayValueImpl) closureMap.get(ITEMS);
+        Object result = closureMap.get(RESULT);
+        return count + name.length() + items.size() + (result == null ? 0 : 1);
+    }
+
+    @Benchmark
+    public long fieldLoad() {
+        return closureEnv.count + closureEnv.name.length() + closureEnv.items.size() +
+                (closureEnv.result == null ? 0 : 1);
+    }
+
+    /**
+     * Holds the same captured variables as the closure map, in fields of their own types.
+     */
+    private static class ClosureEnv {
+
+        long count;
+        BString name;
+        ArrayValueImpl items;
+        Object result;
+    }
+}
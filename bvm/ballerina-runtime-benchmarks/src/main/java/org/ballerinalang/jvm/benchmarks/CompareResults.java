@@ -0,0 +1,139 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm.benchmarks;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH result files written in the JSON format, e.g. the results of the same benchmarks run on two
+ * commits, and reports the change of the score of each benchmark present in both.
+ * <p>
+ * Usage: {@code CompareResults <baseline.json> <current.json> [threshold-percentage]}. Changes which are worse than
+ * the threshold and outside the error margins of both runs are reported as regressions.
+ *
+ * @since 2.0.0
+ */
+public class CompareResults {
+
+    private static final PrintStream OUT = System.out;
+    private static final PrintStream ERR = System.err;
+    private static final double DEFAULT_THRESHOLD = 5;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            ERR.println("usage: CompareResults <baseline.json> <current.json> [threshold-percentage]");
+            System.exit(1);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD;
+        Map<String, Score> baseline = read(args[0]);
+        Map<String, Score> current = read(args[1]);
+
+        int regressions = 0;
+        OUT.println(String.format("%-80s %16s %16s %9s", "Benchmark", "Baseline", "Current", "Change"));
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score before = baseline.get(entry.getKey());
+            if (before == null) {
+                continue;
+            }
+            Score after = entry.getValue();
+            double change = (after.value - before.value) * 100 / before.value;
+            // A lower score is better for time based modes, while a higher score is better for throughput.
+            double loss = after.higherIsBetter ? -change : change;
+            boolean significant = Math.abs(after.value - before.value) > before.error + after.error;
+            String mark = "";
+            if (significant && loss > threshold) {
+                mark = " REGRESSED";
+                regressions++;
+            } else if (significant && -loss > threshold) {
+                mark = " IMPROVED";
+            }
+            OUT.println(String.format("%-80s %16s %16s %+8.1f%%%s", entry.getKey(), before, after, change, mark));
+        }
+        OUT.println(regressions + " regression(s) beyond " + threshold + "%");
+    }
+
+    private static Map<String, Score> read(String file) throws IOException {
+        JsonArray results;
+        try (Reader reader = Files.newBufferedReader(Paths.get(file), StandardCharsets.UTF_8)) {
+            results = new JsonParser().parse(reader).getAsJsonArray();
+        }
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonElement element : results) {
+            JsonObject result = element.getAsJsonObject();
+            JsonObject metric = result.getAsJsonObject("primaryMetric");
+            String mode = result.get("mode").getAsString();
+            double error = metric.get("scoreError").isJsonPrimitive() ? metric.get("scoreError").getAsDouble() : 0;
+            if (Double.isNaN(error)) {
+                error = 0;
+            }
+            scores.put(key(result, mode), new Score(metric.get("score").getAsDouble(), error,
+                                                    metric.get("scoreUnit").getAsString(), "thrpt".equals(mode)));
+        }
+        return scores;
+    }
+
+    private static String key(JsonObject result, String mode) {
+        StringBuilder key = new StringBuilder(result.get("benchmark").getAsString());
+        if (result.has("params")) {
+            // Order the parameters so that the key does not depend on the order JMH writes them in.
+            Map<String, String> params = new TreeMap<>();
+            for (Map.Entry<String, JsonElement> param : result.getAsJsonObject("params").entrySet()) {
+                params.put(param.getKey(), param.getValue().getAsString());
+            }
+            key.append(params);
+        }
+        return key.append(" (").append(mode).append(')').toString();
+    }
+
+    /**
+     * The primary score of a benchmark.
+     */
+    private static class Score {
+
+        final double value;
+        final double error;
+        final String unit;
+        final boolean higherIsBetter;
+
+        Score(double value, double error, String unit, boolean higherIsBetter) {
+            this.value = value;
+            this.error = error;
+            this.unit = unit;
+            this.higherIsBetter = higherIsBetter;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%.3f %s", value, unit);
+        }
+    }
+}
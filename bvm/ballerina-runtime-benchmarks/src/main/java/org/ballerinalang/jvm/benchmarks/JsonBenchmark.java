@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm.benchmarks;
+
+import org.ballerinalang.jvm.JSONParser;
+import org.ballerinalang.jvm.api.BStringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for parsing and serializing JSON documents made of an array of flat objects.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JsonBenchmark {
+
+    @Param({"10", "1000"})
+    public int records;
+
+    private String document;
+    private byte[] documentBytes;
+    private Object value;
+
+    @Setup
+    public void setup() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < records; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"id\":").append(i)
+                    .append(",\"name\":\"name ").append(i).append('"')
+                    .append(",\"price\":").append(i).append(".25")
+                    .append(",\"active\":").append(i % 2 == 0)
+                    .append(",\"tags\":[\"a\",\"b\",\"c\"]")
+                    .append(",\"owner\":{\"id\":").append(i * 7).append(",\"email\":null}}");
+        }
+        document = builder.append(']').toString();
+        documentBytes = document.getBytes(StandardCharsets.UTF_8);
+        value = JSONParser.parse(document);
+    }
+
+    @Benchmark
+    public Object parse() {
+        return JSONParser.parse(document);
+    }
+
+    @Benchmark
+    public Object parseBytes() {
+        return JSONParser.parse(new ByteArrayInputStream(documentBytes), "UTF-8");
+    }
+
+    @Benchmark
+    public String serialize() {
+        return BStringUtils.getJsonString(value);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm.benchmarks;
+
+import org.ballerinalang.jvm.BLock;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.scheduling.StrandMetadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks acquiring and releasing a {@link BLock}. Only the paths which do not block are measured, as blocking
+ * yields the strand back to a scheduler.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LockBenchmark {
+
+    private static final StrandMetadata METADATA = new StrandMetadata("bench", "lock", "0.1.0", "main");
+
+    /**
+     * A lock shared by all the benchmark threads.
+     */
+    @State(Scope.Benchmark)
+    public static class SharedLock {
+        final BLock lock = new BLock();
+    }
+
+    /**
+     * The strand of a benchmark thread, along with a lock only used by that thread.
+     */
+    @State(Scope.Thread)
+    public static class StrandState {
+        Strand strand;
+        BLock lock;
+
+        @Setup
+        public void setup() {
+            strand = new Strand("bench", METADATA, null, null, null);
+            lock = new BLock();
+        }
+    }
+
+    @Benchmark
+    public void exclusiveUncontended(StrandState state) {
+        state.lock.lock(state.strand);
+        state.lock.unlock();
+    }
+
+    @Benchmark
+    public void exclusiveReentrant(StrandState state) {
+        state.lock.lock(state.strand);
+        state.lock.lock(state.strand);
+        state.lock.unlock();
+        state.lock.unlock();
+    }
+
+    @Benchmark
+    public void sharedUncontended(StrandState state) {
+        state.lock.lockShared(state.strand);
+        state.lock.unlockShared(state.strand);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void sharedByReaders(SharedLock shared, StrandState state) {
+        shared.lock.lockShared(state.strand);
+        shared.lock.unlockShared(state.strand);
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm.benchmarks;
+
+import org.ballerinalang.jvm.MapUtils;
+import org.ballerinalang.jvm.api.BStringUtils;
+import org.ballerinalang.jvm.api.values.BString;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.TypeFlags;
+import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for reading and writing the fields of a closed record, through the generic map operations and through
+ * the direct field accesses the compiler emits for records defined in the same module.
+ * <p>
+ * {@link PersonValue} mirrors the record value class the compiler generates for
+ * {@code record {| string name; int age; float height; |}}. It is written by hand, not generated, so these results
+ * reflect the generated code only as long as the class follows {@code JvmValueGen}.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RecordFieldBenchmark {
+
+    private static final BPackage PACKAGE = new BPackage("bench", "records", "0.1.0");
+    private static final BString NAME = BStringUtils.fromString("name");
+    private static final BString AGE = BStringUtils.fromString("age");
+    private static final BString HEIGHT = BStringUtils.fromString("height");
+
+    private MapValueImpl<BString, Object> person;
+    private BString name;
+    private long age;
+    private double height;
+
+    @Setup
+    public void setup() {
+        Map<String, BField> fields = new LinkedHashMap<>();
+        fields.put("name", new BField(BTypes.typeString, "name", Flags.REQUIRED));
+        fields.put("age", new BField(BTypes.typeInt, "age", Flags.REQUIRED));
+        fields.put("height", new BField(BTypes.typeFloat, "height", Flags.REQUIRED));
+        BRecordType personType = new BRecordType("Person", PACKAGE, 0, fields, null, true,
+                                                 TypeFlags.asMask(TypeFlags.ANYDATA, TypeFlags.PURETYPE));
+
+        person = new PersonValue(personType);
+        name = BStringUtils.fromString("John");
+        age = 30;
+        height = 1.8d;
+        person.put(NAME, name);
+        person.put(AGE, age);
+        person.put(HEIGHT, height);
+    }
+
+    @Benchmark
+    public double genericLoad() {
+        BString name = (BString) person.get(NAME);
+        long age = (Long) person.get(AGE);
+        double height = (Double) person.get(HEIGHT);
+        return name.length() + age + height;
+    }
+
+    @Benchmark
+    public double directLoad() {
+        Object value = person;
+        if (value instanceof PersonValue) {
+            PersonValue personValue = (PersonValue) value;
+            return personValue.name.length() + personValue.age + personValue.height;
+        }
+        return genericLoad();
+    }
+
+    @Benchmark
+    public Object genericStore() {
+        MapUtils.handleMapStore(person, NAME, name);
+        MapUtils.handleMapStore(person, AGE, age);
+        MapUtils.handleMapStore(person, HEIGHT, height);
+        return person;
+    }
+
+    @Benchmark
+    public Object directStore() {
+        Object value = person;
+        if (value instanceof PersonValue && !((PersonValue) value).isFrozen()) {
+            PersonValue personValue = (PersonValue) value;
+            personValue.name = name;
+            personValue.age = age;
+            personValue.height = height;
+            return personValue;
+        }
+        return genericStore();
+    }
+
+    /**
+     * Record value with its fields stored in Java fields, as in the classes generated by the compiler.
+     */
+    static class PersonValue extends MapValueImpl<BString, Object> {
+
+        BString name;
+        long age;
+        double height;
+
+        PersonValue(BType type) {
+            super(type);
+        }
+
+        @Override
+        public Object get(Object key) {
+            switch (((BString) key).getValue()) {
+                case "name":
+                    return name;
+                case "age":
+                    return age;
+                case "height":
+                    return height;
+                default:
+                    return super.get(key);
+            }
+        }
+
+        @Override
+        protected Object putValue(BString key, Object value) {
+            Object oldValue;
+            switch (key.getValue()) {
+                case "name":
+                    oldValue = name;
+                    name = (BString) value;
+                    return oldValue;
+                case "age":
+                    oldValue = age;
+                    age = (Long) value;
+                    return oldValue;
+                case "height":
+                    oldValue = height;
+                    height = (Double) value;
+                    return oldValue;
+                default:
+                    return super.putValue(key, value);
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm.benchmarks;
+
+import org.ballerinalang.jvm.api.connector.CallableUnitCallback;
+import org.ballerinalang.jvm.api.values.BError;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.StrandMetadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Benchmarks the throughput of the {@link Scheduler}, by scheduling a batch of short strands and waiting for all of
+ * them to complete.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SchedulerBenchmark {
+
+    private static final StrandMetadata METADATA = new StrandMetadata("bench", "scheduler", "0.1.0", "main");
+
+    @Param({"1", "4"})
+    public int threads;
+
+    @Param({"false", "true"})
+    public boolean workStealing;
+
+    @Param({"1000"})
+    public int strands;
+
+    private Scheduler scheduler;
+
+    @Setup
+    public void setup() {
+        scheduler = new Scheduler(threads, true, workStealing);
+        // Starting the scheduler blocks the calling thread, which becomes one of its workers.
+        Thread schedulerThread = new Thread(scheduler::start, "bench-scheduler");
+        schedulerThread.setDaemon(true);
+        schedulerThread.start();
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduler.poison();
+    }
+
+    @Benchmark
+    public void scheduleAndComplete() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(strands);
+        CallableUnitCallback callback = new LatchCallback(latch);
+        Function<Object[], Object> function = params -> params[1];
+        for (int i = 0; i < strands; i++) {
+            scheduler.schedule(new Object[]{null, (long) i}, function, null, callback, "bench", METADATA);
+        }
+        latch.await();
+    }
+
+    /**
+     * Counts down a latch when a strand completes.
+     */
+    private static class LatchCallback implements CallableUnitCallback {
+
+        private final CountDownLatch latch;
+
+        LatchCallback(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public void notifySuccess() {
+            latch.countDown();
+        }
+
+        @Override
+        public void notifyFailure(BError error) {
+            latch.countDown();
+        }
+    }
+}
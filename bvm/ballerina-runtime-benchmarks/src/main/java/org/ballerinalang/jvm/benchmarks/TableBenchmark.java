@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm.benchmarks;
+
+import org.ballerinalang.jvm.api.BStringUtils;
+import org.ballerinalang.jvm.api.values.BString;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BTableType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.IteratorValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.TableValueImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for adding, looking up and iterating the rows of a table with an int key.
+ * <p>
+ * Run with {@code -prof gc} to get the memory allocated per row: {@code gc.alloc.rate.norm} of {@link #tablePut}
+ * divided by the number of rows. The rows are created once in the setup, so only the storage of the table, including
+ * the arrays dropped while it grows, is counted.
+ * <p>
+ * Only the public {@link TableValueImpl} API is used, so that the class can be copied onto an older commit to
+ * compare against a previous implementation of the table storage.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TableBenchmark {
+
+    private static final BMapType ROW_TYPE = new BMapType(BTypes.typeInt);
+    private static final BTableType TABLE_TYPE = new BTableType(ROW_TYPE, new String[] { "id" }, false);
+    private static final BString ID = BStringUtils.fromString("id");
+
+    @Param({"16", "1024", "65536"})
+    public int size;
+
+    private MapValueImpl<BString, Object>[] rows;
+    private Long[] keys;
+    private TableValueImpl<Long, MapValueImpl<BString, Object>> table;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        rows = new MapValueImpl[size];
+        keys = new Long[size];
+        table = new TableValueImpl<>(TABLE_TYPE);
+        for (int i = 0; i < size; i++) {
+            keys[i] = (long) i;
+            rows[i] = new MapValueImpl<>(ROW_TYPE);
+            rows[i].put(ID, keys[i]);
+            table.add(rows[i]);
+        }
+    }
+
+    @Benchmark
+    public TableValueImpl<Long, MapValueImpl<BString, Object>> tablePut() {
+        TableValueImpl<Long, MapValueImpl<BString, Object>> result = new TableValueImpl<>(TABLE_TYPE);
+        for (int i = 0; i < size; i++) {
+            result.put(rows[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public void tableGet(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(table.get(keys[i]));
+        }
+    }
+
+    @Benchmark
+    public void tableContainsMissingKey(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(table.containsKey((long) (size + i)));
+        }
+    }
+
+    @Benchmark
+    public TableValueImpl<Long, MapValueImpl<BString, Object>> tableRemoveAndPut() {
+        for (int i = 0; i < size; i++) {
+            table.remove(keys[i]);
+            table.put(rows[i]);
+        }
+        return table;
+    }
+
+    @Benchmark
+    public void tableIterate(Blackhole blackhole) {
+        IteratorValue iterator = table.getIterator();
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+}
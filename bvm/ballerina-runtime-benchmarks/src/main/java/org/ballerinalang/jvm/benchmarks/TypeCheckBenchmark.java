@@ -0,0 +1,154 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm.benchmarks;
+
+import org.ballerinalang.jvm.TypeChecker;
+import org.ballerinalang.jvm.api.BStringUtils;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.types.TypeFlags;
+import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link TypeChecker#checkIsType(Object, BType)}, against simple, union, structural and record types.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TypeCheckBenchmark {
+
+    private static final BPackage PACKAGE = new BPackage("bench", "types", "0.1.0");
+
+    private BType unionType;
+    private BRecordType personType;
+    private BRecordType openPersonType;
+    private BType jsonMapType;
+    private BType anydataArrayType;
+
+    private Object intValue;
+    private MapValueImpl<Object, Object> person;
+    private MapValueImpl<Object, Object> jsonMap;
+    private ArrayValue anydataArray;
+
+    @Setup
+    public void setup() {
+        unionType = new BUnionType(Arrays.asList(BTypes.typeString, BTypes.typeFloat, BTypes.typeBoolean,
+                                                 BTypes.typeInt, BTypes.typeNull));
+        personType = createPersonType("Person", true);
+        openPersonType = createPersonType("OpenPerson", false);
+        jsonMapType = new BMapType(BTypes.typeJSON);
+        anydataArrayType = new BArrayType(BTypes.typeAnydata);
+
+        intValue = 42L;
+
+        person = new MapValueImpl<>(personType);
+        person.put(BStringUtils.fromString("name"), BStringUtils.fromString("John"));
+        person.put(BStringUtils.fromString("age"), 30L);
+        person.put(BStringUtils.fromString("height"), 1.8d);
+
+        jsonMap = new MapValueImpl<>(jsonMapType);
+        for (int i = 0; i < 8; i++) {
+            Object value = i % 2 == 0 ? (Object) (long) i : BStringUtils.fromString("value" + i);
+            jsonMap.put(BStringUtils.fromString("key" + i), value);
+        }
+
+        anydataArray = new ArrayValueImpl((BArrayType) anydataArrayType);
+        for (int i = 0; i < 8; i++) {
+            anydataArray.append(i % 2 == 0 ? jsonMap : person);
+        }
+    }
+
+    private static BRecordType createPersonType(String name, boolean sealed) {
+        Map<String, BField> fields = new LinkedHashMap<>();
+        fields.put("name", new BField(BTypes.typeString, "name", Flags.REQUIRED));
+        fields.put("age", new BField(BTypes.typeInt, "age", Flags.REQUIRED));
+        fields.put("height", new BField(BTypes.typeFloat, "height", Flags.REQUIRED));
+        return new BRecordType(name, PACKAGE, 0, fields, sealed ? null : BTypes.typeAnydata, sealed,
+                               TypeFlags.asMask(TypeFlags.ANYDATA, TypeFlags.PURETYPE));
+    }
+
+    @Benchmark
+    public boolean intIsInt() {
+        return TypeChecker.checkIsType(intValue, BTypes.typeInt);
+    }
+
+    @Benchmark
+    public boolean intIsUnion() {
+        return TypeChecker.checkIsType(intValue, unionType);
+    }
+
+    @Benchmark
+    public boolean intIsAnydata() {
+        return TypeChecker.checkIsType(intValue, BTypes.typeAnydata);
+    }
+
+    @Benchmark
+    public boolean recordIsSameRecord() {
+        return TypeChecker.checkIsType(person, personType);
+    }
+
+    @Benchmark
+    public boolean recordIsOtherRecord() {
+        return TypeChecker.checkIsType(person, openPersonType);
+    }
+
+    @Benchmark
+    public boolean mapIsJsonMap() {
+        return TypeChecker.checkIsType(jsonMap, jsonMapType);
+    }
+
+    @Benchmark
+    public boolean recordIsJson() {
+        return TypeChecker.checkIsType(person, BTypes.typeJSON);
+    }
+
+    @Benchmark
+    public boolean arrayIsAnydataArray() {
+        return TypeChecker.checkIsType(anydataArray, anydataArrayType);
+    }
+}
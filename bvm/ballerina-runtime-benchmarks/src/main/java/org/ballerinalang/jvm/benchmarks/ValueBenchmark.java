@@ -0,0 +1,152 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm.benchmarks;
+
+import org.ballerinalang.jvm.api.BStringUtils;
+import org.ballerinalang.jvm.api.values.BString;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for creating and accessing maps, lists and strings.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ValueBenchmark {
+
+    private static final BMapType INT_MAP_TYPE = new BMapType(BTypes.typeInt);
+    private static final BArrayType INT_ARRAY_TYPE = new BArrayType(BTypes.typeInt);
+    private static final BArrayType ANY_ARRAY_TYPE = new BArrayType(BTypes.typeAny);
+
+    @Param({"16", "1024"})
+    public int size;
+
+    private BString[] keys;
+    private MapValueImpl<BString, Object> map;
+    private ArrayValue intArray;
+    private BString text;
+    private BString part;
+
+    @Setup
+    public void setup() {
+        keys = new BString[size];
+        map = new MapValueImpl<>(INT_MAP_TYPE);
+        intArray = new ArrayValueImpl(INT_ARRAY_TYPE);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            keys[i] = BStringUtils.fromString("key" + i);
+            map.put(keys[i], (long) i);
+            intArray.add(i, (long) i);
+            builder.append("word").append(i).append(' ');
+        }
+        text = BStringUtils.fromString(builder.toString());
+        part = BStringUtils.fromString("word" + (size - 1));
+    }
+
+    @Benchmark
+    public MapValueImpl<BString, Object> mapPut() {
+        MapValueImpl<BString, Object> result = new MapValueImpl<>(INT_MAP_TYPE);
+        for (int i = 0; i < size; i++) {
+            result.put(keys[i], (long) i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public void mapGet(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(map.get(keys[i]));
+        }
+    }
+
+    @Benchmark
+    public ArrayValue intArrayAdd() {
+        ArrayValue result = new ArrayValueImpl(INT_ARRAY_TYPE);
+        for (int i = 0; i < size; i++) {
+            result.add(i, (long) i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public ArrayValue refArrayAppend() {
+        ArrayValue result = new ArrayValueImpl(ANY_ARRAY_TYPE);
+        for (int i = 0; i < size; i++) {
+            result.append(keys[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public long intArrayGet() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += intArray.getInt(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public BString stringConcat() {
+        BString result = BStringUtils.fromString("");
+        for (int i = 0; i < size; i++) {
+            result = result.concat(keys[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public String stringConcatAndRead() {
+        return stringConcat().getValue();
+    }
+
+    @Benchmark
+    public Long stringIndexOf() {
+        return text.indexOf(part, 0);
+    }
+
+    @Benchmark
+    public BString stringSubstring() {
+        return text.substring(text.length() / 4, text.length() / 2);
+    }
+}
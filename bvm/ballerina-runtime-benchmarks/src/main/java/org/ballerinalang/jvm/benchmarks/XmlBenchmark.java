@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm.benchmarks;
+
+import org.ballerinalang.jvm.XMLFactory;
+import org.ballerinalang.jvm.values.XMLValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for parsing and serializing XML documents made of a sequence of flat elements.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class XmlBenchmark {
+
+    @Param({"10", "1000"})
+    public int records;
+
+    private String document;
+    private XMLValue value;
+
+    @Setup
+    public void setup() {
+        StringBuilder builder = new StringBuilder("<items xmlns:ns=\"http://example.com/ns\">");
+        for (int i = 0; i < records; i++) {
+            builder.append("<item id=\"").append(i).append("\" ns:active=\"").append(i % 2 == 0).append("\">")
+                    .append("<name>name ").append(i).append("</name>")
+                    .append("<price>").append(i).append(".25</price>")
+                    .append("<!-- comment ").append(i).append(" -->")
+                    .append("<ns:tags><tag>a</tag><tag>b</tag></ns:tags>")
+                    .append("</item>");
+        }
+        document = builder.append("</items>").toString();
+        value = XMLFactory.parse(document);
+    }
+
+    @Benchmark
+    public XMLValue parse() {
+        return XMLFactory.parse(document);
+    }
+
+    @Benchmark
+    public String serialize() {
+        return value.toString();
+    }
+}
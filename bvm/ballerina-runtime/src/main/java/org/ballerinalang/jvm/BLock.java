@@ -21,51 +21,211 @@ import org.ballerinalang.jvm.scheduling.State;
 import org.ballerinalang.jvm.scheduling.Strand;
 
 import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * {@code VarLock} represents lock object for variables in jvm.
+ * <p>
+ * The lock can be held exclusively by a single strand, or in shared mode by any number of strands that only read
+ * the guarded variables. Ownership is acquired with a CAS on the lock state, so an uncontended lock or unlock does
+ * not block the worker thread. A strand that cannot acquire the lock is queued and yields.
+ * <p>
+ * Waiters are served in FIFO order. Once a strand is queued, the lock is not acquired on the fast path anymore, so
+ * readers arriving after a queued writer wait behind it instead of keeping the lock shared indefinitely. On release
+ * the lock is handed over to the waiter at the head of the queue, along with the shared waiters following it when
+ * it waits for shared access, before they are resumed. A resumed waiter finds the lock already held on its behalf
+ * and does not race with other strands for it again.
  *
  * @since 1.0.0
  */
 public class BLock {
 
-    private ArrayDeque<Strand> current;
+    private static final int FREE = 0;
+    private static final int EXCLUSIVE = -1;
 
-    private ArrayDeque<Strand> waitingForLock;
+    /**
+     * {@link #FREE}, {@link #EXCLUSIVE} or the number of strands holding the lock in shared mode.
+     */
+    private final AtomicInteger state = new AtomicInteger(FREE);
 
-    public BLock() {
-        this.current = new ArrayDeque<>();
-        this.waitingForLock = new ArrayDeque<>();
+    private volatile Strand owner;
+
+    /**
+     * Number of times the owner has acquired the lock. Only accessed by the owner strand, or while handing the lock
+     * over to it.
+     */
+    private int holdCount;
+
+    /**
+     * Strands waiting for the lock. Guarded by this lock object, which is only used when the lock is contended.
+     */
+    private final ArrayDeque<Waiter> waitingForLock = new ArrayDeque<>();
+
+    /**
+     * Number of strands in {@link #waitingForLock}, read without holding the monitor by the fast paths.
+     */
+    private volatile int waiterCount;
+
+    /**
+     * Strands the lock is handed over to in shared mode, which have not been resumed yet.
+     */
+    private final Set<Strand> grantedShared = ConcurrentHashMap.newKeySet();
+
+    public boolean lock(Strand strand) {
+        if (lockedBySameContext(strand)) {
+            // Either a reentrant acquire, or the first acquire after the lock was handed over to this strand.
+            holdCount++;
+            strand.acquiredLockCount++;
+            return true;
+        }
+
+        if (waiterCount == 0 && state.compareAndSet(FREE, EXCLUSIVE)) {
+            owner = strand;
+            holdCount = 1;
+            strand.acquiredLockCount++;
+            return true;
+        }
+
+        return block(strand, false);
     }
 
-    public synchronized boolean lock(Strand strand) {
-        if (isLockFree() || lockedBySameContext(strand)) {
-            this.current.offerLast(strand);
+    public boolean lockShared(Strand strand) {
+        if (lockedBySameContext(strand)) {
+            // already held exclusively by this strand, treat as a reentrant exclusive acquire
+            return lock(strand);
+        }
+
+        if (!grantedShared.isEmpty() && grantedShared.remove(strand)) {
+            strand.acquiredLockCount++;
             return true;
         }
 
-        this.waitingForLock.offerLast(strand);
+        int current;
+        while (waiterCount == 0 && (current = state.get()) >= FREE) {
+            if (state.compareAndSet(current, current + 1)) {
+                strand.acquiredLockCount++;
+                return true;
+            }
+        }
+
+        return block(strand, true);
+    }
+
+    public void unlock() {
+        //owner cannot be null as unlock cannot be called without lock being called first.
+        owner.acquiredLockCount--;
+        if (--holdCount > 0) {
+            return;
+        }
+        owner = null;
+        state.set(FREE);
+        if (waiterCount > 0) {
+            handOver();
+        }
+    }
+
+    public void unlockShared(Strand strand) {
+        if (lockedBySameContext(strand)) {
+            unlock();
+            return;
+        }
+
+        strand.acquiredLockCount--;
+        if (state.decrementAndGet() == FREE && waiterCount > 0) {
+            handOver();
+        }
+    }
+
+    public boolean isLockFree() {
+        return this.state.get() == FREE;
+    }
+
+    public boolean lockedBySameContext(Strand ctx) {
+        return this.owner == ctx;
+    }
+
+    /**
+     * Queues the strand, unless the lock can be acquired without waiting behind other strands.
+     *
+     * @return whether the lock was acquired
+     */
+    private synchronized boolean block(Strand strand, boolean shared) {
+        if (waitingForLock.isEmpty()) {
+            if (shared) {
+                int current;
+                while ((current = state.get()) >= FREE) {
+                    if (state.compareAndSet(current, current + 1)) {
+                        strand.acquiredLockCount++;
+                        return true;
+                    }
+                }
+            } else if (state.compareAndSet(FREE, EXCLUSIVE)) {
+                owner = strand;
+                holdCount = 1;
+                strand.acquiredLockCount++;
+                return true;
+            }
+        }
 
         // Strand state change
         strand.setState(State.BLOCK_AND_YIELD);
         strand.blockedOnExtern = false;
+        waitingForLock.offer(new Waiter(strand, shared));
+        waiterCount++;
+
+        // The lock may have been released after the checks above, by a strand which did not see this waiter.
+        handOver();
         return false;
     }
 
-    public synchronized void unlock() {
-        //current cannot be empty as unlock cannot be called without lock being called first.
-        this.current.removeLast();
-        if (!waitingForLock.isEmpty()) {
-            Strand strand = this.waitingForLock.removeFirst();
-            strand.scheduler.unblockStrand(strand);
+    /**
+     * Hands the lock over to the waiter at the head of the queue, and to the waiters following it as long as they
+     * wait for shared access, if the lock can be acquired on their behalf. The waiters are resumed afterwards.
+     */
+    private synchronized void handOver() {
+        Waiter waiter;
+        while ((waiter = waitingForLock.peek()) != null) {
+            if (waiter.shared) {
+                int current = state.get();
+                if (current < FREE) {
+                    return;
+                }
+                if (!state.compareAndSet(current, current + 1)) {
+                    // a shared holder released the lock concurrently
+                    continue;
+                }
+                grantedShared.add(waiter.strand);
+            } else {
+                // A strand which checked the waiter count before this waiter was queued may hold the lock. It hands
+                // the lock over when it releases it.
+                if (!state.compareAndSet(FREE, EXCLUSIVE)) {
+                    return;
+                }
+                owner = waiter.strand;
+                holdCount = 0;
+            }
+            waitingForLock.poll();
+            waiterCount--;
+            waiter.strand.scheduler.unblockStrand(waiter.strand);
+            if (!waiter.shared) {
+                return;
+            }
         }
     }
 
-    public boolean isLockFree() {
-        return this.current.isEmpty();
-    }
+    /**
+     * A strand waiting for the lock.
+     */
+    private static class Waiter {
 
-    public boolean lockedBySameContext(Strand ctx) {
-        return this.current.getLast() == ctx;
+        final Strand strand;
+        final boolean shared;
+
+        Waiter(Strand strand, boolean shared) {
+            this.strand = strand;
+            this.shared = shared;
+        }
     }
 }
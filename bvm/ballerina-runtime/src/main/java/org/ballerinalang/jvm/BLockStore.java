@@ -22,42 +22,26 @@ import org.ballerinalang.jvm.api.BErrorCreator;
 import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
 /**
+ * Checks made by generated code on the locks held by a strand. The locks themselves are static {@link BLock} fields
+ * of the module init classes, which generated code loads directly.
  *
  * @since 1.2.0
  */
 public class BLockStore {
 
     /**
-     * The map of locks inferred.
+     * Panics if the strand holds a lock, as an asynchronous call started inside a lock statement could access the
+     * variables the lock guards without holding it.
+     * <p>
+     * Any lock held by the strand counts, whether it is held in shared mode or belongs to another module. Before the
+     * locks were resolved by generated code, only the locks of the module making the call were checked.
+     *
+     * @param strand strand making the asynchronous call
      */
-    private  Map<String, BLock> globalLockMap;
-
-    public BLockStore() {
-        globalLockMap = new ConcurrentHashMap<>();
-    }
-
-    public void addLockToMap(String lockName) {
-        globalLockMap.put(lockName, new BLock());
-    }
-
-    public BLock getLockFromMap(String lockName) {
-        return globalLockMap.computeIfAbsent(lockName, (k) -> {
-            return new BLock();
-        });
-    }
-
-    public void panicIfInLock(String lockName, Strand strand) {
-        for (BLock lock : globalLockMap.values()) {
-            if (lock.isLockFree()) {
-                continue;
-            }
-            if (lock.lockedBySameContext(strand)) {
-                throw BErrorCreator.createError(BallerinaErrorReasons.ASYNC_CALL_INSIDE_LOCK);
-            }
+    public void panicIfInLock(Strand strand) {
+        if (strand.acquiredLockCount > 0) {
+            throw BErrorCreator.createError(BallerinaErrorReasons.ASYNC_CALL_INSIDE_LOCK);
         }
     }
 }
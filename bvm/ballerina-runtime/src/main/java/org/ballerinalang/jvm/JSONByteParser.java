@@ -0,0 +1,511 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.api.BStringUtils;
+import org.ballerinalang.jvm.api.values.BString;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.DecimalValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Parses UTF-8 encoded JSON documents directly from their bytes, producing the same values as {@link JSONParser} does
+ * with {@link JSONParser.NonStringValueProcessingMode#FROM_JSON_STRING}.
+ * <p>
+ * Unlike {@link JSONParser}, the input is neither decoded into characters nor copied into intermediate strings, except
+ * for the content of string values. Numbers are accumulated straight from the digits, and field names are interned
+ * across documents parsed by the same thread.
+ * <p>
+ * Only documents in strict JSON syntax are handled. Anything else, including syntax errors and the lenient syntax that
+ * {@link JSONParser} accepts (e.g. single quoted strings), makes {@link #parse(byte[], int, int)} return
+ * {@link #UNSUPPORTED}, in which case the caller is expected to fall back to {@link JSONParser}, which also reports
+ * the location of the error.
+ *
+ * @since 2.0.0
+ */
+@SuppressWarnings("unchecked")
+class JSONByteParser {
+
+    /**
+     * Returned when a document could not be parsed.
+     */
+    static final Object UNSUPPORTED = new Object();
+
+    private static final Unsupported UNSUPPORTED_EXCEPTION = new Unsupported();
+
+    private static final BMapType JSON_MAP_TYPE = new BMapType(BTypes.typeJSON);
+    private static final BArrayType JSON_ARRAY_TYPE = new BArrayType(BTypes.typeJSON);
+
+    /**
+     * Number of decimal digits that surely fit into a long.
+     */
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private static final int NAME_CACHE_SIZE = 512;
+    private static final int MAX_CACHED_NAME_LENGTH = 64;
+
+    // Field names seen by this parser, direct mapped by the hash of their bytes.
+    private final byte[][] cachedNameBytes = new byte[NAME_CACHE_SIZE][];
+    private final BString[] cachedNames = new BString[NAME_CACHE_SIZE];
+
+    // Containers which are being parsed, innermost last, along with the name of the field being parsed in each map.
+    private Object[] containers = new Object[16];
+    private BString[] fieldNames = new BString[16];
+    private int depth;
+
+    private char[] charBuff = new char[256];
+
+    private byte[] buff;
+    private int index;
+    private int limit;
+
+    /**
+     * Parses the JSON document in the given range of bytes.
+     *
+     * @param bytes  the UTF-8 encoded document
+     * @param offset the index of the first byte of the document
+     * @param length the number of bytes of the document
+     * @return the parsed value, or {@link #UNSUPPORTED} if the document could not be parsed
+     */
+    Object parse(byte[] bytes, int offset, int length) {
+        this.buff = bytes;
+        this.index = offset;
+        this.limit = offset + length;
+        this.depth = 0;
+        try {
+            return parseDocument();
+        } catch (Unsupported e) {
+            return UNSUPPORTED;
+        } finally {
+            // Do not keep the document or the values alive through the thread local parser.
+            Arrays.fill(this.containers, 0, this.depth, null);
+            Arrays.fill(this.fieldNames, 0, this.depth, null);
+            this.buff = null;
+        }
+    }
+
+    private Object parseDocument() {
+        Object value;
+        while (true) {
+            skipWhitespace();
+            byte ch = next();
+            if (ch == '{') {
+                MapValueImpl<BString, Object> map = new MapValueImpl<>(JSON_MAP_TYPE);
+                skipWhitespace();
+                if (peek() != '}') {
+                    push(map, parseFieldName());
+                    continue;
+                }
+                this.index++;
+                value = map;
+            } else if (ch == '[') {
+                ArrayValueImpl array = new ArrayValueImpl(JSON_ARRAY_TYPE);
+                skipWhitespace();
+                if (peek() != ']') {
+                    push(array, null);
+                    continue;
+                }
+                this.index++;
+                value = array;
+            } else if (ch == '"') {
+                value = BStringUtils.fromString(parseString());
+            } else if (ch == 't') {
+                parseLiteral('r', 'u', 'e');
+                value = Boolean.TRUE;
+            } else if (ch == 'f') {
+                parseLiteral('a', 'l', 's', 'e');
+                value = Boolean.FALSE;
+            } else if (ch == 'n') {
+                parseLiteral('u', 'l', 'l');
+                value = null;
+            } else {
+                this.index--;
+                value = parseNumber();
+            }
+
+            // Add the value to the enclosing containers, completing those which end with it.
+            while (true) {
+                if (this.depth == 0) {
+                    skipWhitespace();
+                    if (this.index != this.limit) {
+                        throw UNSUPPORTED_EXCEPTION;
+                    }
+                    return value;
+                }
+                Object container = this.containers[this.depth - 1];
+                boolean isMap = container instanceof MapValueImpl;
+                if (isMap) {
+                    ((MapValueImpl<BString, Object>) container).put(this.fieldNames[this.depth - 1], value);
+                } else {
+                    ((ArrayValue) container).append(value);
+                }
+                skipWhitespace();
+                ch = next();
+                if (ch == ',') {
+                    if (isMap) {
+                        skipWhitespace();
+                        this.fieldNames[this.depth - 1] = parseFieldName();
+                    }
+                    break;
+                }
+                if (ch != (isMap ? '}' : ']')) {
+                    throw UNSUPPORTED_EXCEPTION;
+                }
+                value = container;
+                this.depth--;
+                this.containers[this.depth] = null;
+                this.fieldNames[this.depth] = null;
+            }
+        }
+    }
+
+    private void push(Object container, BString fieldName) {
+        if (this.depth == this.containers.length) {
+            this.containers = Arrays.copyOf(this.containers, this.depth * 2);
+            this.fieldNames = Arrays.copyOf(this.fieldNames, this.depth * 2);
+        }
+        this.containers[this.depth] = container;
+        this.fieldNames[this.depth] = fieldName;
+        this.depth++;
+    }
+
+    /**
+     * Parses a field name along with the following colon.
+     */
+    private BString parseFieldName() {
+        if (next() != '"') {
+            throw UNSUPPORTED_EXCEPTION;
+        }
+        int start = this.index;
+        int hash = 0;
+        int end = start;
+        while (end < this.limit) {
+            byte ch = this.buff[end];
+            if (ch == '"') {
+                break;
+            }
+            if (ch == '\\' || ch < 0) {
+                end = -1;
+                break;
+            }
+            hash = 31 * hash + ch;
+            end++;
+        }
+
+        BString name;
+        if (end < 0 || end == this.limit || end - start > MAX_CACHED_NAME_LENGTH) {
+            name = BStringUtils.fromString(parseString());
+        } else {
+            int slot = (hash ^ (hash >>> 16)) & (NAME_CACHE_SIZE - 1);
+            byte[] cached = this.cachedNameBytes[slot];
+            if (cached != null && Arrays.equals(cached, 0, cached.length, this.buff, start, end)) {
+                name = this.cachedNames[slot];
+            } else {
+                name = BStringUtils.fromString(new String(this.buff, start, end - start, StandardCharsets.ISO_8859_1));
+                this.cachedNameBytes[slot] = Arrays.copyOfRange(this.buff, start, end);
+                this.cachedNames[slot] = name;
+            }
+            this.index = end + 1;
+        }
+
+        skipWhitespace();
+        if (next() != ':') {
+            throw UNSUPPORTED_EXCEPTION;
+        }
+        skipWhitespace();
+        return name;
+    }
+
+    /**
+     * Parses the rest of a string, following the opening quote.
+     */
+    private String parseString() {
+        int start = this.index;
+        int end = start;
+        while (end < this.limit) {
+            byte ch = this.buff[end];
+            if (ch == '"') {
+                // Strings of ASCII characters alone are copied as they are.
+                this.index = end + 1;
+                return new String(this.buff, start, end - start, StandardCharsets.ISO_8859_1);
+            }
+            if (ch == '\\' || ch < 0) {
+                break;
+            }
+            end++;
+        }
+
+        char[] chars = this.charBuff;
+        if (chars.length < end - start + 16) {
+            chars = new char[Math.max(chars.length * 2, end - start + 16)];
+        }
+        int length = 0;
+        for (int i = start; i < end; i++) {
+            chars[length++] = (char) this.buff[i];
+        }
+        this.index = end;
+        while (true) {
+            if (length + 2 > chars.length) {
+                chars = Arrays.copyOf(chars, chars.length * 2);
+            }
+            int ch = next();
+            if (ch == '"') {
+                break;
+            }
+            if (ch == '\\') {
+                chars[length++] = parseEscapedChar();
+            } else if (ch >= 0) {
+                chars[length++] = (char) ch;
+            } else {
+                length = decodeMultiByteChar(ch, chars, length);
+            }
+        }
+        this.charBuff = chars;
+        return new String(chars, 0, length);
+    }
+
+    private char parseEscapedChar() {
+        byte ch = next();
+        switch (ch) {
+            case '"':
+            case '\\':
+            case '/':
+                return (char) ch;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int codeUnit = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(next(), 16);
+                    if (digit < 0) {
+                        throw UNSUPPORTED_EXCEPTION;
+                    }
+                    codeUnit = (codeUnit << 4) | digit;
+                }
+                return (char) codeUnit;
+            default:
+                throw UNSUPPORTED_EXCEPTION;
+        }
+    }
+
+    /**
+     * Decodes a character encoded in more than one byte, given its first byte. Malformed sequences, which a decoder
+     * would replace, are not supported.
+     */
+    private int decodeMultiByteChar(int first, char[] chars, int length) {
+        int b0 = first & 0xFF;
+        if (b0 >= 0xC2 && b0 <= 0xDF) {
+            chars[length++] = (char) (((b0 & 0x1F) << 6) | continuation());
+            return length;
+        }
+        if (b0 >= 0xE0 && b0 <= 0xEF) {
+            int codePoint = ((b0 & 0x0F) << 12) | (continuation() << 6) | continuation();
+            if (codePoint < 0x800 || Character.isSurrogate((char) codePoint)) {
+                throw UNSUPPORTED_EXCEPTION;
+            }
+            chars[length++] = (char) codePoint;
+            return length;
+        }
+        if (b0 >= 0xF0 && b0 <= 0xF4) {
+            int codePoint = ((b0 & 0x07) << 18) | (continuation() << 12) | (continuation() << 6) | continuation();
+            if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT || codePoint > Character.MAX_CODE_POINT) {
+                throw UNSUPPORTED_EXCEPTION;
+            }
+            chars[length++] = Character.highSurrogate(codePoint);
+            chars[length++] = Character.lowSurrogate(codePoint);
+            return length;
+        }
+        throw UNSUPPORTED_EXCEPTION;
+    }
+
+    private int continuation() {
+        int b = next() & 0xFF;
+        if ((b & 0xC0) != 0x80) {
+            throw UNSUPPORTED_EXCEPTION;
+        }
+        return b & 0x3F;
+    }
+
+    private void parseLiteral(char... rest) {
+        for (char ch : rest) {
+            if (next() != ch) {
+                throw UNSUPPORTED_EXCEPTION;
+            }
+        }
+        checkValueEnd();
+    }
+
+    /**
+     * Parses a number of the form {@code -?(0|[1-9][0-9]*)(\.[0-9]+([eE][+-]?[0-9]+)?)?}. Integers are parsed as
+     * ints and the rest as decimals, except for negative zero, which is parsed as a float.
+     */
+    private Object parseNumber() {
+        int start = this.index;
+        boolean negative = peek() == '-';
+        if (negative) {
+            this.index++;
+        }
+
+        // The digits are only accumulated into a long as long as they surely fit.
+        long unscaled = 0;
+        int digits = 0;
+        boolean zero = true;
+        int integerStart = this.index;
+        while (this.index < this.limit && isDigit(this.buff[this.index])) {
+            int digit = this.buff[this.index++] - '0';
+            unscaled = unscaled * 10 + digit;
+            digits++;
+            zero = zero && digit == 0;
+        }
+        if (digits == 0 || (digits > 1 && this.buff[integerStart] == '0')) {
+            throw UNSUPPORTED_EXCEPTION;
+        }
+
+        if (this.index == this.limit || this.buff[this.index] != '.') {
+            checkValueEnd();
+            if (negative && zero) {
+                return -0.0d;
+            }
+            if (digits > MAX_LONG_DIGITS) {
+                try {
+                    return Long.parseLong(new String(this.buff, start, this.index - start,
+                                                     StandardCharsets.ISO_8859_1));
+                } catch (NumberFormatException e) {
+                    throw UNSUPPORTED_EXCEPTION;
+                }
+            }
+            return negative ? -unscaled : unscaled;
+        }
+
+        this.index++;
+        int fractionStart = this.index;
+        while (this.index < this.limit && isDigit(this.buff[this.index])) {
+            int digit = this.buff[this.index++] - '0';
+            unscaled = unscaled * 10 + digit;
+            digits++;
+            zero = zero && digit == 0;
+        }
+        int fractionDigits = this.index - fractionStart;
+        if (fractionDigits == 0) {
+            throw UNSUPPORTED_EXCEPTION;
+        }
+
+        long exponent = 0;
+        if (this.index < this.limit && (this.buff[this.index] == 'e' || this.buff[this.index] == 'E')) {
+            this.index++;
+            boolean negativeExponent = false;
+            if (this.index < this.limit && (this.buff[this.index] == '+' || this.buff[this.index] == '-')) {
+                negativeExponent = this.buff[this.index++] == '-';
+            }
+            int exponentStart = this.index;
+            while (this.index < this.limit && isDigit(this.buff[this.index])) {
+                // Saturate, so that the scale is out of range and left to the decimal to reject.
+                exponent = Math.min(exponent * 10 + this.buff[this.index++] - '0', Integer.MAX_VALUE + 1L);
+            }
+            if (this.index == exponentStart) {
+                throw UNSUPPORTED_EXCEPTION;
+            }
+            exponent = negativeExponent ? -exponent : exponent;
+        }
+        checkValueEnd();
+
+        if (negative && zero) {
+            return -0.0d;
+        }
+        long scale = fractionDigits - exponent;
+        if (digits > MAX_LONG_DIGITS || scale != (int) scale || exponent > Integer.MAX_VALUE) {
+            // Leave the rounding of long numbers, and the range of the exponent, to the decimal itself.
+            try {
+                return new DecimalValue(new String(this.buff, start, this.index - start,
+                                                   StandardCharsets.ISO_8859_1));
+            } catch (NumberFormatException e) {
+                throw UNSUPPORTED_EXCEPTION;
+            }
+        }
+        return new DecimalValue(BigDecimal.valueOf(negative ? -unscaled : unscaled, (int) scale));
+    }
+
+    private static boolean isDigit(byte ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    /**
+     * Checks that a literal or a number is followed by a delimiter, as {@link JSONParser} reads them up to one.
+     */
+    private void checkValueEnd() {
+        if (this.index == this.limit) {
+            return;
+        }
+        byte ch = this.buff[this.index];
+        if (!isWhitespace(ch) && ch != ',' && ch != '}' && ch != ']') {
+            throw UNSUPPORTED_EXCEPTION;
+        }
+    }
+
+    private void skipWhitespace() {
+        while (this.index < this.limit && isWhitespace(this.buff[this.index])) {
+            this.index++;
+        }
+    }
+
+    private static boolean isWhitespace(byte ch) {
+        return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r';
+    }
+
+    private byte peek() {
+        if (this.index == this.limit) {
+            throw UNSUPPORTED_EXCEPTION;
+        }
+        return this.buff[this.index];
+    }
+
+    private byte next() {
+        if (this.index == this.limit) {
+            throw UNSUPPORTED_EXCEPTION;
+        }
+        return this.buff[this.index++];
+    }
+
+    /**
+     * Thrown to stop parsing a document which is not supported. Being control flow, it has no stack trace.
+     */
+    private static class Unsupported extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        Unsupported() {
+            super(null, null, false, false);
+        }
+    }
+}
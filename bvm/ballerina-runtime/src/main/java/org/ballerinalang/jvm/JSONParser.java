@@ -32,12 +32,15 @@ import org.ballerinalang.jvm.values.DecimalValue;
 import org.ballerinalang.jvm.values.MapValueImpl;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayDeque;
 import java.util.Deque;
 
@@ -56,6 +59,8 @@ public class JSONParser {
         }
     };
 
+    private static ThreadLocal<JSONByteParser> tlByteParser = ThreadLocal.withInitial(JSONByteParser::new);
+
     /**
      * Represents the modes which process numeric values while converting a string to JSON.
      */
@@ -100,6 +105,15 @@ public class JSONParser {
      * @throws BallerinaException for any parsing error
      */
     public static Object parse(InputStream in, String charsetName) throws BallerinaException {
+        if (isUTF8(charsetName)) {
+            byte[] bytes;
+            try {
+                bytes = in.readAllBytes();
+            } catch (IOException e) {
+                throw new BallerinaException("Error reading JSON: " + e.getMessage());
+            }
+            return parse(bytes, 0, bytes.length);
+        }
         try {
             Object jsonObj = parse(new InputStreamReader(new BufferedInputStream(in), charsetName),
                     NonStringValueProcessingMode.FROM_JSON_STRING);
@@ -110,6 +124,45 @@ public class JSONParser {
         }
     }
 
+    /**
+     * Parses the UTF-8 encoded contents in the given {@link ByteBuffer} and returns a json. The remaining bytes of the
+     * buffer are consumed.
+     *
+     * @param buffer buffer which contains the JSON content
+     * @return JSON structure
+     * @throws BallerinaException for any parsing error
+     */
+    public static Object parse(ByteBuffer buffer) throws BallerinaException {
+        int length = buffer.remaining();
+        if (buffer.hasArray()) {
+            int offset = buffer.arrayOffset() + buffer.position();
+            buffer.position(buffer.limit());
+            return parse(buffer.array(), offset, length);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return parse(bytes, 0, length);
+    }
+
+    private static Object parse(byte[] bytes, int offset, int length) throws BallerinaException {
+        Object jsonObj = tlByteParser.get().parse(bytes, offset, length);
+        if (jsonObj != JSONByteParser.UNSUPPORTED) {
+            return jsonObj;
+        }
+        // Documents which the byte parser does not handle are left to the state machine, which also reports errors.
+        Reader reader = new InputStreamReader(new ByteArrayInputStream(bytes, offset, length), StandardCharsets.UTF_8);
+        return changeForBString(parse(reader, NonStringValueProcessingMode.FROM_JSON_STRING));
+    }
+
+    private static boolean isUTF8(String charsetName) {
+        try {
+            return Charset.isSupported(charsetName) && Charset.forName(charsetName).equals(StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            // Left to the reader to report.
+            return false;
+        }
+    }
+
     /**
      * Parses the contents in the given string and returns a json.
      *
@@ -160,6 +213,25 @@ public class JSONParser {
         }
     }
 
+    /**
+     * Converts a number token to the value it is parsed into by default: a float if it is negative zero, otherwise a
+     * decimal if it has a fraction and an int if it does not.
+     *
+     * @param str the number token
+     * @return the number
+     * @throws NumberFormatException if the token is not a number
+     */
+    static Object toNumber(String str) {
+        if (isNegativeZero(str)) {
+            return Double.parseDouble(str);
+        }
+        return str.indexOf('.') >= 0 ? new DecimalValue(str) : (Object) Long.parseLong(str);
+    }
+
+    private static boolean isNegativeZero(String str) {
+        return '-' == str.charAt(0) && 0 == Double.parseDouble(str);
+    }
+
     /**
      * Represents a JSON parser related exception.
      */
@@ -859,11 +931,7 @@ public class JSONParser {
                             setValueToJsonType(type, new DecimalValue(str));
                             break;
                         default:
-                            if (isNegativeZero(str)) {
-                                setValueToJsonType(type, Double.parseDouble(str));
-                            } else {
-                                setValueToJsonType(type, new DecimalValue(str));
-                            }
+                            setValueToJsonType(type, toNumber(str));
                             break;
                     }
                 } catch (NumberFormatException ignore) {
@@ -926,11 +994,7 @@ public class JSONParser {
                                 setValueToJsonType(type, new DecimalValue(str));
                                 break;
                             default:
-                                if (isNegativeZero(str)) {
-                                    setValueToJsonType(type, Double.parseDouble(str));
-                                } else {
-                                    setValueToJsonType(type, Long.parseLong(str));
-                                }
+                                setValueToJsonType(type, toNumber(str));
                                 break;
                         }
                     } catch (NumberFormatException ignore) {
@@ -955,10 +1019,6 @@ public class JSONParser {
             }
         }
 
-        private boolean isNegativeZero(String str) {
-            return '-' == str.charAt(0) && 0 == Double.parseDouble(str);
-        }
-
         /**
          * Represents the state during a non-string value is defined.
          */
@@ -80,7 +80,7 @@ public class JSONUtils {
         if (!isJSONObject(json)) {
             return false;
         }
-        return ((MapValueImpl<BString, ?>) json).containsKey(BStringUtils.fromString(elementName));
+        return ((MapValue<BString, ?>) json).containsKey(BStringUtils.fromString(elementName));
     }
 
     /**
@@ -111,11 +111,11 @@ public class JSONUtils {
     /**
      * Convert map value to JSON.
      *
-     * @param map value {@link MapValueImpl} to be converted to JSON
+     * @param map value {@link MapValue} to be converted to JSON
      * @param targetType the target JSON type to be convert to
      * @return JSON representation of the provided array
      */
-    public static Object convertMapToJSON(MapValueImpl<BString, ?> map, BJSONType targetType) {
+    public static Object convertMapToJSON(MapValue<BString, ?> map, BJSONType targetType) {
         if (map == null) {
             return null;
         }
@@ -167,7 +167,7 @@ public class JSONUtils {
                                              BStringUtils.fromString("JSON value is not a mapping"));
         }
 
-        MapValueImpl<BString, Object> jsonObject = (MapValueImpl<BString, Object>) json;
+        MapValue<BString, Object> jsonObject = (MapValue<BString, Object>) json;
 
         if (!jsonObject.containsKey(elementName)) {
             if (returnNilOnMissingKey) {
@@ -206,7 +206,7 @@ public class JSONUtils {
         }
 
         try {
-            ((MapValueImpl<BString, Object>) json).put(BStringUtils.fromString(elementName), element);
+            ((MapValue<BString, Object>) json).put(BStringUtils.fromString(elementName), element);
         } catch (ErrorValue e) {
             throw e;
         } catch (Throwable t) {
@@ -263,7 +263,7 @@ public class JSONUtils {
         BType mapConstraint = mapType.getConstrainedType();
         if (mapConstraint == null || mapConstraint.getTag() == TypeTags.ANY_TAG ||
                 mapConstraint.getTag() == TypeTags.JSON_TAG) {
-            ((MapValueImpl<BString, Object>) json).entrySet().forEach(entry -> {
+            ((MapValue<BString, Object>) json).entrySet().forEach(entry -> {
                 map.put(entry.getKey(), entry.getValue());
             });
 
@@ -271,7 +271,7 @@ public class JSONUtils {
         }
 
         // We reach here if the map is constrained.
-        ((MapValueImpl<BString, Object>) json).entrySet().forEach(entry -> {
+        ((MapValue<BString, Object>) json).entrySet().forEach(entry -> {
             map.put(entry.getKey(), convertJSON(entry.getValue(), mapConstraint));
         });
 
@@ -293,7 +293,7 @@ public class JSONUtils {
         }
 
         MapValueImpl<BString, Object> bStruct = new MapValueImpl<>(structType);
-        MapValueImpl<BString, Object> jsonObject = (MapValueImpl<BString, Object>) json;
+        MapValue<BString, Object> jsonObject = (MapValue<BString, Object>) json;
         for (Map.Entry<String, BField> field : structType.getFields().entrySet()) {
             BType fieldType = field.getValue().type;
             BString fieldName = BStringUtils.fromString(field.getValue().name);
@@ -379,7 +379,7 @@ public class JSONUtils {
             return new ArrayValueImpl(new BArrayType(BTypes.typeString));
         }
 
-        BString[] keys = ((MapValueImpl<BString, ?>) json).getKeys();
+        BString[] keys = ((MapValue<BString, ?>) json).getKeys();
         return new ArrayValueImpl(keys);
     }
 
@@ -401,7 +401,7 @@ public class JSONUtils {
             case TypeTags.MAP_TAG:
             case TypeTags.OBJECT_TYPE_TAG:
             case TypeTags.RECORD_TYPE_TAG:
-                return convertMapToJSON((MapValueImpl<BString, Object>) source, targetType);
+                return convertMapToJSON((MapValue<BString, Object>) source, targetType);
             case TypeTags.JSON_TAG:
                 return source;
             default:
@@ -420,7 +420,7 @@ public class JSONUtils {
             return;
         }
 
-        ((MapValueImpl<BString, ?>) json).remove(fieldName);
+        ((MapValue<BString, ?>) json).remove(fieldName);
     }
 
     public static BError getErrorIfUnmergeable(Object j1, Object j2, List<ObjectPair> visitedPairs) {
@@ -695,7 +695,7 @@ public class JSONUtils {
                 case TypeTags.MAP_TAG:
                 case TypeTags.RECORD_TYPE_TAG:
                 case TypeTags.OBJECT_TYPE_TAG:
-                    json.append(convertMapToJSON((MapValueImpl<BString, ?>) value, (BJSONType) BTypes.typeJSON));
+                    json.append(convertMapToJSON((MapValue<BString, ?>) value, (BJSONType) BTypes.typeJSON));
                     break;
                 case TypeTags.ARRAY_TAG:
                     json.append(convertArrayToJSON((ArrayValue) value));
@@ -790,7 +790,7 @@ public class JSONUtils {
                 case TypeTags.MAP_TAG:
                 case TypeTags.RECORD_TYPE_TAG:
                 case TypeTags.OBJECT_TYPE_TAG:
-                    json.put(key, convertMapToJSON((MapValueImpl<BString, ?>) value, (BJSONType) exptType));
+                    json.put(key, convertMapToJSON((MapValue<BString, ?>) value, (BJSONType) exptType));
                     break;
                 default:
                     throw BLangExceptionHelper.getRuntimeException(RuntimeErrors.INCOMPATIBLE_TYPE, BTypes.typeJSON,
@@ -0,0 +1,421 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.api.values.BString;
+import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.DecimalValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.StreamingJsonValue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Serializes JSON values as UTF-8 straight into a byte buffer, which is either turned into a string or drained into a
+ * channel as it fills up. The output is the same as that of {@link JSONGenerator}.
+ * <p>
+ * Unlike {@link JSONGenerator}, characters are not written through a {@link java.io.Writer}, so that producing a
+ * string does not copy the output more than once, and writing to a channel does not go through a string at all.
+ * Field names are encoded once and cached by the identity of their keys, which are shared by the values of the same
+ * record type and by the values parsed by {@link JSONParser}. The writer and its buffer are reused by the same
+ * thread.
+ *
+ * @since 2.0.0
+ */
+@SuppressWarnings("unchecked")
+public class JSONWriter {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+
+    private static final int FIELD_NAME_CACHE_SIZE = 256;
+    private static final int MAX_CACHED_FIELD_NAME_LENGTH = 64;
+
+    /**
+     * Maximum number of bytes written for a single character.
+     */
+    private static final int MAX_CHAR_BYTES = 4;
+
+    private static final byte[] SEPARATOR = {',', ' '};
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+
+    // Strings containing any of the escape triggers are written with all the escapable characters escaped, as
+    // JSONGenerator does.
+    private static final boolean[] ESCAPE_TRIGGERS = new boolean[128];
+    private static final byte[] ESCAPES = new byte[128];
+
+    static {
+        for (char ch : new char[]{'"', '\\', '\b', '\n', '\r', '\t'}) {
+            ESCAPE_TRIGGERS[ch] = true;
+        }
+        ESCAPES['"'] = '"';
+        ESCAPES['\\'] = '\\';
+        ESCAPES['/'] = '/';
+        ESCAPES['\b'] = 'b';
+        ESCAPES['\n'] = 'n';
+        ESCAPES['\r'] = 'r';
+        ESCAPES['\f'] = 'f';
+        ESCAPES['\t'] = 't';
+    }
+
+    private static final ThreadLocal<JSONWriter> tlWriter = ThreadLocal.withInitial(JSONWriter::new);
+
+    private final BString[] cachedFieldNames = new BString[FIELD_NAME_CACHE_SIZE];
+    private final byte[][] cachedFieldNameBytes = new byte[FIELD_NAME_CACHE_SIZE][];
+    private final boolean[] cachedFieldNameAscii = new boolean[FIELD_NAME_CACHE_SIZE];
+
+    private byte[] buff = new byte[BUFFER_SIZE];
+    private int position;
+    private boolean ascii;
+    private WritableByteChannel channel;
+    private boolean inUse;
+
+    // Whether each level has a member written already, and whether a field name is pending its value.
+    private boolean[] levelInit = new boolean[16];
+    private int currentLevel;
+    private boolean fieldActive;
+
+    /**
+     * Returns the JSON string of the given value.
+     *
+     * @param json the value
+     * @return the JSON string
+     */
+    public static String toJsonString(Object json) {
+        JSONWriter writer = acquire();
+        try {
+            writer.serialize(json);
+            return new String(writer.buff, 0, writer.position,
+                              writer.ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            // Not writing to a channel.
+            throw new UncheckedIOException(e);
+        } finally {
+            writer.release();
+        }
+    }
+
+    /**
+     * Writes the JSON string of the given value to the given channel, encoded in UTF-8.
+     *
+     * @param json    the value
+     * @param channel the channel to write to
+     * @throws IOException if writing to the channel fails
+     */
+    public static void write(Object json, WritableByteChannel channel) throws IOException {
+        JSONWriter writer = acquire();
+        writer.channel = channel;
+        try {
+            writer.serialize(json);
+            writer.drain();
+        } finally {
+            writer.release();
+        }
+    }
+
+    private static JSONWriter acquire() {
+        JSONWriter writer = tlWriter.get();
+        if (writer.inUse) {
+            // Serializing a value requires serializing another (e.g. from a streaming data source).
+            writer = new JSONWriter();
+        }
+        writer.inUse = true;
+        writer.position = 0;
+        writer.ascii = true;
+        writer.currentLevel = 0;
+        writer.fieldActive = false;
+        writer.levelInit[0] = false;
+        return writer;
+    }
+
+    private void release() {
+        this.inUse = false;
+        this.channel = null;
+        if (this.buff.length > MAX_RETAINED_BUFFER_SIZE) {
+            this.buff = new byte[BUFFER_SIZE];
+        }
+    }
+
+    private void serialize(Object json) throws IOException {
+        if (json == null) {
+            processValueInit();
+            write(NULL);
+            return;
+        }
+
+        switch (TypeChecker.getType(json).getTag()) {
+            case TypeTags.ARRAY_TAG:
+                ArrayValue jsonArray = (ArrayValue) json;
+                if (jsonArray instanceof StreamingJsonValue) {
+                    // Consume and materialize the stream.
+                    jsonArray.getValues();
+                }
+                processStartLevel();
+                write((byte) '[');
+                for (int i = 0; i < jsonArray.size(); i++) {
+                    serialize(jsonArray.get(i));
+                }
+                write((byte) ']');
+                processEndLevel();
+                break;
+            case TypeTags.BOOLEAN_TAG:
+                processValueInit();
+                write((Boolean) json ? TRUE : FALSE);
+                break;
+            case TypeTags.FLOAT_TAG:
+                processValueInit();
+                writeAscii(Double.toString(((Number) json).doubleValue()));
+                break;
+            case TypeTags.DECIMAL_TAG:
+                processValueInit();
+                writeAscii(((DecimalValue) json).value().toString());
+                break;
+            case TypeTags.INT_TAG:
+            case TypeTags.BYTE_TAG:
+                processValueInit();
+                writeLong(((Number) json).longValue());
+                break;
+            case TypeTags.MAP_TAG:
+            case TypeTags.JSON_TAG:
+                processStartLevel();
+                write((byte) '{');
+                for (Map.Entry<BString, Object> entry : ((MapValueImpl<BString, Object>) json).entrySet()) {
+                    processFieldInit();
+                    writeFieldName(entry.getKey());
+                    serialize(entry.getValue());
+                }
+                write((byte) '}');
+                processEndLevel();
+                break;
+            case TypeTags.STRING_TAG:
+                processValueInit();
+                writeString(json.toString());
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void processStartLevel() throws IOException {
+        if (this.fieldActive) {
+            this.fieldActive = false;
+        } else if (this.levelInit[this.currentLevel]) {
+            write(SEPARATOR);
+        } else {
+            this.levelInit[this.currentLevel] = true;
+        }
+        this.currentLevel++;
+        if (this.currentLevel == this.levelInit.length) {
+            boolean[] levels = new boolean[this.levelInit.length * 2];
+            System.arraycopy(this.levelInit, 0, levels, 0, this.levelInit.length);
+            this.levelInit = levels;
+        }
+        this.levelInit[this.currentLevel] = false;
+    }
+
+    private void processEndLevel() {
+        this.levelInit[this.currentLevel] = false;
+        this.currentLevel--;
+        this.levelInit[this.currentLevel] = true;
+    }
+
+    private void processFieldInit() throws IOException {
+        if (this.levelInit[this.currentLevel]) {
+            write(SEPARATOR);
+        } else {
+            this.levelInit[this.currentLevel] = true;
+        }
+        this.fieldActive = true;
+    }
+
+    private void processValueInit() throws IOException {
+        if (this.fieldActive) {
+            this.fieldActive = false;
+            return;
+        }
+        if (this.levelInit[this.currentLevel]) {
+            write(SEPARATOR);
+        } else {
+            this.levelInit[this.currentLevel] = true;
+        }
+    }
+
+    /**
+     * Writes a field name along with the following colon, reusing its encoding if it was written before.
+     */
+    private void writeFieldName(BString key) throws IOException {
+        int slot = System.identityHashCode(key) & (FIELD_NAME_CACHE_SIZE - 1);
+        if (this.cachedFieldNames[slot] != key) {
+            String name = key.getValue();
+            if (name.length() > MAX_CACHED_FIELD_NAME_LENGTH) {
+                writeString(name);
+                write((byte) ':');
+                return;
+            }
+            cacheFieldName(slot, key);
+        }
+        write(this.cachedFieldNameBytes[slot]);
+        this.ascii = this.ascii && this.cachedFieldNameAscii[slot];
+    }
+
+    private void cacheFieldName(int slot, BString key) throws IOException {
+        // Encode the name with this writer, into the free space at the end of the buffer.
+        String name = key.getValue();
+        boolean asciiBefore = this.ascii;
+        ensureCapacity(name.length() * MAX_CHAR_BYTES + 3);
+        int start = this.position;
+        this.ascii = true;
+        writeString(name);
+        write((byte) ':');
+        this.cachedFieldNames[slot] = key;
+        this.cachedFieldNameBytes[slot] = Arrays.copyOfRange(this.buff, start, this.position);
+        this.cachedFieldNameAscii[slot] = this.ascii;
+        this.position = start;
+        this.ascii = asciiBefore;
+    }
+
+    private void writeString(String value) throws IOException {
+        int length = value.length();
+        boolean escape = false;
+        for (int i = 0; i < length; i++) {
+            char ch = value.charAt(i);
+            if (ch < ESCAPE_TRIGGERS.length && ESCAPE_TRIGGERS[ch]) {
+                escape = true;
+                break;
+            }
+        }
+
+        write((byte) '"');
+        for (int i = 0; i < length; i++) {
+            if (this.position + MAX_CHAR_BYTES > this.buff.length) {
+                ensureCapacity(MAX_CHAR_BYTES);
+            }
+            char ch = value.charAt(i);
+            if (ch < 0x80) {
+                byte escaped = escape ? ESCAPES[ch] : 0;
+                if (escaped != 0) {
+                    this.buff[this.position++] = '\\';
+                    this.buff[this.position++] = escaped;
+                } else {
+                    this.buff[this.position++] = (byte) ch;
+                }
+                continue;
+            }
+
+            this.ascii = false;
+            if (ch < 0x800) {
+                this.buff[this.position++] = (byte) (0xC0 | (ch >> 6));
+                this.buff[this.position++] = (byte) (0x80 | (ch & 0x3F));
+            } else if (!Character.isSurrogate(ch)) {
+                this.buff[this.position++] = (byte) (0xE0 | (ch >> 12));
+                this.buff[this.position++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+                this.buff[this.position++] = (byte) (0x80 | (ch & 0x3F));
+            } else if (Character.isHighSurrogate(ch) && i + 1 < length &&
+                    Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(ch, value.charAt(++i));
+                this.buff[this.position++] = (byte) (0xF0 | (codePoint >> 18));
+                this.buff[this.position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                this.buff[this.position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                this.buff[this.position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else {
+                // Unpaired surrogates are replaced, as the UTF-8 encoder does.
+                this.buff[this.position++] = '?';
+            }
+        }
+        write((byte) '"');
+    }
+
+    private void writeLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            writeAscii(Long.toString(value));
+            return;
+        }
+        ensureCapacity(20);
+        if (value < 0) {
+            this.buff[this.position++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long remaining = value / 10; remaining > 0; remaining /= 10) {
+            digits++;
+        }
+        int end = this.position + digits;
+        for (int i = end - 1; i >= this.position; i--) {
+            this.buff[i] = (byte) ('0' + (value % 10));
+            value /= 10;
+        }
+        this.position = end;
+    }
+
+    private void writeAscii(String value) throws IOException {
+        int length = value.length();
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            this.buff[this.position++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void write(byte b) throws IOException {
+        if (this.position == this.buff.length) {
+            ensureCapacity(1);
+        }
+        this.buff[this.position++] = b;
+    }
+
+    private void write(byte[] bytes) throws IOException {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, this.buff, this.position, bytes.length);
+        this.position += bytes.length;
+    }
+
+    /**
+     * Makes room for the given number of bytes, by draining the buffer into the channel if there is one, or by growing
+     * the buffer otherwise.
+     */
+    private void ensureCapacity(int length) throws IOException {
+        if (this.position + length <= this.buff.length) {
+            return;
+        }
+        if (this.channel != null) {
+            drain();
+            if (length <= this.buff.length) {
+                return;
+            }
+        }
+        byte[] grown = new byte[Math.max(this.buff.length * 2, this.position + length)];
+        System.arraycopy(this.buff, 0, grown, 0, this.position);
+        this.buff = grown;
+    }
+
+    private void drain() throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(this.buff, 0, this.position);
+        while (buffer.hasRemaining()) {
+            this.channel.write(buffer);
+        }
+        this.position = 0;
+    }
+}
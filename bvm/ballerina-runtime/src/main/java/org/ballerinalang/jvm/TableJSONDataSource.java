@@ -85,7 +85,7 @@ public class TableJSONDataSource implements JSONDataSource {
         IteratorValue itr = this.tableValue.getIterator();
         while (itr.hasNext()) {
             TupleValueImpl tupleValue = (TupleValueImpl) itr.next();
-            MapValueImpl record = ((MapValueImpl) tupleValue.get(0));
+            MapValue record = ((MapValue) tupleValue.get(0));
             try {
                 values.append(this.objGen.transform(record));
             } catch (IOException e) {
@@ -102,7 +102,7 @@ public class TableJSONDataSource implements JSONDataSource {
     private static class DefaultJSONObjectGenerator implements JSONObjectGenerator {
 
         @Override
-        public Object transform(MapValueImpl record) {
+        public Object transform(MapValue record) {
             MapValue<BString, Object> objNode = new MapValueImpl<>(new BMapType(BTypes.typeJSON));
             BStructureType structType = (BStructureType) record.getType();
             BField[] structFields = null;
@@ -124,7 +124,7 @@ public class TableJSONDataSource implements JSONDataSource {
 
     }
 
-    private static void constructJsonData(MapValueImpl record, MapValue<BString, Object> jsonObject, String name,
+    private static void constructJsonData(MapValue record, MapValue<BString, Object> jsonObject, String name,
                                           int typeTag, BField[] structFields, int index) {
         BString key = BStringUtils.fromString(name);
         switch (typeTag) {
@@ -169,7 +169,7 @@ public class TableJSONDataSource implements JSONDataSource {
         }
     }
 
-    private static Object getStructData(MapValueImpl data, BField[] structFields, int index, BString key) {
+    private static Object getStructData(MapValue data, BField[] structFields, int index, BString key) {
         if (structFields == null) {
             ArrayValue jsonArray = new ArrayValueImpl(new BArrayType(BTypes.typeJSON));
             if (data != null) {
@@ -209,9 +209,9 @@ public class TableJSONDataSource implements JSONDataSource {
                         if (value instanceof BigDecimal) {
                             jsonData.put(BStringUtils.fromString(internalStructFields[i].name),
                                          ((BigDecimal) value).doubleValue());
-                        } else if (value instanceof MapValueImpl) {
+                        } else if (value instanceof MapValue) {
                             jsonData.put(BStringUtils.fromString(internalStructFields[i].name),
-                                         getStructData((MapValueImpl) value, internalStructFields, i, internalKeyName));
+                                         getStructData((MapValue) value, internalStructFields, i, internalKeyName));
                         } else {
                             jsonData.put(BStringUtils.fromString(internalStructFields[i].name), value);
                         }
@@ -248,7 +248,7 @@ public class TableJSONDataSource implements JSONDataSource {
          * @return The generated JSON object
          * @throws IOException for JSON reading/serializing errors
          */
-        Object transform(MapValueImpl record) throws IOException;
+        Object transform(MapValue record) throws IOException;
 
     }
 }
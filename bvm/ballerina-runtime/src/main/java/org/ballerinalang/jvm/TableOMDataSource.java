@@ -28,7 +28,7 @@ import org.ballerinalang.jvm.util.exceptions.BallerinaException;
 import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.DecimalValue;
 import org.ballerinalang.jvm.values.IteratorValue;
-import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.jvm.values.TableValueImpl;
 import org.ballerinalang.jvm.values.TupleValueImpl;
 
@@ -68,7 +68,7 @@ public class TableOMDataSource extends AbstractPushOMDataSource {
             table.getIterator().next();
             xmlStreamWriter.writeStartElement("", this.rowWrapper, "");
             TupleValueImpl tupleValue = (TupleValueImpl) itr.next();
-            MapValueImpl record = ((MapValueImpl) tupleValue.get(0));
+            MapValue record = ((MapValue) tupleValue.get(0));
 
             BStructureType structType = (BStructureType) record.getType();
             BField[] structFields = null;
@@ -88,7 +88,7 @@ public class TableOMDataSource extends AbstractPushOMDataSource {
         xmlStreamWriter.flush();
     }
 
-    private void writeElement(MapValueImpl record, XMLStreamWriter xmlStreamWriter, String name, int type, int index,
+    private void writeElement(MapValue record, XMLStreamWriter xmlStreamWriter, String name, int type, int index,
                               BField[] structFields) throws XMLStreamException {
         boolean isArray = false;
         xmlStreamWriter.writeStartElement("", name, "");
@@ -123,7 +123,7 @@ public class TableOMDataSource extends AbstractPushOMDataSource {
                     ArrayValue structData = record.getArrayValue(key);
                     processArray(xmlStreamWriter, structData);
                 } else {
-                    MapValueImpl structData = record.getMapValue(key);
+                    MapValue structData = record.getMapValue(key);
                     processStruct(xmlStreamWriter, structData, structFields, index);
                 }
                 break;
@@ -152,7 +152,7 @@ public class TableOMDataSource extends AbstractPushOMDataSource {
         }
     }
 
-    private void processStruct(XMLStreamWriter xmlStreamWriter, MapValueImpl structData,
+    private void processStruct(XMLStreamWriter xmlStreamWriter, MapValue structData,
                                BField[] structFields, int index) throws XMLStreamException {
         boolean structError = true;
         BType internalType = structFields[index].getFieldType();
@@ -165,8 +165,8 @@ public class TableOMDataSource extends AbstractPushOMDataSource {
                     BString internalKeyName = BStringUtils.fromString(internalStructFields[i].name);
                     Object val = structData.get(internalKeyName);
                     xmlStreamWriter.writeStartElement("", internalStructFields[i].getFieldName(), "");
-                    if (val instanceof MapValueImpl) {
-                        processStruct(xmlStreamWriter, (MapValueImpl) val, internalStructFields, i);
+                    if (val instanceof MapValue) {
+                        processStruct(xmlStreamWriter, (MapValue) val, internalStructFields, i);
                     } else {
                         xmlStreamWriter.writeCharacters(val.toString());
                     }
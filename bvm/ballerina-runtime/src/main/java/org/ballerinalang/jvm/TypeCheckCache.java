@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.util.BLangConstants;
+
+import java.io.PrintStream;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of the results of checking whether a type is a subtype of another, looking only at the types.
+ * <p>
+ * Type descriptors do not change once the module that defines them is initialized, hence the result of such a check
+ * only depends on the two types. The cache is direct mapped on the identities of the two types, where an entry simply
+ * replaces the entry it collides with, so that lookups neither lock nor allocate. Checks which depend on a value
+ * (e.g. of records, objects and immutable values) do not go through the cache.
+ * <p>
+ * The number of entries can be configured with the {@code BALLERINA_TYPE_CHECK_CACHE_SIZE} environment variable,
+ * where 0 disables the cache.
+ *
+ * @since 2.0.0
+ */
+public class TypeCheckCache {
+
+    private static final PrintStream stderr = System.err;
+    private static final int DEFAULT_SIZE = 4096;
+    private static final int MAX_SIZE = 1 << 20;
+
+    private static final Entry[] ENTRIES = new Entry[getConfiguredSize()];
+    private static final int MASK = ENTRIES.length - 1;
+
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+
+    static final int MISS = -1;
+
+    private TypeCheckCache() {
+    }
+
+    /**
+     * Returns the number of lookups which found the result of a check.
+     *
+     * @return the number of cache hits
+     */
+    public static long getHits() {
+        return HITS.sum();
+    }
+
+    /**
+     * Returns the number of lookups which did not find the result of a check, and hence had to check the types.
+     *
+     * @return the number of cache misses
+     */
+    public static long getMisses() {
+        return MISSES.sum();
+    }
+
+    /**
+     * Returns the maximum number of results kept in the cache.
+     *
+     * @return the capacity of the cache
+     */
+    public static int getCapacity() {
+        return ENTRIES.length;
+    }
+
+    /**
+     * Removes all the cached results and resets the counters.
+     */
+    public static void clear() {
+        for (int i = 0; i < ENTRIES.length; i++) {
+            ENTRIES[i] = null;
+        }
+        HITS.reset();
+        MISSES.reset();
+    }
+
+    /**
+     * Returns 1 if the source type was found to be a subtype of the target type, 0 if it was not, or {@link #MISS}
+     * if the result is not cached.
+     */
+    static int get(BType sourceType, BType targetType) {
+        if (ENTRIES.length == 0) {
+            return MISS;
+        }
+        Entry entry = ENTRIES[index(sourceType, targetType)];
+        if (entry != null && entry.sourceType == sourceType && entry.targetType == targetType) {
+            HITS.increment();
+            return entry.result ? 1 : 0;
+        }
+        MISSES.increment();
+        return MISS;
+    }
+
+    static void put(BType sourceType, BType targetType, boolean result) {
+        if (ENTRIES.length == 0) {
+            return;
+        }
+        // Entries are immutable, so a racing reader sees either the old or the new entry in full.
+        ENTRIES[index(sourceType, targetType)] = new Entry(sourceType, targetType, result);
+    }
+
+    private static int index(BType sourceType, BType targetType) {
+        int hash = System.identityHashCode(sourceType) * 31 + System.identityHashCode(targetType);
+        return (hash ^ (hash >>> 16)) & MASK;
+    }
+
+    private static int getConfiguredSize() {
+        String sizeConf = System.getenv(BLangConstants.BALLERINA_TYPE_CHECK_CACHE_SIZE_ENV_VAR);
+        if (sizeConf == null) {
+            return DEFAULT_SIZE;
+        }
+        try {
+            int size = Integer.parseInt(sizeConf.trim());
+            if (size <= 0) {
+                return 0;
+            }
+            // Round up to a power of two, so that an index can be found by masking the hash.
+            return Integer.highestOneBit(Math.max(Math.min(size, MAX_SIZE) - 1, 1)) << 1;
+        } catch (NumberFormatException e) {
+            // Log and continue with default
+            stderr.println("ballerina: error occurred while reading system variable:" +
+                                BLangConstants.BALLERINA_TYPE_CHECK_CACHE_SIZE_ENV_VAR + ", " + e.getMessage());
+            return DEFAULT_SIZE;
+        }
+    }
+
+    /**
+     * Result of checking a source type against a target type.
+     */
+    private static class Entry {
+
+        final BType sourceType;
+        final BType targetType;
+        final boolean result;
+
+        Entry(BType sourceType, BType targetType, boolean result) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.result = result;
+        }
+    }
+}
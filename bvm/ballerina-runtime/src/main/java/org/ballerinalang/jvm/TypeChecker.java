@@ -55,7 +55,6 @@ import org.ballerinalang.jvm.values.DecimalValue;
 import org.ballerinalang.jvm.values.ErrorValue;
 import org.ballerinalang.jvm.values.HandleValue;
 import org.ballerinalang.jvm.values.MapValue;
-import org.ballerinalang.jvm.values.MapValueImpl;
 import org.ballerinalang.jvm.values.ObjectValue;
 import org.ballerinalang.jvm.values.RefValue;
 import org.ballerinalang.jvm.values.StreamValue;
@@ -639,11 +638,28 @@ public class TypeChecker {
             case TypeTags.XML_PI_TAG:
                 return targetTypeTag == sourceTypeTag;
             default:
-                return checkIsRecursiveType(sourceType, targetType,
-                        unresolvedTypes == null ? new ArrayList<>() : unresolvedTypes);
+                if (unresolvedTypes == null) {
+                    return checkIsRecursiveTypeCached(sourceType, targetType);
+                }
+                return checkIsRecursiveType(sourceType, targetType, unresolvedTypes);
         }
     }
 
+    private static boolean checkIsRecursiveTypeCached(BType sourceType, BType targetType) {
+        // Finite types are not cached, as matching them depends on the values in their value space.
+        if (sourceType.getTag() == TypeTags.FINITE_TYPE_TAG || targetType.getTag() == TypeTags.FINITE_TYPE_TAG) {
+            return checkIsRecursiveType(sourceType, targetType, new ArrayList<>());
+        }
+
+        int cachedResult = TypeCheckCache.get(sourceType, targetType);
+        if (cachedResult != TypeCheckCache.MISS) {
+            return cachedResult == 1;
+        }
+        boolean result = checkIsRecursiveType(sourceType, targetType, new ArrayList<>());
+        TypeCheckCache.put(sourceType, targetType, result);
+        return result;
+    }
+
     private static boolean checkIsType(Object sourceVal, BType sourceType, BType targetType,
                                       List<TypePair> unresolvedTypes) {
         int sourceTypeTag = sourceType.getTag();
@@ -1934,7 +1950,7 @@ public class TypeChecker {
             case TypeTags.RECORD_TYPE_TAG:
             case TypeTags.JSON_TAG:
             case TypeTags.MAP_TAG:
-                return isLikeType(((MapValueImpl) sourceValue).values().toArray(), BTypes.typeAnydata,
+                return isLikeType(((MapValue) sourceValue).values().toArray(), BTypes.typeAnydata,
                                   unresolvedValues, allowNumericConversion);
             case TypeTags.ARRAY_TAG:
                 ArrayValue arr = (ArrayValue) sourceValue;
@@ -2111,11 +2127,11 @@ public class TypeChecker {
 
     private static boolean checkIsLikeMapType(Object sourceValue, BMapType targetType,
                                               List<TypeValuePair> unresolvedValues, boolean allowNumericConversion) {
-        if (!(sourceValue instanceof MapValueImpl)) {
+        if (!(sourceValue instanceof MapValue)) {
             return false;
         }
 
-        for (Object mapEntry : ((MapValueImpl) sourceValue).values()) {
+        for (Object mapEntry : ((MapValue) sourceValue).values()) {
             if (!checkIsLikeType(mapEntry, targetType.getConstrainedType(), unresolvedValues, allowNumericConversion)) {
                 return false;
             }
@@ -2150,7 +2166,7 @@ public class TypeChecker {
             }
             return true;
         } else if (sourceType.getTag() == TypeTags.MAP_TAG) {
-            for (Object value : ((MapValueImpl) sourceValue).values()) {
+            for (Object value : ((MapValue) sourceValue).values()) {
                 if (!checkIsLikeType(value, targetType, unresolvedValues, allowNumericConversion)) {
                     return false;
                 }
@@ -2162,7 +2178,7 @@ public class TypeChecker {
                 return true;
             }
             unresolvedValues.add(typeValuePair);
-            for (Object object : ((MapValueImpl) sourceValue).values()) {
+            for (Object object : ((MapValue) sourceValue).values()) {
                 if (!checkIsLikeType(object, targetType, unresolvedValues, allowNumericConversion)) {
                     return false;
                 }
@@ -2174,7 +2190,7 @@ public class TypeChecker {
 
     private static boolean checkIsLikeRecordType(Object sourceValue, BRecordType targetType,
                                                  List<TypeValuePair> unresolvedValues, boolean allowNumericConversion) {
-        if (!(sourceValue instanceof MapValueImpl)) {
+        if (!(sourceValue instanceof MapValue)) {
             return false;
         }
 
@@ -2192,13 +2208,13 @@ public class TypeChecker {
 
         for (Map.Entry targetTypeEntry : targetTypeField.entrySet()) {
             Object fieldName = BStringUtils.fromString(targetTypeEntry.getKey().toString());
-            if (!(((MapValueImpl) sourceValue).containsKey(fieldName)) &&
+            if (!(((MapValue) sourceValue).containsKey(fieldName)) &&
                     !Flags.isFlagOn(targetType.getFields().get(fieldName.toString()).flags, Flags.OPTIONAL)) {
                 return false;
             }
         }
 
-        for (Object object : ((MapValueImpl) sourceValue).entrySet()) {
+        for (Object object : ((MapValue) sourceValue).entrySet()) {
             Map.Entry valueEntry = (Map.Entry) object;
             String fieldName = valueEntry.getKey().toString();
 
@@ -2369,7 +2385,7 @@ public class TypeChecker {
             case TypeTags.MAP_TAG:
             case TypeTags.JSON_TAG:
             case TypeTags.RECORD_TYPE_TAG:
-                return isMappingType(rhsValTypeTag) && isEqual((MapValueImpl) lhsValue, (MapValueImpl) rhsValue,
+                return isMappingType(rhsValTypeTag) && isEqual((MapValue) lhsValue, (MapValue) rhsValue,
                         checkedValues);
             case TypeTags.TUPLE_TAG:
             case TypeTags.ARRAY_TAG:
@@ -2430,7 +2446,8 @@ public class TypeChecker {
      * @param checkedValues Structured value pairs already compared or being compared
      * @return True if the map values are equal, else false.
      */
-    private static boolean isEqual(MapValueImpl lhsMap, MapValueImpl rhsMap, List<ValuePair> checkedValues) {
+    private static boolean isEqual(MapValue<BString, Object> lhsMap, MapValue<BString, Object> rhsMap,
+                                   List<ValuePair> checkedValues) {
         ValuePair compValuePair = new ValuePair(lhsMap, rhsMap);
         if (checkedValues.contains(compValuePair)) {
             return true;
@@ -2441,8 +2458,10 @@ public class TypeChecker {
             return false;
         }
 
-        if (!lhsMap.keySet().containsAll(rhsMap.keySet())) {
-            return false;
+        for (BString key : rhsMap.getKeys()) {
+            if (!lhsMap.containsKey(key)) {
+                return false;
+            }
         }
 
         Iterator<Map.Entry<BString, Object>> mapIterator = lhsMap.entrySet().iterator();
@@ -2506,7 +2525,7 @@ public class TypeChecker {
         checkedValues.add(compValuePair);
 
         return isEqual(lhsError.getMessage(), rhsError.getMessage(), checkedValues) &&
-                isEqual((MapValueImpl) lhsError.getDetails(), (MapValueImpl) rhsError.getDetails(), checkedValues) &&
+                isEqual((MapValue) lhsError.getDetails(), (MapValue) rhsError.getDetails(), checkedValues) &&
                 isEqual(lhsError.getCause(), rhsError.getCause(), checkedValues);
     }
 
@@ -39,7 +39,6 @@ import org.ballerinalang.jvm.util.exceptions.RuntimeErrors;
 import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.DecimalValue;
 import org.ballerinalang.jvm.values.MapValue;
-import org.ballerinalang.jvm.values.MapValueImpl;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -304,7 +303,7 @@ public class TypeConverter {
 
     private static boolean isConvertibleToRecordType(Object sourceValue, BRecordType targetType, boolean isFromJson,
                                                      List<TypeValuePair> unresolvedValues) {
-        if (!(sourceValue instanceof MapValueImpl)) {
+        if (!(sourceValue instanceof MapValue)) {
             return false;
         }
 
@@ -321,11 +320,11 @@ public class TypeConverter {
             targetFieldTypes.put(field.getFieldName(), field.type);
         }
 
-        MapValueImpl sourceMapValueImpl = (MapValueImpl) sourceValue;
+        MapValue sourceMapValue = (MapValue) sourceValue;
         for (Map.Entry targetTypeEntry : targetFieldTypes.entrySet()) {
             String fieldName = targetTypeEntry.getKey().toString();
 
-            if (sourceMapValueImpl.containsKey(BStringUtils.fromString(fieldName))) {
+            if (sourceMapValue.containsKey(BStringUtils.fromString(fieldName))) {
                 continue;
             }
             BField targetField = targetType.getFields().get(fieldName);
@@ -334,7 +333,7 @@ public class TypeConverter {
             }
         }
 
-        for (Object object : sourceMapValueImpl.entrySet()) {
+        for (Object object : sourceMapValue.entrySet()) {
             Map.Entry valueEntry = (Map.Entry) object;
             String fieldName = valueEntry.getKey().toString();
 
@@ -0,0 +1,622 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.api.BStringUtils;
+import org.ballerinalang.jvm.api.BValueCreator;
+import org.ballerinalang.jvm.api.values.BString;
+import org.ballerinalang.jvm.commons.ArrayState;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.util.exceptions.BallerinaException;
+import org.ballerinalang.jvm.values.DecimalValue;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.TypedescValue;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parses a JSON document directly into a value of a given record, map or array type, without first building the
+ * generic JSON value and then converting it.
+ * <p>
+ * The result is the same as that of parsing the document with {@link JSONParser} and converting the JSON value to
+ * the target type (i.e. lang.value:fromJsonWithType). The parser only handles the common cases of that conversion,
+ * which are records, maps and arrays of records, maps, arrays, json, anydata, int, float, decimal, string, boolean
+ * and optional types of these. Only the structure is walked here: numbers are parsed with the rules of
+ * {@link JSONParser}, and leaf values are converted with {@link TypeConverter} in the same way as the generic path
+ * does. It gives up with {@link #MISMATCH} as soon as it finds a type it does not handle or a value which does not
+ * belong to the expected type, in which case the caller is expected to fall back to the generic path, which also
+ * reports the reason for the mismatch.
+ *
+ * @since 2.0.0
+ */
+public class TypedJSONParser {
+
+    /**
+     * Returned when the document could not be parsed into the target type.
+     */
+    public static final Object MISMATCH = new Object();
+
+    private static final Mismatch MISMATCH_EXCEPTION = new Mismatch();
+
+    private static final BMapType JSON_MAP_TYPE = new BMapType(BTypes.typeJSON);
+    private static final BMapType ANYDATA_MAP_TYPE = new BMapType(BTypes.typeAnydata);
+    private static final BArrayType ANYDATA_ARRAY_TYPE = new BArrayType(BTypes.typeAnydata);
+
+    private final String json;
+    private final TypedescValue typedesc;
+    private final Strand strand;
+    private final Map<BRecordType, RecordFields> recordFields = new IdentityHashMap<>();
+    private int index;
+
+    /**
+     * Name of the last field read which is not a field of the record being read.
+     */
+    private String lastFieldName;
+
+    private TypedJSONParser(String json, TypedescValue typedesc, Strand strand) {
+        this.json = json;
+        this.typedesc = typedesc;
+        this.strand = strand;
+    }
+
+    /**
+     * Parses the given JSON document into a value of the type described by the given typedesc.
+     * <p>
+     * A record of the type described by the typedesc is created with the typedesc when the strand is given, as the
+     * generic path does. Otherwise, e.g. when called from a thread which is not running a strand, records are
+     * created by the type name.
+     *
+     * @param json     the JSON document
+     * @param typedesc the typedesc of the target type
+     * @param strand   the strand calling the parser, or null
+     * @return the parsed value, or {@link #MISMATCH} if the document could not be parsed into the target type
+     */
+    public static Object parse(String json, TypedescValue typedesc, Strand strand) {
+        BType targetType = typedesc.getDescribingType();
+        switch (targetType.getTag()) {
+            case TypeTags.RECORD_TYPE_TAG:
+            case TypeTags.MAP_TAG:
+            case TypeTags.ARRAY_TAG:
+                break;
+            default:
+                // Other types, json and anydata in particular, gain nothing over the generic path.
+                return MISMATCH;
+        }
+
+        TypedJSONParser parser = new TypedJSONParser(json, typedesc, strand);
+        try {
+            parser.skipWhitespace();
+            Object value = parser.readValue(targetType, false);
+            parser.skipWhitespace();
+            return parser.index == json.length() ? value : MISMATCH;
+        } catch (Mismatch e) {
+            return MISMATCH;
+        }
+    }
+
+    /**
+     * Reads a value of the given type.
+     *
+     * @param type         the expected type
+     * @param inStructure  whether the value is a member of a map or an array, where the conversion also requires the
+     *                     value to look like the member type, which does not allow defaultable record fields to be
+     *                     omitted
+     * @return the value
+     */
+    private Object readValue(BType type, boolean inStructure) {
+        switch (type.getTag()) {
+            case TypeTags.RECORD_TYPE_TAG:
+                return readRecord((BRecordType) type, inStructure);
+            case TypeTags.MAP_TAG:
+                return readMap((BMapType) type);
+            case TypeTags.ARRAY_TAG:
+                return readArray((BArrayType) type);
+            case TypeTags.JSON_TAG:
+            case TypeTags.ANYDATA_TAG:
+                if (type.isReadOnly()) {
+                    throw MISMATCH_EXCEPTION;
+                }
+                return readAny(type.getTag() == TypeTags.ANYDATA_TAG);
+            case TypeTags.UNION_TAG:
+                BType memberType = getNonNilMemberType((BUnionType) type);
+                if (peek() == 'n') {
+                    readLiteral("null");
+                    return null;
+                }
+                return readValue(memberType, inStructure);
+            case TypeTags.NULL_TAG:
+                readLiteral("null");
+                return null;
+            case TypeTags.BOOLEAN_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.INT_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.DECIMAL_TAG:
+                return convert(readLeaf(), type);
+            default:
+                throw MISMATCH_EXCEPTION;
+        }
+    }
+
+    private MapValue<BString, Object> readRecord(BRecordType type, boolean inStructure) {
+        if (type.isReadOnly()) {
+            throw MISMATCH_EXCEPTION;
+        }
+        expect('{');
+
+        MapValue<BString, Object> record;
+        if (strand != null && typedesc.getDescribingType() == type) {
+            record = (MapValue<BString, Object>) typedesc.instantiate(strand);
+        } else {
+            record = (MapValue<BString, Object>) BValueCreator.createRecordValue(type.getPackage(), type.getName());
+        }
+
+        RecordFields fields = recordFields.computeIfAbsent(type, RecordFields::new);
+        boolean[] present = new boolean[fields.size()];
+        skipWhitespace();
+        if (peek() == '}') {
+            index++;
+        } else {
+            do {
+                skipWhitespace();
+                int field = readFieldName(fields);
+                BString fieldName = field >= 0 ? fields.keys[field] : BStringUtils.fromString(lastFieldName);
+                skipWhitespace();
+                expect(':');
+                skipWhitespace();
+                if (field >= 0) {
+                    record.put(fieldName, readValue(fields.types[field], inStructure));
+                    present[field] = true;
+                } else if (type.sealed) {
+                    throw MISMATCH_EXCEPTION;
+                } else {
+                    record.put(fieldName, readValue(type.restFieldType, inStructure));
+                }
+                skipWhitespace();
+            } while (next() == ',');
+            expectPrevious('}');
+        }
+
+        for (int i = 0; i < present.length; i++) {
+            if (present[i]) {
+                continue;
+            }
+            int flags = fields.flags[i];
+            if (inStructure ? !Flags.isFlagOn(flags, Flags.OPTIONAL) : Flags.isFlagOn(flags, Flags.REQUIRED)) {
+                throw MISMATCH_EXCEPTION;
+            }
+        }
+        return record;
+    }
+
+    private MapValueImpl<BString, Object> readMap(BMapType type) {
+        if (type.isReadOnly()) {
+            throw MISMATCH_EXCEPTION;
+        }
+        expect('{');
+        MapValueImpl<BString, Object> map = new MapValueImpl<>(type);
+        BType constraint = type.getConstrainedType();
+        skipWhitespace();
+        if (peek() == '}') {
+            index++;
+            return map;
+        }
+        do {
+            skipWhitespace();
+            if (peek() != '"') {
+                throw MISMATCH_EXCEPTION;
+            }
+            BString key = BStringUtils.fromString(readString());
+            skipWhitespace();
+            expect(':');
+            skipWhitespace();
+            map.put(key, readValue(constraint, true));
+            skipWhitespace();
+        } while (next() == ',');
+        expectPrevious('}');
+        return map;
+    }
+
+    private ArrayValueImpl readArray(BArrayType type) {
+        if (type.isReadOnly() || type.getState() == ArrayState.CLOSED_SEALED) {
+            throw MISMATCH_EXCEPTION;
+        }
+        expect('[');
+        ArrayValueImpl array = new ArrayValueImpl(type);
+        BType elementType = type.getElementType();
+        skipWhitespace();
+        if (peek() == ']') {
+            index++;
+            return array;
+        }
+        long i = 0;
+        do {
+            skipWhitespace();
+            array.add(i++, readValue(elementType, true));
+            skipWhitespace();
+        } while (next() == ',');
+        expectPrevious(']');
+        return array;
+    }
+
+    /**
+     * Reads a json or anydata value, in the same shape as that of converting a parsed JSON value to these types.
+     */
+    private Object readAny(boolean anydata) {
+        switch (peek()) {
+            case '{':
+                index++;
+                MapValueImpl<BString, Object> map = new MapValueImpl<>(anydata ? ANYDATA_MAP_TYPE : JSON_MAP_TYPE);
+                skipWhitespace();
+                if (peek() == '}') {
+                    index++;
+                    return map;
+                }
+                do {
+                    skipWhitespace();
+                    if (peek() != '"') {
+                        throw MISMATCH_EXCEPTION;
+                    }
+                    BString key = BStringUtils.fromString(readString());
+                    skipWhitespace();
+                    expect(':');
+                    skipWhitespace();
+                    map.put(key, readAny(anydata));
+                    skipWhitespace();
+                } while (next() == ',');
+                expectPrevious('}');
+                return map;
+            case '[':
+                index++;
+                ArrayValueImpl array = new ArrayValueImpl(anydata ? ANYDATA_ARRAY_TYPE :
+                                                                  (BArrayType) BTypes.typeJsonArray);
+                skipWhitespace();
+                if (peek() == ']') {
+                    index++;
+                    return array;
+                }
+                long i = 0;
+                do {
+                    skipWhitespace();
+                    array.add(i++, readAny(anydata));
+                    skipWhitespace();
+                } while (next() == ',');
+                expectPrevious(']');
+                return array;
+            case 'n':
+                readLiteral("null");
+                return null;
+            default:
+                Object value = readLeaf();
+                if (anydata && value instanceof DecimalValue) {
+                    // A decimal in a JSON value has no matching type when converted to anydata.
+                    throw MISMATCH_EXCEPTION;
+                }
+                return value;
+        }
+    }
+
+    /**
+     * Reads a string, boolean or number, as parsed by {@link JSONParser}.
+     */
+    private Object readLeaf() {
+        switch (peek()) {
+            case '"':
+                return BStringUtils.fromString(readString());
+            case 't':
+            case 'f':
+                return readBoolean();
+            default:
+                return readNumber();
+        }
+    }
+
+    /**
+     * Converts a leaf value to the given type, in the same way as converting a parsed JSON value.
+     */
+    private static Object convert(Object value, BType type) {
+        if (TypeChecker.checkIsType(value, type)) {
+            return value;
+        }
+        try {
+            List<BType> convertibleTypes = TypeConverter.getConvertibleTypesFromJson(value, type, new ArrayList<>());
+            if (convertibleTypes.size() != 1) {
+                throw MISMATCH_EXCEPTION;
+            }
+            return TypeConverter.convertValues(convertibleTypes.get(0), value);
+        } catch (BallerinaException | ErrorValue e) {
+            throw MISMATCH_EXCEPTION;
+        }
+    }
+
+    private Boolean readBoolean() {
+        if (peek() == 't') {
+            readLiteral("true");
+            return Boolean.TRUE;
+        }
+        readLiteral("false");
+        return Boolean.FALSE;
+    }
+
+    /**
+     * Reads a number, as parsed by {@link JSONParser}.
+     */
+    private Object readNumber() {
+        int start = index;
+        while (index < json.length() && !isDelimiter(json.charAt(index))) {
+            index++;
+        }
+        if (index == start) {
+            throw MISMATCH_EXCEPTION;
+        }
+        try {
+            return JSONParser.toNumber(json.substring(start, index));
+        } catch (NumberFormatException e) {
+            throw MISMATCH_EXCEPTION;
+        }
+    }
+
+    /**
+     * Reads a field name and returns the index of the matching field of the record, or -1 if the record has no such
+     * field, in which case the name is left in {@link #lastFieldName}. Names without escapes are matched without
+     * copying them.
+     */
+    private int readFieldName(RecordFields fields) {
+        if (peek() != '"') {
+            throw MISMATCH_EXCEPTION;
+        }
+        int start = index + 1;
+        int end = start;
+        while (end < json.length()) {
+            char ch = json.charAt(end);
+            if (ch == '"') {
+                int field = fields.indexOf(json, start, end);
+                if (field < 0) {
+                    lastFieldName = json.substring(start, end);
+                }
+                index = end + 1;
+                return field;
+            }
+            if (ch == '\\') {
+                break;
+            }
+            end++;
+        }
+        String name = readString();
+        int field = fields.indexOf(name, 0, name.length());
+        if (field < 0) {
+            lastFieldName = name;
+        }
+        return field;
+    }
+
+    private String readString() {
+        expect('"');
+        int start = index;
+        StringBuilder builder = null;
+        while (index < json.length()) {
+            char ch = json.charAt(index++);
+            if (ch == '"') {
+                if (builder == null) {
+                    return json.substring(start, index - 1);
+                }
+                return builder.toString();
+            }
+            if (ch != '\\') {
+                if (builder != null) {
+                    builder.append(ch);
+                }
+                continue;
+            }
+            if (builder == null) {
+                builder = new StringBuilder(json.length() - start);
+                builder.append(json, start, index - 1);
+            }
+            builder.append(readEscapedChar());
+        }
+        throw MISMATCH_EXCEPTION;
+    }
+
+    private char readEscapedChar() {
+        if (index >= json.length()) {
+            throw MISMATCH_EXCEPTION;
+        }
+        char ch = json.charAt(index++);
+        switch (ch) {
+            case '"':
+            case '\\':
+            case '/':
+                return ch;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                if (index + 4 > json.length()) {
+                    throw MISMATCH_EXCEPTION;
+                }
+                int codeUnit = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(json.charAt(index++), 16);
+                    if (digit < 0) {
+                        throw MISMATCH_EXCEPTION;
+                    }
+                    codeUnit = (codeUnit << 4) | digit;
+                }
+                return (char) codeUnit;
+            default:
+                throw MISMATCH_EXCEPTION;
+        }
+    }
+
+    private void readLiteral(String literal) {
+        int end = index + literal.length();
+        if (!json.startsWith(literal, index) || end < json.length() && !isDelimiter(json.charAt(end))) {
+            throw MISMATCH_EXCEPTION;
+        }
+        index = end;
+    }
+
+    private static BType getNonNilMemberType(BUnionType type) {
+        List<BType> memberTypes = type.getMemberTypes();
+        if (memberTypes.size() != 2) {
+            throw MISMATCH_EXCEPTION;
+        }
+        BType first = memberTypes.get(0);
+        BType second = memberTypes.get(1);
+        BType memberType;
+        if (first.getTag() == TypeTags.NULL_TAG) {
+            memberType = second;
+        } else if (second.getTag() == TypeTags.NULL_TAG) {
+            memberType = first;
+        } else {
+            throw MISMATCH_EXCEPTION;
+        }
+        // A value could belong to more than one member of a nilable json or anydata type.
+        if (memberType.isNilable()) {
+            throw MISMATCH_EXCEPTION;
+        }
+        return memberType;
+    }
+
+    private char peek() {
+        if (index >= json.length()) {
+            throw MISMATCH_EXCEPTION;
+        }
+        return json.charAt(index);
+    }
+
+    private char next() {
+        char ch = peek();
+        index++;
+        return ch;
+    }
+
+    private void expect(char ch) {
+        if (next() != ch) {
+            throw MISMATCH_EXCEPTION;
+        }
+    }
+
+    private void expectPrevious(char ch) {
+        if (json.charAt(index - 1) != ch) {
+            throw MISMATCH_EXCEPTION;
+        }
+    }
+
+    private void skipWhitespace() {
+        while (index < json.length() && isWhitespace(json.charAt(index))) {
+            index++;
+        }
+    }
+
+    private static boolean isWhitespace(char ch) {
+        return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r';
+    }
+
+    private static boolean isDelimiter(char ch) {
+        return isWhitespace(ch) || ch == ',' || ch == '}' || ch == ']';
+    }
+
+    /**
+     * Fields of a record type, looked up by name with open addressing on the hash of the name.
+     */
+    private static class RecordFields {
+
+        final String[] names;
+        final BString[] keys;
+        final BType[] types;
+        final int[] flags;
+        final int[] slots;
+
+        RecordFields(BRecordType type) {
+            Map<String, BField> fields = type.getFields();
+            int size = fields.size();
+            names = new String[size];
+            keys = new BString[size];
+            types = new BType[size];
+            flags = new int[size];
+            slots = new int[Integer.highestOneBit(Math.max(size, 1)) << 2];
+            int i = 0;
+            for (BField field : fields.values()) {
+                names[i] = field.getFieldName();
+                keys[i] = BStringUtils.fromString(names[i]);
+                types[i] = field.getFieldType();
+                flags[i] = field.flags;
+                int slot = names[i].hashCode() & (slots.length - 1);
+                while (slots[slot] != 0) {
+                    slot = (slot + 1) & (slots.length - 1);
+                }
+                // Slots hold the index of the field plus one, so that zero marks an empty slot.
+                slots[slot] = ++i;
+            }
+        }
+
+        int size() {
+            return names.length;
+        }
+
+        int indexOf(String source, int start, int end) {
+            int hash = 0;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + source.charAt(i);
+            }
+            int slot = hash & (slots.length - 1);
+            while (slots[slot] != 0) {
+                int field = slots[slot] - 1;
+                String name = names[field];
+                if (name.length() == end - start && source.startsWith(name, start)) {
+                    return field;
+                }
+                slot = (slot + 1) & (slots.length - 1);
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Thrown to stop parsing on a mismatch. Being control flow, it has no stack trace.
+     */
+    private static class Mismatch extends RuntimeException {
+
+        Mismatch() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -45,6 +45,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
+import java.io.UnsupportedEncodingException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
@@ -120,6 +121,41 @@ public class XMLFactory {
         }
     }
 
+    /**
+     * Create a XML sequence of the elements with the given qualified names, from a XML input stream. The stream is
+     * parsed in a single forward pass, and only the selected elements and their content are built. This needs far
+     * less memory than parsing a large document and then selecting its descendants.
+     *
+     * @param xmlStream XML input stream
+     * @param charset Charset to be used for parsing
+     * @param qnames Qualified names of the elements to select, in the {namespace}localName form
+     * @return XML Sequence of the selected elements, in document order
+     */
+    public static XMLValue parseDescendants(InputStream xmlStream, String charset, List<String> qnames) {
+        try {
+            return parseDescendants(new InputStreamReader(xmlStream, charset), qnames);
+        } catch (UnsupportedEncodingException e) {
+            throw BErrorCreator.createError(BStringUtils.fromString(("failed to create xml: " + e.getMessage())));
+        }
+    }
+
+    /**
+     * Create a XML sequence of the elements with the given qualified names, from a XML reader. The content is read in
+     * a single forward pass, and only the selected elements and their content are built.
+     *
+     * @param reader XML reader
+     * @param qnames Qualified names of the elements to select, in the {namespace}localName form
+     * @return XML Sequence of the selected elements, in document order
+     */
+    public static XMLValue parseDescendants(Reader reader, List<String> qnames) {
+        try {
+            XMLTreeBuilder xmlTreeBuilder = new XMLTreeBuilder(reader);
+            return xmlTreeBuilder.parseDescendants(qnames);
+        } catch (Throwable e) {
+            throw BErrorCreator.createError(BStringUtils.fromString(("failed to create xml: " + e.getMessage())));
+        }
+    }
+
     /**
      * Create a XML sequence from string reader.
      *
@@ -136,6 +136,68 @@ public class XMLTreeBuilder {
         return null;
     }
 
+    /**
+     * Parses the XML in a single forward pass, building only the elements with the given qualified names and their
+     * content. The result is the same as selecting the descendants with the given names from the whole document, but
+     * the elements that are not selected, or inside a selected element, are never built.
+     *
+     * @param qnames qualified names of the elements to select
+     * @return sequence of the selected elements, in document order
+     */
+    public XMLValue parseDescendants(List<String> qnames) {
+        List<BXML> descendants = new ArrayList<>();
+        try {
+            while (xmlStreamReader.hasNext()) {
+                int next = xmlStreamReader.next();
+                // The sibling list of the document is always at the bottom of the deque.
+                boolean inSelectedElement = siblingDeque.size() > 1;
+                switch (next) {
+                    case START_ELEMENT:
+                        boolean selected = qnames.contains(xmlStreamReader.getName().toString());
+                        if (selected || inSelectedElement) {
+                            XMLItem element = readElement(xmlStreamReader);
+                            if (selected) {
+                                descendants.add(element);
+                            }
+                        }
+                        break;
+                    case END_ELEMENT:
+                        if (inSelectedElement) {
+                            endElement();
+                        }
+                        break;
+                    case PROCESSING_INSTRUCTION:
+                        if (inSelectedElement) {
+                            readPI(xmlStreamReader);
+                        }
+                        break;
+                    case COMMENT:
+                        if (inSelectedElement) {
+                            readComment(xmlStreamReader);
+                        }
+                        break;
+                    case CDATA:
+                    case CHARACTERS:
+                        if (inSelectedElement) {
+                            readText(xmlStreamReader);
+                        }
+                        break;
+                    case END_DOCUMENT:
+                        return new XMLSequence(descendants);
+                    case DTD:
+                        handleDTD(xmlStreamReader);
+                        break;
+                    default:
+                        assert false;
+                }
+            }
+        } catch (Exception e) {
+            handleXMLStreamException(e);
+        }
+
+        return null;
+    }
+
     private void handleDTD(XMLStreamReader xmlStreamReader) {
         // ignore
     }
@@ -165,7 +227,7 @@ public class XMLTreeBuilder {
         this.seqDeque.pop();
     }
 
-    private void readElement(XMLStreamReader xmlStreamReader) {
+    private XMLItem readElement(XMLStreamReader xmlStreamReader) {
         QName elemName = xmlStreamReader.getName();
         XMLQName name = new XMLQName(elemName.getLocalPart(),
                 elemName.getNamespaceURI(), elemName.getPrefix());
@@ -176,6 +238,7 @@ public class XMLTreeBuilder {
         siblingDeque.peek().add(xmlItem);
         populateAttributeMap(xmlStreamReader, xmlItem, elemName);
         siblingDeque.push(xmlItem.getChildrenSeq().getChildrenList());
+        return xmlItem;
     }
     // need to duplicate the same in xmlItem.setAttribute
 
@@ -24,13 +24,20 @@ import org.ballerinalang.jvm.scheduling.State;
 import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.scheduling.StrandMetadata;
 import org.ballerinalang.jvm.types.BFunctionType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.util.BLangConstants;
+import org.ballerinalang.jvm.util.Flags;
 import org.ballerinalang.jvm.values.FPValue;
 import org.ballerinalang.jvm.values.FutureValue;
 
+import java.io.PrintStream;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.ObjIntConsumer;
 import java.util.function.Supplier;
 
 /**
@@ -38,6 +45,12 @@ import java.util.function.Supplier;
  */
 public class AsyncUtils {
 
+    private static final PrintStream stderr = System.err;
+
+    // Number of iterations from which isolated function pointers are invoked in parallel, 0 if disabled, or -1 until
+    // the configuration is read on first use
+    private static volatile int parallelIterationThreshold = -1;
+
     /**
      * Block the current strand to execute asynchronously.
      *
@@ -160,6 +173,212 @@ public class AsyncUtils {
         invokeFunctionPointerAsync(func, strand, strandName, metadata, argsSupplier.get(), callback, scheduler);
     }
 
+    /**
+     * Checks whether a function pointer should be invoked in parallel for the given number of iterations, with
+     * {@link #invokeFunctionPointerAsyncInParallel}. Parallel invocation is enabled by setting the
+     * ballerina.parallel.iteration.threshold system property or the BALLERINA_PARALLEL_ITERATION_THRESHOLD
+     * environment variable to the minimum number of iterations, and only applies to isolated functions, as they do
+     * not access mutable state other than through their arguments.
+     *
+     * @param func           Function Pointer to be invoked.
+     * @param noOfIterations Number of iterations need to call the function pointer.
+     * @return true if the function pointer should be invoked in parallel
+     */
+    public static boolean canInvokeInParallel(FPValue<?, ?> func, int noOfIterations) {
+        int threshold = getParallelIterationThreshold();
+        return threshold > 0 && noOfIterations >= threshold &&
+                Flags.isFlagOn(((BFunctionType) func.getType()).flags, Flags.ISOLATED);
+    }
+
+    /**
+     * Invoke Function Pointer asynchronously given number of times, in parallel. This will schedule the function and
+     * block the strand. The iterations are split into contiguous chunks, one for each scheduler thread. Each chunk is
+     * invoked in order on a strand of its own, and the chunks run concurrently. Since the result of each iteration
+     * is passed to the consumer with its index, the results do not depend on the order the chunks complete in.
+     *
+     * @param func                 Function Pointer to be invoked.
+     * @param strandName           Name for newly creating strand which is used to execute the function pointer. This is
+     *                             optional and can be null.
+     * @param metadata             Meta data of new strand.
+     * @param noOfIterations       Number of iterations need to call the function pointer.
+     * @param argsSupplier         Provides the arguments to function pointer execution for the given iteration.
+     * @param futureResultConsumer Consumer used to process the future value received after execution of function,
+     *                             with the index of the iteration. It is called concurrently for different chunks.
+     * @param returnValueSupplier  Suppler used to set the final return value for the parent function invocation,
+     *                             after all the iterations are completed.
+     * @param scheduler            The scheduler for invoking functions
+     */
+    public static void invokeFunctionPointerAsyncInParallel(FPValue<?, ?> func, String strandName,
+                                                            StrandMetadata metadata, int noOfIterations,
+                                                            IntFunction<Object[]> argsSupplier,
+                                                            ObjIntConsumer<Object> futureResultConsumer,
+                                                            Supplier<Object> returnValueSupplier,
+                                                            Scheduler scheduler) {
+
+        invokeFunctionPointerAsyncInChunks(func, strandName, metadata, noOfIterations,
+                                           ceilDiv(noOfIterations, scheduler.getNumberOfThreads()), argsSupplier,
+                                           futureResultConsumer, returnValueSupplier, scheduler);
+    }
+
+    /**
+     * Invoke Function Pointer asynchronously given number of times, one iteration after the other. This will schedule
+     * the function and block the strand. Unlike {@link #invokeFunctionPointerAsyncIteratively}, all the iterations
+     * are invoked on a single strand, so that a strand and a future are not created for each of them. The arguments
+     * of an iteration are requested after the result of the previous iteration is passed to the consumer.
+     *
+     * @param func                 Function Pointer to be invoked.
+     * @param strandName           Name for newly creating strand which is used to execute the function pointer. This is
+     *                             optional and can be null.
+     * @param metadata             Meta data of new strand.
+     * @param noOfIterations       Number of iterations need to call the function pointer.
+     * @param argsSupplier         Provides the arguments to function pointer execution for the given iteration.
+     * @param futureResultConsumer Consumer used to process the future value received after execution of function,
+     *                             with the index of the iteration.
+     * @param returnValueSupplier  Suppler used to set the final return value for the parent function invocation,
+     *                             after all the iterations are completed.
+     * @param scheduler            The scheduler for invoking functions
+     */
+    public static void invokeFunctionPointerAsyncInOrder(FPValue<?, ?> func, String strandName,
+                                                         StrandMetadata metadata, int noOfIterations,
+                                                         IntFunction<Object[]> argsSupplier,
+                                                         ObjIntConsumer<Object> futureResultConsumer,
+                                                         Supplier<Object> returnValueSupplier,
+                                                         Scheduler scheduler) {
+        invokeFunctionPointerAsyncInChunks(func, strandName, metadata, noOfIterations, noOfIterations, argsSupplier,
+                                           futureResultConsumer, returnValueSupplier, scheduler);
+    }
+
+    private static void invokeFunctionPointerAsyncInChunks(FPValue<?, ?> func, String strandName,
+                                                           StrandMetadata metadata, int noOfIterations,
+                                                           int chunkSize, IntFunction<Object[]> argsSupplier,
+                                                           ObjIntConsumer<Object> futureResultConsumer,
+                                                           Supplier<Object> returnValueSupplier,
+                                                           Scheduler scheduler) {
+        if (noOfIterations <= 0) {
+            return;
+        }
+        Strand strand = Scheduler.getStrand();
+        blockStrand(strand);
+        int noOfChunks = ceilDiv(noOfIterations, chunkSize);
+        AtomicInteger remainingChunks = new AtomicInteger(noOfChunks);
+        AtomicBoolean failed = new AtomicBoolean(false);
+        BType retType = ((BFunctionType) func.getType()).retType;
+        for (int i = 0; i < noOfChunks; i++) {
+            int start = i * chunkSize;
+            int end = Math.min(start + chunkSize, noOfIterations);
+            AsyncFunctionCallback callback = new AsyncFunctionCallback() {
+                @Override
+                public void notifySuccess() {
+                    if (!failed.get() && remainingChunks.decrementAndGet() == 0) {
+                        setReturnValues(returnValueSupplier.get());
+                    }
+                }
+
+                @Override
+                public void notifyFailure(BError error) {
+                    if (failed.compareAndSet(false, true)) {
+                        handleRuntimeErrors(error);
+                    }
+                }
+            };
+            FutureValue future = scheduler.createFuture(strand, callback, null, retType, strandName, metadata);
+            callback.setFuture(future);
+            callback.setStrand(strand);
+            ChunkInvocation chunk = new ChunkInvocation(func, start, end, failed, argsSupplier, futureResultConsumer);
+            scheduler.schedule(new Object[1], chunk, future);
+        }
+    }
+
+    private static int ceilDiv(int dividend, int divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+
+    private static int getParallelIterationThreshold() {
+        int threshold = parallelIterationThreshold;
+        if (threshold < 0) {
+            threshold = readParallelIterationThreshold();
+            parallelIterationThreshold = threshold;
+        }
+        return threshold;
+    }
+
+    /**
+     * Overrides the configured parallel iteration threshold.
+     *
+     * @param threshold minimum number of iterations to invoke isolated function pointers in parallel, or 0 to disable
+     *                  parallel invocation
+     */
+    static void setParallelIterationThreshold(int threshold) {
+        parallelIterationThreshold = Math.max(threshold, 0);
+    }
+
+    private static int readParallelIterationThreshold() {
+        String source = BLangConstants.BALLERINA_PARALLEL_ITERATION_THRESHOLD_PROPERTY;
+        String thresholdConf = System.getProperty(source);
+        if (thresholdConf == null) {
+            source = BLangConstants.BALLERINA_PARALLEL_ITERATION_THRESHOLD_ENV_VAR;
+            thresholdConf = System.getenv(source);
+        }
+        if (thresholdConf == null) {
+            return 0;
+        }
+        try {
+            return Math.max(Integer.parseInt(thresholdConf.trim()), 0);
+        } catch (NumberFormatException e) {
+            // Log and continue with parallel invocation disabled
+            stderr.println("ballerina: error occurred while reading " + source + ", " + e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Invokes a function pointer for a contiguous chunk of iterations, one after the other on the same strand.
+     * <p>
+     * When the function pointer yields, the strand of the chunk yields too, and the same invocation is resumed when
+     * the scheduler runs the chunk again, in the same way a generated function resumes the function it called.
+     */
+    private static class ChunkInvocation implements Function<Object[], Object> {
+
+        private final Function<Object[], Object> function;
+        private final int end;
+        private final AtomicBoolean failed;
+        private final IntFunction<Object[]> argsSupplier;
+        private final ObjIntConsumer<Object> futureResultConsumer;
+        private int index;
+        private Object[] args;
+
+        @SuppressWarnings("unchecked")
+        ChunkInvocation(FPValue<?, ?> func, int start, int end, AtomicBoolean failed,
+                        IntFunction<Object[]> argsSupplier, ObjIntConsumer<Object> futureResultConsumer) {
+            this.function = (Function<Object[], Object>) func.getFunction();
+            this.index = start;
+            this.end = end;
+            this.failed = failed;
+            this.argsSupplier = argsSupplier;
+            this.futureResultConsumer = futureResultConsumer;
+        }
+
+        @Override
+        public Object apply(Object[] params) {
+            Strand strand = (Strand) params[0];
+            // Stop early if the parent strand has already been resumed with the panic of another chunk.
+            while (index < end && !failed.get()) {
+                if (args == null) {
+                    args = argsSupplier.apply(index);
+                    args[0] = strand;
+                }
+                Object result = function.apply(args);
+                if (strand.isYielded()) {
+                    return null;
+                }
+                args = null;
+                futureResultConsumer.accept(result, index);
+                index++;
+            }
+            return null;
+        }
+    }
+
     private static class Unblocker implements java.util.function.BiConsumer<Object, Throwable> {
 
         private Strand strand;
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per worker thread pool of strand frame stacks.
+ * <p>
+ * A frame stack is only needed once a strand yields, so strands are created without one and borrow a stack from
+ * the pool of the thread they yield on. Stacks start with {@link #INITIAL_CAPACITY} slots and are grown on demand
+ * by {@link Strand#pushFrame(Object)}. When a strand completes, its stack is cleared and handed back to the pool of
+ * the thread that cleans it up.
+ *
+ * @since 2.0.0
+ */
+public class FrameStackPool {
+
+    static final int INITIAL_CAPACITY = 8;
+
+    /**
+     * Stacks that grew beyond this size are not pooled, to avoid retaining memory for rare deep yields.
+     */
+    private static final int MAX_POOLED_CAPACITY = 64;
+    private static final int MAX_POOLED_STACKS = 256;
+
+    private static final ThreadLocal<ArrayDeque<Object[]>> pool = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private static final LongAdder allocatedCount = new LongAdder();
+    private static final LongAdder reusedCount = new LongAdder();
+    private static final LongAdder grownCount = new LongAdder();
+
+    private FrameStackPool() {
+    }
+
+    static Object[] borrow() {
+        Object[] frames = pool.get().pollFirst();
+        if (frames != null) {
+            reusedCount.increment();
+            return frames;
+        }
+        allocatedCount.increment();
+        return new Object[INITIAL_CAPACITY];
+    }
+
+    static Object[] grow(Object[] frames) {
+        grownCount.increment();
+        Object[] newFrames = new Object[frames.length << 1];
+        System.arraycopy(frames, 0, newFrames, 0, frames.length);
+        return newFrames;
+    }
+
+    static void release(Object[] frames, int size) {
+        if (frames.length > MAX_POOLED_CAPACITY) {
+            return;
+        }
+        ArrayDeque<Object[]> stacks = pool.get();
+        if (stacks.size() >= MAX_POOLED_STACKS) {
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            frames[i] = null;
+        }
+        stacks.addFirst(frames);
+    }
+
+    /**
+     * Returns the number of frame stacks allocated because the pool of the calling thread was empty.
+     *
+     * @return number of allocated frame stacks
+     */
+    public static long getAllocatedCount() {
+        return allocatedCount.sum();
+    }
+
+    /**
+     * Returns the number of frame stacks served from a pool instead of being allocated.
+     *
+     * @return number of reused frame stacks
+     */
+    public static long getReusedCount() {
+        return reusedCount.sum();
+    }
+
+    /**
+     * Returns the number of times a frame stack had to be grown to fit a deeper yield.
+     *
+     * @return number of frame stack expansions
+     */
+    public static long getGrownCount() {
+        return grownCount.sum();
+    }
+}
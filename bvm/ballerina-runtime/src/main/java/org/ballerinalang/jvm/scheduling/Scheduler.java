@@ -32,8 +32,6 @@ import java.io.PrintStream;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -57,7 +55,7 @@ public class Scheduler {
     /**
      * Strands that are ready for execution.
      */
-    private BlockingQueue<ItemGroup> runnableList = new LinkedBlockingDeque<>();
+    private final RunQueue runnableList;
 
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
 
@@ -65,6 +63,8 @@ public class Scheduler {
 
     private static String poolSizeConf = System.getenv(BLangConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR);
 
+    private static String schedulerModeConf = System.getenv(BLangConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR);
+
     /**
      * This can be changed by setting the BALLERINA_MAX_POOL_SIZE system variable.
      * Default is 100.
@@ -87,11 +87,45 @@ public class Scheduler {
         }
         this.numThreads = poolSize;
         this.immortal = immortal;
+        this.runnableList = createRunQueue(numThreads, isWorkStealingConfigured());
     }
 
     public Scheduler(int numThreads, boolean immortal) {
+        this(numThreads, immortal, isWorkStealingConfigured());
+    }
+
+    /**
+     * Creates a scheduler with the given run queue mode.
+     *
+     * @param numThreads   number of strand worker threads
+     * @param immortal     whether the scheduler should keep running after all the strands are completed
+     * @param workStealing if true, each worker thread gets its own run queue and idle workers steal from others;
+     *                     otherwise all the workers share a single run queue
+     */
+    public Scheduler(int numThreads, boolean immortal, boolean workStealing) {
         this.numThreads = numThreads;
         this.immortal = immortal;
+        this.runnableList = createRunQueue(numThreads, workStealing);
+    }
+
+    /**
+     * Returns the number of threads that execute strands.
+     *
+     * @return number of strand worker threads
+     */
+    public int getNumberOfThreads() {
+        return numThreads;
+    }
+
+    private static RunQueue createRunQueue(int numThreads, boolean workStealing) {
+        if (workStealing) {
+            return new WorkStealingRunQueue(numThreads);
+        }
+        return new GlobalRunQueue();
+    }
+
+    private static boolean isWorkStealingConfigured() {
+        return BLangConstants.BALLERINA_SCHEDULER_MODE_WORK_STEALING.equalsIgnoreCase(schedulerModeConf);
     }
 
     public static Strand getStrand() {
@@ -102,6 +136,15 @@ public class Scheduler {
         return strand;
     }
 
+    /**
+     * Returns the strand run by the current thread, if any.
+     *
+     * @return the strand, or null if the current thread is not a strand worker
+     */
+    public static Strand getStrandIfAvailable() {
+        return strandHolder.get().strand;
+    }
+
     /**
      * Schedules given function by creating a new strand group.
      *
@@ -118,6 +161,18 @@ public class Scheduler {
         return schedule(params, fp.getFunction(), parent, null, null, returnType, strandName, metadata);
     }
 
+    /**
+     * Schedules given function by creating a new strand group, on the strand of the given future.
+     *
+     * @param params parameters to underlying function.
+     * @param fp     function pointer to be executed.
+     * @param future future created for the invocation, whose strand executes the function.
+     * @return {@link FutureValue} reference to the given function pointer invocation.
+     */
+    public FutureValue scheduleFunction(Object[] params, FPValue<?, ?> fp, FutureValue future) {
+        return schedule(params, fp.getFunction(), future);
+    }
+
     /**
      * Schedules given function to the callers strand group.
      *
@@ -185,7 +240,15 @@ public class Scheduler {
         return schedule(params, function, future);
     }
 
-    private FutureValue schedule(Object[] params, Function function, FutureValue future) {
+    /**
+     * Add a task to the runnable list on a new strand group, on the strand of the given future.
+     *
+     * @param params   parameters to be passed to the function
+     * @param function function to be executed
+     * @param future   future created for the task, whose strand executes the function
+     * @return Reference to the scheduled task
+     */
+    public FutureValue schedule(Object[] params, Function function, FutureValue future) {
         params[0] = future.strand;
         SchedulerItem item = new SchedulerItem(function, params, future);
         future.strand.schedulerItem = item;
@@ -226,9 +289,10 @@ public class Scheduler {
     public void start() {
         this.mainBlockSem = new Semaphore(-(numThreads - 1));
         for (int i = 0; i < numThreads - 1; i++) {
-            new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
+            final int workerId = i;
+            new Thread(() -> this.runSafely(workerId), "jbal-strand-exec-" + i).start();
         }
-        this.runSafely();
+        this.runSafely(numThreads - 1);
         try {
             this.mainBlockSem.acquire();
         } catch (InterruptedException e) {
@@ -239,8 +303,9 @@ public class Scheduler {
     /**
      * Defensive programming to prevent unforeseen errors.
      */
-    private void runSafely() {
+    private void runSafely(int workerId) {
         try {
+            runnableList.registerWorker(workerId);
             run();
         } catch (Throwable t) {
             RuntimeUtils.printCrashLog(t);
@@ -406,7 +471,10 @@ public class Scheduler {
 
     private void cleanUp(Strand justCompleted) {
         justCompleted.scheduler = null;
-        justCompleted.frames = null;
+        if (justCompleted.frames != null) {
+            FrameStackPool.release(justCompleted.frames, justCompleted.resumeIndex);
+            justCompleted.frames = null;
+        }
         justCompleted.waitingContexts = null;
         //TODO: more cleanup , eg channels
     }
@@ -457,9 +525,7 @@ public class Scheduler {
         if (parent != null) {
             newStrand.observerContext = parent.observerContext;
         }
-        FutureValue future = new FutureValue(newStrand, callback, constraint);
-        future.strand.frames = new Object[100];
-        return future;
+        return new FutureValue(newStrand, callback, constraint);
     }
 
     public void poison() {
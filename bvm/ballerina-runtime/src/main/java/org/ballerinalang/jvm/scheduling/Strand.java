@@ -72,6 +72,10 @@ public class Strand {
     public Set<SchedulerItem> dependants;
     public ObserverContext observerContext;
     public boolean cancel;
+    /**
+     * Number of lock acquisitions currently held by this strand, including reentrant ones.
+     */
+    public int acquiredLockCount;
 
     SchedulerItem schedulerItem;
     List<WaitContext> waitingContexts;
@@ -102,6 +106,31 @@ public class Strand {
         this.globalProps = properties != null ? properties : new HashMap<>();
     }
 
+    /**
+     * Saves the frame of a yielding function. The frame stack is borrowed lazily and grown when it is full.
+     *
+     * @param frame frame of the yielding function
+     */
+    public void pushFrame(Object frame) {
+        if (this.frames == null) {
+            this.frames = FrameStackPool.borrow();
+        } else if (this.resumeIndex == this.frames.length) {
+            this.frames = FrameStackPool.grow(this.frames);
+        }
+        this.frames[this.resumeIndex++] = frame;
+    }
+
+    /**
+     * Restores the frame of a resuming function.
+     *
+     * @return frame saved by the last {@link #pushFrame(Object)}
+     */
+    public Object popFrame() {
+        Object frame = this.frames[--this.resumeIndex];
+        this.frames[this.resumeIndex] = null;
+        return frame;
+    }
+
     public void handleChannelError(ChannelDetails[] channels, ErrorValue error) {
         for (int i = 0; i < channels.length; i++) {
             ChannelDetails channelDetails = channels[i];
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+
+/**
+ * {@link RunQueue} that keeps a separate deque per worker thread.
+ * <p>
+ * Groups scheduled from a worker thread are added to the tail of that worker's own deque and the worker consumes
+ * its deque from the head, so the common schedule/take path does not touch any state shared with other workers.
+ * Groups scheduled from non-worker threads (listeners, the main thread before the scheduler is started, etc.) go
+ * to a shared submission queue. A worker whose deque is empty polls the submission queue and then steals from the
+ * tail of the other workers' deques. An {@link ItemGroup} is always moved as a whole, so items of a group still run
+ * on a single thread at a time.
+ * <p>
+ * The number of queued groups is tracked by a semaphore so that idle workers park instead of spinning. A permit is
+ * released only after the group is visible in a deque, hence a worker that acquired a permit is guaranteed to find
+ * a group in one of the deques.
+ *
+ * @since 2.0.0
+ */
+class WorkStealingRunQueue implements RunQueue {
+
+    private final ConcurrentLinkedDeque<ItemGroup>[] localQueues;
+    private final ConcurrentLinkedQueue<ItemGroup> submissionQueue = new ConcurrentLinkedQueue<>();
+    private final Semaphore available = new Semaphore(0);
+    private final ThreadLocal<Integer> workerId = ThreadLocal.withInitial(() -> -1);
+
+    @SuppressWarnings("unchecked")
+    WorkStealingRunQueue(int numWorkers) {
+        this.localQueues = new ConcurrentLinkedDeque[numWorkers];
+        for (int i = 0; i < numWorkers; i++) {
+            this.localQueues[i] = new ConcurrentLinkedDeque<>();
+        }
+    }
+
+    @Override
+    public void registerWorker(int workerId) {
+        this.workerId.set(workerId);
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        int id = workerId.get();
+        if (id < 0) {
+            submissionQueue.add(group);
+        } else {
+            localQueues[id].addLast(group);
+        }
+        available.release();
+    }
+
+    @Override
+    public ItemGroup take() throws InterruptedException {
+        available.acquire();
+        int id = workerId.get();
+        while (true) {
+            ItemGroup group = poll(id);
+            if (group != null) {
+                return group;
+            }
+            // The group backing the acquired permit is being published by another thread.
+            Thread.yield();
+        }
+    }
+
+    private ItemGroup poll(int id) {
+        ItemGroup group;
+        if (id >= 0) {
+            group = localQueues[id].pollFirst();
+            if (group != null) {
+                return group;
+            }
+        }
+
+        group = submissionQueue.poll();
+        if (group != null) {
+            return group;
+        }
+
+        return steal(id);
+    }
+
+    private ItemGroup steal(int id) {
+        int numWorkers = localQueues.length;
+        int start = id < 0 ? 0 : id + 1;
+        for (int i = 0; i < numWorkers; i++) {
+            int victim = (start + i) % numWorkers;
+            if (victim == id) {
+                continue;
+            }
+            ItemGroup group = localQueues[victim].pollLast();
+            if (group != null) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public int size() {
+        return available.availablePermits();
+    }
+}
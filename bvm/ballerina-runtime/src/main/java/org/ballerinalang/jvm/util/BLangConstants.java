@@ -96,6 +96,13 @@ public class BLangConstants {
     public static final String BALLERINA_RUNTIME_PKG = BALLERINA_PACKAGE_PREFIX + "runtime";
     public static final String BALLERINA_LANG_ERROR_PKG = BALLERINA_PACKAGE_PREFIX + "lang_error";
     public static final String BALLERINA_MAX_POOL_SIZE_ENV_VAR = "BALLERINA_MAX_POOL_SIZE";
+    public static final String BALLERINA_SCHEDULER_MODE_ENV_VAR = "BALLERINA_SCHEDULER_MODE";
+    public static final String BALLERINA_SCHEDULER_MODE_WORK_STEALING = "work-stealing";
+    public static final String BALLERINA_TYPE_CHECK_CACHE_SIZE_ENV_VAR = "BALLERINA_TYPE_CHECK_CACHE_SIZE";
+    public static final String BALLERINA_PARALLEL_ITERATION_THRESHOLD_ENV_VAR =
+            "BALLERINA_PARALLEL_ITERATION_THRESHOLD";
+    public static final String BALLERINA_PARALLEL_ITERATION_THRESHOLD_PROPERTY =
+            "ballerina.parallel.iteration.threshold";
 
     public static final BPackage BALLERINA_BUILTIN_PKG_ID = new BPackage(BALLERINA_BUILTIN_PKG_PREFIX, "builtin");
     public static final BPackage BALLERINA_RUNTIME_PKG_ID = new BPackage(BALLERINA_BUILTIN_PKG_PREFIX,
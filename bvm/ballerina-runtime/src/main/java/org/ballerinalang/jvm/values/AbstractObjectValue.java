@@ -115,8 +115,8 @@ public abstract class AbstractObjectValue implements ObjectValue {
     }
 
     @Override
-    public MapValueImpl getMapValue(BString fieldName) {
-        return (MapValueImpl) get(fieldName);
+    public MapValue getMapValue(BString fieldName) {
+        return (MapValue) get(fieldName);
     }
 
     @Override
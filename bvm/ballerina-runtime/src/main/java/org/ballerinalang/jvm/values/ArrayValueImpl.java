@@ -18,6 +18,7 @@
 package org.ballerinalang.jvm.values;
 
 import org.ballerinalang.jvm.CycleUtils;
+import org.ballerinalang.jvm.DecimalValueKind;
 import org.ballerinalang.jvm.TypeChecker;
 import org.ballerinalang.jvm.api.BErrorCreator;
 import org.ballerinalang.jvm.api.BStringUtils;
@@ -28,17 +29,22 @@ import org.ballerinalang.jvm.commons.ArrayState;
 import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.BUnionType;
 import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.util.BLangConstants;
 import org.ballerinalang.jvm.util.exceptions.BLangExceptionHelper;
 import org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons;
 import org.ballerinalang.jvm.util.exceptions.BallerinaException;
 import org.ballerinalang.jvm.util.exceptions.RuntimeErrors;
+import org.ballerinalang.jvm.values.utils.ArrayUtils;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.math.BigDecimal;
 import java.nio.charset.Charset;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.StringJoiner;
@@ -61,15 +67,29 @@ import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.getMod
  */
 public class ArrayValueImpl extends AbstractArrayValue {
 
+    // The unscaled value of a decimal with at most 18 digits always fits in a long.
+    private static final int MAX_COMPACT_DECIMAL_PRECISION = 18;
+
     protected BArrayType arrayType;
     protected BType elementType;
 
     protected Object[] refValues;
     private long[] intValues;
+    // int:Signed32 and int:Unsigned16 members
+    private int[] int32Values;
+    // int:Signed16, int:Signed8 and int:Unsigned8 members
+    private short[] int16Values;
     private boolean[] booleanValues;
     private byte[] byteValues;
     private double[] floatValues;
     private BString[] bStringValues;
+    // int? members, with a bit set in nonNilIntMembers for each member which is not nil
+    private long[] nilableIntValues;
+    private BitSet nonNilIntMembers;
+    // decimal members, as unscaled values and scales. When a member does not fit in these, all the members are moved
+    // to refValues.
+    private long[] unscaledDecimalValues;
+    private int[] decimalScales;
     // ------------------------ Constructors -------------------------------------------------------------------
 
     @Deprecated
@@ -142,13 +162,17 @@ public class ArrayValueImpl extends AbstractArrayValue {
         int initialArraySize = (arrayType.getSize() != -1) ? arrayType.getSize() : DEFAULT_ARRAY_SIZE;
         switch (elementType.getTag()) {
             case TypeTags.INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+                this.intValues = new long[initialArraySize];
+                break;
             case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+                this.int32Values = new int[initialArraySize];
+                break;
             case TypeTags.SIGNED16_INT_TAG:
             case TypeTags.SIGNED8_INT_TAG:
-            case TypeTags.UNSIGNED32_INT_TAG:
-            case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
-                this.intValues = new long[initialArraySize];
+                this.int16Values = new short[initialArraySize];
                 break;
             case TypeTags.FLOAT_TAG:
                 this.floatValues = new double[initialArraySize];
@@ -163,7 +187,17 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.BYTE_TAG:
                 this.byteValues = new byte[initialArraySize];
                 break;
+            case TypeTags.DECIMAL_TAG:
+                this.unscaledDecimalValues = new long[initialArraySize];
+                this.decimalScales = new int[initialArraySize];
+                break;
             default:
+                if (isNilableInt(elementType)) {
+                    // Members are nil until they are set, which is also the filler value.
+                    this.nilableIntValues = new long[initialArraySize];
+                    this.nonNilIntMembers = new BitSet(initialArraySize);
+                    break;
+                }
                 this.refValues = new Object[initialArraySize];
                 if (arrayType.getState() == ArrayState.CLOSED_SEALED) {
                     fillerValueCheck(initialArraySize, initialArraySize);
@@ -209,13 +243,15 @@ public class ArrayValueImpl extends AbstractArrayValue {
         rangeCheckForGet(index, size);
         switch (this.elementType.getTag()) {
             case TypeTags.INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+                return intValues[(int) index];
             case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+                return (long) int32Values[(int) index];
             case TypeTags.SIGNED16_INT_TAG:
             case TypeTags.SIGNED8_INT_TAG:
-            case TypeTags.UNSIGNED32_INT_TAG:
-            case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
-                return intValues[(int) index];
+                return (long) int16Values[(int) index];
             case TypeTags.BOOLEAN_TAG:
                 return booleanValues[(int) index];
             case TypeTags.BYTE_TAG:
@@ -226,6 +262,9 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.CHAR_STRING_TAG:
                     return bStringValues[(int) index];
             default:
+                if (refValues == null) {
+                    return getCompactValue((int) index);
+                }
                 return refValues[(int) index];
         }
     }
@@ -255,6 +294,10 @@ public class ArrayValueImpl extends AbstractArrayValue {
             }
             return refValues[(int) index];
         }
+        if (hasCompactValues() && index >= this.size) {
+            handleImmutableArrayValue();
+            fillRead(index, getCurrentArrayLength());
+        }
         return get(index);
     }
 
@@ -269,6 +312,10 @@ public class ArrayValueImpl extends AbstractArrayValue {
         rangeCheckForGet(index, size);
         if (intValues != null) {
             return intValues[(int) index];
+        } else if (int32Values != null) {
+            return int32Values[(int) index];
+        } else if (int16Values != null) {
+            return int16Values[(int) index];
         } else if (refValues != null) {
             return (Long) refValues[(int) index];
         }
@@ -454,14 +501,20 @@ public class ArrayValueImpl extends AbstractArrayValue {
                 this.byteValues[(int) index] = ((Number) value).byteValue();
                 return;
             case TypeTags.INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+                prepareForAdd(index, value, type, intValues.length);
+                this.intValues[(int) index] = (Long) value;
+                return;
             case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+                prepareForAdd(index, value, type, int32Values.length);
+                this.int32Values[(int) index] = (int) (long) (Long) value;
+                return;
             case TypeTags.SIGNED16_INT_TAG:
             case TypeTags.SIGNED8_INT_TAG:
-            case TypeTags.UNSIGNED32_INT_TAG:
-            case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
-                prepareForAdd(index, value, type, intValues.length);
-                this.intValues[(int) index] = (Long) value;
+                prepareForAdd(index, value, type, int16Values.length);
+                this.int16Values[(int) index] = (short) (long) (Long) value;
                 return;
             case TypeTags.STRING_TAG:
             case TypeTags.CHAR_STRING_TAG:
@@ -469,6 +522,11 @@ public class ArrayValueImpl extends AbstractArrayValue {
                 this.bStringValues[(int) index] = (BString) value;
                 return;
             default:
+                if (refValues == null) {
+                    prepareForAdd(index, value, type, getCurrentArrayLength());
+                    setCompactValue((int) index, value);
+                    return;
+                }
                 prepareForAdd(index, value, type, refValues.length);
                 this.refValues[(int) index] = value;
         }
@@ -481,6 +539,24 @@ public class ArrayValueImpl extends AbstractArrayValue {
             return;
         }
 
+        if (int32Values != null) {
+            prepareForAdd(index, value, BTypes.typeInt, int32Values.length);
+            int32Values[(int) index] = (int) value;
+            return;
+        }
+
+        if (int16Values != null) {
+            prepareForAdd(index, value, BTypes.typeInt, int16Values.length);
+            int16Values[(int) index] = (short) value;
+            return;
+        }
+
+        if (nilableIntValues != null) {
+            prepareForAdd(index, value, BTypes.typeInt, nilableIntValues.length);
+            setCompactValue((int) index, value);
+            return;
+        }
+
         prepareForAdd(index, value, TypeChecker.getType(value), byteValues.length);
         byteValues[(int) index] = (byte) ((Long) value).intValue();
     }
@@ -545,19 +621,61 @@ public class ArrayValueImpl extends AbstractArrayValue {
         unshift(0, values);
     }
 
+    /**
+     * Sorts the members of an int, float, string, boolean or byte array in place, in the order used by
+     * {@code lang.array:sort}, without boxing them.
+     *
+     * @param isAscending whether to sort in ascending order
+     * @return true if the array was sorted, false if its members are not stored in a primitive array
+     */
+    public boolean sortValues(boolean isAscending) {
+        if (refValues != null || hasCompactValues()) {
+            return false;
+        }
+        if (size == 0) {
+            return true;
+        }
+
+        handleImmutableArrayValue();
+        if (intValues != null) {
+            ArrayUtils.sort(intValues, size, isAscending);
+        } else if (int32Values != null) {
+            ArrayUtils.sort(int32Values, size, isAscending);
+        } else if (int16Values != null) {
+            ArrayUtils.sort(int16Values, size, isAscending);
+        } else if (floatValues != null) {
+            ArrayUtils.sort(floatValues, size, isAscending);
+        } else if (bStringValues != null) {
+            ArrayUtils.sort(bStringValues, size, isAscending);
+        } else if (booleanValues != null) {
+            ArrayUtils.sort(booleanValues, size, isAscending);
+        } else {
+            ArrayUtils.sort(byteValues, size, isAscending);
+        }
+        return true;
+    }
+
     @Override
     public String stringValue(BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         switch (this.elementType.getTag()) {
             case TypeTags.INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+                for (int i = 0; i < size; i++) {
+                    sj.add(Long.toString(intValues[i]));
+                }
+                break;
             case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+                for (int i = 0; i < size; i++) {
+                    sj.add(Integer.toString(int32Values[i]));
+                }
+                break;
             case TypeTags.SIGNED16_INT_TAG:
             case TypeTags.SIGNED8_INT_TAG:
-            case TypeTags.UNSIGNED32_INT_TAG:
-            case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
                 for (int i = 0; i < size; i++) {
-                    sj.add(Long.toString(intValues[i]));
+                    sj.add(Integer.toString(int16Values[i]));
                 }
                 break;
             case TypeTags.BOOLEAN_TAG:
@@ -582,11 +700,12 @@ public class ArrayValueImpl extends AbstractArrayValue {
                 }
                 break;
             default:
+                Object[] values = getValues();
                 for (int i = 0; i < size; i++) {
-                    if (refValues[i] == null) {
+                    if (values[i] == null) {
                         sj.add("null");
                     } else {
-                        BType type = TypeChecker.getType(refValues[i]);
+                        BType type = TypeChecker.getType(values[i]);
                         switch (type.getTag()) {
                             case TypeTags.STRING_TAG:
                             case TypeTags.XML_TAG:
@@ -596,11 +715,11 @@ public class ArrayValueImpl extends AbstractArrayValue {
                             case TypeTags.XML_PI_TAG:
                             case TypeTags.XMLNS_TAG:
                             case TypeTags.XML_TEXT_TAG:
-                                sj.add(((BValue) (refValues[i])).informalStringValue(new CycleUtils
+                                sj.add(((BValue) (values[i])).informalStringValue(new CycleUtils
                                         .Node(this, parent)));
                                 break;
                             default:
-                                sj.add(BStringUtils.getStringValue(refValues[i], new CycleUtils.Node(this, parent)));
+                                sj.add(BStringUtils.getStringValue(values[i], new CycleUtils.Node(this, parent)));
                                 break;
                         }
                     }
@@ -615,14 +734,24 @@ public class ArrayValueImpl extends AbstractArrayValue {
         StringJoiner sj = new StringJoiner(",");
         switch (this.elementType.getTag()) {
             case TypeTags.INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+                for (int i = 0; i < size; i++) {
+                    sj.add(BStringUtils.getExpressionStringValue(intValues[i],
+                            new CycleUtils.Node(this, parent)));
+                }
+                break;
             case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+                for (int i = 0; i < size; i++) {
+                    sj.add(BStringUtils.getExpressionStringValue((long) int32Values[i],
+                            new CycleUtils.Node(this, parent)));
+                }
+                break;
             case TypeTags.SIGNED16_INT_TAG:
             case TypeTags.SIGNED8_INT_TAG:
-            case TypeTags.UNSIGNED32_INT_TAG:
-            case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
                 for (int i = 0; i < size; i++) {
-                    sj.add(BStringUtils.getExpressionStringValue(intValues[i],
+                    sj.add(BStringUtils.getExpressionStringValue((long) int16Values[i],
                             new CycleUtils.Node(this, parent)));
                 }
                 break;
@@ -652,8 +781,9 @@ public class ArrayValueImpl extends AbstractArrayValue {
                 }
                 break;
             default:
+                Object[] values = getValues();
                 for (int i = 0; i < size; i++) {
-                    sj.add(BStringUtils.getExpressionStringValue(refValues[i],
+                    sj.add(BStringUtils.getExpressionStringValue(values[i],
                             new CycleUtils.Node(this, parent)));
                 }
                 break;
@@ -689,13 +819,15 @@ public class ArrayValueImpl extends AbstractArrayValue {
         ArrayValue valueArray = null;
         switch (this.elementType.getTag()) {
             case TypeTags.INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+                valueArray = new ArrayValueImpl(Arrays.copyOf(intValues, this.size));
+                break;
             case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.SIGNED16_INT_TAG:
             case TypeTags.SIGNED8_INT_TAG:
-            case TypeTags.UNSIGNED32_INT_TAG:
-            case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(intValues, this.size));
+                valueArray = slice(0, this.size);
                 break;
             case TypeTags.BOOLEAN_TAG:
                 valueArray = new ArrayValueImpl(Arrays.copyOf(booleanValues, this.size));
@@ -711,6 +843,11 @@ public class ArrayValueImpl extends AbstractArrayValue {
                 valueArray = new ArrayValueImpl(Arrays.copyOf(bStringValues, this.size));
                 break;
             default:
+                if (refValues == null) {
+                    // Decimals and ints are not copied member by member, as they are not reference values.
+                    valueArray = copyCompactValues(new ArrayValueImpl(arrayType), 0, this.size);
+                    break;
+                }
                 Object[] values = new Object[this.size];
                 valueArray = new ArrayValueImpl(values, arrayType);
                 IntStream.range(0, this.size).forEach(i -> {
@@ -750,14 +887,22 @@ public class ArrayValueImpl extends AbstractArrayValue {
         int slicedSize = (int) (endIndex - startIndex);
         switch (this.elementType.getTag()) {
             case TypeTags.INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+                slicedArray = new ArrayValueImpl(new long[slicedSize]);
+                System.arraycopy(intValues, (int) startIndex, slicedArray.intValues, 0, slicedSize);
+                break;
             case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+                slicedArray = new ArrayValueImpl(new BArrayType(this.elementType));
+                slicedArray.int32Values = Arrays.copyOfRange(int32Values, (int) startIndex, (int) endIndex);
+                slicedArray.size = slicedSize;
+                break;
             case TypeTags.SIGNED16_INT_TAG:
             case TypeTags.SIGNED8_INT_TAG:
-            case TypeTags.UNSIGNED32_INT_TAG:
-            case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
-                slicedArray = new ArrayValueImpl(new long[slicedSize]);
-                System.arraycopy(intValues, (int) startIndex, slicedArray.intValues, 0, slicedSize);
+                slicedArray = new ArrayValueImpl(new BArrayType(this.elementType));
+                slicedArray.int16Values = Arrays.copyOfRange(int16Values, (int) startIndex, (int) endIndex);
+                slicedArray.size = slicedSize;
                 break;
             case TypeTags.BOOLEAN_TAG:
                 slicedArray = new ArrayValueImpl(new boolean[slicedSize]);
@@ -777,6 +922,11 @@ public class ArrayValueImpl extends AbstractArrayValue {
                 System.arraycopy(bStringValues, (int) startIndex, slicedArray.bStringValues, 0, slicedSize);
                 break;
             default:
+                if (refValues == null) {
+                    slicedArray = copyCompactValues(new ArrayValueImpl(new BArrayType(this.elementType)),
+                                                    (int) startIndex, (int) endIndex);
+                    break;
+                }
                 slicedArray = new ArrayValueImpl(new Object[slicedSize], new BArrayType(this.elementType));
                 System.arraycopy(refValues, (int) startIndex, slicedArray.refValues, 0, slicedSize);
                 break;
@@ -790,12 +940,20 @@ public class ArrayValueImpl extends AbstractArrayValue {
     }
 
     /**
-     * Get ref values array.
+     * Get ref values array. The members of int? and decimal arrays are not kept in an Object[], so for those this is
+     * a copy of the members.
      * 
      * @return ref value array
      */
     @Override
     public Object[] getValues() {
+        if (refValues == null && hasCompactValues()) {
+            Object[] values = new Object[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = getCompactValue(i);
+            }
+            return values;
+        }
         return refValues;
     }
 
@@ -826,7 +984,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
     }
 
     public long[] getLongArray() {
-        return Arrays.copyOf(intValues, size);
+        return getIntArray();
     }
 
     /**
@@ -836,7 +994,15 @@ public class ArrayValueImpl extends AbstractArrayValue {
      */
     @Override
     public long[] getIntArray() {
-        return Arrays.copyOf(intValues, size);
+        if (intValues != null) {
+            return Arrays.copyOf(intValues, size);
+        }
+
+        long[] values = new long[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = int32Values != null ? int32Values[i] : int16Values[i];
+        }
+        return values;
     }
 
     @Override
@@ -868,7 +1034,8 @@ public class ArrayValueImpl extends AbstractArrayValue {
         }
 
         this.arrayType = (BArrayType) ReadOnlyUtils.setImmutableTypeAndGetEffectiveType(this.arrayType);
-        if (this.elementType == null || this.elementType.getTag() > TypeTags.BOOLEAN_TAG) {
+        if (this.elementType == null || (this.elementType.getTag() > TypeTags.BOOLEAN_TAG &&
+                !TypeTags.isIntegerTypeTag(this.elementType.getTag()))) {
             for (int i = 0; i < this.size; i++) {
                 Object value = this.getRefValue(i);
                 if (value instanceof RefValue) {
@@ -902,13 +1069,17 @@ public class ArrayValueImpl extends AbstractArrayValue {
     protected void resizeInternalArray(int newLength) {
         switch (this.elementType.getTag()) {
             case TypeTags.INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+                intValues = Arrays.copyOf(intValues, newLength);
+                break;
             case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+                int32Values = Arrays.copyOf(int32Values, newLength);
+                break;
             case TypeTags.SIGNED16_INT_TAG:
             case TypeTags.SIGNED8_INT_TAG:
-            case TypeTags.UNSIGNED32_INT_TAG:
-            case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
-                intValues = Arrays.copyOf(intValues, newLength);
+                int16Values = Arrays.copyOf(int16Values, newLength);
                 break;
             case TypeTags.BOOLEAN_TAG:
                 booleanValues = Arrays.copyOf(booleanValues, newLength);
@@ -924,7 +1095,15 @@ public class ArrayValueImpl extends AbstractArrayValue {
                 bStringValues = Arrays.copyOf(bStringValues, newLength);
                 break;
             default:
-                refValues = Arrays.copyOf(refValues, newLength);
+                if (unscaledDecimalValues != null) {
+                    unscaledDecimalValues = Arrays.copyOf(unscaledDecimalValues, newLength);
+                    decimalScales = Arrays.copyOf(decimalScales, newLength);
+                } else if (nilableIntValues != null) {
+                    // The bit set grows as needed.
+                    nilableIntValues = Arrays.copyOf(nilableIntValues, newLength);
+                } else {
+                    refValues = Arrays.copyOf(refValues, newLength);
+                }
                 break;
         }
     }
@@ -951,6 +1130,10 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.BOOLEAN_TAG:
                 return;
             default:
+                if (refValues == null) {
+                    fillCompactValues(size, index);
+                    return;
+                }
                 if (arrayType.hasFillerValue()) {
                     for (int i = size; i < index; i++) {
                         this.refValues[i] = this.elementType.getZeroValue();
@@ -1071,6 +1254,12 @@ public class ArrayValueImpl extends AbstractArrayValue {
 
         switch (this.elementType.getTag()) {
             case TypeTags.INT_TAG:
+            case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.SIGNED16_INT_TAG:
+            case TypeTags.SIGNED8_INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+            case TypeTags.UNSIGNED8_INT_TAG:
             case TypeTags.BYTE_TAG:
             case TypeTags.FLOAT_TAG:
             case TypeTags.BOOLEAN_TAG:
@@ -1079,6 +1268,10 @@ public class ArrayValueImpl extends AbstractArrayValue {
                 Arrays.fill(bStringValues, size, intIndex, BLangConstants.STRING_EMPTY_VALUE);
                 break;
             default:
+                if (refValues == null) {
+                    fillCompactValues(size, intIndex + 1);
+                    break;
+                }
                 for (int i = size; i <= index; i++) {
                     this.refValues[i] = this.elementType.getZeroValue();
                 }
@@ -1102,6 +1295,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
         int nElemsToBeMoved = this.size - 1 - index;
         if (nElemsToBeMoved >= 0) {
             System.arraycopy(arr, index + 1, arr, index, nElemsToBeMoved);
+            moveCompactValueMetadata(index + 1, index, nElemsToBeMoved);
         }
         this.size--;
     }
@@ -1119,18 +1313,21 @@ public class ArrayValueImpl extends AbstractArrayValue {
 
         int i = (int) index;
         System.arraycopy(arr, i, arr, i + unshiftByN, this.size - i);
+        moveCompactValueMetadata(i, i + unshiftByN, this.size - i);
     }
 
     private Object getArrayFromType(int typeTag) {
         switch (typeTag) {
             case TypeTags.INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+                return intValues;
             case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+                return int32Values;
             case TypeTags.SIGNED16_INT_TAG:
             case TypeTags.SIGNED8_INT_TAG:
-            case TypeTags.UNSIGNED32_INT_TAG:
-            case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
-                return intValues;
+                return int16Values;
             case TypeTags.BOOLEAN_TAG:
                 return booleanValues;
             case TypeTags.BYTE_TAG:
@@ -1141,6 +1338,12 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.CHAR_STRING_TAG:
                 return bStringValues;
             default:
+                if (unscaledDecimalValues != null) {
+                    return unscaledDecimalValues;
+                }
+                if (nilableIntValues != null) {
+                    return nilableIntValues;
+                }
                 return refValues;
         }
     }
@@ -1148,13 +1351,15 @@ public class ArrayValueImpl extends AbstractArrayValue {
     private int getCurrentArrayLength() {
         switch (elementType.getTag()) {
             case TypeTags.INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+                return intValues.length;
             case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+                return int32Values.length;
             case TypeTags.SIGNED16_INT_TAG:
             case TypeTags.SIGNED8_INT_TAG:
-            case TypeTags.UNSIGNED32_INT_TAG:
-            case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
-                return intValues.length;
+                return int16Values.length;
             case TypeTags.BOOLEAN_TAG:
                 return booleanValues.length;
             case TypeTags.BYTE_TAG:
@@ -1165,10 +1370,112 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.CHAR_STRING_TAG:
                 return bStringValues.length;
             default:
+                if (unscaledDecimalValues != null) {
+                    return unscaledDecimalValues.length;
+                }
+                if (nilableIntValues != null) {
+                    return nilableIntValues.length;
+                }
                 return refValues.length;
         }
     }
 
+    private static boolean isNilableInt(BType elementType) {
+        if (elementType.getTag() != TypeTags.UNION_TAG) {
+            return false;
+        }
+
+        List<BType> memberTypes = ((BUnionType) elementType).getMemberTypes();
+        if (memberTypes.size() != 2) {
+            return false;
+        }
+        int firstTag = memberTypes.get(0).getTag();
+        int secondTag = memberTypes.get(1).getTag();
+        return (firstTag == TypeTags.INT_TAG && secondTag == TypeTags.NULL_TAG) ||
+                (firstTag == TypeTags.NULL_TAG && secondTag == TypeTags.INT_TAG);
+    }
+
+    private boolean hasCompactValues() {
+        return unscaledDecimalValues != null || nilableIntValues != null;
+    }
+
+    private Object getCompactValue(int index) {
+        if (unscaledDecimalValues != null) {
+            return new DecimalValue(BigDecimal.valueOf(unscaledDecimalValues[index], decimalScales[index]));
+        }
+        return nonNilIntMembers.get(index) ? (Object) nilableIntValues[index] : null;
+    }
+
+    private void setCompactValue(int index, Object value) {
+        if (nilableIntValues != null) {
+            if (value == null) {
+                nonNilIntMembers.clear(index);
+            } else {
+                nilableIntValues[index] = (Long) value;
+                nonNilIntMembers.set(index);
+            }
+            return;
+        }
+
+        DecimalValue decimalValue = (DecimalValue) value;
+        BigDecimal decimal = decimalValue.value();
+        if ((decimalValue.valueKind == DecimalValueKind.OTHER || decimalValue.valueKind == DecimalValueKind.ZERO) &&
+                decimal.precision() <= MAX_COMPACT_DECIMAL_PRECISION) {
+            unscaledDecimalValues[index] = decimal.unscaledValue().longValue();
+            decimalScales[index] = decimal.scale();
+            return;
+        }
+
+        // Infinities, NaN and decimals with more digits are kept as they are from now on.
+        Object[] values = Arrays.copyOf(getValues(), unscaledDecimalValues.length);
+        values[index] = value;
+        unscaledDecimalValues = null;
+        decimalScales = null;
+        refValues = values;
+    }
+
+    private void fillCompactValues(int from, int to) {
+        if (from >= to) {
+            return;
+        }
+
+        if (unscaledDecimalValues != null) {
+            // Zero is the filler value of decimal.
+            Arrays.fill(unscaledDecimalValues, from, to, 0);
+            Arrays.fill(decimalScales, from, to, 0);
+        } else {
+            nonNilIntMembers.clear(from, to);
+        }
+    }
+
+    private ArrayValueImpl copyCompactValues(ArrayValueImpl target, int startIndex, int endIndex) {
+        if (unscaledDecimalValues != null) {
+            target.unscaledDecimalValues = Arrays.copyOfRange(unscaledDecimalValues, startIndex, endIndex);
+            target.decimalScales = Arrays.copyOfRange(decimalScales, startIndex, endIndex);
+        } else {
+            target.nilableIntValues = Arrays.copyOfRange(nilableIntValues, startIndex, endIndex);
+            target.nonNilIntMembers = nonNilIntMembers.get(startIndex, endIndex);
+        }
+        target.size = endIndex - startIndex;
+        return target;
+    }
+
+    /**
+     * Moves the scales of decimal members, or the nil markers of int? members, along with the values when members
+     * are shifted.
+     */
+    private void moveCompactValueMetadata(int from, int to, int length) {
+        if (decimalScales != null) {
+            System.arraycopy(decimalScales, from, decimalScales, to, length);
+        } else if (nonNilIntMembers != null) {
+            BitSet moved = nonNilIntMembers.get(from, from + length);
+            nonNilIntMembers.clear(to, to + length);
+            for (int i = moved.nextSetBit(0); i >= 0; i = moved.nextSetBit(i + 1)) {
+                nonNilIntMembers.set(to + i);
+            }
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -1184,10 +1491,16 @@ public class ArrayValueImpl extends AbstractArrayValue {
                 elementType.equals(that.elementType) &&
                 Arrays.equals(refValues, that.refValues) &&
                 Arrays.equals(intValues, that.intValues) &&
+                Arrays.equals(int32Values, that.int32Values) &&
+                Arrays.equals(int16Values, that.int16Values) &&
                 Arrays.equals(booleanValues, that.booleanValues) &&
                 Arrays.equals(byteValues, that.byteValues) &&
                 Arrays.equals(floatValues, that.floatValues) &&
-                Arrays.equals(bStringValues, that.bStringValues);
+                Arrays.equals(bStringValues, that.bStringValues) &&
+                Arrays.equals(nilableIntValues, that.nilableIntValues) &&
+                Objects.equals(nonNilIntMembers, that.nonNilIntMembers) &&
+                Arrays.equals(unscaledDecimalValues, that.unscaledDecimalValues) &&
+                Arrays.equals(decimalScales, that.decimalScales);
     }
 
     @Override
@@ -1195,10 +1508,16 @@ public class ArrayValueImpl extends AbstractArrayValue {
         int result = Objects.hash(arrayType, elementType);
         result = 31 * result + Arrays.hashCode(refValues);
         result = 31 * result + Arrays.hashCode(intValues);
+        result = 31 * result + Arrays.hashCode(int32Values);
+        result = 31 * result + Arrays.hashCode(int16Values);
         result = 31 * result + Arrays.hashCode(booleanValues);
         result = 31 * result + Arrays.hashCode(byteValues);
         result = 31 * result + Arrays.hashCode(floatValues);
         result = 31 * result + Arrays.hashCode(bStringValues);
+        result = 31 * result + Arrays.hashCode(nilableIntValues);
+        result = 31 * result + Objects.hashCode(nonNilIntMembers);
+        result = 31 * result + Arrays.hashCode(unscaledDecimalValues);
+        result = 31 * result + Arrays.hashCode(decimalScales);
         return result;
     }
 }
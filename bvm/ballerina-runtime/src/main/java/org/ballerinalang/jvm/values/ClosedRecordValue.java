@@ -0,0 +1,365 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.values;
+
+import org.ballerinalang.jvm.JSONWriter;
+import org.ballerinalang.jvm.MapUtils;
+import org.ballerinalang.jvm.TypeChecker;
+import org.ballerinalang.jvm.api.BErrorCreator;
+import org.ballerinalang.jvm.api.BStringUtils;
+import org.ballerinalang.jvm.api.values.BLink;
+import org.ballerinalang.jvm.api.values.BMap;
+import org.ballerinalang.jvm.api.values.BString;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.util.exceptions.BLangExceptionHelper;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.ballerinalang.jvm.util.BLangConstants.MAP_LANG_LIB;
+import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.INVALID_UPDATE_ERROR_IDENTIFIER;
+import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.MAP_KEY_NOT_FOUND_ERROR;
+import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.getModulePrefixedReason;
+import static org.ballerinalang.jvm.util.exceptions.RuntimeErrors.INVALID_READONLY_VALUE_UPDATE;
+import static org.ballerinalang.jvm.values.ReadOnlyUtils.handleInvalidUpdate;
+
+/**
+ * <p>
+ * Base class of the value classes generated for closed records.
+ * </p>
+ * <p>
+ * Unlike {@link MapValueImpl}, this is not a {@link LinkedHashMap}. The generated subclass keeps the fields of the
+ * record in Java fields and overrides the key based operations for them, so an instance carries little more than its
+ * fields. The operations implemented here only deal with keys which are not fields of the record. Those are kept in a
+ * map which is created when the first such key is added, which does not happen for a well-typed closed record.
+ * </p>
+ * <p>
+ * <i>Note: This is an internal API and may change in future versions.</i>
+ * </p>
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ *
+ * @since 2.0.0
+ */
+public abstract class ClosedRecordValue<K, V> implements RefValue, CollectionValue, MapValue<K, V>, BMap<K, V> {
+
+    private TypedescValue typedesc;
+    private BType type;
+    private Map<K, V> restFields;
+    private Map<String, Object> nativeData;
+    private BType iteratorNextReturnType;
+
+    public ClosedRecordValue(TypedescValue typedesc) {
+        this(typedesc.getDescribingType());
+        this.typedesc = typedesc;
+    }
+
+    public ClosedRecordValue(BType type) {
+        this.type = type;
+    }
+
+    public Long getIntValue(BString key) {
+        return (Long) get(key);
+    }
+
+    public Double getFloatValue(BString key) {
+        return (Double) get(key);
+    }
+
+    public BString getStringValue(BString key) {
+        return (BString) get(key);
+    }
+
+    public Boolean getBooleanValue(BString key) {
+        return (Boolean) get(key);
+    }
+
+    public MapValue<?, ?> getMapValue(BString key) {
+        return (MapValue<?, ?>) get(key);
+    }
+
+    public ObjectValue getObjectValue(BString key) {
+        return (ObjectValue) get(key);
+    }
+
+    public ArrayValue getArrayValue(BString key) {
+        return (ArrayValue) get(key);
+    }
+
+    public long getDefaultableIntValue(BString key) {
+        if (get(key) != null) {
+            return getIntValue(key);
+        }
+        return 0;
+    }
+
+    public V getOrThrow(Object key) {
+        if (!containsKey(key)) {
+            throw BErrorCreator.createError(MAP_KEY_NOT_FOUND_ERROR, BStringUtils
+                    .fromString("cannot find key '" + key + "'"));
+        }
+        return this.get(key);
+    }
+
+    public V fillAndGet(Object key) {
+        if (containsKey(key)) {
+            return this.get(key);
+        }
+
+        // A closed record can only be filled in for one of its fields.
+        BField field = ((BRecordType) this.type).getFields().get(key.toString());
+        if (field == null || !TypeChecker.hasFillerValue(field.type)) {
+            throw BErrorCreator.createError(MAP_KEY_NOT_FOUND_ERROR, BStringUtils
+                    .fromString("cannot find key '" + key + "'"));
+        }
+
+        Object value = field.type.getZeroValue();
+        this.put((K) key, (V) value);
+        return (V) value;
+    }
+
+    @Override
+    public Object merge(MapValue v2, boolean checkMergeability) {
+        return MapValueImpl.merge(this, v2, checkMergeability);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        if (!type.isReadOnly()) {
+            return putValue(key, value);
+        }
+
+        throw BErrorCreator.createError(getModulePrefixedReason(MAP_LANG_LIB, INVALID_UPDATE_ERROR_IDENTIFIER),
+                                        BStringUtils.fromString("Invalid update of record field: ").concat(
+                                                BLangExceptionHelper.getErrorMessage(INVALID_READONLY_VALUE_UPDATE)));
+    }
+
+    protected void populateInitialValues(MappingInitialValueEntry[] initialValues) {
+        for (MappingInitialValueEntry initialValue : initialValues) {
+            if (initialValue.isKeyValueEntry()) {
+                MappingInitialValueEntry.KeyValueEntry keyValueEntry =
+                        (MappingInitialValueEntry.KeyValueEntry) initialValue;
+                populateInitialValue((K) keyValueEntry.key, (V) keyValueEntry.value);
+                continue;
+            }
+
+            MapValue<K, V> values = ((MappingInitialValueEntry.SpreadFieldEntry) initialValue).values;
+            for (Map.Entry<K, V> entry : values.entrySet()) {
+                populateInitialValue(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    public void populateInitialValue(K key, V value) {
+        MapUtils.handleInherentTypeViolatingRecordUpdate(this, (BString) key, value, (BRecordType) type, true);
+        putValue(key, value);
+    }
+
+    protected void validateFreezeStatus() {
+        if (!type.isReadOnly()) {
+            return;
+        }
+        handleInvalidUpdate(MAP_LANG_LIB);
+    }
+
+    /*
+     * The operations below only see the keys which are not fields of the record. The generated subclass handles the
+     * fields and delegates to these for any other key.
+     */
+
+    public V get(Object key) {
+        return restFields == null ? null : restFields.get(key);
+    }
+
+    protected V putValue(K key, V value) {
+        if (restFields == null) {
+            restFields = new LinkedHashMap<>();
+        }
+        return restFields.put(key, value);
+    }
+
+    public boolean containsKey(Object key) {
+        return restFields != null && restFields.containsKey(key);
+    }
+
+    public V remove(Object key) {
+        validateFreezeStatus();
+        return restFields == null ? null : restFields.remove(key);
+    }
+
+    public void clear() {
+        validateFreezeStatus();
+        restFields = null;
+    }
+
+    public Set<Map.Entry<K, V>> entrySet() {
+        return restFields == null ? Collections.emptySet() : restFields.entrySet();
+    }
+
+    protected Set<K> keySet() {
+        return restFields == null ? Collections.emptySet() : restFields.keySet();
+    }
+
+    public Collection<V> values() {
+        return restFields == null ? Collections.emptyList() : restFields.values();
+    }
+
+    @SuppressWarnings("unchecked")
+    public K[] getKeys() {
+        Set<K> keys = keySet();
+        return (K[]) (keys.toArray(new BString[keys.size()]));
+    }
+
+    @Override
+    public int size() {
+        return restFields == null ? 0 : restFields.size();
+    }
+
+    public boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        return entrySet().equals(((ClosedRecordValue<?, ?>) o).entrySet());
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(this);
+    }
+
+    @Override
+    public String toString() {
+        return stringValue(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Object copy(Map<Object, Object> refs) {
+        if (isFrozen()) {
+            return this;
+        }
+
+        if (refs.containsKey(this)) {
+            return refs.get(this);
+        }
+
+        // Same as the copy of a record held in a MapValueImpl.
+        MapValueImpl<K, V> newMap = new MapValueImpl<>(type);
+        refs.put(this, newMap);
+        for (Map.Entry<K, V> entry : this.entrySet()) {
+            V value = entry.getValue();
+            value = value instanceof RefValue ? (V) ((RefValue) value).copy(refs) : value;
+            newMap.put(entry.getKey(), value);
+        }
+        return newMap;
+    }
+
+    @Override
+    public Object frozenCopy(Map<Object, Object> refs) {
+        RefValue copy = (RefValue) copy(refs);
+        if (!copy.isFrozen()) {
+            copy.freezeDirect();
+        }
+        return copy;
+    }
+
+    @Override
+    public String stringValue(BLink parent) {
+        return MapValueImpl.stringValue(this, parent);
+    }
+
+    @Override
+    public String expressionStringValue(BLink parent) {
+        return MapValueImpl.expressionStringValue(this, parent);
+    }
+
+    @Override
+    public BType getType() {
+        return type;
+    }
+
+    @Override
+    public void freezeDirect() {
+        if (isFrozen()) {
+            return;
+        }
+
+        this.type = ReadOnlyUtils.setImmutableTypeAndGetEffectiveType(this.type);
+
+        this.values().forEach(val -> {
+            if (val instanceof RefValue) {
+                ((RefValue) val).freezeDirect();
+            }
+        });
+    }
+
+    public String getJSONString() {
+        return JSONWriter.toJsonString(this);
+    }
+
+    @Override
+    public IteratorValue getIterator() {
+        return new MapValueImpl.MapIterator<>(new LinkedHashSet<>(this.entrySet()).iterator());
+    }
+
+    public void addNativeData(String key, Object data) {
+        getNativeDataMap().put(key, data);
+    }
+
+    public Object getNativeData(String key) {
+        return nativeData == null ? null : nativeData.get(key);
+    }
+
+    public Map<String, Object> getNativeDataMap() {
+        if (this.nativeData == null) {
+            this.nativeData = new HashMap<>();
+        }
+        return this.nativeData;
+    }
+
+    @Override
+    public TypedescValue getTypedesc() {
+        return typedesc;
+    }
+
+    public BType getIteratorNextReturnType() {
+        if (iteratorNextReturnType == null) {
+            iteratorNextReturnType = MapValueImpl.createIteratorNextReturnType(this.type);
+        }
+
+        return iteratorNextReturnType;
+    }
+}
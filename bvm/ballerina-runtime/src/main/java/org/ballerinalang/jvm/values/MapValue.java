@@ -19,6 +19,7 @@ package org.ballerinalang.jvm.values;
 
 import org.ballerinalang.jvm.api.values.BMap;
 import org.ballerinalang.jvm.api.values.BString;
+import org.ballerinalang.jvm.types.BType;
 
 /**
  * <p>
@@ -42,4 +43,6 @@ public interface MapValue<K, V> extends RefValue, CollectionValue, BMap<K, V> {
     TypedescValue getTypedesc();
 
     void populateInitialValue(K key, V value);
+
+    BType getIteratorNextReturnType();
 }
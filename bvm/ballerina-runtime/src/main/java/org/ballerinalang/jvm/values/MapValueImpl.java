@@ -19,8 +19,8 @@ package org.ballerinalang.jvm.values;
 
 import org.ballerinalang.jvm.CycleUtils;
 import org.ballerinalang.jvm.IteratorUtils;
-import org.ballerinalang.jvm.JSONGenerator;
 import org.ballerinalang.jvm.JSONUtils;
+import org.ballerinalang.jvm.JSONWriter;
 import org.ballerinalang.jvm.MapUtils;
 import org.ballerinalang.jvm.TypeChecker;
 import org.ballerinalang.jvm.api.BErrorCreator;
@@ -41,8 +41,6 @@ import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.util.exceptions.BLangExceptionHelper;
 import org.ballerinalang.jvm.util.exceptions.BallerinaException;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -85,7 +83,8 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     private static final long serialVersionUID = 1L;
     private TypedescValue typedesc;
     private BType type;
-    private final Map<String, Object> nativeData = new HashMap<>();
+    // Allocated on first use, since most values, and records in particular, never carry native data.
+    private Map<String, Object> nativeData;
     private BType iteratorNextReturnType;
 
     public MapValueImpl(TypedescValue typedesc) {
@@ -125,8 +124,8 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
         return (Boolean) get(key);
     }
 
-    public MapValueImpl<?, ?> getMapValue(BString key) {
-        return (MapValueImpl<?, ?>) get(key);
+    public MapValue<?, ?> getMapValue(BString key) {
+        return (MapValue<?, ?>) get(key);
     }
 
     public ObjectValue getObjectValue(BString key) {
@@ -205,7 +204,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
 
     @Override
     public Object merge(MapValue v2, boolean checkMergeability) {
-        return merge((MapValueImpl) v2, checkMergeability);
+        return merge(this, v2, checkMergeability);
     }
 
     /**
@@ -250,8 +249,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
                 continue;
             }
 
-            MapValueImpl<K, V> values =
-                    (MapValueImpl<K, V>) ((MappingInitialValueEntry.SpreadFieldEntry) initialValue).values;
+            MapValue<K, V> values = ((MappingInitialValueEntry.SpreadFieldEntry) initialValue).values;
             for (Map.Entry<K, V> entry : values.entrySet()) {
                 populateInitialValue(entry.getKey(), entry.getValue());
             }
@@ -417,15 +415,24 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
 
     @Override
     public String stringValue(BLink parent) {
+        return stringValue(this, parent);
+    }
+
+    @Override
+    public String expressionStringValue(BLink parent) {
+        return expressionStringValue(this, parent);
+    }
+
+    static <K, V> String stringValue(MapValue<K, V> map, BLink parent) {
         StringJoiner sj = new StringJoiner(",");
-        for (Map.Entry<K, V> kvEntry : this.entrySet()) {
+        for (Map.Entry<K, V> kvEntry : map.entrySet()) {
             K key = kvEntry.getKey();
             V value = kvEntry.getValue();
             if (value == null) {
                 sj.add("\"" + key + "\":null");
             } else {
                 BType type = TypeChecker.getType(value);
-                CycleUtils.Node mapParent = new CycleUtils.Node(this, parent);
+                CycleUtils.Node mapParent = new CycleUtils.Node(map, parent);
                 switch (type.getTag()) {
                     case TypeTags.STRING_TAG:
                     case TypeTags.XML_TAG:
@@ -446,13 +453,12 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
         return "{" + sj.toString() + "}";
     }
 
-    @Override
-    public String expressionStringValue(BLink parent) {
+    static <K, V> String expressionStringValue(MapValue<K, V> map, BLink parent) {
         StringJoiner sj = new StringJoiner(",");
-        for (Map.Entry<K, V> kvEntry : this.entrySet()) {
+        for (Map.Entry<K, V> kvEntry : map.entrySet()) {
             K key = kvEntry.getKey();
             V value = kvEntry.getValue();
-            CycleUtils.Node mapParent = new CycleUtils.Node(this, parent);
+            CycleUtils.Node mapParent = new CycleUtils.Node(map, parent);
             sj.add("\"" + key + "\":" + BStringUtils.getExpressionStringValue(value, mapParent));
         }
         return "{" + sj.toString() + "}";
@@ -482,15 +488,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     }
 
     public String getJSONString() {
-        ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
-        JSONGenerator gen = new JSONGenerator(byteOut);
-        try {
-            gen.serialize(this);
-            gen.flush();
-        } catch (IOException e) {
-            throw new BallerinaException("Error in converting JSON to a string: " + e.getMessage(), e);
-        }
-        return new String(byteOut.toByteArray());
+        return JSONWriter.toJsonString(this);
     }
 
     @Override
@@ -540,7 +538,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @param data value to be added.
      */
     public void addNativeData(String key, Object data) {
-        nativeData.put(key, data);
+        getNativeDataMap().put(key, data);
     }
 
     /**
@@ -549,7 +547,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return value for the given key.
      */
     public Object getNativeData(String key) {
-        return nativeData.get(key);
+        return nativeData == null ? null : nativeData.get(key);
     }
 
     @Override
@@ -563,16 +561,27 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return nativeData map
      */
     public Map<String, Object> getNativeDataMap() {
+        if (this.nativeData == null) {
+            this.nativeData = new HashMap<>();
+        }
         return this.nativeData;
     }
 
-    private void initializeIteratorNextReturnType() {
+    public BType getIteratorNextReturnType() {
+        if (iteratorNextReturnType == null) {
+            iteratorNextReturnType = createIteratorNextReturnType(this.type);
+        }
+
+        return iteratorNextReturnType;
+    }
+
+    static BType createIteratorNextReturnType(BType mappingType) {
         BType type;
-        if (this.type.getTag() == BTypes.typeMap.getTag()) {
-            BMapType mapType = (BMapType) this.type;
+        if (mappingType.getTag() == BTypes.typeMap.getTag()) {
+            BMapType mapType = (BMapType) mappingType;
             type = mapType.getConstrainedType();
         } else {
-            BRecordType recordType = (BRecordType) this.type;
+            BRecordType recordType = (BRecordType) mappingType;
             LinkedHashSet<BType> types = recordType.getFields().values().stream().map(bField -> bField.type)
                     .collect(Collectors.toCollection(LinkedHashSet::new));
             if (recordType.restFieldType != null) {
@@ -584,16 +593,9 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
                 type = new BUnionType(new ArrayList<>(types));
             }
         }
-        iteratorNextReturnType = IteratorUtils.createIteratorNextReturnType(type);
+        return IteratorUtils.createIteratorNextReturnType(type);
     }
 
-    public BType getIteratorNextReturnType() {
-        if (iteratorNextReturnType == null) {
-            initializeIteratorNextReturnType();
-        }
-
-        return iteratorNextReturnType;
-    }
     /*
      * Below are a set of convenient methods that handle map related operations.
      * This makes it easier to extend the operations without affecting the
@@ -603,15 +605,15 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
         return super.put(key, value);
     }
 
-    private Object merge(MapValueImpl v2, boolean checkMergeability) {
+    static Object merge(MapValue v1, MapValue v2, boolean checkMergeability) {
         if (checkMergeability) {
-            BError errorIfUnmergeable = JSONUtils.getErrorIfUnmergeable(this, v2, new ArrayList<>());
+            BError errorIfUnmergeable = JSONUtils.getErrorIfUnmergeable(v1, v2, new ArrayList<>());
             if (errorIfUnmergeable != null) {
                 return errorIfUnmergeable;
             }
         }
 
-        MapValue<BString, Object> m1 = (MapValue<BString, Object>) this;
+        MapValue<BString, Object> m1 = (MapValue<BString, Object>) v1;
         MapValue<BString, Object> m2 = (MapValue<BString, Object>) v2;
 
         for (Map.Entry<BString, Object> entry : m2.entrySet()) {
@@ -627,6 +629,6 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
             m1.put(key, mergeJson(m1.get(key), entry.getValue(), false));
         }
 
-        return this;
+        return v1;
     }
 }
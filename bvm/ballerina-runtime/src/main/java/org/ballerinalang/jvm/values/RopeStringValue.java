@@ -0,0 +1,183 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm.values;
+
+import org.ballerinalang.jvm.api.BStringUtils;
+import org.ballerinalang.jvm.api.values.BLink;
+import org.ballerinalang.jvm.api.values.BString;
+
+import java.util.ArrayDeque;
+
+/**
+ * Represent ballerina strings resulting from a concatenation, which are only copied into a single string once their
+ * content is accessed. This makes repeatedly appending to a string linear in the length of the result.
+ *
+ * @since 2.0.0
+ */
+public class RopeStringValue implements StringValue {
+
+    /**
+     * Concatenations resulting in shorter strings are done eagerly, as copying is cheaper than keeping the parts.
+     */
+    private static final int MIN_ROPE_LENGTH = 256;
+
+    private final int length;
+    private volatile BString left;
+    private volatile BString right;
+    private volatile BString flattened;
+
+    private RopeStringValue(BString left, BString right) {
+        this.left = left;
+        this.right = right;
+        this.length = left.length() + right.length();
+    }
+
+    /**
+     * Concatenates two strings, deferring the copy of their content if the result is long enough.
+     *
+     * @param lhs the leading string
+     * @param rhs the trailing string
+     * @return the concatenated string
+     */
+    public static BString concat(BString lhs, BString rhs) {
+        int lhsLength = lhs.length();
+        int rhsLength = rhs.length();
+        if (lhsLength == 0) {
+            return rhs;
+        }
+        if (rhsLength == 0) {
+            return lhs;
+        }
+        if ((long) lhsLength + rhsLength < MIN_ROPE_LENGTH) {
+            String value = lhs.getValue() + rhs.getValue();
+            if (lhs instanceof BmpStringValue && rhs instanceof BmpStringValue) {
+                return new BmpStringValue(value);
+            }
+            return BStringUtils.fromString(value);
+        }
+        return new RopeStringValue(lhs, rhs);
+    }
+
+    private BString flatten() {
+        BString value = this.flattened;
+        if (value != null) {
+            return value;
+        }
+
+        // Walk the parts iteratively, as appending in a loop builds a tree as deep as the number of appends.
+        StringBuilder builder = new StringBuilder(length);
+        boolean bmp = true;
+        ArrayDeque<BString> parts = new ArrayDeque<>();
+        parts.push(this);
+        while (!parts.isEmpty()) {
+            BString part = parts.pop();
+            if (part instanceof RopeStringValue) {
+                RopeStringValue rope = (RopeStringValue) part;
+                BString partLeft = rope.left;
+                BString partRight = rope.right;
+                if (partLeft != null && partRight != null) {
+                    parts.push(partRight);
+                    parts.push(partLeft);
+                    continue;
+                }
+                // The parts are only dropped once the rope has been flattened.
+                part = rope.flattened;
+            }
+            bmp = bmp && part instanceof BmpStringValue;
+            builder.append(part.getValue());
+        }
+
+        value = bmp ? new BmpStringValue(builder.toString()) : BStringUtils.fromString(builder.toString());
+        this.flattened = value;
+        this.left = null;
+        this.right = null;
+        return value;
+    }
+
+    @Override
+    public String getValue() {
+        return flatten().getValue();
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        return flatten().getCodePoint(index);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public BString concat(BString str) {
+        return concat(this, str);
+    }
+
+    @Override
+    public Long indexOf(BString str, int fromIndex) {
+        return flatten().indexOf(str, fromIndex);
+    }
+
+    @Override
+    public Long lastIndexOf(BString str, int fromIndex) {
+        return flatten().lastIndexOf(str, fromIndex);
+    }
+
+    @Override
+    public BString substring(int beginIndex, int endIndex) {
+        return flatten().substring(beginIndex, endIndex);
+    }
+
+    @Override
+    public String stringValue(BLink parent) {
+        return getValue();
+    }
+
+    @Override
+    public String informalStringValue(BLink parent) {
+        return "\"" + toString() + "\"";
+    }
+
+    @Override
+    public String expressionStringValue(BLink parent) {
+        return informalStringValue(parent);
+    }
+
+    @Override
+    public int hashCode() {
+        return getValue().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object str) {
+        if (str == this) {
+            return true;
+        }
+        if (str instanceof BString) {
+            return ((BString) str).getValue().equals(getValue());
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.jvm.values;
+
+import org.ballerinalang.jvm.TypeChecker;
+
+import java.util.Arrays;
+
+/**
+ * Insertion ordered storage of the members of a table.
+ * <p>
+ * Members are kept in parallel arrays in insertion order, together with the key, the key hash and the insertion
+ * order number of each member.
+ * Keyed tables additionally keep an open addressing (linear probing) hash table of member positions, which is
+ * probed with the primitive key hash and resolves hash collisions by comparing the keys with
+ * {@link TypeChecker#isEqual(Object, Object)}. Removed members leave a gap that is skipped by iteration and
+ * reclaimed when the arrays have to grow.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the members
+ *
+ * @since 2.0.0
+ */
+class TableIndex<K, V> {
+
+    private static final int INITIAL_CAPACITY = 8;
+    private static final int EMPTY = 0;
+    private static final int DELETED = -1;
+
+    private final boolean keyed;
+
+    private long[] hashes;
+    private long[] orders;
+    private Object[] keys;
+    private Object[] values;
+
+    /**
+     * Positions of the members in the member arrays, offset by one so that zero marks an empty slot.
+     */
+    private int[] slots;
+
+    /**
+     * Number of used positions in the member arrays, including the gaps left by removed members.
+     */
+    private int count;
+    private int size;
+    private int usedSlots;
+
+    /**
+     * Insertion order number of the next member. Not reset by {@link #clear()}, so that the order numbers only grow.
+     */
+    private long nextOrder;
+
+    /**
+     * Incremented whenever existing members are moved to different positions.
+     */
+    private int modCount;
+
+    TableIndex(boolean keyed) {
+        this.keyed = keyed;
+        init();
+    }
+
+    private void init() {
+        this.hashes = new long[INITIAL_CAPACITY];
+        this.orders = new long[INITIAL_CAPACITY];
+        this.keys = new Object[INITIAL_CAPACITY];
+        this.values = new Object[INITIAL_CAPACITY];
+        this.slots = keyed ? new int[INITIAL_CAPACITY * 2] : null;
+        this.count = 0;
+        this.size = 0;
+        this.usedSlots = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of used positions. Positions below this value may be gaps, see {@link #isPresent(int)}.
+     */
+    int count() {
+        return count;
+    }
+
+    int modCount() {
+        return modCount;
+    }
+
+    boolean isPresent(int position) {
+        return values[position] != null;
+    }
+
+    long orderAt(int position) {
+        return orders[position];
+    }
+
+    @SuppressWarnings("unchecked")
+    K keyAt(int position) {
+        return (K) keys[position];
+    }
+
+    @SuppressWarnings("unchecked")
+    V valueAt(int position) {
+        return (V) values[position];
+    }
+
+    boolean containsKey(Object key, long hash) {
+        return find(key, hash) >= 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(Object key, long hash) {
+        int position = find(key, hash);
+        return position < 0 ? null : (V) values[position];
+    }
+
+    /**
+     * Adds a member without a key. Only valid for tables without a key sequence.
+     */
+    void append(K key, V value) {
+        ensureCapacity();
+        int position = count++;
+        orders[position] = nextOrder++;
+        keys[position] = key;
+        values[position] = value;
+        size++;
+    }
+
+    /**
+     * Associates the member with the key, replacing the member that is already associated with an equal key while
+     * preserving its position.
+     *
+     * @return the replaced member, or null if there was none
+     */
+    @SuppressWarnings("unchecked")
+    V put(K key, long hash, V value) {
+        int slot = findSlot(key, hash);
+        int position = slots[slot] - 1;
+        if (position >= 0) {
+            V previous = (V) values[position];
+            keys[position] = key;
+            values[position] = value;
+            return previous;
+        }
+
+        if (ensureCapacity()) {
+            slot = findSlot(key, hash);
+        }
+        position = count++;
+        hashes[position] = hash;
+        orders[position] = nextOrder++;
+        keys[position] = key;
+        values[position] = value;
+        size++;
+        if (slots[slot] == EMPTY) {
+            usedSlots++;
+        }
+        slots[slot] = position + 1;
+        if (usedSlots * 4 > slots.length * 3) {
+            rehash(slots.length);
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    V remove(Object key, long hash) {
+        int slot = findSlot(key, hash);
+        int position = slots[slot] - 1;
+        if (position < 0) {
+            return null;
+        }
+        V previous = (V) values[position];
+        slots[slot] = DELETED;
+        keys[position] = null;
+        values[position] = null;
+        size--;
+        if (position == count - 1) {
+            count--;
+        }
+        return previous;
+    }
+
+    void clear() {
+        init();
+        modCount++;
+    }
+
+    Object[] keys() {
+        Object[] result = new Object[size];
+        int index = 0;
+        for (int i = 0; i < count; i++) {
+            if (values[i] != null) {
+                result[index++] = keys[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the position to continue an iteration from after members were moved. Positions are in insertion order,
+     * including the gaps left by removed members, so this is a binary search by insertion order number.
+     *
+     * @param order insertion order number of the last visited member, which may have been removed since
+     * @return the first position holding a member added after it, or {@link #count()} if there is none
+     */
+    int positionAfter(long order) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (orders[mid] <= order) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int find(Object key, long hash) {
+        if (!keyed) {
+            return -1;
+        }
+        return slots[findSlot(key, hash)] - 1;
+    }
+
+    /**
+     * Returns the slot holding the member with the given key, or else the slot the member should be inserted into.
+     */
+    private int findSlot(Object key, long hash) {
+        int mask = slots.length - 1;
+        int slot = spread(hash) & mask;
+        int firstDeleted = -1;
+        while (true) {
+            int entry = slots[slot];
+            if (entry == EMPTY) {
+                return firstDeleted >= 0 ? firstDeleted : slot;
+            }
+            if (entry == DELETED) {
+                if (firstDeleted < 0) {
+                    firstDeleted = slot;
+                }
+            } else {
+                int position = entry - 1;
+                if (hashes[position] == hash && TypeChecker.isEqual(keys[position], key)) {
+                    return slot;
+                }
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private static int spread(long hash) {
+        int h = (int) (hash ^ (hash >>> 32)) * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Makes room for one more member, by dropping the gaps left by removed members or by growing the arrays.
+     *
+     * @return true if the member arrays or the hash table were changed
+     */
+    private boolean ensureCapacity() {
+        if (count < values.length) {
+            return false;
+        }
+
+        if (size > (count >> 1)) {
+            int capacity = values.length + (values.length >> 1);
+            hashes = Arrays.copyOf(hashes, capacity);
+            orders = Arrays.copyOf(orders, capacity);
+            keys = Arrays.copyOf(keys, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        if (size < count) {
+            compact();
+        } else if (keyed) {
+            rehash(slots.length);
+        }
+        return true;
+    }
+
+    private void compact() {
+        int target = 0;
+        for (int i = 0; i < count; i++) {
+            if (values[i] == null) {
+                continue;
+            }
+            if (target != i) {
+                hashes[target] = hashes[i];
+                orders[target] = orders[i];
+                keys[target] = keys[i];
+                values[target] = values[i];
+            }
+            target++;
+        }
+        Arrays.fill(keys, target, count, null);
+        Arrays.fill(values, target, count, null);
+        count = target;
+        modCount++;
+        if (keyed) {
+            rehash(slots.length);
+        }
+    }
+
+    /**
+     * Rebuilds the hash table, dropping deleted slots and growing it if it would otherwise be too full.
+     */
+    private void rehash(int currentCapacity) {
+        int capacity = currentCapacity;
+        while (size * 4 >= capacity * 3 || capacity < values.length) {
+            capacity <<= 1;
+        }
+        slots = new int[capacity];
+        usedSlots = 0;
+        int mask = capacity - 1;
+        for (int i = 0; i < count; i++) {
+            if (values[i] == null) {
+                continue;
+            }
+            int slot = spread(hashes[i]) & mask;
+            while (slots[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = i + 1;
+            usedSlots++;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.jvm.values;
+
+import org.ballerinalang.jvm.TableUtils;
+import org.ballerinalang.jvm.TypeChecker;
+import org.ballerinalang.jvm.api.values.BString;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Secondary index of the members of a table on a single, non-key field.
+ * <p>
+ * A hash index groups the members by the value of the field and answers equality lookups. A sorted index keeps the
+ * groups ordered by the value of the field and additionally answers range lookups. Lookups may return members which
+ * do not satisfy the corresponding Ballerina comparison (e.g. members with a NaN field for a range lookup), hence
+ * callers are expected to re-apply the original condition to the returned members.
+ *
+ * @param <V> the type of the members
+ *
+ * @since 2.0.0
+ */
+class TableSecondaryIndex<V> {
+
+    private static final Comparator<Object> VALUE_COMPARATOR = TableSecondaryIndex::compareValues;
+
+    private final BString fieldName;
+    private final boolean sorted;
+    private final Map<Object, List<V>> groups;
+
+    /**
+     * Members with a nil field, which are not kept in the sorted groups as nil is not ordered.
+     */
+    private final List<V> nilMembers = new ArrayList<>();
+
+    TableSecondaryIndex(BString fieldName, boolean sorted) {
+        this.fieldName = fieldName;
+        this.sorted = sorted;
+        this.groups = sorted ? new TreeMap<>(VALUE_COMPARATOR) : new HashMap<>();
+    }
+
+    boolean isSorted() {
+        return sorted;
+    }
+
+    void add(V member) {
+        Object value = fieldValue(member);
+        if (value == null) {
+            nilMembers.add(member);
+            return;
+        }
+        groups.computeIfAbsent(groupKey(value), k -> new ArrayList<>(1)).add(member);
+    }
+
+    void remove(V member) {
+        Object value = fieldValue(member);
+        if (value == null) {
+            removeByIdentity(nilMembers, member);
+            return;
+        }
+        Object key = groupKey(value);
+        List<V> group = groups.get(key);
+        if (group != null && removeByIdentity(group, member) && group.isEmpty()) {
+            groups.remove(key);
+        }
+    }
+
+    void clear() {
+        groups.clear();
+        nilMembers.clear();
+    }
+
+    /**
+     * Returns the members whose field is equal to the given value.
+     */
+    void lookup(Object value, Collection<V> result) {
+        if (value == null) {
+            result.addAll(nilMembers);
+            return;
+        }
+        List<V> group;
+        try {
+            group = groups.get(groupKey(value));
+        } catch (ClassCastException e) {
+            // A value which is not comparable with the indexed values of a sorted index cannot be equal to any.
+            return;
+        }
+        if (group != null) {
+            result.addAll(group);
+        }
+    }
+
+    /**
+     * Returns the members whose field lies within the given bounds, where a nil bound means the range is unbounded
+     * in that direction. Only supported by sorted indexes.
+     */
+    void lookupRange(Object lower, boolean lowerInclusive, Object upper, boolean upperInclusive,
+                     Collection<V> result) {
+        NavigableMap<Object, List<V>> sortedGroups = (NavigableMap<Object, List<V>>) groups;
+        if (lower != null) {
+            lower = normalize(lower);
+        }
+        if (upper != null) {
+            upper = normalize(upper);
+        }
+        if (lower != null && upper != null && compareValues(lower, upper) > 0) {
+            return;
+        }
+
+        NavigableMap<Object, List<V>> range;
+        if (lower == null && upper == null) {
+            range = sortedGroups;
+        } else if (lower == null) {
+            range = sortedGroups.headMap(upper, upperInclusive);
+        } else if (upper == null) {
+            range = sortedGroups.tailMap(lower, lowerInclusive);
+        } else {
+            range = sortedGroups.subMap(lower, lowerInclusive, upper, upperInclusive);
+        }
+        for (List<V> group : range.values()) {
+            result.addAll(group);
+        }
+    }
+
+    private Object fieldValue(V member) {
+        return ((MapValue) member).get(fieldName);
+    }
+
+    private Object groupKey(Object value) {
+        value = normalize(value);
+        return sorted ? value : new HashKey(value);
+    }
+
+    /**
+     * Maps values which are equal in Ballerina but not in Java to the same representative.
+     */
+    private static Object normalize(Object value) {
+        if (value instanceof Double && (Double) value == 0.0d) {
+            return 0.0d;
+        }
+        if (value instanceof Integer) {
+            return ((Integer) value).longValue();
+        }
+        return value;
+    }
+
+    private static boolean removeByIdentity(List<?> members, Object member) {
+        for (int i = members.size() - 1; i >= 0; i--) {
+            if (members.get(i) == member) {
+                members.remove(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int compareValues(Object lhs, Object rhs) {
+        if (lhs instanceof Long && rhs instanceof Long) {
+            return Long.compare((Long) lhs, (Long) rhs);
+        }
+        if (lhs instanceof Double && rhs instanceof Double) {
+            return Double.compare((Double) lhs, (Double) rhs);
+        }
+        if (lhs instanceof DecimalValue && rhs instanceof DecimalValue) {
+            return ((DecimalValue) lhs).decimalValue().compareTo(((DecimalValue) rhs).decimalValue());
+        }
+        if (lhs instanceof BString && rhs instanceof BString) {
+            return compareCodePoints(((BString) lhs).getValue(), ((BString) rhs).getValue());
+        }
+        if (lhs instanceof Boolean && rhs instanceof Boolean) {
+            return Boolean.compare((Boolean) lhs, (Boolean) rhs);
+        }
+        throw new ClassCastException("values of type '" + TypeChecker.getType(lhs) + "' and '" +
+                                             TypeChecker.getType(rhs) + "' are not ordered");
+    }
+
+    private static int compareCodePoints(String lhs, String rhs) {
+        int i = 0;
+        int j = 0;
+        while (i < lhs.length() && j < rhs.length()) {
+            int lhsCodePoint = lhs.codePointAt(i);
+            int rhsCodePoint = rhs.codePointAt(j);
+            if (lhsCodePoint != rhsCodePoint) {
+                return Integer.compare(lhsCodePoint, rhsCodePoint);
+            }
+            i += Character.charCount(lhsCodePoint);
+            j += Character.charCount(rhsCodePoint);
+        }
+        return Integer.compare(lhs.length() - i, rhs.length() - j);
+    }
+
+    /**
+     * Wraps a field value so that it can be used as a {@link HashMap} key with Ballerina equality.
+     */
+    private static class HashKey {
+
+        private final Object value;
+        private final int hash;
+
+        HashKey(Object value) {
+            this.value = value;
+            if (value instanceof DecimalValue) {
+                this.hash = ((DecimalValue) value).decimalValue().stripTrailingZeros().hashCode();
+            } else {
+                this.hash = Long.hashCode(TableUtils.hash(value, null));
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof HashKey)) {
+                return false;
+            }
+            Object other = ((HashKey) o).value;
+            if (value instanceof Double && other instanceof Double) {
+                return Double.compare((Double) value, (Double) other) == 0;
+            }
+            return TypeChecker.isEqual(value, other);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
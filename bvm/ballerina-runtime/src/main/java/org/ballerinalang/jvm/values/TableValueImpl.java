@@ -33,7 +33,9 @@ import org.ballerinalang.jvm.types.BRecordType;
 import org.ballerinalang.jvm.types.BTableType;
 import org.ballerinalang.jvm.types.BTupleType;
 import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BUnionType;
 import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.util.Flags;
 import org.ballerinalang.jvm.util.exceptions.BLangFreezeException;
 
 import java.util.AbstractMap;
@@ -41,6 +43,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -48,8 +51,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import static org.ballerinalang.jvm.util.BLangConstants.TABLE_LANG_LIB;
 import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.INHERENT_TYPE_VIOLATION_ERROR_IDENTIFIER;
@@ -70,34 +71,29 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     private BTableType type;
     private BType iteratorNextReturnType;
-    private ConcurrentHashMap<Long, Map.Entry<K, V>> entries;
-    private LinkedHashMap<Long, V> values;
-    private LinkedHashMap<Long, K> keys;
+    private TableIndex<K, V> index;
     private String[] fieldNames;
     private ValueHolder valueHolder;
     private long maxIntKey = 0;
 
-    //These are required to achieve the iterator behavior
-    private LinkedHashMap<Long, Long> indexToKeyMap;
-    private LinkedHashMap<Long, Long> keyToIndexMap;
-    private long noOfAddedEntries = 0;
-
     private boolean nextKeySupported;
 
     private final Map<String, Object> nativeData = new HashMap<>();
 
+    // Secondary indexes are created on demand, along with the table order of the members they return.
+    private Map<String, TableSecondaryIndex<V>> secondaryIndexes;
+    private Map<V, Long> memberOrder;
+    private long nextMemberOrder;
+
     public TableValueImpl(BTableType type) {
         this.type = type;
 
-        this.entries = new ConcurrentHashMap<>();
-        this.keys = new LinkedHashMap<>();
-        this.values = new LinkedHashMap<>();
-        this.keyToIndexMap = new LinkedHashMap<>();
-        this.indexToKeyMap = new LinkedHashMap<>();
         this.fieldNames = type.getFieldNames();
         if (type.getFieldNames() != null) {
+            this.index = new TableIndex<>(true);
             this.valueHolder = new KeyHashValueHolder();
         } else {
+            this.index = new TableIndex<>(false);
             this.valueHolder = new ValueHolder();
         }
     }
@@ -208,23 +204,34 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public Set<Map.Entry<K, V>> entrySet() {
-        return new LinkedHashSet<>(entries.values());
+        Set<Map.Entry<K, V>> entrySet = new LinkedHashSet<>();
+        for (int i = 0; i < index.count(); i++) {
+            if (index.isPresent(i)) {
+                entrySet.add(new AbstractMap.SimpleEntry<>(index.keyAt(i), index.valueAt(i)));
+            }
+        }
+        return entrySet;
     }
 
     @Override
     public Collection<V> values() {
-        return values.values();
+        List<V> values = new ArrayList<>(index.size());
+        for (int i = 0; i < index.count(); i++) {
+            if (index.isPresent(i)) {
+                values.add(index.valueAt(i));
+            }
+        }
+        return values;
     }
 
     @Override
     public void clear() {
         handleFrozenTableValue();
-        entries.clear();
-        keys.clear();
-        values.clear();
-        keyToIndexMap.clear();
-        indexToKeyMap.clear();
-        noOfAddedEntries = 0;
+        index.clear();
+        if (secondaryIndexes != null) {
+            secondaryIndexes.values().forEach(TableSecondaryIndex::clear);
+            memberOrder.clear();
+        }
     }
 
     @Override
@@ -253,7 +260,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                                                                         + "The key sequence should only have an " +
                                                                            "Integer field."));
         }
-        return keys.size() == 0 ? 0 : (this.maxIntKey + 1);
+        return index.size() == 0 ? 0 : (this.maxIntKey + 1);
     }
 
     public BType getKeyType() {
@@ -281,17 +288,20 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public K[] getKeys() {
-        return (K[]) keys.values().toArray(new Object[]{});
+        if (!(valueHolder instanceof KeyHashValueHolder)) {
+            return (K[]) new Object[]{};
+        }
+        return (K[]) index.keys();
     }
 
     @Override
     public int size() {
-        return entries.size();
+        return index.size();
     }
 
     @Override
     public boolean isEmpty() {
-        return entries.isEmpty();
+        return index.size() == 0;
     }
 
     @Override
@@ -304,6 +314,173 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         return nativeData.get(key);
     }
 
+    /**
+     * Creates a secondary index on the given field of the members, which is kept up to date as members are added,
+     * replaced and removed. A hash index supports equality lookups, while a sorted index additionally supports range
+     * lookups and can only be created on a field of an ordered type. The field should not be mutable, as updates
+     * to the members themselves cannot be tracked.
+     *
+     * @param fieldName name of the field to index
+     * @param sorted    whether to create a sorted index instead of a hash index
+     */
+    public void addIndex(String fieldName, boolean sorted) {
+        BType fieldType = getIndexableFieldType(fieldName);
+        if (sorted && !isOrderedType(fieldType)) {
+            throw BErrorCreator.createError(OPERATION_NOT_SUPPORTED_ERROR, BStringUtils.fromString(
+                    "cannot create a sorted index on field '" + fieldName + "' of type '" + fieldType + "'"));
+        }
+
+        if (secondaryIndexes == null) {
+            secondaryIndexes = new LinkedHashMap<>();
+            memberOrder = new IdentityHashMap<>();
+            for (int i = 0; i < index.count(); i++) {
+                if (index.isPresent(i)) {
+                    memberOrder.put(index.valueAt(i), nextMemberOrder++);
+                }
+            }
+        } else {
+            TableSecondaryIndex<V> existing = secondaryIndexes.get(fieldName);
+            if (existing != null && (existing.isSorted() || !sorted)) {
+                return;
+            }
+        }
+
+        TableSecondaryIndex<V> secondaryIndex = new TableSecondaryIndex<>(BStringUtils.fromString(fieldName),
+                                                                          sorted);
+        for (int i = 0; i < index.count(); i++) {
+            if (index.isPresent(i)) {
+                secondaryIndex.add(index.valueAt(i));
+            }
+        }
+        secondaryIndexes.put(fieldName, secondaryIndex);
+    }
+
+    /**
+     * Returns the members whose given field is equal to the given value, in the order of the members of the table.
+     *
+     * @param fieldName name of the indexed field
+     * @param value     the value to look up
+     * @return matching members, or null if the field is not indexed
+     */
+    public List<V> lookup(String fieldName, Object value) {
+        TableSecondaryIndex<V> secondaryIndex = getSecondaryIndex(fieldName);
+        if (secondaryIndex == null) {
+            return null;
+        }
+        List<V> members = new ArrayList<>();
+        secondaryIndex.lookup(value, members);
+        return sortByMemberOrder(members);
+    }
+
+    /**
+     * Returns the members whose given field lies within the given bounds, in the order of the members of the table.
+     * A nil bound leaves the range unbounded in that direction.
+     *
+     * @param fieldName      name of the indexed field
+     * @param lower          lower bound of the range
+     * @param lowerInclusive whether the lower bound is included in the range
+     * @param upper          upper bound of the range
+     * @param upperInclusive whether the upper bound is included in the range
+     * @return matching members, or null if the field does not have a sorted index
+     */
+    public List<V> lookupRange(String fieldName, Object lower, boolean lowerInclusive, Object upper,
+                               boolean upperInclusive) {
+        TableSecondaryIndex<V> secondaryIndex = getSecondaryIndex(fieldName);
+        if (secondaryIndex == null || !secondaryIndex.isSorted()) {
+            return null;
+        }
+        List<V> members = new ArrayList<>();
+        try {
+            secondaryIndex.lookupRange(lower, lowerInclusive, upper, upperInclusive, members);
+        } catch (ClassCastException e) {
+            // The bounds are not comparable with the indexed values.
+            return null;
+        }
+        return sortByMemberOrder(members);
+    }
+
+    private TableSecondaryIndex<V> getSecondaryIndex(String fieldName) {
+        return secondaryIndexes == null ? null : secondaryIndexes.get(fieldName);
+    }
+
+    private List<V> sortByMemberOrder(List<V> members) {
+        if (members.size() > 1) {
+            members.sort((lhs, rhs) -> Long.compare(memberOrder.get(lhs), memberOrder.get(rhs)));
+        }
+        return members;
+    }
+
+    private void updateSecondaryIndexes(V added, V removed) {
+        if (secondaryIndexes == null || added == removed) {
+            return;
+        }
+
+        long order;
+        if (removed != null) {
+            Long removedOrder = memberOrder.remove(removed);
+            order = removedOrder == null ? nextMemberOrder++ : removedOrder;
+            secondaryIndexes.values().forEach(secondaryIndex -> secondaryIndex.remove(removed));
+        } else {
+            order = nextMemberOrder++;
+        }
+
+        if (added != null) {
+            // A replacing member takes over the position of the member it replaces.
+            memberOrder.put(added, order);
+            secondaryIndexes.values().forEach(secondaryIndex -> secondaryIndex.add(added));
+        }
+    }
+
+    private BType getIndexableFieldType(String fieldName) {
+        BType constraintType = type.getConstrainedType();
+        BType fieldType;
+        boolean immutable = type.isReadOnly() || constraintType.isReadOnly();
+        if (constraintType.getTag() == TypeTags.RECORD_TYPE_TAG) {
+            BField field = ((BRecordType) constraintType).getFields().get(fieldName);
+            if (field == null) {
+                throw BErrorCreator.createError(OPERATION_NOT_SUPPORTED_ERROR, BStringUtils.fromString(
+                        "cannot create an index on undefined field '" + fieldName + "'"));
+            }
+            fieldType = field.getFieldType();
+            immutable = immutable || Flags.isFlagOn(field.flags, Flags.READONLY);
+        } else if (constraintType.getTag() == TypeTags.MAP_TAG) {
+            fieldType = ((BMapType) constraintType).getConstrainedType();
+        } else {
+            throw BErrorCreator.createError(OPERATION_NOT_SUPPORTED_ERROR, BStringUtils.fromString(
+                    "cannot create an index on a table of type '" + type + "'"));
+        }
+
+        if (!immutable) {
+            throw BErrorCreator.createError(OPERATION_NOT_SUPPORTED_ERROR, BStringUtils.fromString(
+                    "cannot create an index on field '" + fieldName + "' which is not readonly"));
+        }
+        return fieldType;
+    }
+
+    private static boolean isOrderedType(BType fieldType) {
+        List<BType> memberTypes = fieldType.getTag() == TypeTags.UNION_TAG ?
+                ((BUnionType) fieldType).getMemberTypes() : Arrays.asList(fieldType);
+        int orderedTag = -1;
+        for (BType memberType : memberTypes) {
+            int tag = memberType.getTag();
+            if (tag == TypeTags.NULL_TAG) {
+                continue;
+            }
+            if (TypeTags.isIntegerTypeTag(tag) || tag == TypeTags.BYTE_TAG) {
+                tag = TypeTags.INT_TAG;
+            } else if (TypeTags.isStringTypeTag(tag)) {
+                tag = TypeTags.STRING_TAG;
+            } else if (tag != TypeTags.FLOAT_TAG && tag != TypeTags.DECIMAL_TAG && tag != TypeTags.BOOLEAN_TAG) {
+                return false;
+            }
+            if (orderedTag != -1 && orderedTag != tag) {
+                return false;
+            }
+            orderedTag = tag;
+        }
+        return orderedTag != -1;
+    }
+
     @Override
     public void freezeDirect() {
         if (isFrozen()) {
@@ -316,7 +493,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     public String stringValue(BLink parent) {
-        Iterator<Map.Entry<Long, V>> itr = values.entrySet().iterator();
+        Iterator<V> itr = values().iterator();
         return createStringValueDataEntry(itr, parent);
     }
 
@@ -327,21 +504,21 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public String expressionStringValue(BLink parent) {
-        Iterator<Map.Entry<Long, V>> itr = values.entrySet().iterator();
+        Iterator<V> itr = values().iterator();
         return createExpressionStringValueDataEntry(itr, parent);
     }
 
-    private String createStringValueDataEntry(Iterator<Map.Entry<Long, V>> itr, BLink parent) {
+    private String createStringValueDataEntry(Iterator<V> itr, BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         while (itr.hasNext()) {
-            Map.Entry<Long, V> struct = itr.next();
-            sj.add(BStringUtils.getStringValue(struct.getValue(),
+            V struct = itr.next();
+            sj.add(BStringUtils.getStringValue(struct,
                     new CycleUtils.Node(this, parent)));
         }
         return "[" + sj.toString() + "]";
     }
 
-    private String createExpressionStringValueDataEntry(Iterator<Map.Entry<Long, V>> itr, BLink parent) {
+    private String createExpressionStringValueDataEntry(Iterator<V> itr, BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         StringJoiner keyJoiner = new StringJoiner(",");
         if (type.getFieldNames() != null) {
@@ -351,8 +528,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             }
         }
         while (itr.hasNext()) {
-            Map.Entry<Long, V> struct = itr.next();
-            sj.add(BStringUtils.getExpressionStringValue(struct.getValue(),
+            V struct = itr.next();
+            sj.add(BStringUtils.getExpressionStringValue(struct,
                     new CycleUtils.Node(this, parent)));
         }
         return "table key(" + keyJoiner.toString() + ") [" + sj.toString() + "]";
@@ -382,39 +559,54 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     private class TableIterator<K, V> implements IteratorValue {
-        private long cursor;
+        private int cursor;
+        private int modCount;
+        private long lastOrder = -1;
 
         TableIterator() {
             this.cursor = 0;
+            this.modCount = index.modCount();
         }
 
         @Override
         public Object next() {
-            Long hash = indexToKeyMap.get(cursor);
-            if (hash != null) {
-                Map.Entry<K, V> next = (Map.Entry<K, V>) entries.get(hash);
-                V value = next.getValue();
-                K key = next.getKey();
-
-                List<BType> types = new ArrayList<>();
-                types.add(TypeChecker.getType(key));
-                types.add(TypeChecker.getType(value));
-                BTupleType tupleType = new BTupleType(types);
-
-                TupleValueImpl tuple = new TupleValueImpl(tupleType);
-                tuple.add(0, key);
-                tuple.add(1, value);
+            syncCursor();
+            while (!index.isPresent(cursor)) {
                 cursor++;
-                return tuple;
-            } else {
-                cursor++;
-                return next();
             }
+            V value = (V) index.valueAt(cursor);
+            K key = (K) index.keyAt(cursor);
+
+            List<BType> types = new ArrayList<>();
+            types.add(TypeChecker.getType(key));
+            types.add(TypeChecker.getType(value));
+            BTupleType tupleType = new BTupleType(types);
+
+            TupleValueImpl tuple = new TupleValueImpl(tupleType);
+            tuple.add(0, key);
+            tuple.add(1, value);
+            lastOrder = index.orderAt(cursor);
+            cursor++;
+            return tuple;
         }
 
         @Override
         public boolean hasNext() {
-           return cursor < noOfAddedEntries;
+            syncCursor();
+            while (cursor < index.count() && !index.isPresent(cursor)) {
+                cursor++;
+            }
+            return cursor < index.count();
+        }
+
+        // Members may have been moved by a mutation of the table since the last call, continue with the members
+        // added after the last returned member, whether or not it is still there.
+        private void syncCursor() {
+            if (modCount == index.modCount()) {
+                return;
+            }
+            modCount = index.modCount();
+            cursor = index.positionAfter(lastOrder);
         }
     }
 
@@ -436,11 +628,9 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         public V putData(V data) {
             checkInherentTypeViolation((MapValue) data, type);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(data, data);
-            UUID uuid = UUID.randomUUID();
-            entries.put((long) uuid.hashCode(), entry);
-            updateIndexKeyMappings((long) uuid.hashCode());
-            return values.put((long) uuid.hashCode(), data);
+            index.append((K) data, data);
+            updateSecondaryIndexes(data, null);
+            return null;
         }
 
         public V remove(K key) {
@@ -481,63 +671,49 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                                                 BStringUtils.fromString("A value " + "found for key '" + key + "'"));
             }
 
-            if (nextKeySupported && (keys.size() == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
+            if (nextKeySupported && (index.size() == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
                 maxIntKey = ((Long) TypeChecker.anyToInt(key)).intValue();
             }
 
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
-            Long hash = TableUtils.hash(key, null);
-            putData(key, data, entry, hash);
+            index.put(key, TableUtils.hash(key, null), data);
+            updateSecondaryIndexes(data, null);
         }
 
         public V getData(K key) {
-            return values.get(TableUtils.hash(key, null));
+            return index.get(key, TableUtils.hash(key, null));
         }
 
         public V putData(K key, V data) {
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
             Object actualKey = this.keyWrapper.wrapKey((MapValue) data);
-            Long actualHash = TableUtils.hash(actualKey, null);
-            Long hash = TableUtils.hash(key, null);
-
-            if (!hash.equals(actualHash)) {
+            if (!TypeChecker.isEqual(key, actualKey)) {
                 throw BErrorCreator.createError(TABLE_KEY_NOT_FOUND_ERROR, BStringUtils.fromString("The key '" +
                         key + "' not found in value " + data.toString()));
             }
 
-            return putData(key, data, entry, hash);
-        }
-
-        private V putData(K key, V data, Map.Entry<K, V> entry, Long hash) {
-            entries.put(hash, entry);
-            keys.put(hash, key);
-            updateIndexKeyMappings(hash);
-            return values.put(hash, data);
+            V replaced = index.put(key, TableUtils.hash(key, null), data);
+            updateSecondaryIndexes(data, replaced);
+            return replaced;
         }
 
         public V putData(V data) {
             MapValue dataMap = (MapValue) data;
             checkInherentTypeViolation(dataMap, type);
             K key = this.keyWrapper.wrapKey(dataMap);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
-            Long hash = TableUtils.hash(key, null);
-            return putData((K) key, data, entry, hash);
+            V replaced = index.put(key, TableUtils.hash(key, null), data);
+            updateSecondaryIndexes(data, replaced);
+            return replaced;
         }
 
         public V remove(K key) {
-            Long hash = TableUtils.hash(key, null);
-            entries.remove(hash);
-            keys.remove(hash);
-            Long index = keyToIndexMap.remove(hash);
-            indexToKeyMap.remove(index);
-            if (index != null && index == noOfAddedEntries - 1) {
-                noOfAddedEntries--;
+            V removed = index.remove(key, TableUtils.hash(key, null));
+            if (removed != null) {
+                updateSecondaryIndexes(null, removed);
             }
-            return values.remove(hash);
+            return removed;
         }
 
         public boolean containsKey(K key) {
-            return keys.containsKey(TableUtils.hash(key, null));
+            return index.containsKey(key, TableUtils.hash(key, null));
         }
 
         public BType getKeyType() {
@@ -587,15 +763,6 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         }
     }
 
-    // This method updates the indexes and the order required by the iterators
-    private void updateIndexKeyMappings(Long hash) {
-        if (!keyToIndexMap.containsKey(hash)) {
-            keyToIndexMap.put(hash, noOfAddedEntries);
-            indexToKeyMap.put(noOfAddedEntries, hash);
-            noOfAddedEntries++;
-        }
-    }
-
     // This method checks for inherent table type violation
     private void checkInherentTypeViolation(MapValue dataMap, BTableType type) {
         if (!TypeChecker.checkIsType(dataMap.getType(), type.getConstrainedType())) {
@@ -655,8 +822,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     @Override
-    public MapValueImpl<?, ?> getMapValue(BString key) {
-        return (MapValueImpl<?, ?>) get(key);
+    public MapValue<?, ?> getMapValue(BString key) {
+        return (MapValue<?, ?>) get(key);
     }
 
     @Override
@@ -37,8 +37,6 @@ import java.io.ByteArrayOutputStream;
 import java.lang.ref.WeakReference;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -68,7 +66,8 @@ public final class XMLItem extends XMLValue {
     private QName name;
     private XMLSequence children;
     private AttributeMapValueImpl attributes;
-    // Keep track of probable parents of xml element to detect probable cycles in xml.
+    // Keep track of probable parents of xml element to detect probable cycles in xml. Created when the first parent
+    // is added, as elements built by the parser never get one.
     private List<WeakReference<XMLItem>> probableParents;
 
     public XMLItem(QName name, XMLSequence children) {
@@ -79,7 +78,6 @@ public final class XMLItem extends XMLValue {
         }
         attributes = new AttributeMapValueImpl(false);
         addDefaultNamespaceAttribute(name, attributes);
-        probableParents = new ArrayList<>();
         this.type = BTypes.typeElement;
     }
 
@@ -102,7 +100,6 @@ public final class XMLItem extends XMLValue {
         }
         attributes = new AttributeMapValueImpl(readonly);
         addDefaultNamespaceAttribute(name, attributes);
-        probableParents = new ArrayList<>();
 
         this.type = readonly ? BTypes.typeReadonlyElement : BTypes.typeElement;
     }
@@ -264,7 +261,8 @@ public final class XMLItem extends XMLValue {
      */
     @Override
     public XMLValue children() {
-        return new XMLSequence(new ArrayList<>(children.getChildrenList()));
+        // The children list is never modified in place once the element is built, so it can be shared.
+        return new XMLSequence(children.getChildrenList());
     }
 
     /**
@@ -345,11 +343,18 @@ public final class XMLItem extends XMLValue {
     // xml literal syntax, or after ensuring the new xml tree is not cyclic.
     private void addParent(BXML child, XMLItem thisElem) {
         if (child.getNodeType() == ELEMENT) {
-            ((XMLItem) child).probableParents.add(new WeakReference<>(thisElem));
+            XMLItem childElem = (XMLItem) child;
+            if (childElem.probableParents == null) {
+                childElem.probableParents = new ArrayList<>();
+            }
+            childElem.probableParents.add(new WeakReference<>(thisElem));
         }
     }
 
     private void ensureAcyclicGraph(BXML newSubTree, XMLItem current) {
+        if (current.probableParents == null) {
+            return;
+        }
         for (WeakReference<XMLItem> probableParentRef : current.probableParents) {
             XMLItem parent = probableParentRef.get();
             // probable parent is the actual parent.
@@ -405,7 +410,8 @@ public final class XMLItem extends XMLValue {
     @Override
     public XMLValue descendants(List<String> qnames) {
         if (qnames.contains(getQName().toString())) {
-            List<BXML> descendants = Arrays.asList(this);
+            List<BXML> descendants = new ArrayList<>();
+            descendants.add(this);
             addDescendants(descendants, this, qnames);
             return new XMLSequence(descendants);
         }
@@ -558,20 +564,16 @@ public final class XMLItem extends XMLValue {
             ReadOnlyUtils.handleInvalidUpdate(XML_LANG_LIB);
         }
 
-        List<BXML> children = this.children.children;
-        List<Integer> toRemove = new ArrayList<>();
-        for (int i = 0; i < children.size(); i++) {
-            BXML child = children.get(i);
+        // Build a new list rather than removing in place, as sequences returned by children() share the list.
+        List<BXML> children = new ArrayList<>(this.children.children.size());
+        for (BXML child : this.children.children) {
             if (child.getNodeType() == ELEMENT && ((XMLItem) child).getElementName().equals(qname)) {
-                toRemove.add(i);
+                removeParentReference(child);
+            } else {
+                children.add(child);
             }
         }
-
-        Collections.reverse(toRemove);
-        for (Integer index : toRemove) {
-            BXML removed = children.remove(index.intValue());
-            removeParentReference(removed);
-        }
+        this.children = new XMLSequence(children);
     }
 
     private void setAttributes(BMap<BString, ?> attributes, SetAttributeFunction func) {
@@ -598,6 +600,9 @@ public final class XMLItem extends XMLValue {
         }
 
         XMLItem item = (XMLItem) removedItem;
+        if (item.probableParents == null) {
+            return;
+        }
         for (Iterator<WeakReference<XMLItem>> iterator = item.probableParents.iterator(); iterator.hasNext();) {
             WeakReference<XMLItem> probableParent = iterator.next();
             XMLItem parent = probableParent.get();
@@ -21,10 +21,14 @@ package org.ballerinalang.jvm.values.utils;
 import org.ballerinalang.jvm.api.BErrorCreator;
 import org.ballerinalang.jvm.api.BStringUtils;
 import org.ballerinalang.jvm.api.values.BError;
+import org.ballerinalang.jvm.api.values.BString;
 import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.values.ArrayValue;
 
+import java.util.Arrays;
+import java.util.Comparator;
+
 import static java.lang.String.format;
 import static org.ballerinalang.jvm.util.BLangConstants.ARRAY_LANG_LIB;
 import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.OPERATION_NOT_SUPPORTED_IDENTIFIER;
@@ -37,6 +41,14 @@ import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.getMod
  */
 public class ArrayUtils {
 
+    // Arrays of at least this many members are sorted in parallel
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+
+    private static final Comparator<BString> ASCENDING_STRING_ORDER =
+            (str1, str2) -> codePointCompare(str1.getValue(), str2.getValue());
+    private static final Comparator<BString> DESCENDING_STRING_ORDER =
+            (str1, str2) -> codePointCompare(str2.getValue(), str1.getValue());
+
     @Deprecated
     public static void add(ArrayValue arr, int elemTypeTag, long index, Object value) {
         switch (elemTypeTag) {
@@ -83,4 +95,188 @@ public class ArrayUtils {
                                          BStringUtils.fromString(format("%s not supported on type '%s'", op,
                                                                         type.getQualifiedName())));
     }
+
+    public static void sort(long[] values, int size, boolean isAscending) {
+        if (size >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(values, 0, size);
+        } else {
+            Arrays.sort(values, 0, size);
+        }
+        if (!isAscending) {
+            for (int i = 0, j = size - 1; i < j; i++, j--) {
+                long value = values[i];
+                values[i] = values[j];
+                values[j] = value;
+            }
+        }
+    }
+
+    public static void sort(int[] values, int size, boolean isAscending) {
+        if (size >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(values, 0, size);
+        } else {
+            Arrays.sort(values, 0, size);
+        }
+        if (!isAscending) {
+            for (int i = 0, j = size - 1; i < j; i++, j--) {
+                int value = values[i];
+                values[i] = values[j];
+                values[j] = value;
+            }
+        }
+    }
+
+    public static void sort(short[] values, int size, boolean isAscending) {
+        if (size >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(values, 0, size);
+        } else {
+            Arrays.sort(values, 0, size);
+        }
+        if (!isAscending) {
+            for (int i = 0, j = size - 1; i < j; i++, j--) {
+                short value = values[i];
+                values[i] = values[j];
+                values[j] = value;
+            }
+        }
+    }
+
+    /**
+     * Sorts float values the way {@code lang.array:sort} does. NaN is placed last irrespective of the sort
+     * direction, and since -0.0 is equal to 0.0, zeros keep their original relative order.
+     *
+     * @param values      values to sort
+     * @param size        number of values to sort, from the start of the array
+     * @param isAscending whether to sort in ascending order
+     */
+    public static void sort(double[] values, int size, boolean isAscending) {
+        boolean[] zeroSigns = getSignsOfMixedZeros(values, size);
+        if (size >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(values, 0, size);
+        } else {
+            Arrays.sort(values, 0, size);
+        }
+
+        int end = size;
+        while (end > 0 && Double.isNaN(values[end - 1])) {
+            end--;
+        }
+        if (!isAscending) {
+            for (int i = 0, j = end - 1; i < j; i++, j--) {
+                double value = values[i];
+                values[i] = values[j];
+                values[j] = value;
+            }
+        }
+
+        if (zeroSigns == null) {
+            return;
+        }
+        int index = 0;
+        while (values[index] != 0) {
+            index++;
+        }
+        for (boolean isNegative : zeroSigns) {
+            values[index++] = isNegative ? -0.0 : 0.0;
+        }
+    }
+
+    public static void sort(boolean[] values, int size, boolean isAscending) {
+        int falseCount = 0;
+        for (int i = 0; i < size; i++) {
+            if (!values[i]) {
+                falseCount++;
+            }
+        }
+        if (isAscending) {
+            Arrays.fill(values, 0, falseCount, false);
+            Arrays.fill(values, falseCount, size, true);
+        } else {
+            Arrays.fill(values, 0, size - falseCount, true);
+            Arrays.fill(values, size - falseCount, size, false);
+        }
+    }
+
+    /**
+     * Sorts byte values, which are unsigned, with a counting sort.
+     *
+     * @param values      values to sort
+     * @param size        number of values to sort, from the start of the array
+     * @param isAscending whether to sort in ascending order
+     */
+    public static void sort(byte[] values, int size, boolean isAscending) {
+        int[] counts = new int[256];
+        for (int i = 0; i < size; i++) {
+            counts[values[i] & 0xFF]++;
+        }
+        int index = 0;
+        for (int i = 0; i < counts.length; i++) {
+            int value = isAscending ? i : counts.length - 1 - i;
+            Arrays.fill(values, index, index + counts[value], (byte) value);
+            index += counts[value];
+        }
+    }
+
+    public static void sort(BString[] values, int size, boolean isAscending) {
+        Comparator<BString> order = isAscending ? ASCENDING_STRING_ORDER : DESCENDING_STRING_ORDER;
+        if (size >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(values, 0, size, order);
+        } else {
+            Arrays.sort(values, 0, size, order);
+        }
+    }
+
+    /**
+     * Compares two strings by the code points they contain, rather than by their UTF-16 code units.
+     *
+     * @param str1 first string
+     * @param str2 second string
+     * @return a negative value, zero or a positive value if the first string is less than, equal to or greater than
+     * the second string
+     */
+    public static int codePointCompare(String str1, String str2) {
+        int length = Math.min(str1.length(), str2.length());
+        for (int i = 0; i < length; i++) {
+            char char1 = str1.charAt(i);
+            char char2 = str2.charAt(i);
+            if (char1 == char2) {
+                continue;
+            }
+            // Code unit order only differs from code point order when comparing a surrogate, which is part of a
+            // supplementary code point, with a code unit above the surrogate range.
+            if (char1 >= Character.MIN_SURROGATE && char2 >= Character.MIN_SURROGATE) {
+                return toCodePointOrder(char1) - toCodePointOrder(char2);
+            }
+            return char1 - char2;
+        }
+        return str1.length() - str2.length();
+    }
+
+    private static int toCodePointOrder(char codeUnit) {
+        return Character.isSurrogate(codeUnit) ? codeUnit + 0x2000 : codeUnit - 0x800;
+    }
+
+    private static boolean[] getSignsOfMixedZeros(double[] values, int size) {
+        int negativeZeros = 0;
+        int zeros = 0;
+        for (int i = 0; i < size; i++) {
+            if (values[i] == 0) {
+                zeros++;
+                if (Double.doubleToRawLongBits(values[i]) < 0) {
+                    negativeZeros++;
+                }
+            }
+        }
+        if (negativeZeros == 0 || negativeZeros == zeros) {
+            return null;
+        }
+
+        boolean[] signs = new boolean[zeros];
+        for (int i = 0, j = 0; i < size; i++) {
+            if (values[i] == 0) {
+                signs[j++] = Double.doubleToRawLongBits(values[i]) < 0;
+            }
+        }
+        return signs;
+    }
 }
@@ -0,0 +1,116 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.api.BStringUtils;
+import org.ballerinalang.jvm.api.values.BString;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.values.DecimalValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.jvm.values.TypedescValueImpl;
+import org.ballerinalang.jvm.values.ValueCreator;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Test cases for {@link TypedJSONParser}.
+ */
+public class TypedJSONParserTests {
+
+    private static final BPackage PACKAGE = new BPackage("testorg", "typedjson", "1.0.0");
+    private static final BRecordType PERSON_TYPE = personType();
+
+    @BeforeClass
+    void registerValueCreator() {
+        ValueCreator.addValueCreator(PACKAGE.getOrg(), PACKAGE.getName(), PACKAGE.getVersion(), new ValueCreator() {
+            @Override
+            public MapValue<BString, Object> createRecordValue(String recordTypeName) {
+                return new MapValueImpl<>(PERSON_TYPE);
+            }
+
+            @Override
+            public ObjectValue createObjectValue(String objectTypeName, Scheduler scheduler, Strand parent,
+                                                 Map<String, Object> properties, Object[] args) {
+                throw new UnsupportedOperationException();
+            }
+        });
+    }
+
+    @Test
+    void testRecordOffStrand() {
+        // Called from a thread which does not run a strand, as from Java interop or an io callback.
+        Assert.assertNull(Scheduler.getStrandIfAvailable());
+        Object result = TypedJSONParser.parse("{\"name\": \"Anne\", \"age\": 30, \"score\": 4}",
+                                              new TypedescValueImpl(PERSON_TYPE), null);
+
+        Assert.assertTrue(result instanceof MapValueImpl, String.valueOf(result));
+        MapValueImpl<?, ?> person = (MapValueImpl<?, ?>) result;
+        Assert.assertSame(person.getType(), PERSON_TYPE);
+        Assert.assertEquals(person.get(BStringUtils.fromString("name")).toString(), "Anne");
+        Assert.assertEquals(person.get(BStringUtils.fromString("age")), 30L);
+        // The int in the document is converted to the float field type.
+        Assert.assertEquals(person.get(BStringUtils.fromString("score")), 4.0d);
+    }
+
+    @Test
+    void testLeafConversions() {
+        MapValueImpl<?, ?> floats = parseMap("{\"a\": 1, \"b\": 1.25, \"c\": -0}", BTypes.typeFloat);
+        Assert.assertEquals(floats.get(BStringUtils.fromString("a")), 1.0d);
+        Assert.assertEquals(floats.get(BStringUtils.fromString("b")), 1.25d);
+        Assert.assertEquals(floats.get(BStringUtils.fromString("c")), -0.0d);
+
+        MapValueImpl<?, ?> decimals = parseMap("{\"a\": 1, \"b\": 1.25}", BTypes.typeDecimal);
+        Assert.assertEquals(decimals.get(BStringUtils.fromString("a")), new DecimalValue("1"));
+        Assert.assertEquals(decimals.get(BStringUtils.fromString("b")), new DecimalValue("1.25"));
+
+        Assert.assertSame(TypedJSONParser.parse("{\"a\": \"1\"}", new TypedescValueImpl(
+                new BMapType(BTypes.typeInt)), null), TypedJSONParser.MISMATCH);
+        // Not accepted by the JSON parser either.
+        Assert.assertSame(TypedJSONParser.parse("{\"a\": 1e5}", new TypedescValueImpl(
+                new BMapType(BTypes.typeInt)), null), TypedJSONParser.MISMATCH);
+    }
+
+    private static MapValueImpl<?, ?> parseMap(String json, BType constraint) {
+        Object result = TypedJSONParser.parse(json, new TypedescValueImpl(new BMapType(constraint)), null);
+        Assert.assertTrue(result instanceof MapValueImpl, String.valueOf(result));
+        return (MapValueImpl<?, ?>) result;
+    }
+
+    private static BRecordType personType() {
+        Map<String, BField> fields = new LinkedHashMap<>();
+        fields.put("name", new BField(BTypes.typeString, "name", Flags.REQUIRED));
+        fields.put("age", new BField(BTypes.typeInt, "age", Flags.REQUIRED));
+        fields.put("score", new BField(BTypes.typeFloat, "score", Flags.REQUIRED));
+        return new BRecordType("Person", PACKAGE, 0, fields, null, true, 0);
+    }
+}
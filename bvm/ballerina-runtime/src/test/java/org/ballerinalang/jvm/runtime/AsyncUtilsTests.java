@@ -0,0 +1,171 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm.runtime;
+
+import org.ballerinalang.jvm.api.BErrorCreator;
+import org.ballerinalang.jvm.api.BStringUtils;
+import org.ballerinalang.jvm.api.values.BError;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.State;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.BFunctionType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.values.FPValue;
+import org.ballerinalang.jvm.values.FutureValue;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Test cases for invoking function pointers in parallel with
+ * {@link AsyncUtils#invokeFunctionPointerAsyncInParallel}.
+ */
+public class AsyncUtilsTests {
+
+    private static final int THREAD_COUNT = 4;
+
+    @AfterMethod
+    void resetThreshold() {
+        AsyncUtils.setParallelIterationThreshold(0);
+    }
+
+    @Test
+    void testParallelIterationThreshold() {
+        FPValue<Object[], Object> isolated = functionPointer(args -> args[1], Flags.ISOLATED);
+        FPValue<Object[], Object> notIsolated = functionPointer(args -> args[1], 0);
+
+        AsyncUtils.setParallelIterationThreshold(10);
+        Assert.assertTrue(AsyncUtils.canInvokeInParallel(isolated, 10));
+        Assert.assertFalse(AsyncUtils.canInvokeInParallel(isolated, 9));
+        Assert.assertFalse(AsyncUtils.canInvokeInParallel(notIsolated, 10));
+
+        AsyncUtils.setParallelIterationThreshold(0);
+        Assert.assertFalse(AsyncUtils.canInvokeInParallel(isolated, 10));
+    }
+
+    @DataProvider(name = "iterationCounts")
+    public Object[][] iterationCounts() {
+        return new Object[][] {
+                { 1 },
+                // fewer iterations than scheduler threads
+                { THREAD_COUNT - 1 },
+                { THREAD_COUNT },
+                { 1001 },
+        };
+    }
+
+    @Test(dataProvider = "iterationCounts", timeOut = 30000)
+    void testResultOrder(int noOfIterations) {
+        Object[] results = invokeInParallel(noOfIterations, functionPointer(args -> (long) args[1] * 2,
+                                                                            Flags.ISOLATED));
+        for (int i = 0; i < noOfIterations; i++) {
+            Assert.assertEquals(results[i], (long) i * 2);
+        }
+    }
+
+    @Test(dataProvider = "iterationCounts", timeOut = 30000)
+    void testYieldingFunction(int noOfIterations) {
+        // Yields once for each iteration, so that each chunk strand is resumed in the middle of an invocation.
+        Function<Object[], Object> yielding = args -> {
+            Strand strand = (Strand) args[0];
+            if (strand.resumeIndex > 0) {
+                return strand.popFrame();
+            }
+            strand.pushFrame((long) args[1] + 1);
+            strand.setState(State.YIELD);
+            return null;
+        };
+        Object[] results = invokeInParallel(noOfIterations, functionPointer(yielding, Flags.ISOLATED));
+        for (int i = 0; i < noOfIterations; i++) {
+            Assert.assertEquals(results[i], (long) i + 1);
+        }
+    }
+
+    @Test(timeOut = 30000)
+    void testPanicInOneIteration() {
+        int noOfIterations = 1000;
+        BError error = BErrorCreator.createError(BStringUtils.fromString("iteration 500 failed"));
+        ConcurrentHashMap<Long, Boolean> invoked = new ConcurrentHashMap<>();
+        FPValue<Object[], Object> func = functionPointer(args -> {
+            long index = (long) args[1];
+            invoked.put(index, true);
+            if (index == 500) {
+                throw error;
+            }
+            return index;
+        }, Flags.ISOLATED);
+
+        Scheduler scheduler = new Scheduler(THREAD_COUNT, false);
+        FutureValue parent = scheduleParent(scheduler, noOfIterations, func, new Object[noOfIterations]);
+        scheduler.start();
+
+        Assert.assertSame(parent.panic, error);
+        // The iterations after the failed one in the same chunk are not invoked.
+        Assert.assertFalse(invoked.containsKey(501L));
+    }
+
+    private static Object[] invokeInParallel(int noOfIterations, FPValue<Object[], Object> func) {
+        Object[] results = new Object[noOfIterations];
+        Scheduler scheduler = new Scheduler(THREAD_COUNT, false);
+        FutureValue parent = scheduleParent(scheduler, noOfIterations, func, results);
+        scheduler.start();
+
+        Assert.assertNull(parent.panic);
+        Assert.assertSame(parent.result, results);
+        return results;
+    }
+
+    /**
+     * Schedules a strand which invokes the function pointer in parallel and returns the results, in the same way as
+     * the lang library functions which use {@link AsyncUtils#invokeFunctionPointerAsyncInParallel}.
+     */
+    private static FutureValue scheduleParent(Scheduler scheduler, int noOfIterations, FPValue<Object[], Object> func,
+                                              Object[] results) {
+        boolean[] invoked = new boolean[1];
+        Function<Object[], Object> parent = args -> {
+            Strand strand = (Strand) args[0];
+            if (invoked[0]) {
+                // Resumed once all the iterations are completed, or one of them panicked.
+                strand.blockedOnExtern = false;
+                if (strand.panic != null) {
+                    throw strand.panic;
+                }
+                return strand.returnValue;
+            }
+            invoked[0] = true;
+            AsyncUtils.invokeFunctionPointerAsyncInParallel(func, null, null, noOfIterations,
+                                                            i -> new Object[] { null, (long) i, true },
+                                                            (result, i) -> results[i] = result, () -> results,
+                                                            scheduler);
+            return null;
+        };
+        return scheduler.schedule(new Object[1], parent, null, null, "parent", null);
+    }
+
+    private static FPValue<Object[], Object> functionPointer(Function<Object[], Object> function, int flags) {
+        BFunctionType type = new BFunctionType(new BType[] { BTypes.typeInt }, null, BTypes.typeAny, flags);
+        return new FPValue<>(function, type, null, false);
+    }
+}
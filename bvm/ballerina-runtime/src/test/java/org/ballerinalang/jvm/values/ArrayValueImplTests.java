@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm.values;
+
+import org.ballerinalang.jvm.DecimalValueKind;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * Test cases for the int? and decimal member storage of {@link ArrayValueImpl}.
+ */
+public class ArrayValueImplTests {
+
+    private static final BArrayType NILABLE_INT_ARRAY_TYPE =
+            new BArrayType(new BUnionType(Arrays.asList(BTypes.typeInt, BTypes.typeNull)));
+    private static final BArrayType DECIMAL_ARRAY_TYPE = new BArrayType(BTypes.typeDecimal);
+
+    @Test
+    void testNilableIntMembersAcrossWords() {
+        ArrayValueImpl array = new ArrayValueImpl(NILABLE_INT_ARRAY_TYPE);
+        // Every third member is nil, over more than one word of the bit set.
+        for (int i = 0; i < 150; i++) {
+            array.add(i, i % 3 == 0 ? null : (Object) (long) i);
+        }
+
+        array.shift(0);
+        array.unshift(new Object[]{null, 200L});
+        Assert.assertEquals(array.size(), 151);
+        Assert.assertNull(array.get(0));
+        Assert.assertEquals(array.get(1), 200L);
+        for (int i = 1; i < 150; i++) {
+            Assert.assertEquals(array.get(i + 1), i % 3 == 0 ? null : (Object) (long) i, "member " + (i + 1));
+        }
+
+        Object[] values = array.getValues();
+        Assert.assertEquals(values.length, 151);
+        Assert.assertEquals(values[2], 1L);
+        // The members are copied, since they are not kept in an Object[].
+        values[2] = null;
+        Assert.assertEquals(array.get(2), 1L);
+
+        ArrayValueImpl slice = array.slice(1, 5);
+        Assert.assertEquals(slice.getValues(), new Object[]{200L, 1L, 2L, null});
+    }
+
+    @Test
+    void testFilledNilableIntMembers() {
+        ArrayValueImpl array = new ArrayValueImpl(NILABLE_INT_ARRAY_TYPE);
+        array.add(0, 1L);
+        array.add(1, 2L);
+        array.setLength(1);
+        array.add(3, 4L);
+        Assert.assertEquals(array.getValues(), new Object[]{1L, null, null, 4L});
+        Assert.assertNull(array.fillAndGetRefValue(5));
+        Assert.assertEquals(array.size(), 6);
+    }
+
+    @Test
+    void testDecimalMembers() {
+        ArrayValueImpl array = new ArrayValueImpl(DECIMAL_ARRAY_TYPE);
+        array.add(0, new DecimalValue("1.50"));
+        array.add(2, new DecimalValue("-123456789012345678"));
+        Assert.assertEquals(array.get(0), new DecimalValue("1.50"));
+        // The scale is kept.
+        Assert.assertEquals(array.get(0).toString(), "1.50");
+        Assert.assertEquals(array.get(1), new DecimalValue("0"));
+        Assert.assertEquals(((DecimalValue) array.get(1)).valueKind, DecimalValueKind.ZERO);
+        Assert.assertEquals(array.get(2), new DecimalValue("-123456789012345678"));
+
+        ArrayValueImpl copy = (ArrayValueImpl) array.copy(new HashMap<>());
+        copy.add(0, new DecimalValue("2"));
+        Assert.assertEquals(array.get(0), new DecimalValue("1.50"));
+        Assert.assertEquals(copy.get(2), new DecimalValue("-123456789012345678"));
+    }
+
+    @Test
+    void testDecimalMembersWhichDoNotFit() {
+        ArrayValueImpl array = new ArrayValueImpl(DECIMAL_ARRAY_TYPE);
+        array.add(0, new DecimalValue("1.5"));
+        array.add(1, new DecimalValue("1234567890123456789"));
+        DecimalValue nan = new DecimalValue("-1", DecimalValueKind.NOT_A_NUMBER);
+        array.add(2, nan);
+        array.add(3, new DecimalValue("2.5"));
+
+        Assert.assertEquals(array.get(0), new DecimalValue("1.5"));
+        Assert.assertEquals(array.get(1), new DecimalValue("1234567890123456789"));
+        Assert.assertSame(array.get(2), nan);
+        Assert.assertEquals(array.get(3), new DecimalValue("2.5"));
+        Assert.assertEquals(array.size(), 4);
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm.values;
+
+import org.ballerinalang.jvm.api.BStringUtils;
+import org.ballerinalang.jvm.api.values.BString;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BTableType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test cases for {@link TableIndex}, the member storage of {@link TableValueImpl}.
+ */
+public class TableIndexTests {
+
+    private static final BMapType ROW_TYPE = new BMapType(BTypes.typeInt);
+    private static final BString ID = BStringUtils.fromString("id");
+
+    @Test
+    void testHashCollisions() {
+        TableIndex<Long, String> index = new TableIndex<>(true);
+        long hash = 7;
+        for (long i = 0; i < 64; i++) {
+            Assert.assertNull(index.put(i, hash, "v" + i));
+        }
+        Assert.assertEquals(index.size(), 64);
+        for (long i = 0; i < 64; i++) {
+            Assert.assertEquals(index.get(i, hash), "v" + i);
+        }
+        Assert.assertFalse(index.containsKey(64L, hash));
+
+        // Replacing a member keeps its position.
+        Assert.assertEquals(index.put(10L, hash, "updated"), "v10");
+        Assert.assertEquals(index.keyAt(10), Long.valueOf(10));
+        Assert.assertEquals(index.valueAt(10), "updated");
+        Assert.assertEquals(index.size(), 64);
+
+        for (long i = 0; i < 64; i += 2) {
+            Assert.assertEquals(index.remove(i, hash), i == 10 ? "updated" : "v" + i);
+        }
+        Assert.assertEquals(index.size(), 32);
+        for (long i = 0; i < 64; i++) {
+            Assert.assertEquals(index.get(i, hash), i % 2 == 0 ? null : "v" + i);
+        }
+    }
+
+    @Test
+    void testRemoveAndReinsert() {
+        TableIndex<Long, String> index = new TableIndex<>(true);
+        for (long i = 0; i < 6; i++) {
+            index.put(i, i, "v" + i);
+        }
+        Assert.assertEquals(index.remove(2L, 2), "v2");
+        Assert.assertNull(index.remove(2L, 2));
+        Assert.assertFalse(index.containsKey(2L, 2));
+
+        // A reinserted member is added at the end, like a new member.
+        Assert.assertNull(index.put(2L, 2, "v2'"));
+        Assert.assertEquals(index.size(), 6);
+        Assert.assertEquals(index.keys(), new Object[] { 0L, 1L, 3L, 4L, 5L, 2L });
+        Assert.assertEquals(index.get(2L, 2), "v2'");
+    }
+
+    @Test
+    void testReinsertAfterRemovingCollidingMember() {
+        TableIndex<Long, String> index = new TableIndex<>(true);
+        index.put(1L, 5, "a");
+        index.put(2L, 5, "b");
+        index.put(3L, 5, "c");
+
+        // The slot of the removed member must not end the probe for members inserted after it.
+        index.remove(2L, 5);
+        Assert.assertEquals(index.get(3L, 5), "c");
+        Assert.assertEquals(index.put(3L, 5, "c'"), "c");
+        Assert.assertEquals(index.size(), 2);
+
+        Assert.assertNull(index.put(2L, 5, "b'"));
+        Assert.assertEquals(index.size(), 3);
+        Assert.assertEquals(index.keys(), new Object[] { 1L, 3L, 2L });
+        Assert.assertEquals(index.remove(3L, 5), "c'");
+        Assert.assertEquals(index.get(2L, 5), "b'");
+    }
+
+    @Test
+    void testRepeatedRemoveAndReinsert() {
+        TableIndex<Long, Long> index = new TableIndex<>(true);
+        int size = 16;
+        for (long i = 0; i < size; i++) {
+            index.put(i, i % 4, i);
+        }
+        for (long i = 0; i < 10000; i++) {
+            long key = i % size;
+            Assert.assertEquals(index.remove(key, key % 4), Long.valueOf(key));
+            Assert.assertNull(index.put(key, key % 4, key));
+        }
+
+        // The gaps left by removed members are reclaimed instead of growing the arrays.
+        Assert.assertEquals(index.size(), size);
+        Assert.assertTrue(index.count() <= size * 3, "count " + index.count());
+        for (long i = 0; i < size; i++) {
+            Assert.assertEquals(index.get(i, i % 4), Long.valueOf(i));
+        }
+    }
+
+    @Test
+    void testPositionAfterCompaction() {
+        TableIndex<Long, String> index = new TableIndex<>(true);
+        for (long i = 0; i < 8; i++) {
+            index.put(i, i, "v" + i);
+        }
+        long order = index.orderAt(4);
+        index.remove(1L, 1);
+        index.remove(3L, 3);
+        index.remove(4L, 4);
+        Assert.assertEquals(index.positionAfter(order), 5);
+
+        int modCount = index.modCount();
+        // The arrays are full, so adding a member drops the gaps and moves the members.
+        index.put(8L, 8, "v8");
+        Assert.assertNotEquals(index.modCount(), modCount);
+        Assert.assertEquals(index.count(), 6);
+        Assert.assertEquals(index.keys(), new Object[] { 0L, 2L, 5L, 6L, 7L, 8L });
+        Assert.assertEquals(index.positionAfter(order), 2);
+        Assert.assertEquals(index.keyAt(2), Long.valueOf(5));
+    }
+
+    @DataProvider(name = "lastVisitedRemoved")
+    public Object[][] lastVisitedRemoved() {
+        return new Object[][] {
+                { false },
+                { true },
+        };
+    }
+
+    @Test(dataProvider = "lastVisitedRemoved")
+    void testIterationAcrossCompaction(boolean removeLastVisited) {
+        TableValueImpl<Long, MapValueImpl<BString, Object>> table =
+                new TableValueImpl<>(new BTableType(ROW_TYPE, new String[] { "id" }, false));
+        for (long i = 0; i < 8; i++) {
+            table.add(row(i));
+        }
+
+        IteratorValue iterator = table.getIterator();
+        List<Object> visited = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            visited.add(((TupleValueImpl) iterator.next()).get(0));
+        }
+        Assert.assertEquals(visited, Arrays.asList(0L, 1L, 2L));
+
+        for (long id : new long[] { 0, 1, 3, 4, 5 }) {
+            table.remove(id);
+        }
+        if (removeLastVisited) {
+            table.remove(2L);
+        }
+        // Compacts the members, since the removed members left enough gaps.
+        table.add(row(8));
+
+        visited.clear();
+        while (iterator.hasNext()) {
+            visited.add(((TupleValueImpl) iterator.next()).get(0));
+        }
+        Assert.assertEquals(visited, Arrays.asList(6L, 7L, 8L));
+    }
+
+    private static MapValueImpl<BString, Object> row(long id) {
+        MapValueImpl<BString, Object> row = new MapValueImpl<>(ROW_TYPE);
+        row.put(ID, id);
+        return row;
+    }
+}
@@ -0,0 +1,398 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.BLock;
+import org.ballerinalang.jvm.api.BErrorCreator;
+import org.ballerinalang.jvm.api.BStringUtils;
+import org.ballerinalang.jvm.api.connector.CallableUnitCallback;
+import org.ballerinalang.jvm.api.values.BError;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.State;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.values.FutureValue;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Test cases for {@link BLock}, the lock used by generated code for {@code lock} statements.
+ * <p>
+ * The strand functions in these tests follow the code generated for a lock statement: when the lock cannot be
+ * acquired the strand is left in the {@link State#BLOCK_AND_YIELD} state and returns, and the lock is acquired again
+ * when the strand is resumed.
+ */
+public class BLockTests {
+
+    private static final int STRAND_COUNT = 200;
+
+    @Test(timeOut = 30000)
+    void testExclusiveAndSharedAccessExclusion() {
+        BLock lock = new BLock();
+        Guard guard = new Guard();
+        Scheduler scheduler = new Scheduler(4, false);
+        List<FutureValue> futures = new ArrayList<>();
+        for (int i = 0; i < STRAND_COUNT; i++) {
+            boolean shared = i % 2 == 0;
+            futures.add(scheduler.schedule(new Object[1], criticalSection(lock, shared, guard), null, null,
+                                           "strand-" + i, null));
+        }
+        scheduler.start();
+
+        for (FutureValue future : futures) {
+            Assert.assertTrue(future.isDone);
+            Assert.assertNull(future.panic);
+        }
+        Assert.assertFalse(guard.violated.get(), "a strand entered the critical section while it was held " +
+                "exclusively by another strand");
+        Assert.assertEquals(guard.writes.get(), STRAND_COUNT / 2);
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    @Test(timeOut = 30000)
+    void testSharedLockHeldConcurrently() {
+        int readers = 4;
+        BLock lock = new BLock();
+        CyclicBarrier barrier = new CyclicBarrier(readers);
+        Scheduler scheduler = new Scheduler(readers, false);
+        List<FutureValue> futures = new ArrayList<>();
+        Function<Object[], Object> reader = args -> {
+            Strand strand = (Strand) args[0];
+            if (!lock.lockShared(strand)) {
+                return null;
+            }
+            try {
+                // Every reader has to be inside the lock at the same time to pass the barrier.
+                barrier.await(10, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw BErrorCreator.createError(BStringUtils.fromString("readers did not share the lock"), e);
+            } finally {
+                lock.unlockShared(strand);
+            }
+            return null;
+        };
+        for (int i = 0; i < readers; i++) {
+            futures.add(scheduler.schedule(new Object[1], reader, null, null, "reader-" + i, null));
+        }
+        scheduler.start();
+
+        for (FutureValue future : futures) {
+            Assert.assertNull(future.panic);
+        }
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    @Test
+    void testReentrantLock() {
+        BLock lock = new BLock();
+        Strand owner = new Strand("owner", null, null, null, new HashMap<>());
+        Strand other = new Strand("other", null, null, null, new HashMap<>());
+
+        Assert.assertTrue(lock.lock(owner));
+        Assert.assertTrue(lock.lock(owner));
+        // A shared acquire by the exclusive owner is a reentrant exclusive acquire.
+        Assert.assertTrue(lock.lockShared(owner));
+        Assert.assertEquals(owner.acquiredLockCount, 3);
+        Assert.assertTrue(lock.lockedBySameContext(owner));
+        Assert.assertFalse(lock.lockedBySameContext(other));
+
+        lock.unlockShared(owner);
+        lock.unlock();
+        Assert.assertFalse(lock.isLockFree());
+        Assert.assertTrue(lock.lockedBySameContext(owner));
+
+        lock.unlock();
+        Assert.assertTrue(lock.isLockFree());
+        Assert.assertFalse(lock.lockedBySameContext(owner));
+        Assert.assertEquals(owner.acquiredLockCount, 0);
+
+        // Strands holding the lock in shared mode are not its owner.
+        Assert.assertTrue(lock.lockShared(owner));
+        Assert.assertTrue(lock.lockShared(other));
+        Assert.assertFalse(lock.lockedBySameContext(owner));
+        lock.unlockShared(owner);
+        lock.unlockShared(other);
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    @DataProvider(name = "ownerCompletion")
+    public Object[][] ownerCompletion() {
+        return new Object[][] {
+                { false },
+                { true },
+        };
+    }
+
+    @Test(dataProvider = "ownerCompletion", timeOut = 30000)
+    void testWaitersResumedWhenLockReleased(boolean ownerPanics) throws InterruptedException {
+        BLock lock = new BLock();
+        BError error = BErrorCreator.createError(BStringUtils.fromString("panic inside lock"));
+        Scheduler scheduler = new Scheduler(4, true);
+        Thread schedulerThread = new Thread(scheduler::start);
+        schedulerThread.start();
+
+        CountDownLatch ownerLocked = new CountDownLatch(1);
+        CountDownLatch releaseOwner = new CountDownLatch(1);
+        Function<Object[], Object> owner = args -> {
+            Strand strand = (Strand) args[0];
+            Assert.assertTrue(lock.lock(strand));
+            ownerLocked.countDown();
+            try {
+                Assert.assertTrue(releaseOwner.await(20, TimeUnit.SECONDS));
+                if (ownerPanics) {
+                    throw error;
+                }
+            } catch (InterruptedException e) {
+                throw BErrorCreator.createError(BStringUtils.fromString("interrupted"), e);
+            } finally {
+                // Generated code releases the lock on the error path of a lock statement before the panic
+                // propagates.
+                lock.unlock();
+            }
+            return null;
+        };
+        CountDownLatch ownerDone = new CountDownLatch(1);
+        FutureValue ownerFuture = scheduler.schedule(new Object[1], owner, null, new LatchCallback(ownerDone),
+                                                     "owner", null);
+        Assert.assertTrue(ownerLocked.await(20, TimeUnit.SECONDS));
+
+        int waiterCount = 3;
+        CountDownLatch waitersBlocked = new CountDownLatch(waiterCount);
+        CountDownLatch waitersDone = new CountDownLatch(waiterCount);
+        List<FutureValue> waiters = new ArrayList<>();
+        for (int i = 0; i < waiterCount; i++) {
+            boolean shared = i != 0;
+            AtomicBoolean blocked = new AtomicBoolean();
+            Function<Object[], Object> waiter = args -> {
+                Strand strand = (Strand) args[0];
+                boolean locked = shared ? lock.lockShared(strand) : lock.lock(strand);
+                if (!locked) {
+                    if (!blocked.getAndSet(true)) {
+                        waitersBlocked.countDown();
+                    }
+                    return null;
+                }
+                if (shared) {
+                    lock.unlockShared(strand);
+                } else {
+                    lock.unlock();
+                }
+                return blocked.get();
+            };
+            waiters.add(scheduler.schedule(new Object[1], waiter, null, new LatchCallback(waitersDone),
+                                           "waiter-" + i, null));
+        }
+        Assert.assertTrue(waitersBlocked.await(20, TimeUnit.SECONDS));
+        for (FutureValue waiter : waiters) {
+            Assert.assertFalse(waiter.isDone);
+        }
+
+        releaseOwner.countDown();
+        Assert.assertTrue(waitersDone.await(20, TimeUnit.SECONDS), "waiters were not resumed");
+        Assert.assertTrue(ownerDone.await(20, TimeUnit.SECONDS));
+
+        if (ownerPanics) {
+            Assert.assertSame(ownerFuture.panic, error);
+        } else {
+            Assert.assertNull(ownerFuture.panic);
+        }
+        Assert.assertEquals(ownerFuture.strand.acquiredLockCount, 0);
+        for (FutureValue waiter : waiters) {
+            Assert.assertNull(waiter.panic);
+            Assert.assertEquals(waiter.result, true);
+            Assert.assertEquals(waiter.strand.acquiredLockCount, 0);
+        }
+        Assert.assertTrue(lock.isLockFree());
+
+        scheduler.poison();
+        schedulerThread.join(20000);
+    }
+
+    @Test(timeOut = 30000)
+    void testQueuedWriterNotOvertakenByReaders() throws InterruptedException {
+        BLock lock = new BLock();
+        Scheduler scheduler = new Scheduler(4, true);
+        Thread schedulerThread = new Thread(scheduler::start);
+        schedulerThread.start();
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+
+        CountDownLatch readerLocked = new CountDownLatch(1);
+        CountDownLatch releaseReader = new CountDownLatch(1);
+        Function<Object[], Object> firstReader = args -> {
+            Strand strand = (Strand) args[0];
+            Assert.assertTrue(lock.lockShared(strand));
+            readerLocked.countDown();
+            try {
+                Assert.assertTrue(releaseReader.await(20, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw BErrorCreator.createError(BStringUtils.fromString("interrupted"), e);
+            } finally {
+                lock.unlockShared(strand);
+            }
+            return null;
+        };
+        CountDownLatch done = new CountDownLatch(3);
+        scheduler.schedule(new Object[1], firstReader, null, new LatchCallback(done), "reader-1", null);
+        Assert.assertTrue(readerLocked.await(20, TimeUnit.SECONDS));
+
+        CountDownLatch writerBlocked = new CountDownLatch(1);
+        scheduler.schedule(new Object[1], recordingWaiter(lock, false, "writer", order, writerBlocked), null,
+                           new LatchCallback(done), "writer", null);
+        Assert.assertTrue(writerBlocked.await(20, TimeUnit.SECONDS));
+
+        // The lock is still only held in shared mode, but the reader has to wait behind the queued writer.
+        CountDownLatch secondReaderBlocked = new CountDownLatch(1);
+        scheduler.schedule(new Object[1], recordingWaiter(lock, true, "reader-2", order, secondReaderBlocked), null,
+                           new LatchCallback(done), "reader-2", null);
+        Assert.assertTrue(secondReaderBlocked.await(20, TimeUnit.SECONDS), "reader acquired the lock ahead of a " +
+                "queued writer");
+
+        releaseReader.countDown();
+        Assert.assertTrue(done.await(20, TimeUnit.SECONDS));
+        Assert.assertEquals(order, Arrays.asList("writer", "reader-2"));
+        Assert.assertTrue(lock.isLockFree());
+
+        scheduler.poison();
+        schedulerThread.join(20000);
+    }
+
+    /**
+     * Returns a function which records its name once it acquires the lock, and counts down the latch the first time
+     * it has to wait for the lock.
+     */
+    private static Function<Object[], Object> recordingWaiter(BLock lock, boolean shared, String name,
+                                                              List<String> order, CountDownLatch blockedLatch) {
+        AtomicBoolean blocked = new AtomicBoolean();
+        return args -> {
+            Strand strand = (Strand) args[0];
+            boolean locked = shared ? lock.lockShared(strand) : lock.lock(strand);
+            if (!locked) {
+                if (!blocked.getAndSet(true)) {
+                    blockedLatch.countDown();
+                }
+                return null;
+            }
+            order.add(name);
+            if (shared) {
+                lock.unlockShared(strand);
+            } else {
+                lock.unlock();
+            }
+            return null;
+        };
+    }
+
+    /**
+     * Returns a function which acquires the lock, yields once while holding it and releases it when resumed.
+     */
+    private static Function<Object[], Object> criticalSection(BLock lock, boolean shared, Guard guard) {
+        boolean[] entered = new boolean[1];
+        return args -> {
+            Strand strand = (Strand) args[0];
+            if (!entered[0]) {
+                boolean locked = shared ? lock.lockShared(strand) : lock.lock(strand);
+                if (!locked) {
+                    return null;
+                }
+                entered[0] = true;
+                guard.enter(shared);
+                strand.setState(State.YIELD);
+                return null;
+            }
+            guard.exit(shared);
+            if (shared) {
+                lock.unlockShared(strand);
+            } else {
+                lock.unlock();
+            }
+            return null;
+        };
+    }
+
+    /**
+     * Tracks the strands inside a critical section.
+     */
+    private static class Guard {
+
+        final AtomicInteger exclusiveHolders = new AtomicInteger();
+        final AtomicInteger sharedHolders = new AtomicInteger();
+        final AtomicInteger writes = new AtomicInteger();
+        final AtomicBoolean violated = new AtomicBoolean();
+
+        void enter(boolean shared) {
+            if (shared) {
+                sharedHolders.incrementAndGet();
+                check(exclusiveHolders.get() == 0);
+            } else {
+                check(exclusiveHolders.incrementAndGet() == 1 && sharedHolders.get() == 0);
+            }
+        }
+
+        void exit(boolean shared) {
+            if (shared) {
+                check(exclusiveHolders.get() == 0);
+                sharedHolders.decrementAndGet();
+            } else {
+                // A non-atomic read-modify-write, which only works as long as writers are exclusive.
+                writes.set(writes.get() + 1);
+                check(exclusiveHolders.decrementAndGet() == 0 && sharedHolders.get() == 0);
+            }
+        }
+
+        private void check(boolean condition) {
+            if (!condition) {
+                violated.set(true);
+            }
+        }
+    }
+
+    /**
+     * Callback which counts down a latch when a strand completes, successfully or with a panic.
+     */
+    private static class LatchCallback implements CallableUnitCallback {
+
+        private final CountDownLatch latch;
+
+        LatchCallback(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public void notifySuccess() {
+            latch.countDown();
+        }
+
+        @Override
+        public void notifyFailure(BError error) {
+            latch.countDown();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.api.BErrorCreator;
+import org.ballerinalang.jvm.api.BStringUtils;
+import org.ballerinalang.jvm.api.values.BError;
+import org.ballerinalang.jvm.scheduling.FrameStackPool;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.State;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.values.FutureValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Test cases for saving strand frames on yield and pooling the frame stacks of completed strands.
+ * <p>
+ * The schedulers in these tests have a single worker, which is the thread calling {@link Scheduler#start()}, so all
+ * strands borrow from and release to the frame stack pool of the test thread.
+ */
+public class FrameStackPoolTests {
+
+    private static final int STRAND_COUNT = 100;
+    private static final int FRAME_COUNT = 3;
+
+    @Test(timeOut = 30000)
+    void testFrameStackReuseAcrossYieldAndResume() {
+        long allocated = FrameStackPool.getAllocatedCount();
+        long reused = FrameStackPool.getReusedCount();
+
+        Scheduler scheduler = new Scheduler(1, false);
+        List<FutureValue> futures = new ArrayList<>();
+        Function<Object[], Object> function = args -> {
+            Strand strand = (Strand) args[0];
+            if (strand.resumeIndex > 0) {
+                // Frames are restored in the reverse order they were saved.
+                long sum = 0;
+                for (long i = FRAME_COUNT; i > 0; i--) {
+                    Assert.assertEquals(strand.popFrame(), i);
+                    sum += i;
+                }
+                return sum;
+            }
+            for (long i = 1; i <= FRAME_COUNT; i++) {
+                strand.pushFrame(i);
+            }
+            strand.setState(State.YIELD);
+            return null;
+        };
+        for (int i = 0; i < STRAND_COUNT; i++) {
+            futures.add(scheduler.schedule(new Object[1], function, null, null, "strand-" + i, null));
+        }
+        scheduler.start();
+
+        for (FutureValue future : futures) {
+            Assert.assertNull(future.panic);
+            Assert.assertEquals(future.result, (long) FRAME_COUNT * (FRAME_COUNT + 1) / 2);
+            Assert.assertNull(future.strand.frames);
+        }
+        // Strands run one after the other on the single worker, so each one reuses the stack released by the
+        // previous one and at most one stack is allocated.
+        long allocatedDelta = FrameStackPool.getAllocatedCount() - allocated;
+        long reusedDelta = FrameStackPool.getReusedCount() - reused;
+        Assert.assertTrue(allocatedDelta <= 1, "allocated " + allocatedDelta + " frame stacks");
+        Assert.assertEquals(allocatedDelta + reusedDelta, STRAND_COUNT);
+    }
+
+    @Test(timeOut = 30000)
+    void testFrameStackGrowth() {
+        int depth = 20;
+        long grown = FrameStackPool.getGrownCount();
+
+        int[] initialCapacity = new int[1];
+
+        Scheduler scheduler = new Scheduler(1, false);
+        Function<Object[], Object> function = args -> {
+            Strand strand = (Strand) args[0];
+            if (strand.resumeIndex < depth) {
+                strand.pushFrame((long) strand.resumeIndex);
+                if (strand.resumeIndex == 1) {
+                    initialCapacity[0] = strand.frames.length;
+                }
+                strand.setState(State.YIELD);
+                return null;
+            }
+            for (long i = depth - 1; i >= 0; i--) {
+                Assert.assertEquals(strand.popFrame(), i);
+            }
+            return (long) strand.resumeIndex;
+        };
+        FutureValue future = scheduler.schedule(new Object[1], function, null, null, "deep", null);
+        scheduler.start();
+
+        Assert.assertNull(future.panic);
+        Assert.assertEquals(future.result, 0L);
+        // The stack doubles each time it is full, e.g. 8 -> 16 -> 32 slots for a new stack.
+        int expectedGrowth = 0;
+        for (int capacity = initialCapacity[0]; capacity < depth; capacity <<= 1) {
+            expectedGrowth++;
+        }
+        Assert.assertEquals(FrameStackPool.getGrownCount() - grown, expectedGrowth);
+    }
+
+    @Test(timeOut = 30000)
+    void testNoFramesLeakedAfterPanic() {
+        BError error = BErrorCreator.createError(BStringUtils.fromString("frame stack panic"));
+
+        // Panic while frames saved before the last yield are still on the stack.
+        Scheduler panicScheduler = new Scheduler(1, false);
+        Function<Object[], Object> panicking = args -> {
+            Strand strand = (Strand) args[0];
+            if (strand.resumeIndex == 0) {
+                for (int i = 0; i < FRAME_COUNT; i++) {
+                    strand.pushFrame(new Object());
+                }
+                strand.setState(State.YIELD);
+                return null;
+            }
+            strand.popFrame();
+            throw error;
+        };
+        FutureValue panicked = panicScheduler.schedule(new Object[1], panicking, null, null, "panicking", null);
+        panicScheduler.start();
+
+        Assert.assertSame(panicked.panic, error);
+        Assert.assertNull(panicked.strand.frames);
+
+        // The next strand yielding on this thread gets the released stack, which must not hold the frames of the
+        // strand that panicked.
+        long reused = FrameStackPool.getReusedCount();
+        Scheduler nextScheduler = new Scheduler(1, false);
+        Function<Object[], Object> inspecting = args -> {
+            Strand strand = (Strand) args[0];
+            if (strand.resumeIndex > 0) {
+                return strand.popFrame();
+            }
+            strand.pushFrame("frame");
+            for (int i = 1; i < strand.frames.length; i++) {
+                Assert.assertNull(strand.frames[i], "stale frame at " + i);
+            }
+            strand.setState(State.YIELD);
+            return null;
+        };
+        FutureValue next = nextScheduler.schedule(new Object[1], inspecting, null, null, "inspecting", null);
+        nextScheduler.start();
+
+        Assert.assertNull(next.panic);
+        Assert.assertEquals(next.result, "frame");
+        Assert.assertEquals(FrameStackPool.getReusedCount() - reused, 1);
+    }
+}
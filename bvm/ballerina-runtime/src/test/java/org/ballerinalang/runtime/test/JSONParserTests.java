@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.JSONParser;
+import org.ballerinalang.jvm.TypeChecker;
+import org.ballerinalang.jvm.util.exceptions.BallerinaException;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Test cases for parsing JSON from bytes with {@link JSONParser}, which should give the same results as parsing the
+ * same documents from strings.
+ */
+public class JSONParserTests {
+
+    @DataProvider(name = "documents")
+    public Object[][] documents() {
+        return new Object[][] {
+                { "{\"name\": \"Anne\", \"age\": 25, \"tags\": [\"a\", \"b\"], \"address\": {}}" },
+                { " [1, -2, 1.50, -0, -0.0, 1.5e3, 2.5E-2, 9223372036854775807, -9223372036854775808] " },
+                { "[123456789012345678901234567890.123456789]" },
+                { "[true, false, null, [], [[]]]" },
+                { "[\"h\\u00e9llo\\n\\t\\\"wörld\\\" € 😀\"]" },
+                { "{\"é\\u00e9\": 1, \"k\": {\"k\": [1, {\"k\": 2}]}, \"k\": 3}" },
+                { "['single', 'quoted']" },
+                { "[01, +1]" },
+                { "42" },
+        };
+    }
+
+    @Test(dataProvider = "documents")
+    void testParseBytes(String document) {
+        Object expected = JSONParser.parse(document);
+        byte[] bytes = document.getBytes(StandardCharsets.UTF_8);
+
+        assertSameValue(JSONParser.parse(new ByteArrayInputStream(bytes), "UTF-8"), expected);
+        assertSameValue(JSONParser.parse(ByteBuffer.wrap(bytes)), expected);
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        assertSameValue(JSONParser.parse(direct), expected);
+        Assert.assertFalse(direct.hasRemaining());
+    }
+
+    @Test
+    void testParseBytesFromBufferSlice() {
+        byte[] bytes = "xx{\"a\": [1, 2]}yy".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 2, bytes.length - 4).slice();
+        assertSameValue(JSONParser.parse(buffer), JSONParser.parse("{\"a\": [1, 2]}"));
+    }
+
+    @DataProvider(name = "invalidDocuments")
+    public Object[][] invalidDocuments() {
+        return new Object[][] {
+                { "" },
+                { "{\"a\": 1,}" },
+                { "[1, 2" },
+                { "{\"a\": truex}" },
+                { "{\"a\": 1}}" },
+                { "[1e5]" },
+        };
+    }
+
+    @Test(dataProvider = "invalidDocuments")
+    void testParseInvalidBytes(String document) {
+        String expected = getErrorMessage(() -> JSONParser.parse(document));
+        byte[] bytes = document.getBytes(StandardCharsets.UTF_8);
+        Assert.assertEquals(getErrorMessage(() -> JSONParser.parse(new ByteArrayInputStream(bytes), "UTF-8")),
+                            expected);
+        Assert.assertEquals(getErrorMessage(() -> JSONParser.parse(ByteBuffer.wrap(bytes))), expected);
+    }
+
+    private static void assertSameValue(Object actual, Object expected) {
+        Assert.assertEquals(actual.getClass(), expected.getClass());
+        Assert.assertTrue(TypeChecker.isEqual(actual, expected), actual + " != " + expected);
+    }
+
+    private static String getErrorMessage(Runnable parse) {
+        try {
+            parse.run();
+        } catch (BallerinaException e) {
+            return e.getMessage();
+        }
+        Assert.fail("expected the document to be rejected");
+        return null;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.JSONGenerator;
+import org.ballerinalang.jvm.JSONParser;
+import org.ballerinalang.jvm.JSONWriter;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Test cases for {@link JSONWriter}, which should write the same output as {@link JSONGenerator}.
+ */
+public class JSONWriterTests {
+
+    @DataProvider(name = "documents")
+    public Object[][] documents() {
+        return new Object[][] {
+                { "{}" },
+                { "[]" },
+                { "{\"name\":\"Anne\", \"age\":25, \"tags\":[\"a\", \"b\"], \"address\":{}, \"spouse\":null}" },
+                { "[1, -2, 1.50, -0.0, 1.5e3, -9223372036854775808, true, false, [[], [{}]]]" },
+                { "{\"quote\\\"\":\"a/b\\\\c\\n\", \"slash\":\"a/b\", \"form\\f\":\"\\f/\\t\"}" },
+                { "[\"h\\u00e9llo\", \"€ 😀\", \"\\ud800\", \"\\u0001\"]" },
+        };
+    }
+
+    @Test(dataProvider = "documents")
+    void testToJsonString(String document) throws IOException {
+        Object value = JSONParser.parse(document);
+        Assert.assertEquals(JSONWriter.toJsonString(value), generate(value));
+    }
+
+    @Test(dataProvider = "documents")
+    void testWriteToChannel(String document) throws IOException {
+        Object value = JSONParser.parse(document);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JSONWriter.write(value, Channels.newChannel(out));
+        Assert.assertEquals(new String(out.toByteArray(), StandardCharsets.UTF_8), generate(value));
+    }
+
+    @Test
+    void testWriteLargeValueToChannel() throws IOException {
+        StringBuilder document = new StringBuilder("[");
+        for (int i = 0; i < 10000; i++) {
+            document.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append(",\"name\":\"näme ").append(i)
+                    .append("\"}");
+        }
+        Object value = JSONParser.parse(document.append(']').toString());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JSONWriter.write(value, Channels.newChannel(out));
+        Assert.assertEquals(new String(out.toByteArray(), StandardCharsets.UTF_8), generate(value));
+    }
+
+    private static String generate(Object value) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JSONGenerator generator = new JSONGenerator(out, StandardCharsets.UTF_8);
+        generator.serialize(value);
+        generator.flush();
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
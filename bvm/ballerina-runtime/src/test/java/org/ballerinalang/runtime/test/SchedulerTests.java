@@ -0,0 +1,139 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.State;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.values.FutureValue;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Test cases for running strands on the {@link Scheduler}, with the shared run queue and with the work-stealing run
+ * queue.
+ */
+public class SchedulerTests {
+
+    private static final int STRAND_COUNT = 500;
+    private static final int YIELD_COUNT = 3;
+
+    @DataProvider(name = "runQueueModes")
+    public Object[][] runQueueModes() {
+        return new Object[][] {
+                { false },
+                { true },
+        };
+    }
+
+    @Test(dataProvider = "runQueueModes", timeOut = 30000)
+    void testYieldAndResume(boolean workStealing) {
+        Scheduler scheduler = new Scheduler(4, false, workStealing);
+        List<FutureValue> futures = new ArrayList<>();
+        for (int i = 0; i < STRAND_COUNT; i++) {
+            futures.add(scheduler.schedule(new Object[1], yieldingFunction(i), null, null, "strand-" + i, null));
+        }
+
+        // A scheduler which is not immortal stops once all of its strands are completed.
+        scheduler.start();
+
+        for (int i = 0; i < STRAND_COUNT; i++) {
+            FutureValue future = futures.get(i);
+            Assert.assertTrue(future.isDone);
+            Assert.assertNull(future.panic);
+            Assert.assertEquals(future.result, (long) i * YIELD_COUNT);
+        }
+    }
+
+    @Test(dataProvider = "runQueueModes", timeOut = 30000)
+    void testStrandsScheduledByStrands(boolean workStealing) {
+        Scheduler scheduler = new Scheduler(4, false, workStealing);
+        AtomicInteger completed = new AtomicInteger();
+        Function<Object[], Object> child = args -> completed.incrementAndGet();
+        Function<Object[], Object> parent = args -> {
+            Strand strand = (Strand) args[0];
+            for (int i = 0; i < 10; i++) {
+                strand.scheduler.schedule(new Object[1], child, strand, null, "child", null);
+            }
+            return null;
+        };
+        for (int i = 0; i < STRAND_COUNT; i++) {
+            scheduler.schedule(new Object[1], parent, null, null, "parent-" + i, null);
+        }
+
+        scheduler.start();
+
+        Assert.assertEquals(completed.get(), STRAND_COUNT * 10);
+    }
+
+    @Test(dataProvider = "runQueueModes", timeOut = 30000)
+    void testImmortalSchedulerShutdown(boolean workStealing) throws InterruptedException {
+        Scheduler scheduler = new Scheduler(4, true, workStealing);
+        Thread schedulerThread = new Thread(scheduler::start);
+        schedulerThread.start();
+
+        CountDownLatch latch = new CountDownLatch(STRAND_COUNT);
+        for (int i = 0; i < STRAND_COUNT; i++) {
+            Function<Object[], Object> function = yieldingFunction(i);
+            Function<Object[], Object> countingFunction = args -> {
+                Object result = function.apply(args);
+                if (((Strand) args[0]).getState() == State.RUNNABLE) {
+                    latch.countDown();
+                }
+                return result;
+            };
+            scheduler.schedule(new Object[1], countingFunction, null, null, "strand-" + i, null);
+        }
+        Assert.assertTrue(latch.await(20, TimeUnit.SECONDS));
+
+        // The workers of an immortal scheduler keep waiting for strands until the scheduler is poisoned.
+        Assert.assertTrue(schedulerThread.isAlive());
+        scheduler.poison();
+        schedulerThread.join(20000);
+        Assert.assertFalse(schedulerThread.isAlive());
+    }
+
+    /**
+     * Returns a function which yields {@link #YIELD_COUNT} times, in the same way as generated code, by saving its
+     * frame in the strand and setting the strand state before returning.
+     */
+    private static Function<Object[], Object> yieldingFunction(long value) {
+        return args -> {
+            Strand strand = (Strand) args[0];
+            long sum = 0;
+            if (strand.resumeIndex > 0) {
+                sum = (long) strand.popFrame();
+            }
+            if (sum < value * YIELD_COUNT) {
+                strand.pushFrame(sum + value);
+                strand.setState(State.YIELD);
+                return null;
+            }
+            return sum;
+        };
+    }
+}
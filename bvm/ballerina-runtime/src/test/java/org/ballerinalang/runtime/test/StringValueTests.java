@@ -1,6 +1,9 @@
 package org.ballerinalang.runtime.test;
 
+import org.ballerinalang.jvm.api.BStringUtils;
+import org.ballerinalang.jvm.api.values.BString;
 import org.ballerinalang.jvm.values.NonBmpStringValue;
+import org.ballerinalang.jvm.values.RopeStringValue;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -40,4 +43,28 @@ public class StringValueTests {
         Assert.assertEquals(SUBJECT.length(), 16);
     }
 
+    @Test
+    void testConcatBeforeNonBmp() {
+        BString str = BStringUtils.fromString("ab").concat(SUBJECT);
+        Assert.assertEquals(str.length(), 18);
+        Assert.assertEquals(str.getCodePoint(3), 0x1F6F8);
+        Assert.assertEquals(str.getCodePoint(17), 'r');
+    }
+
+    @Test
+    void testRepeatedConcat() {
+        StringBuilder expected = new StringBuilder();
+        BString str = BStringUtils.fromString("");
+        for (int i = 0; i < 1000; i++) {
+            BString part = BStringUtils.fromString(i % 10 == 0 ? UNICODE_STR : "item " + i + ";");
+            str = str.concat(part);
+            expected.append(part.getValue());
+        }
+        Assert.assertTrue(str instanceof RopeStringValue);
+        Assert.assertEquals(str.length(), expected.codePointCount(0, expected.length()));
+        Assert.assertEquals(str.getValue(), expected.toString());
+        Assert.assertEquals(str.getCodePoint(1), 0x1F6F8);
+        Assert.assertEquals(str, BStringUtils.fromString(expected.toString()));
+        Assert.assertEquals(str.hashCode(), expected.toString().hashCode());
+    }
 }
@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.TypeCheckCache;
+import org.ballerinalang.jvm.TypeChecker;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BFiniteType;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+
+/**
+ * Test cases for {@link TypeCheckCache}.
+ */
+public class TypeCheckCacheTests {
+
+    @BeforeMethod
+    void clearCache() {
+        TypeCheckCache.clear();
+    }
+
+    @Test
+    void testRepeatedCheckIsCached() {
+        BType source = new BArrayType(BTypes.typeInt);
+        BType target = new BArrayType(new BUnionType(Arrays.asList(BTypes.typeInt, BTypes.typeString)));
+
+        Assert.assertTrue(TypeChecker.checkIsType(source, target));
+        Assert.assertEquals(TypeCheckCache.getMisses(), 1);
+        Assert.assertEquals(TypeCheckCache.getHits(), 0);
+
+        Assert.assertTrue(TypeChecker.checkIsType(source, target));
+        Assert.assertEquals(TypeCheckCache.getMisses(), 1);
+        Assert.assertEquals(TypeCheckCache.getHits(), 1);
+    }
+
+    @Test
+    void testNegativeResultIsCached() {
+        BType source = new BMapType(BTypes.typeAny);
+        BType target = new BMapType(BTypes.typeAnydata);
+
+        Assert.assertFalse(TypeChecker.checkIsType(source, target));
+        Assert.assertFalse(TypeChecker.checkIsType(source, target));
+        Assert.assertEquals(TypeCheckCache.getMisses(), 1);
+        Assert.assertEquals(TypeCheckCache.getHits(), 1);
+    }
+
+    @Test
+    void testSimpleTypesAreNotCached() {
+        Assert.assertTrue(TypeChecker.checkIsType(BTypes.typeByte, BTypes.typeInt));
+        Assert.assertFalse(TypeChecker.checkIsType(BTypes.typeString, BTypes.typeInt));
+        Assert.assertEquals(TypeCheckCache.getMisses(), 0);
+        Assert.assertEquals(TypeCheckCache.getHits(), 0);
+    }
+
+    @Test
+    void testFiniteTypesAreNotCached() {
+        BType finiteType = new BFiniteType("Finite", new LinkedHashSet<>(Arrays.asList(1L, 2L)), 0);
+        BType target = new BUnionType(Arrays.asList(BTypes.typeInt, BTypes.typeNull));
+
+        Assert.assertTrue(TypeChecker.checkIsType(finiteType, target));
+        Assert.assertTrue(TypeChecker.checkIsType(finiteType, target));
+        Assert.assertEquals(TypeCheckCache.getMisses(), 0);
+        Assert.assertEquals(TypeCheckCache.getHits(), 0);
+    }
+}
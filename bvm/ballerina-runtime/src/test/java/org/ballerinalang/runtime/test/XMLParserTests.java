@@ -0,0 +1,167 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.XMLFactory;
+import org.ballerinalang.jvm.api.values.BXML;
+import org.ballerinalang.jvm.values.XMLItem;
+import org.ballerinalang.jvm.values.XMLSequence;
+import org.ballerinalang.jvm.values.XMLValue;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Test cases for selecting elements while parsing XML with {@link XMLFactory#parseDescendants}, which should give
+ * the same elements as selecting the descendants of the whole document.
+ */
+public class XMLParserTests {
+
+    private static final String DOCUMENT = "<?xml version=\"1.0\"?><!-- comment --><root xmlns:p=\"urn:p\">" +
+            "<item id=\"1\"><name>a</name><item id=\"2\"><name>b</name></item></item>" +
+            "<p:item>c<?target data?><!-- comment --></p:item><other><name>d<![CDATA[<e>]]></name></other></root>";
+
+    @DataProvider(name = "qnames")
+    public Object[][] qnames() {
+        return new Object[][] {
+                { new String[] { "item" } },
+                { new String[] { "name" } },
+                { new String[] { "{urn:p}item" } },
+                { new String[] { "item", "{urn:p}item" } },
+                { new String[] { "root" } },
+                { new String[] { "missing" } },
+        };
+    }
+
+    @Test(dataProvider = "qnames")
+    void testParseDescendants(String[] qnames) {
+        List<String> names = Arrays.asList(qnames);
+        BXML expected = XMLFactory.parse(DOCUMENT).descendants(names);
+        BXML actual = XMLFactory.parseDescendants(
+                new ByteArrayInputStream(DOCUMENT.getBytes(StandardCharsets.UTF_8)), "UTF-8", names);
+
+        Assert.assertEquals(actual.size(), expected.size());
+        Assert.assertEquals(actual.stringValue(null), expected.stringValue(null));
+    }
+
+    @Test
+    void testParseDescendantsOfDocumentLargerThanHeap() {
+        // The text of the document does not fit in the heap, so this fails if the document is built.
+        long documentLength = Math.min(Runtime.getRuntime().maxMemory(), 1L << 30);
+        GeneratedDocumentStream xmlStream = new GeneratedDocumentStream(documentLength);
+        BXML selected = XMLFactory.parseDescendants(xmlStream, "UTF-8", Arrays.asList("selected"));
+
+        Assert.assertEquals(selected.size(), xmlStream.selectedCount);
+        Assert.assertTrue(selected.size() > 1);
+        for (int i = 0; i < selected.size(); i++) {
+            Assert.assertEquals(selected.getItem(i).stringValue(null),
+                                "<selected><value>" + (i * GeneratedDocumentStream.SELECTION_INTERVAL) +
+                                        "</value></selected>");
+        }
+    }
+
+    @Test
+    void testChildrenAreNotChangedByRemovingChildren() {
+        XMLSequence document = (XMLSequence) XMLFactory.parse("<root><a/><b/><a/></root>");
+        XMLItem root = (XMLItem) document.getChildrenList().get(0);
+        XMLValue children = root.children();
+
+        root.removeChildren("a");
+        Assert.assertEquals(children.size(), 3);
+        Assert.assertEquals(root.children().size(), 1);
+    }
+
+    /**
+     * Streams a document with an item element for each block of payload, until the given length is reached. Every
+     * {@link #SELECTION_INTERVAL}th item is a selected element with the item number as its only content. The document
+     * is generated as it is read, and is never held in memory.
+     */
+    private static class GeneratedDocumentStream extends InputStream {
+
+        static final int SELECTION_INTERVAL = 100000;
+        private static final String PAYLOAD = String.join("", Collections.nCopies(1000, "x"));
+
+        private final long documentLength;
+        private long generatedLength;
+        private int itemCount;
+        private int selectedCount;
+        private boolean ended;
+        private byte[] buffer = "<root>".getBytes(StandardCharsets.UTF_8);
+        private int position;
+
+        GeneratedDocumentStream(long documentLength) {
+            this.documentLength = documentLength;
+        }
+
+        @Override
+        public int read() {
+            if (!fillBuffer()) {
+                return -1;
+            }
+            return buffer[position++];
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!fillBuffer()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.length - position);
+            System.arraycopy(buffer, position, bytes, offset, count);
+            position += count;
+            return count;
+        }
+
+        private boolean fillBuffer() {
+            if (position < buffer.length) {
+                return true;
+            }
+            if (ended) {
+                return false;
+            }
+
+            String next;
+            if (generatedLength >= documentLength) {
+                next = "</root>";
+                ended = true;
+            } else if (itemCount % SELECTION_INTERVAL == 0) {
+                next = "<selected><value>" + itemCount + "</value></selected>";
+                selectedCount++;
+            } else {
+                next = "<item><value>" + PAYLOAD + "</value></item>";
+            }
+            itemCount++;
+
+            buffer = next.getBytes(StandardCharsets.UTF_8);
+            generatedLength += buffer.length;
+            position = 0;
+            return true;
+        }
+    }
+}
@@ -56,12 +56,15 @@ import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.List;
 
+import static org.ballerinalang.compiler.CompilerOptionName.BUILD_CACHE;
 import static org.ballerinalang.compiler.CompilerOptionName.COMPILER_PHASE;
 import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR;
 import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR_FILE;
+import static org.ballerinalang.compiler.CompilerOptionName.DUMP_PHASE_TIMES;
 import static org.ballerinalang.compiler.CompilerOptionName.EXPERIMENTAL_FEATURES_ENABLED;
 import static org.ballerinalang.compiler.CompilerOptionName.LOCK_ENABLED;
 import static org.ballerinalang.compiler.CompilerOptionName.OFFLINE;
+import static org.ballerinalang.compiler.CompilerOptionName.PARALLEL_ANALYSIS;
 import static org.ballerinalang.compiler.CompilerOptionName.PRESERVE_WHITESPACE;
 import static org.ballerinalang.compiler.CompilerOptionName.PROJECT_DIR;
 import static org.ballerinalang.compiler.CompilerOptionName.SKIP_TESTS;
@@ -151,6 +154,12 @@ public class BuildCommand implements BLauncherCmd {
     @CommandLine.Option(names = "--dump-bir-file", hidden = true)
     private String dumpBIRFile;
 
+    @CommandLine.Option(names = "--parallel-analysis", hidden = true)
+    private boolean parallelAnalysis;
+
+    @CommandLine.Option(names = "--dump-phase-times", hidden = true)
+    private boolean dumpPhaseTimes;
+
     @CommandLine.Option(names = "--dump-llvm-ir", hidden = true)
     private boolean dumpLLVMIR;
 
@@ -397,6 +406,10 @@ public class BuildCommand implements BLauncherCmd {
         options.put(TEST_ENABLED, Boolean.toString(!this.skipTests));
         options.put(EXPERIMENTAL_FEATURES_ENABLED, Boolean.toString(this.experimentalFlag));
         options.put(PRESERVE_WHITESPACE, "true");
+        options.put(PARALLEL_ANALYSIS, Boolean.toString(this.parallelAnalysis));
+        options.put(DUMP_PHASE_TIMES, Boolean.toString(this.dumpPhaseTimes));
+        // Observability data and BIR dumps are generated while compiling, hence cached modules cannot be used.
+        options.put(BUILD_CACHE, Boolean.toString(!observabilityIncluded && !dumpBIR && dumpBIRFile == null));
 
         // create builder context
         BuildContext buildContext = new BuildContext(this.sourceRootPath, targetPath, sourcePath, compilerContext);
@@ -124,7 +124,8 @@ public class CreateJarTask implements Task {
             }
             writeImportJar(jarFileWriter, bimport.imports, sourceRoot, buildContext, alreadyImportedModuleSet,
                     balHomePath);
-            if (bimport.bir != null) {
+            // Modules loaded from the build cache have their jar entries but no BIR model.
+            if (bimport.bir != null || bimport.compiledJarFile != null) {
                 jarFileWriter.write(bimport, jarFilePath);
             }
         }
@@ -0,0 +1,150 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.packerina.cmd;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.util.ProjectDirConstants;
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarOutputStream;
+
+import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.BLANG_COMPILED_JAR_EXT;
+
+/**
+ * Tests reusing the modules compiled by a previous build from the build cache in the target directory. The time
+ * taken by a clean build, a build without changes and a build after changing a module is printed.
+ *
+ * @since 2.0.0
+ */
+public class BuildCacheTest extends CommandTest {
+
+    private static final FileTime UNCHANGED = FileTime.fromMillis(0);
+
+    private Path projectPath;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        super.setup();
+        try {
+            this.projectPath = super.tmpDir.resolve("build-cache-project");
+            URI projectURI = getClass().getClassLoader().getResource("test-resources/valid-project").toURI();
+            Files.walkFileTree(Paths.get(projectURI), new BuildCommandTest.Copy(Paths.get(projectURI),
+                    this.projectPath));
+        } catch (URISyntaxException e) {
+            Assert.fail("error loading resources");
+        }
+
+        // Create jar files for the test since we cannot commit jar files to git.
+        Path libs = this.projectPath.resolve("libs");
+        Files.createDirectories(libs);
+        for (String lib : new String[]{"toml4j.jar", "swagger.jar", "json.jar"}) {
+            new JarOutputStream(Files.newOutputStream(libs.resolve(lib))).close();
+        }
+
+        // A module importing ballerina/test, whose annotations are processed by the testerina compiler plugin.
+        Path pluginModule = this.projectPath.resolve("src").resolve("myassertions");
+        Files.createDirectories(pluginModule);
+        Files.write(pluginModule.resolve("assertions.bal"),
+                ("import ballerina/test;\n\npublic function assertPositive(int value) {\n" +
+                        "    test:assertTrue(value > 0);\n}\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test(description = "Test reusing the build cache for unchanged modules")
+    public void testBuildCache() throws IOException {
+        PrintStream out = System.out;
+
+        long cleanBuildTime = timedBuild();
+        Path buildCache = this.projectPath.resolve(ProjectDirConstants.TARGET_DIR_NAME)
+                .resolve(ProjectDirConstants.BUILD_CACHE_DIR_NAME);
+        for (String module : new String[]{"mymodule", "mytemplate", "myimport"}) {
+            Assert.assertTrue(Files.exists(getCacheEntry(buildCache, module)),
+                    "Check if the build cache entry of " + module + " is created");
+            Files.setLastModifiedTime(getCacheEntry(buildCache, module), UNCHANGED);
+        }
+
+        long noOpBuildTime = timedBuild();
+        for (String module : new String[]{"mymodule", "mytemplate", "myimport"}) {
+            Assert.assertEquals(Files.getLastModifiedTime(getCacheEntry(buildCache, module)), UNCHANGED,
+                    "Check if " + module + " is loaded from the build cache");
+        }
+        Path executable = this.projectPath.resolve(ProjectDirConstants.TARGET_DIR_NAME)
+                .resolve(ProjectDirConstants.BIN_DIR_NAME).resolve("mymodule" + BLANG_COMPILED_JAR_EXT);
+        Assert.assertTrue(Files.exists(executable), "Check if the executable is created from the build cache");
+
+        // A change of myimport is compiled along with mymodule, which imports it.
+        Files.write(this.projectPath.resolve("src").resolve("myimport").resolve("library.bal"),
+                "\npublic function bar() returns int {\n    return 20;\n}\n".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        long incrementalBuildTime = timedBuild();
+        Assert.assertNotEquals(Files.getLastModifiedTime(getCacheEntry(buildCache, "myimport")), UNCHANGED);
+        Assert.assertNotEquals(Files.getLastModifiedTime(getCacheEntry(buildCache, "mymodule")), UNCHANGED);
+        Assert.assertEquals(Files.getLastModifiedTime(getCacheEntry(buildCache, "mytemplate")), UNCHANGED);
+        Assert.assertTrue(Files.exists(executable), "Check if the executable is created");
+
+        out.println("Clean build: " + cleanBuildTime + " ms, no-op build: " + noOpBuildTime +
+                " ms, one module changed: " + incrementalBuildTime + " ms");
+    }
+
+    @Test(description = "Test compiling modules processed by compiler plugins from source",
+            dependsOnMethods = "testBuildCache")
+    public void testModuleProcessedByCompilerPlugin() throws IOException {
+        Path buildCache = this.projectPath.resolve(ProjectDirConstants.TARGET_DIR_NAME)
+                .resolve(ProjectDirConstants.BUILD_CACHE_DIR_NAME);
+        Assert.assertTrue(Files.exists(getCacheEntry(buildCache, "mytemplate")));
+        Assert.assertFalse(Files.exists(getCacheEntry(buildCache, "myassertions")),
+                "Check if a module importing ballerina/test is not cached");
+
+        String buildLog = build();
+        Assert.assertTrue(buildLog.contains("testOrg/myassertions"), "Check if the module is compiled");
+        Assert.assertFalse(buildLog.contains("error"), buildLog);
+        Assert.assertFalse(Files.exists(getCacheEntry(buildCache, "myassertions")));
+    }
+
+    private long timedBuild() throws IOException {
+        long start = System.nanoTime();
+        String buildLog = build();
+        long buildTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        Assert.assertFalse(buildLog.contains("error"), buildLog);
+        return buildTime;
+    }
+
+    private String build() throws IOException {
+        BuildCommand buildCommand = new BuildCommand(this.projectPath, printStream, printStream, false, true);
+        new CommandLine(buildCommand).parse("--all", "--skip-tests");
+        buildCommand.execute();
+        return readOutput(true);
+    }
+
+    private static Path getCacheEntry(Path buildCache, String module) {
+        return buildCache.resolve(module).resolve(module + ".properties");
+    }
+}
@@ -58,7 +58,13 @@ public enum CompilerOptionName {
 
     EXPERIMENTAL_FEATURES_ENABLED("experimentalFeaturesEnabled"),
 
-    TOOLING_COMPILATION("toolingCompilation");
+    TOOLING_COMPILATION("toolingCompilation"),
+
+    BUILD_CACHE("buildCache"),
+
+    PARALLEL_ANALYSIS("parallelAnalysis"),
+
+    DUMP_PHASE_TIMES("dumpPhaseTimes");
 
     public final String name;
 
@@ -0,0 +1,567 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler;
+
+import org.ballerinalang.compiler.plugins.AbstractCompilerPlugin;
+import org.ballerinalang.compiler.plugins.CompilerPlugin;
+import org.ballerinalang.compiler.plugins.SupportedAnnotationPackages;
+import org.ballerinalang.compiler.plugins.SupportedResourceParamTypes;
+import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.model.tree.PackageNode;
+import org.ballerinalang.toml.model.Manifest;
+import org.ballerinalang.toml.parser.ManifestProcessor;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.tree.BLangImportPackage;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.Names;
+import org.wso2.ballerinalang.compiler.util.ProjectDirs;
+import org.wso2.ballerinalang.programfile.CompiledBinaryFile.BIRPackageFile;
+import org.wso2.ballerinalang.programfile.PackageFileWriter;
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import static org.ballerinalang.compiler.CompilerOptionName.BUILD_CACHE;
+import static org.ballerinalang.compiler.CompilerOptionName.EXPERIMENTAL_FEATURES_ENABLED;
+import static org.ballerinalang.compiler.CompilerOptionName.PROJECT_DIR;
+import static org.ballerinalang.compiler.CompilerOptionName.TEST_ENABLED;
+import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.BLANG_COMPILED_JAR_EXT;
+import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.BLANG_COMPILED_PKG_BIR_EXT;
+import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.BUILD_CACHE_DIR_NAME;
+import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.MANIFEST_FILE_NAME;
+import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.SOURCE_DIR_NAME;
+import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.TARGET_DIR_NAME;
+import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.TEST_DIR_NAME;
+
+/**
+ * A persistent cache of the BIR and the generated jar entries of the modules of a project, kept in the
+ * {@code target/build_cache} directory so that unchanged modules are not compiled again by the next build.
+ * <p>
+ * A cache entry of a module is valid when the compiler version, the Ballerina.toml, the sources of the module
+ * and the BIR of every module it imports are the same as when the entry was written. A module imported from a
+ * repository is resolved again, as the import of the module would be, and compared by the hash of its BIR rather
+ * than by its version, since a module can change without a change of its version.
+ * <p>
+ * Compiler plugins only see the modules compiled from source. A module which imports, directly or through other
+ * modules, a module whose annotations or listener types a plugin processes is therefore never cached, and the cache
+ * is disabled when a plugin may process every module. The entries are also keyed on the set of plugins.
+ * <p>
+ * The cache may be read and written by concurrent compilation tasks, so its state is kept in concurrent maps and
+ * the validation of the entries is done by one task at a time.
+ *
+ * @since 2.0.0
+ */
+public class BuildCache {
+
+    private static final CompilerContext.Key<BuildCache> BUILD_CACHE_KEY = new CompilerContext.Key<>();
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final String PROPERTIES_EXT = ".properties";
+    private static final String PROJECT_HASH = "project.hash";
+    private static final String SOURCE_HASH = "source.hash";
+    private static final String BIR_HASH = "bir.hash";
+    private static final String ENTRY_POINT_EXISTS = "entry.point.exists";
+    private static final String MAIN_CLASS = "main.class";
+    private static final String MODULE_DEPENDENCY_PREFIX = "module.dependency.";
+    private static final String EXTERNAL_DEPENDENCY_PREFIX = "external.dependency.";
+    private static final String IMPORT_VERSION_PREFIX = "import.version.";
+
+    private final boolean enabled;
+    private final boolean testEnabled;
+    private final boolean experimentalEnabled;
+    private Path projectDir;
+    private Path cacheDir;
+    private Manifest manifest;
+    private volatile String projectHash;
+
+    private final Map<String, CachedModule> validatedModules = new ConcurrentHashMap<>();
+    // The modules whose entries were validated, or are being validated, whether or not the entries are valid.
+    private final Set<String> checkedModules = ConcurrentHashMap.newKeySet();
+    private final Map<String, String> sourceHashes = new ConcurrentHashMap<>();
+    private final List<String> pluginClassNames = new ArrayList<>();
+    private final Set<String> pluginModuleNames = new HashSet<>();
+
+    public static BuildCache getInstance(CompilerContext context) {
+        BuildCache buildCache = context.get(BUILD_CACHE_KEY);
+        if (buildCache == null) {
+            buildCache = new BuildCache(context);
+        }
+        return buildCache;
+    }
+
+    private BuildCache(CompilerContext context) {
+        context.put(BUILD_CACHE_KEY, this);
+
+        CompilerOptions options = CompilerOptions.getInstance(context);
+        this.testEnabled = Boolean.parseBoolean(options.get(TEST_ENABLED));
+        this.experimentalEnabled = Boolean.parseBoolean(options.get(EXPERIMENTAL_FEATURES_ENABLED));
+        String projectDirOption = options.get(PROJECT_DIR);
+        this.enabled = Boolean.parseBoolean(options.get(BUILD_CACHE)) && projectDirOption != null &&
+                RepoUtils.isBallerinaProject(Paths.get(projectDirOption)) && loadCompilerPlugins();
+        if (!this.enabled) {
+            return;
+        }
+
+        this.projectDir = Paths.get(projectDirOption);
+        this.cacheDir = this.projectDir.resolve(TARGET_DIR_NAME).resolve(BUILD_CACHE_DIR_NAME);
+        this.manifest = ManifestProcessor.getInstance(context).getManifest();
+    }
+
+    /**
+     * Returns the cached BIR and jar entries of a project module, if the cache entry of the module and of all the
+     * project modules it imports are still valid.
+     *
+     * @param moduleId     the ID of the module
+     * @param importLoader loads the symbol of a module imported from a repository, given the ID of the import and of
+     *                     the importing module
+     * @return the cached module, or null if the module has to be compiled from source
+     */
+    public synchronized CachedModule get(PackageID moduleId,
+                                         BiFunction<PackageID, PackageID, BPackageSymbol> importLoader) {
+        if (!isCacheable(moduleId)) {
+            return null;
+        }
+
+        String moduleName = moduleId.name.value;
+        // Also guards against import cycles, which are reported when the modules are compiled from source.
+        if (!this.checkedModules.add(moduleName)) {
+            return this.validatedModules.get(moduleName);
+        }
+
+        CachedModule cachedModule = null;
+        try {
+            cachedModule = load(moduleId, importLoader);
+        } catch (IOException e) {
+            // The cache is only an optimization, the module is compiled from source if the entry is unreadable.
+        }
+        if (cachedModule != null) {
+            this.validatedModules.put(moduleName, cachedModule);
+        }
+        return cachedModule;
+    }
+
+    /**
+     * Writes the BIR and the jar entries of a project module compiled from source to the cache.
+     *
+     * @param pkgNode the compiled module
+     */
+    public synchronized void put(BLangPackage pkgNode) {
+        BPackageSymbol symbol = pkgNode.symbol;
+        if (!isCacheable(pkgNode.packageID) || pkgNode.hasErrors() || symbol == null ||
+                symbol.birPackageFile == null || symbol.compiledJarFile == null ||
+                symbol.compiledJarFile.getJarEntries().isEmpty() || importsPluginModule(symbol, new HashSet<>())) {
+            return;
+        }
+
+        Properties properties = new Properties();
+        properties.setProperty(PROJECT_HASH, getProjectHash());
+        properties.setProperty(BIR_HASH, hash(symbol.birPackageFile.pkgBirBinaryContent));
+        properties.setProperty(ENTRY_POINT_EXISTS, Boolean.toString(symbol.entryPointExists));
+        symbol.compiledJarFile.getMainClassName()
+                .ifPresent(mainClassName -> properties.setProperty(MAIN_CLASS, mainClassName));
+        for (BPackageSymbol importSymbol : symbol.imports) {
+            if (importSymbol == null) {
+                continue;
+            }
+            PackageID importId = importSymbol.pkgID;
+            if (isProjectModule(importId)) {
+                if (importSymbol.birPackageFile == null) {
+                    return;
+                }
+                properties.setProperty(MODULE_DEPENDENCY_PREFIX + importId.name.value,
+                                       hash(importSymbol.birPackageFile.pkgBirBinaryContent));
+            } else {
+                if (importSymbol.birPackageFile == null) {
+                    return;
+                }
+                String dependency = importId.orgName.value + "/" + importId.name.value;
+                properties.setProperty(EXTERNAL_DEPENDENCY_PREFIX + dependency,
+                                       hash(importSymbol.birPackageFile.pkgBirBinaryContent));
+                properties.setProperty(IMPORT_VERSION_PREFIX + dependency,
+                                       getImportVersion(pkgNode, importSymbol));
+            }
+        }
+
+        String moduleName = pkgNode.packageID.name.value;
+        Path moduleCacheDir = this.cacheDir.resolve(moduleName);
+        Path propertiesPath = moduleCacheDir.resolve(moduleName + PROPERTIES_EXT);
+        try {
+            properties.setProperty(SOURCE_HASH, getSourceHash(moduleName));
+
+            // The properties are written last, so that a partially written entry is never read.
+            Files.createDirectories(moduleCacheDir);
+            Files.deleteIfExists(propertiesPath);
+            Files.write(moduleCacheDir.resolve(moduleName + BLANG_COMPILED_PKG_BIR_EXT),
+                        PackageFileWriter.writePackage(symbol.birPackageFile));
+            writeJarEntries(moduleCacheDir.resolve(moduleName + BLANG_COMPILED_JAR_EXT),
+                            symbol.compiledJarFile.getJarEntries());
+            try (OutputStream out = Files.newOutputStream(propertiesPath)) {
+                properties.store(out, null);
+            }
+        } catch (IOException e) {
+            // The cache is only an optimization, the module is compiled again by the next build.
+        }
+    }
+
+    private CachedModule load(PackageID moduleId, BiFunction<PackageID, PackageID, BPackageSymbol> importLoader)
+            throws IOException {
+        String moduleName = moduleId.name.value;
+        Path moduleCacheDir = this.cacheDir.resolve(moduleName);
+        Path propertiesPath = moduleCacheDir.resolve(moduleName + PROPERTIES_EXT);
+        if (!Files.exists(propertiesPath)) {
+            return null;
+        }
+
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(propertiesPath)) {
+            properties.load(in);
+        }
+        if (!getProjectHash().equals(properties.getProperty(PROJECT_HASH)) ||
+                !getSourceHash(moduleName).equals(properties.getProperty(SOURCE_HASH))) {
+            return null;
+        }
+
+        List<PackageID> moduleDependencies = new ArrayList<>();
+        for (String key : properties.stringPropertyNames()) {
+            String value = properties.getProperty(key);
+            if (key.startsWith(MODULE_DEPENDENCY_PREFIX)) {
+                PackageID dependencyId = new PackageID(moduleId.orgName,
+                                                       new Name(key.substring(MODULE_DEPENDENCY_PREFIX.length())),
+                                                       moduleId.version);
+                CachedModule dependency = get(dependencyId, importLoader);
+                if (dependency == null || !value.equals(dependency.birHash)) {
+                    return null;
+                }
+                moduleDependencies.add(dependencyId);
+            } else if (key.startsWith(EXTERNAL_DEPENDENCY_PREFIX)) {
+                String dependency = key.substring(EXTERNAL_DEPENDENCY_PREFIX.length());
+                String version = properties.getProperty(IMPORT_VERSION_PREFIX + dependency);
+                if (version == null || !value.equals(getBirHash(moduleId, dependency, version, importLoader))) {
+                    return null;
+                }
+            }
+        }
+
+        byte[] bir = Files.readAllBytes(moduleCacheDir.resolve(moduleName + BLANG_COMPILED_PKG_BIR_EXT));
+        Map<String, byte[]> jarEntries = readJarEntries(moduleCacheDir.resolve(moduleName + BLANG_COMPILED_JAR_EXT));
+        CompiledJarFile jarFile = new CompiledJarFile(properties.getProperty(MAIN_CLASS), jarEntries);
+        return new CachedModule(bir, jarFile, properties.getProperty(BIR_HASH),
+                                Boolean.parseBoolean(properties.getProperty(ENTRY_POINT_EXISTS)), moduleDependencies);
+    }
+
+    /**
+     * Returns the BIR hash of the module an import from a repository is resolved to now. The version given in the
+     * import, if any, is resolved against the lock file, the Ballerina.toml and the repositories in the same way as
+     * when the importing module is compiled from source.
+     */
+    private static String getBirHash(PackageID moduleId, String dependency, String version,
+                                     BiFunction<PackageID, PackageID, BPackageSymbol> importLoader) {
+        String[] orgAndName = dependency.split("/", 2);
+        if (orgAndName.length != 2) {
+            return null;
+        }
+
+        PackageID importId = new PackageID(new Name(orgAndName[0]), new Name(orgAndName[1]),
+                                           version.isEmpty() ? Names.EMPTY : new Name(version));
+        BPackageSymbol importSymbol = importLoader.apply(importId, moduleId);
+        if (importSymbol == null || importSymbol.birPackageFile == null) {
+            return null;
+        }
+        return hash(importSymbol.birPackageFile.pkgBirBinaryContent);
+    }
+
+    /**
+     * Returns the version given in the import declaration of a module, or an empty string if the import does not
+     * give a version.
+     */
+    private static String getImportVersion(BLangPackage pkgNode, BPackageSymbol importSymbol) {
+        for (BLangImportPackage importPackage : pkgNode.imports) {
+            if (importPackage.symbol == importSymbol && importPackage.version != null &&
+                    importPackage.version.value != null) {
+                return importPackage.version.value;
+            }
+        }
+        return "";
+    }
+
+    private boolean isCacheable(PackageID moduleId) {
+        if (!this.enabled || moduleId == null || !isProjectModule(moduleId)) {
+            return false;
+        }
+
+        // The tests of a module are compiled along with the module.
+        return !this.testEnabled || !Files.exists(this.projectDir.resolve(SOURCE_DIR_NAME)
+                                                          .resolve(moduleId.name.value).resolve(TEST_DIR_NAME));
+    }
+
+    /**
+     * Collects the compiler plugins and the names of the modules they process.
+     *
+     * @return false if a plugin may process every module, in which case the cache cannot be used
+     */
+    private boolean loadCompilerPlugins() {
+        for (CompilerPlugin plugin : ServiceLoader.load(CompilerPlugin.class)) {
+            Class<? extends CompilerPlugin> pluginClass = plugin.getClass();
+            if (processesEveryModule(pluginClass)) {
+                return false;
+            }
+            this.pluginClassNames.add(pluginClass.getName());
+
+            SupportedAnnotationPackages annotationPackages =
+                    pluginClass.getAnnotation(SupportedAnnotationPackages.class);
+            if (annotationPackages != null) {
+                for (String annotationPackage : annotationPackages.value()) {
+                    // Annotation packages are given as `org/name`, but matched by the module name alone.
+                    this.pluginModuleNames.add(annotationPackage.substring(annotationPackage.lastIndexOf('/') + 1));
+                }
+            }
+            SupportedResourceParamTypes resourceParamTypes =
+                    pluginClass.getAnnotation(SupportedResourceParamTypes.class);
+            if (resourceParamTypes != null) {
+                String listenerPackage = resourceParamTypes.expectedListenerType().packageName();
+                if (!listenerPackage.isEmpty()) {
+                    this.pluginModuleNames.add(listenerPackage);
+                }
+                for (SupportedResourceParamTypes.Type paramType : resourceParamTypes.paramTypes()) {
+                    this.pluginModuleNames.add(paramType.packageName());
+                }
+            }
+        }
+        Collections.sort(this.pluginClassNames);
+        return true;
+    }
+
+    /**
+     * Checks whether a plugin overrides one of the methods called for every module, rather than only for the nodes
+     * with the annotations or the listener types it supports.
+     */
+    private static boolean processesEveryModule(Class<? extends CompilerPlugin> pluginClass) {
+        if (!AbstractCompilerPlugin.class.isAssignableFrom(pluginClass)) {
+            return true;
+        }
+        try {
+            return pluginClass.getMethod("process", PackageNode.class).getDeclaringClass() !=
+                    AbstractCompilerPlugin.class ||
+                    pluginClass.getMethod("pluginExecutionStarted", PackageID.class).getDeclaringClass() !=
+                            AbstractCompilerPlugin.class ||
+                    pluginClass.getMethod("pluginExecutionCompleted", PackageID.class).getDeclaringClass() !=
+                            AbstractCompilerPlugin.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Checks whether a module imports a module processed by a compiler plugin. Indirect imports are included, since
+     * a module can use a listener type of a module it does not import, through a value returned by another module.
+     */
+    private boolean importsPluginModule(BPackageSymbol symbol, Set<BPackageSymbol> visited) {
+        if (this.pluginModuleNames.isEmpty()) {
+            return false;
+        }
+        for (BPackageSymbol importSymbol : symbol.imports) {
+            if (importSymbol == null || !visited.add(importSymbol)) {
+                continue;
+            }
+            if (this.pluginModuleNames.contains(importSymbol.pkgID.name.value) ||
+                    importsPluginModule(importSymbol, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isProjectModule(PackageID moduleId) {
+        return moduleId.orgName.value.equals(this.manifest.getProject().getOrgName()) &&
+                ProjectDirs.isModuleExist(this.projectDir, moduleId.name.value);
+    }
+
+    private String getProjectHash() {
+        if (this.projectHash == null) {
+            MessageDigest digest = newDigest();
+            update(digest, String.valueOf(RepoUtils.getBallerinaVersion()).getBytes(StandardCharsets.UTF_8));
+            update(digest, Integer.toString(BIRPackageFile.BIR_VERSION).getBytes(StandardCharsets.UTF_8));
+            update(digest, Boolean.toString(this.experimentalEnabled).getBytes(StandardCharsets.UTF_8));
+            update(digest, String.join(",", this.pluginClassNames).getBytes(StandardCharsets.UTF_8));
+            try {
+                update(digest, Files.readAllBytes(this.projectDir.resolve(MANIFEST_FILE_NAME)));
+            } catch (IOException e) {
+                update(digest, new byte[0]);
+            }
+            this.projectHash = toHex(digest.digest());
+        }
+        return this.projectHash;
+    }
+
+    private String getSourceHash(String moduleName) throws IOException {
+        String sourceHash = this.sourceHashes.get(moduleName);
+        if (sourceHash != null) {
+            return sourceHash;
+        }
+
+        // A concurrent caller may compute the same hash again, which is harmless.
+        Path moduleDir = this.projectDir.resolve(SOURCE_DIR_NAME).resolve(moduleName);
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(moduleDir)) {
+            files = paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+
+        MessageDigest digest = newDigest();
+        for (Path file : files) {
+            update(digest, moduleDir.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+            update(digest, Files.readAllBytes(file));
+        }
+        sourceHash = toHex(digest.digest());
+        this.sourceHashes.put(moduleName, sourceHash);
+        return sourceHash;
+    }
+
+    private static void writeJarEntries(Path path, Map<String, byte[]> jarEntries) throws IOException {
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(path))) {
+            for (Map.Entry<String, byte[]> jarEntry : jarEntries.entrySet()) {
+                out.putNextEntry(new ZipEntry(jarEntry.getKey()));
+                out.write(jarEntry.getValue());
+                out.closeEntry();
+            }
+        }
+    }
+
+    private static Map<String, byte[]> readJarEntries(Path path) throws IOException {
+        Map<String, byte[]> jarEntries = new HashMap<>();
+        try (ZipInputStream in = new ZipInputStream(Files.newInputStream(path))) {
+            byte[] buffer = new byte[8192];
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                ByteArrayOutputStream content = new ByteArrayOutputStream();
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    content.write(buffer, 0, read);
+                }
+                jarEntries.put(entry.getName(), content.toByteArray());
+            }
+        }
+        return jarEntries;
+    }
+
+    private static String hash(byte[] content) {
+        MessageDigest digest = newDigest();
+        update(digest, content);
+        return toHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, byte[] content) {
+        // Each part is prefixed by its length, so that the boundaries of the parts are part of the hash.
+        int length = content.length;
+        digest.update(new byte[]{(byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8),
+                (byte) length});
+        digest.update(content);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(HASH_ALGORITHM + " is not supported", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * The cached BIR and jar entries of a module.
+     *
+     * @since 2.0.0
+     */
+    public static class CachedModule {
+
+        private final byte[] bir;
+        private final CompiledJarFile jarFile;
+        private final String birHash;
+        private final boolean entryPointExists;
+        private final List<PackageID> moduleDependencies;
+
+        CachedModule(byte[] bir, CompiledJarFile jarFile, String birHash, boolean entryPointExists,
+                     List<PackageID> moduleDependencies) {
+            this.bir = bir;
+            this.jarFile = jarFile;
+            this.birHash = birHash;
+            this.entryPointExists = entryPointExists;
+            this.moduleDependencies = moduleDependencies;
+        }
+
+        /**
+         * Returns the BIR of the module, including the BIR magic value and version.
+         *
+         * @return the BIR of the module
+         */
+        public byte[] getBir() {
+            return bir;
+        }
+
+        public CompiledJarFile getJarFile() {
+            return jarFile;
+        }
+
+        public boolean isEntryPointExists() {
+            return entryPointExists;
+        }
+
+        /**
+         * Returns the project modules imported by the module, which are also valid in the cache.
+         *
+         * @return the IDs of the imported project modules
+         */
+        public List<PackageID> getModuleDependencies() {
+            return moduleDependencies;
+        }
+    }
+}
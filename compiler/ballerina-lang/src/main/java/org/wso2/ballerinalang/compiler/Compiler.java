@@ -171,13 +171,13 @@ public class Compiler {
         }
 
         // 3) Invoke compiler phases. e.g. type_check, code_analyze, taint_analyze, desugar etc.
+        this.compilerDriver.compilePackages(packages);
         for (BLangPackage pkgNode : packages) {
             if (pkgNode.symbol != null) {
-                this.compilerDriver.compilePackage(pkgNode);
                 logDiagnostics(pkgNode);
-                dlog.resetErrorCount();
             }
         }
+        dlog.resetErrorCount();
         return packages;
     }
 
@@ -25,6 +25,7 @@ import org.wso2.ballerinalang.compiler.bir.codegen.CodeGenerator;
 import org.wso2.ballerinalang.compiler.desugar.ConstantPropagation;
 import org.wso2.ballerinalang.compiler.desugar.Desugar;
 import org.wso2.ballerinalang.compiler.diagnostic.BLangDiagnosticLog;
+import org.wso2.ballerinalang.compiler.diagnostic.BLangDiagnosticLog.DeferredDiagnostic;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.CodeAnalyzer;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.CompilerPluginRunner;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.DataflowAnalyzer;
@@ -44,9 +45,23 @@ import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.compiler.util.Constants;
 
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.ballerinalang.compiler.CompilerOptionName.DUMP_PHASE_TIMES;
+import static org.ballerinalang.compiler.CompilerOptionName.PARALLEL_ANALYSIS;
 import static org.ballerinalang.compiler.CompilerOptionName.TOOLING_COMPILATION;
 import static org.ballerinalang.model.elements.PackageID.ANNOTATIONS;
 import static org.ballerinalang.model.elements.PackageID.ARRAY;
@@ -81,6 +96,7 @@ public class CompilerDriver {
 
     private static final CompilerContext.Key<CompilerDriver> COMPILER_DRIVER_KEY =
             new CompilerContext.Key<>();
+    private static final PrintStream console = System.out;
 
     private final CompilerOptions options;
     private final BLangDiagnosticLog dlog;
@@ -99,11 +115,20 @@ public class CompilerDriver {
     private final Desugar desugar;
     private final BIRGen birGenerator;
     private final CodeGenerator codeGenerator;
+    private final BuildCache buildCache;
     private final CompilerPhase compilerPhase;
     private final DataflowAnalyzer dataflowAnalyzer;
     private final IsolationAnalyzer isolationAnalyzer;
     private boolean isToolingCompilation;
 
+    /**
+     * Modules which have gone through the phases up to BIR generation, in the order they were compiled, waiting
+     * for their code to be generated.
+     */
+    private final List<BLangPackage> codeGenQueue = new ArrayList<>();
+    private final boolean parallelAnalysis;
+    private final boolean dumpPhaseTimes;
+
     public static CompilerDriver getInstance(CompilerContext context) {
         CompilerDriver compilerDriver = context.get(COMPILER_DRIVER_KEY);
         if (compilerDriver == null) {
@@ -132,21 +157,44 @@ public class CompilerDriver {
         this.desugar = Desugar.getInstance(context);
         this.birGenerator = BIRGen.getInstance(context);
         this.codeGenerator = CodeGenerator.getInstance(context);
+        this.buildCache = BuildCache.getInstance(context);
         this.compilerPhase = this.options.getCompilerPhase();
         this.dataflowAnalyzer = DataflowAnalyzer.getInstance(context);
         this.isolationAnalyzer = IsolationAnalyzer.getInstance(context);
         this.isToolingCompilation = this.options.isSet(TOOLING_COMPILATION)
                 && Boolean.parseBoolean(this.options.get(TOOLING_COMPILATION));
+        this.parallelAnalysis = this.options.isSet(PARALLEL_ANALYSIS)
+                && Boolean.parseBoolean(this.options.get(PARALLEL_ANALYSIS));
+        this.dumpPhaseTimes = this.options.isSet(DUMP_PHASE_TIMES)
+                && Boolean.parseBoolean(this.options.get(DUMP_PHASE_TIMES));
     }
 
     public BLangPackage compilePackage(BLangPackage packageNode) {
-        compilePackageSymbol(packageNode.symbol);
+        compilePackages(Collections.singletonList(packageNode));
         return packageNode;
     }
 
+    /**
+     * Compiles the given packages along with the source packages they import. The phases up to BIR generation
+     * are run one module at a time, as they share the symbol table and the analyzers, which keep the state of the
+     * module being analyzed. The code of the modules is generated after that, concurrently for modules that do not
+     * depend on each other. The code of a module is not generated if that of a module it imports failed.
+     *
+     * @param packageNodes packages to be compiled
+     */
+    public void compilePackages(List<BLangPackage> packageNodes) {
+        for (BLangPackage packageNode : packageNodes) {
+            if (packageNode.symbol != null) {
+                compilePackageSymbol(packageNode.symbol);
+            }
+        }
+        generateCode();
+    }
+
     void loadLangModules(List<PackageID> pkgIdList) {
         // This logic interested in loading lang modules from source. For others we can load from balo.
         if (!LOAD_BUILTIN_FROM_SOURCE) {
+            long start = System.nanoTime();
             symbolTable.langAnnotationModuleSymbol = pkgLoader.loadPackageSymbol(ANNOTATIONS, null, null);
             symbolTable.langJavaModuleSymbol = pkgLoader.loadPackageSymbol(JAVA, null, null);
             symbolTable.langInternalModuleSymbol = pkgLoader.loadPackageSymbol(INTERNAL, null, null);
@@ -165,13 +213,15 @@ public class CompilerDriver {
             symbolTable.langTableModuleSymbol = pkgLoader.loadPackageSymbol(TABLE, null, null);
             symbolTable.langStringModuleSymbol = pkgLoader.loadPackageSymbol(STRING, null, null);
             symbolTable.langTypedescModuleSymbol = pkgLoader.loadPackageSymbol(TYPEDESC, null, null);
-            symbolTable.langValueModuleSymbol = pkgLoader.loadPackageSymbol(VALUE, null, null);
             symbolTable.langXmlModuleSymbol = pkgLoader.loadPackageSymbol(XML, null, null);
             symbolTable.langBooleanModuleSymbol = pkgLoader.loadPackageSymbol(BOOLEAN, null, null);
-            symbolTable.langQueryModuleSymbol = pkgLoader.loadPackageSymbol(QUERY, null, null);
-            symbolTable.langTransactionModuleSymbol = pkgLoader.loadPackageSymbol(TRANSACTION, null, null);
+            // The value, query and transaction modules are loaded when they are first used.
+            symbolTable.setLangModuleLoader(langModuleID -> pkgLoader.loadPackageSymbol(langModuleID, null, null));
             symbolTable.loadPredeclaredModules();
             symResolver.loadFunctionalConstructors();
+            if (this.dumpPhaseTimes) {
+                console.println("lang modules: " + (System.nanoTime() - start) / 1_000_000 + " ms");
+            }
             return;
         }
 
@@ -266,62 +316,210 @@ public class CompilerDriver {
             return;
         }
 
-        typeCheck(pkgNode);
+        runPhase(pkgNode, CompilerPhase.TYPE_CHECK, this::typeCheck);
         if (this.stopCompilation(pkgNode, CompilerPhase.CODE_ANALYZE)) {
             return;
         }
 
-        codeAnalyze(pkgNode);
+        runPhase(pkgNode, CompilerPhase.CODE_ANALYZE, this::codeAnalyze);
         if (this.stopCompilation(pkgNode, CompilerPhase.DATAFLOW_ANALYZE)) {
             return;
         }
 
-        dataflowAnalyze(pkgNode);
+        runPhase(pkgNode, CompilerPhase.DATAFLOW_ANALYZE, this::dataflowAnalyze);
         if (this.stopCompilation(pkgNode, CompilerPhase.DOCUMENTATION_ANALYZE)) {
             return;
         }
 
-        isolationAnalyze(pkgNode);
-        if (this.stopCompilation(pkgNode, CompilerPhase.ISOLATION_ANALYZE)) {
-            return;
-        }
+        if (this.parallelAnalysis) {
+            if (!analyzeConcurrently(pkgNode)) {
+                return;
+            }
+        } else {
+            runPhase(pkgNode, CompilerPhase.ISOLATION_ANALYZE, this::isolationAnalyze);
+            if (this.stopCompilation(pkgNode, CompilerPhase.ISOLATION_ANALYZE)) {
+                return;
+            }
 
-        documentationAnalyze(pkgNode);
-        if (this.stopCompilation(pkgNode, CompilerPhase.TAINT_ANALYZE)) {
-            return;
-        }
+            runPhase(pkgNode, CompilerPhase.DOCUMENTATION_ANALYZE, this::documentationAnalyze);
+            if (this.stopCompilation(pkgNode, CompilerPhase.TAINT_ANALYZE)) {
+                return;
+            }
 
-        taintAnalyze(pkgNode);
+            runPhase(pkgNode, CompilerPhase.TAINT_ANALYZE, this::taintAnalyze);
+        }
         if (this.stopCompilation(pkgNode, CompilerPhase.CONSTANT_PROPAGATION)) {
             return;
         }
 
-        propagateConstants(pkgNode);
+        runPhase(pkgNode, CompilerPhase.CONSTANT_PROPAGATION, this::propagateConstants);
         if (this.stopCompilation(pkgNode, CompilerPhase.COMPILER_PLUGIN)) {
             return;
         }
 
-        annotationProcess(pkgNode);
+        runPhase(pkgNode, CompilerPhase.COMPILER_PLUGIN, this::annotationProcess);
         if (this.stopCompilation(pkgNode, CompilerPhase.OBSERVABILITY_DATA_GEN)) {
             return;
         }
 
-        generateObservabilityData(pkgNode);
+        runPhase(pkgNode, CompilerPhase.OBSERVABILITY_DATA_GEN, this::generateObservabilityData);
         if (this.stopCompilation(pkgNode, CompilerPhase.DESUGAR)) {
             return;
         }
 
-        desugar(pkgNode);
+        runPhase(pkgNode, CompilerPhase.DESUGAR, this::desugar);
         if (this.stopCompilation(pkgNode, CompilerPhase.BIR_GEN)) {
             return;
         }
 
-        birGen(pkgNode);
+        runPhase(pkgNode, CompilerPhase.BIR_GEN, this::birGen);
         if (this.stopCompilation(pkgNode, CompilerPhase.CODE_GEN)) {
             return;
         }
 
-        codeGen(pkgNode);
+        this.codeGenQueue.add(pkgNode);
+    }
+
+    private void generateCode() {
+        if (this.codeGenQueue.isEmpty()) {
+            return;
+        }
+
+        // A module is queued after the modules it imports, hence the code generation of the imported modules is
+        // scheduled before it. Code generation reads the BIR of the imported modules, hence it waits for them.
+        // Whether the code of a module is generated only depends on the errors logged while generating it, and not
+        // on those logged concurrently for other modules, see JvmPackageGen#generate.
+        ExecutorService executor = newExecutor("ballerina-codegen", Runtime.getRuntime().availableProcessors());
+        Map<String, CompletableFuture<Boolean>> codeGenTasks = new HashMap<>();
+        try {
+            for (BLangPackage pkgNode : this.codeGenQueue) {
+                List<BPackageSymbol> imports = new ArrayList<>(pkgNode.symbol.imports);
+                pkgNode.getTestablePkgs().forEach(testablePackage -> imports.addAll(testablePackage.symbol.imports));
+                List<CompletableFuture<Boolean>> importTasks = imports.stream()
+                        .filter(importSymbol -> importSymbol != null)
+                        .map(importSymbol -> codeGenTasks.get(getModuleKey(importSymbol.pkgID)))
+                        .filter(importTask -> importTask != null)
+                        .collect(Collectors.toList());
+                CompletableFuture<Void> importsDone = CompletableFuture.allOf(
+                        importTasks.toArray(new CompletableFuture[0]));
+                codeGenTasks.put(getModuleKey(pkgNode.packageID), importsDone.thenApplyAsync(
+                        ignored -> generateModuleCode(pkgNode, importTasks), executor));
+            }
+            join(CompletableFuture.allOf(codeGenTasks.values().toArray(new CompletableFuture[0])));
+        } finally {
+            this.codeGenQueue.clear();
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Generates the code of a module, unless the code of a module it imports could not be generated, in which case
+     * the module is given no jar entries. Such a module would refer to classes which do not exist, and the error is
+     * already reported for the imported module.
+     *
+     * @param pkgNode     module to generate the code of
+     * @param importTasks code generation tasks of the imported modules, which are complete
+     * @return whether the code of the module is generated
+     */
+    private boolean generateModuleCode(BLangPackage pkgNode, List<CompletableFuture<Boolean>> importTasks) {
+        if (importTasks.stream().anyMatch(importTask -> !importTask.join())) {
+            pkgNode.symbol.compiledJarFile = new CompiledJarFile(Collections.emptyMap());
+            return false;
+        }
+
+        // The code of a module is generated on a single thread, hence the errors logged by it are those of the module.
+        int errorCount = this.dlog.threadErrorCount();
+        runPhase(pkgNode, CompilerPhase.CODE_GEN, this::codeGen);
+        if (this.dlog.threadErrorCount() > errorCount) {
+            return false;
+        }
+        this.buildCache.put(pkgNode);
+        return true;
+    }
+
+    private static String getModuleKey(PackageID packageID) {
+        return packageID.orgName.value + "/" + packageID.name.value;
+    }
+
+    /**
+     * Runs the isolation, documentation and taint analyses of a module concurrently, as they only read the AST
+     * produced by the previous phases. The diagnostics of the analyses are logged in the order the analyses are
+     * run by default. Taint analysis is only run when the other analyses log no errors, hence its results are
+     * discarded if they do.
+     *
+     * @param pkgNode package to be analyzed
+     * @return whether the compilation of the package can continue
+     */
+    private boolean analyzeConcurrently(BLangPackage pkgNode) {
+        Map<CompilerPhase, Consumer<BLangPackage>> analyses = new LinkedHashMap<>();
+        analyses.put(CompilerPhase.ISOLATION_ANALYZE, this::isolationAnalyze);
+        analyses.put(CompilerPhase.DOCUMENTATION_ANALYZE, this::documentationAnalyze);
+        boolean taintAnalyze = !this.stopCompilation(pkgNode, CompilerPhase.TAINT_ANALYZE);
+        if (taintAnalyze) {
+            analyses.put(CompilerPhase.TAINT_ANALYZE, this::taintAnalyze);
+        }
+
+        long start = System.nanoTime();
+        Map<CompilerPhase, CompletableFuture<List<DeferredDiagnostic>>> analysisTasks = new LinkedHashMap<>();
+        ExecutorService executor = newExecutor("ballerina-analysis", analyses.size());
+        try {
+            analyses.forEach((phase, analysis) -> analysisTasks.put(phase, CompletableFuture.supplyAsync(
+                    () -> this.dlog.deferDiagnostics(() -> runPhase(pkgNode, phase, analysis)), executor)));
+            join(CompletableFuture.allOf(analysisTasks.values().toArray(new CompletableFuture[0])));
+        } finally {
+            executor.shutdown();
+        }
+        if (this.dumpPhaseTimes) {
+            logPhaseTime(pkgNode, analyses.keySet().toString(), start);
+        }
+
+        this.dlog.logDeferredDiagnostics(analysisTasks.get(CompilerPhase.ISOLATION_ANALYZE).join());
+        this.dlog.logDeferredDiagnostics(analysisTasks.get(CompilerPhase.DOCUMENTATION_ANALYZE).join());
+        if (!taintAnalyze || this.stopCompilation(pkgNode, CompilerPhase.TAINT_ANALYZE)) {
+            return false;
+        }
+        this.dlog.logDeferredDiagnostics(analysisTasks.get(CompilerPhase.TAINT_ANALYZE).join());
+        return true;
+    }
+
+    /**
+     * Creates a thread pool for the concurrent phases. The threads use the context class loader of the current
+     * thread, which is the one the compiler and its plugins were loaded with, e.g. in the language server.
+     */
+    private static ExecutorService newExecutor(String threadName, int threadCount) {
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        return Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            thread.setContextClassLoader(contextClassLoader);
+            return thread;
+        });
+    }
+
+    private void runPhase(BLangPackage pkgNode, CompilerPhase phase, Consumer<BLangPackage> phaseRunner) {
+        if (!this.dumpPhaseTimes) {
+            phaseRunner.accept(pkgNode);
+            return;
+        }
+
+        long start = System.nanoTime();
+        phaseRunner.accept(pkgNode);
+        logPhaseTime(pkgNode, phase.toString(), start);
+    }
+
+    private void logPhaseTime(BLangPackage pkgNode, String phases, long start) {
+        console.println(pkgNode.packageID + " " + phases + ": " + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
     }
 
     private BLangPackage codeGen(BLangPackage pkgNode) {
@@ -18,6 +18,7 @@
 package org.wso2.ballerinalang.compiler;
 
 import org.ballerinalang.compiler.CompilerPhase;
+import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.repository.CompiledPackage;
 import org.ballerinalang.repository.CompilerInput;
@@ -53,6 +54,8 @@ import org.wso2.ballerinalang.compiler.packaging.repo.Repo;
 import org.wso2.ballerinalang.compiler.parser.Parser;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.SymbolEnter;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.tree.BLangIdentifier;
+import org.wso2.ballerinalang.compiler.tree.BLangImportPackage;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
@@ -69,6 +72,7 @@ import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -114,6 +118,7 @@ public class PackageLoader {
     private final PackageCache packageCache;
     private final SymbolEnter symbolEnter;
     private final BIRPackageSymbolEnter birPackageSymbolEnter;
+    private final BuildCache buildCache;
     private final Names names;
     private static final boolean shouldReadBalo = true;
     private final CompilerPhase compilerPhase;
@@ -146,6 +151,7 @@ public class PackageLoader {
         this.packageCache = PackageCache.getInstance(context);
         this.symbolEnter = SymbolEnter.getInstance(context);
         this.birPackageSymbolEnter = BIRPackageSymbolEnter.getInstance(context);
+        this.buildCache = BuildCache.getInstance(context);
         this.names = Names.getInstance(context);
         this.offline = Boolean.parseBoolean(options.get(OFFLINE));
         this.testEnabled = Boolean.parseBoolean(options.get(TEST_ENABLED));
@@ -363,6 +369,13 @@ public class PackageLoader {
         if (bLangPackage != null) {
             return bLangPackage;
         }
+
+        // An unchanged module is defined from the BIR of the previous build instead of being compiled again.
+        BPackageSymbol cachedSymbol = loadCachedPackageSymbol(pkgId);
+        if (cachedSymbol != null) {
+            return createCachedPackageNode(pkgId, cachedSymbol);
+        }
+
         PackageEntity pkgEntity = loadPackageEntity(pkgId, enclPackageId, null);
         if (pkgEntity == null) {
             // Do not throw an error here. Otherwise package build will terminate immediately if
@@ -404,7 +417,7 @@ public class PackageLoader {
         }
 
         this.symbolEnter.definePackage(bLangPackage);
-        bLangPackage.symbol.compiledPackage = createInMemoryCompiledPackage(bLangPackage);
+        bLangPackage.symbol.compiledPackage = createInMemoryCompiledPackage(bLangPackage.packageID);
         return bLangPackage;
     }
 
@@ -428,6 +441,10 @@ public class PackageLoader {
         }
 
         if (pkgEntity.getKind() == PackageEntity.Kind.SOURCE) {
+            packageSymbol = loadCachedPackageSymbol(packageId);
+            if (packageSymbol != null) {
+                return packageSymbol;
+            }
             return parseAndDefine(packageId, (PackageSource) pkgEntity);
         } else if (pkgEntity.getKind() == Kind.COMPILED || pkgEntity.getKind() == Kind.COMPILED_BIR) {
             return loadCompiledPackageAndDefine(packageId, (PackageBinary) pkgEntity);
@@ -465,10 +482,10 @@ public class PackageLoader {
         this.packageCache.putSymbol(pkgNode.packageID, pkgNode.symbol);
 
         // 3) Create the compiledPackage structure
-        pkgNode.symbol.compiledPackage = createInMemoryCompiledPackage(pkgNode);
+        pkgNode.symbol.compiledPackage = createInMemoryCompiledPackage(pkgNode.packageID);
         if (pkgNode.hasTestablePackage()) {
             BLangPackage testablePackage = pkgNode.getTestablePkg();
-            testablePackage.symbol.compiledPackage = createInMemoryCompiledPackage(testablePackage);
+            testablePackage.symbol.compiledPackage = createInMemoryCompiledPackage(testablePackage.packageID);
         }
         return pkgNode.symbol;
     }
@@ -502,8 +519,61 @@ public class PackageLoader {
         return pkgSymbol;
     }
 
-    private CompiledPackage createInMemoryCompiledPackage(BLangPackage pkgNode) {
-        PackageID packageID = pkgNode.packageID;
+    private BPackageSymbol loadCachedPackageSymbol(PackageID pkgId) {
+        BuildCache.CachedModule cachedModule = this.buildCache.get(
+                pkgId, (importId, enclPackageId) -> loadPackageSymbol(importId, enclPackageId, this.repos));
+        if (cachedModule == null) {
+            return null;
+        }
+
+        BPackageSymbol pkgSymbol = this.packageCache.getSymbol(pkgId);
+        if (pkgSymbol != null) {
+            return pkgSymbol;
+        }
+
+        // The imported project modules are defined first, from their own cache entries.
+        for (PackageID dependencyId : cachedModule.getModuleDependencies()) {
+            loadPackageSymbol(dependencyId, null, null);
+        }
+
+        pkgSymbol = this.birPackageSymbolEnter.definePackage(pkgId, this.repos, cachedModule.getBir());
+        this.packageCache.putSymbol(pkgId, pkgSymbol);
+        pkgSymbol.compiledJarFile = cachedModule.getJarFile();
+        pkgSymbol.entryPointExists = cachedModule.isEntryPointExists();
+        pkgSymbol.compiledPackage = createInMemoryCompiledPackage(pkgId);
+        return pkgSymbol;
+    }
+
+    private BLangPackage createCachedPackageNode(PackageID pkgId, BPackageSymbol pkgSymbol) {
+        BLangPackage packageNode = (BLangPackage) TreeBuilder.createPackageNode();
+        packageNode.symbol = pkgSymbol;
+        // All the phases are done, so that the compiler driver does not compile the module again.
+        packageNode.completedPhases = EnumSet.allOf(CompilerPhase.class);
+        for (BPackageSymbol importSymbol : pkgSymbol.imports) {
+            if (importSymbol == null) {
+                continue;
+            }
+            BLangImportPackage importPackage = (BLangImportPackage) TreeBuilder.createImportPackageNode();
+            importPackage.orgName = createIdentifier(importSymbol.pkgID.orgName.value);
+            importPackage.pkgNameComps = importSymbol.pkgID.nameComps.stream()
+                    .map(nameComp -> createIdentifier(nameComp.value))
+                    .collect(Collectors.toList());
+            importPackage.version = createIdentifier(importSymbol.pkgID.version.value);
+            importPackage.alias = createIdentifier(importSymbol.pkgID.name.value);
+            importPackage.symbol = importSymbol;
+            packageNode.imports.add(importPackage);
+        }
+        this.packageCache.put(pkgId, packageNode);
+        return packageNode;
+    }
+
+    private BLangIdentifier createIdentifier(String value) {
+        BLangIdentifier identifier = (BLangIdentifier) TreeBuilder.createIdentifierNode();
+        identifier.value = value;
+        return identifier;
+    }
+
+    private CompiledPackage createInMemoryCompiledPackage(PackageID packageID) {
         InMemoryCompiledPackage compiledPackage = new InMemoryCompiledPackage(packageID);
 
         // Get the list of source entries.
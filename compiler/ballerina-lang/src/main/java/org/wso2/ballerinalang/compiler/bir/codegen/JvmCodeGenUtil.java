@@ -73,6 +73,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FILE_NAME
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUNCTION;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUNCTION_POINTER;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUTURE_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GLOBAL_LOCK_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.HANDLE_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JAVA_PACKAGE_SEPERATOR;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
@@ -265,6 +266,10 @@ public class JvmCodeGenUtil {
         return STRAND_METADATA_VAR_PREFIX + parentFunction + "$";
     }
 
+    static String getLockVarName(int lockId) {
+        return "$" + GLOBAL_LOCK_NAME + lockId;
+    }
+
     //TODO:Remove this method after fixing issue #25745
     public static String cleanupFunctionName(String functionName) {
         return StringUtils.containsAny(functionName, "\\.:/<>") ?
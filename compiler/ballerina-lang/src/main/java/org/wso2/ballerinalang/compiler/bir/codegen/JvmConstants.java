@@ -30,6 +30,7 @@ public class JvmConstants {
     // jvm runtime values related classes
     public static final String MAP_VALUE = "org/ballerinalang/jvm/values/MapValue";
     public static final String MAP_VALUE_IMPL = "org/ballerinalang/jvm/values/MapValueImpl";
+    public static final String CLOSED_RECORD_VALUE = "org/ballerinalang/jvm/values/ClosedRecordValue";
     public static final String STREAM_VALUE = "org/ballerinalang/jvm/values/StreamValue";
     public static final String TABLE_VALUE = "org/ballerinalang/jvm/values/TableValue";
     public static final String ARRAY_VALUE = "org/ballerinalang/jvm/values/ArrayValue";
@@ -42,6 +43,7 @@ public class JvmConstants {
     public static final String B_STRING_VALUE = "org/ballerinalang/jvm/api/values/BString";
     public static final String NON_BMP_STRING_VALUE = "org/ballerinalang/jvm/values/NonBmpStringValue";
     public static final String BMP_STRING_VALUE = "org/ballerinalang/jvm/values/BmpStringValue";
+    public static final String ROPE_STRING_VALUE = "org/ballerinalang/jvm/values/RopeStringValue";
     public static final String LONG_VALUE = "java/lang/Long";
     public static final String BYTE_VALUE = "java/lang/Byte";
     public static final String SHORT_VALUE = "java/lang/Short";
@@ -224,6 +226,8 @@ public class JvmConstants {
     public static final String SCHEDULE_FUNCTION_METHOD = "scheduleFunction";
     public static final String SCHEDULE_LOCAL_METHOD = "scheduleLocal";
     public static final String SCHEDULER_START_METHOD = "start";
+    public static final String PUSH_FRAME_METHOD = "pushFrame";
+    public static final String POP_FRAME_METHOD = "popFrame";
     public static final String CREATE_RECORD_VALUE = "createRecordValue";
     public static final String CREATE_OBJECT_VALUE = "createObjectValue";
 
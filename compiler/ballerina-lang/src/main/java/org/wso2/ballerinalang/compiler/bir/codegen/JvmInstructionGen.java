@@ -39,13 +39,19 @@ import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
 import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SchedulerPolicy;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BObjectType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BServiceType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.util.Flags;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.objectweb.asm.Opcodes.AASTORE;
 import static org.objectweb.asm.Opcodes.ACONST_NULL;
@@ -66,6 +72,7 @@ import static org.objectweb.asm.Opcodes.DSUB;
 import static org.objectweb.asm.Opcodes.DUP;
 import static org.objectweb.asm.Opcodes.FLOAD;
 import static org.objectweb.asm.Opcodes.FSTORE;
+import static org.objectweb.asm.Opcodes.GETFIELD;
 import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.GOTO;
 import static org.objectweb.asm.Opcodes.I2B;
@@ -90,6 +97,7 @@ import static org.objectweb.asm.Opcodes.IF_ICMPLT;
 import static org.objectweb.asm.Opcodes.IF_ICMPNE;
 import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INEG;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
@@ -116,6 +124,8 @@ import static org.objectweb.asm.Opcodes.LUSHR;
 import static org.objectweb.asm.Opcodes.LXOR;
 import static org.objectweb.asm.Opcodes.NEW;
 import static org.objectweb.asm.Opcodes.NEWARRAY;
+import static org.objectweb.asm.Opcodes.POP;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
 import static org.objectweb.asm.Opcodes.PUTSTATIC;
 import static org.objectweb.asm.Opcodes.T_INT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCastGen.generateCast;
@@ -129,6 +139,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ANNOTATIO
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ARRAY_TYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ARRAY_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ARRAY_VALUE_IMPL;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BAL_OPTIONAL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BINITIAL_VALUE_ENTRY;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BTYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BXML_QNAME;
@@ -193,6 +204,9 @@ public class JvmInstructionGen {
     private final JvmPackageGen jvmPackageGen;
     private final SymbolTable symbolTable;
 
+    // string constants loaded into temporary variables, which are used as the keys of field accesses
+    private final Map<BIRNode.BIRVariableDcl, String> stringConstantTemps = new IdentityHashMap<>();
+
     public JvmInstructionGen(MethodVisitor mv, BIRVarToJVMIndexMap indexMap, BIRNode.BIRPackage currentPackage,
                              JvmPackageGen jvmPackageGen) {
 
@@ -978,9 +992,10 @@ public class JvmInstructionGen {
         } else if (bType.tag == TypeTags.BYTE) {
             this.mv.visitInsn(IADD);
         } else if (TypeTags.isStringTypeTag(bType.tag)) {
-                this.mv.visitMethodInsn(INVOKEINTERFACE, JvmConstants.B_STRING_VALUE, "concat",
-                                        String.format("(L%s;)L%s;", JvmConstants.B_STRING_VALUE,
-                                                      JvmConstants.B_STRING_VALUE), true);
+            // Chains of string additions build a rope, which is only copied into a single string when read.
+            this.mv.visitMethodInsn(INVOKESTATIC, JvmConstants.ROPE_STRING_VALUE, "concat",
+                                    String.format("(L%s;L%s;)L%s;", JvmConstants.B_STRING_VALUE,
+                                                  JvmConstants.B_STRING_VALUE, JvmConstants.B_STRING_VALUE), false);
         } else if (bType.tag == TypeTags.DECIMAL) {
             this.mv.visitMethodInsn(INVOKEVIRTUAL, DECIMAL_VALUE, "add",
                     String.format("(L%s;)L%s;", DECIMAL_VALUE, DECIMAL_VALUE), false);
@@ -1290,6 +1305,38 @@ public class JvmInstructionGen {
     }
 
     void generateMapStoreIns(BIRNonTerminator.FieldAccess mapStoreIns) {
+        Label storedLabel = null;
+        BField recordField = mapStoreIns.onInitialization ? null :
+                this.getDirectlyAccessibleField(mapStoreIns.lhsOp.variableDcl.type, mapStoreIns.keyOp.variableDcl,
+                                                true);
+        if (recordField != null) {
+            // If the value is an instance of the generated record class and is not frozen, store to the field
+            // directly. Otherwise fall through to the generic store below.
+            String className = this.getRecordValueClassName((BRecordType) mapStoreIns.lhsOp.variableDcl.type);
+            Label genericStoreLabel = new Label();
+            storedLabel = new Label();
+
+            this.loadVar(mapStoreIns.lhsOp.variableDcl);
+            this.mv.visitTypeInsn(INSTANCEOF, className);
+            this.mv.visitJumpInsn(IFEQ, genericStoreLabel);
+            this.loadVar(mapStoreIns.lhsOp.variableDcl);
+            this.mv.visitTypeInsn(CHECKCAST, className);
+            this.mv.visitMethodInsn(INVOKEVIRTUAL, className, "isFrozen", "()Z", false);
+            this.mv.visitJumpInsn(IFNE, genericStoreLabel);
+
+            this.loadVar(mapStoreIns.lhsOp.variableDcl);
+            this.mv.visitTypeInsn(CHECKCAST, className);
+            BType valueType = mapStoreIns.rhsOp.variableDcl.type;
+            this.loadVar(mapStoreIns.rhsOp.variableDcl);
+            if (!getTypeDesc(valueType).equals(getTypeDesc(recordField.type))) {
+                JvmCastGen.addBoxInsn(this.mv, valueType);
+                JvmCastGen.addUnboxInsn(this.mv, recordField.type);
+            }
+            this.mv.visitFieldInsn(PUTFIELD, className, recordField.name.value, getTypeDesc(recordField.type));
+            this.mv.visitJumpInsn(GOTO, storedLabel);
+            this.mv.visitLabel(genericStoreLabel);
+        }
+
         // visit map_ref
         this.loadVar(mapStoreIns.lhsOp.variableDcl);
         BType varRefType = mapStoreIns.lhsOp.variableDcl.type;
@@ -1309,14 +1356,50 @@ public class JvmInstructionGen {
             // We only reach here for stores in a record init function.
             this.mv.visitMethodInsn(INVOKEINTERFACE, MAP_VALUE, "populateInitialValue",
                                     String.format("(L%s;L%s;)V", OBJECT, OBJECT), true);
+        } else if (mapStoreIns.lhsOp.variableDcl.closureMap) {
+            // Values stored to a closure map always belong to its `any|error` constraint, so the inherent type
+            // check of the generic store is skipped.
+            this.mv.visitMethodInsn(INVOKEINTERFACE, MAP_VALUE, "put",
+                                    String.format("(L%s;L%s;)L%s;", OBJECT, OBJECT, OBJECT), true);
+            this.mv.visitInsn(POP);
         } else {
             String signature = String.format("(L%s;L%s;L%s;)V",
                     MAP_VALUE, JvmConstants.B_STRING_VALUE, OBJECT);
             this.mv.visitMethodInsn(INVOKESTATIC, MAP_UTILS, "handleMapStore", signature, false);
         }
+
+        if (storedLabel != null) {
+            this.mv.visitLabel(storedLabel);
+        }
     }
 
     void generateMapLoadIns(BIRNonTerminator.FieldAccess mapLoadIns) {
+        Label loadedLabel = null;
+        BField recordField = mapLoadIns.optionalFieldAccess ? null :
+                this.getDirectlyAccessibleField(mapLoadIns.rhsOp.variableDcl.type, mapLoadIns.keyOp.variableDcl,
+                                                false);
+        if (recordField != null) {
+            // If the value is an instance of the generated record class, read the field directly. Otherwise fall
+            // through to the generic load below.
+            String className = this.getRecordValueClassName((BRecordType) mapLoadIns.rhsOp.variableDcl.type);
+            Label genericLoadLabel = new Label();
+            loadedLabel = new Label();
+
+            this.loadVar(mapLoadIns.rhsOp.variableDcl);
+            this.mv.visitTypeInsn(INSTANCEOF, className);
+            this.mv.visitJumpInsn(IFEQ, genericLoadLabel);
+            this.loadVar(mapLoadIns.rhsOp.variableDcl);
+            this.mv.visitTypeInsn(CHECKCAST, className);
+            this.mv.visitFieldInsn(GETFIELD, className, recordField.name.value, getTypeDesc(recordField.type));
+            BType targetType = mapLoadIns.lhsOp.variableDcl.type;
+            if (!getTypeDesc(recordField.type).equals(getTypeDesc(targetType))) {
+                JvmCastGen.addBoxInsn(this.mv, recordField.type);
+                JvmCastGen.addUnboxInsn(this.mv, targetType);
+            }
+            this.mv.visitJumpInsn(GOTO, loadedLabel);
+            this.mv.visitLabel(genericLoadLabel);
+        }
+
         // visit map_ref
         this.loadVar(mapLoadIns.rhsOp.variableDcl);
         BType varRefType = mapLoadIns.rhsOp.variableDcl.type;
@@ -1350,9 +1433,55 @@ public class JvmInstructionGen {
         // store in the target reg
         BType targetType = mapLoadIns.lhsOp.variableDcl.type;
         JvmCastGen.addUnboxInsn(this.mv, targetType);
+        if (loadedLabel != null) {
+            this.mv.visitLabel(loadedLabel);
+        }
         this.storeToVar(mapLoadIns.lhsOp.variableDcl);
     }
 
+    /**
+     * Returns the field of a record type defined in this module that a field access can read or write directly on
+     * the generated record value class, or null if the access has to go through the generic map operations.
+     * <p>
+     * The key has to be a string constant naming a required field. Optional fields are excluded since the generic
+     * path also tracks their presence, and so are readonly fields for stores since those are rejected at runtime.
+     *
+     * @param varRefType static type of the accessed value
+     * @param keyVarDcl  variable holding the key of the access
+     * @param isStore    whether the access is a store
+     * @return the accessed field, or null
+     */
+    private BField getDirectlyAccessibleField(BType varRefType, BIRNode.BIRVariableDcl keyVarDcl, boolean isStore) {
+
+        if (varRefType.tag != TypeTags.RECORD) {
+            return null;
+        }
+
+        String fieldName = this.stringConstantTemps.get(keyVarDcl);
+        if (fieldName == null) {
+            return null;
+        }
+
+        BField field = ((BRecordType) varRefType).fields.get(fieldName);
+        if (field == null || Symbols.isFlagOn(field.symbol.flags, BAL_OPTIONAL) ||
+                (isStore && Symbols.isFlagOn(field.symbol.flags, Flags.READONLY))) {
+            return null;
+        }
+
+        // The fields of the generated class are package-private, so only classes of this module can access them.
+        return this.getRecordValueClassName((BRecordType) varRefType) == null ? null : field;
+    }
+
+    private String getRecordValueClassName(BRecordType recordType) {
+
+        for (BIRNode.BIRTypeDefinition typeDef : this.currentPackage.typeDefs) {
+            if (typeDef.type == recordType) {
+                return getTypeValueClassName(this.currentPackage, typeDef.name.value);
+            }
+        }
+        return null;
+    }
+
     void generateObjectLoadIns(BIRNonTerminator.FieldAccess objectLoadIns) {
         // visit object_ref
         this.loadVar(objectLoadIns.rhsOp.variableDcl);
@@ -1927,7 +2056,12 @@ public class JvmInstructionGen {
     void generateConstantLoadIns(BIRNonTerminator.ConstantLoad loadIns) {
 
         loadConstantValue(loadIns.type, loadIns.value, this.mv);
-        this.storeToVar(loadIns.lhsOp.variableDcl);
+        BIRNode.BIRVariableDcl varDcl = loadIns.lhsOp.variableDcl;
+        this.storeToVar(varDcl);
+
+        if (varDcl.kind == VarKind.TEMP && TypeTags.isStringTypeTag(loadIns.type.tag)) {
+            this.stringConstantTemps.put(varDcl, String.valueOf(loadIns.value));
+        }
     }
 
     private void loadListInitialValues(BIRNonTerminator.NewArray arrayNewIns) {
@@ -40,6 +40,7 @@ import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.NewInstance;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 import org.wso2.ballerinalang.compiler.bir.model.VarScope;
 import org.wso2.ballerinalang.compiler.diagnostic.BLangDiagnosticLog;
@@ -66,6 +67,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static org.ballerinalang.model.symbols.SymbolOrigin.VIRTUAL;
@@ -92,6 +94,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JAVA_THRE
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_STORE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_STORE_VAR_NAME;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_INIT_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_STARTED;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_START_ATTEMPTED;
@@ -117,7 +120,11 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.interop.ExternalMethod
  */
 public class JvmPackageGen {
 
-    private static ResolvedTypeBuilder typeBuilder;
+    // Modules which do not depend on each other are generated concurrently, and a type builder is not thread safe.
+    private static final ThreadLocal<ResolvedTypeBuilder> TYPE_BUILDER =
+            ThreadLocal.withInitial(ResolvedTypeBuilder::new);
+    // Generating the dependencies of a module rewrites their BIR, hence it is done by one module at a time.
+    private static final Object DEPENDENCY_LOCK = new Object();
 
     public final SymbolTable symbolTable;
     public final PackageCache packageCache;
@@ -138,7 +145,6 @@ public class JvmPackageGen {
         this.packageCache = packageCache;
         this.dlog = dlog;
         jvmMethodGen = new JvmMethodGen(this);
-        typeBuilder = new ResolvedTypeBuilder();
 
         JvmCastGen.symbolTable = symbolTable;
         JvmInstructionGen.anyType = symbolTable.anyType;
@@ -224,17 +230,66 @@ public class JvmPackageGen {
 
     }
 
-    private static void generateLockForVariable(ClassWriter cw) {
+    private static void generateLockForVariable(ClassWriter cw, Set<Integer> lockIds) {
 
         String lockStoreClass = "L" + LOCK_STORE + ";";
         FieldVisitor fv;
         fv = cw.visitField(ACC_PUBLIC + ACC_FINAL + ACC_STATIC, LOCK_STORE_VAR_NAME, lockStoreClass, null, null);
         fv.visitEnd();
+
+        String lockClass = "L" + LOCK_VALUE + ";";
+        for (Integer lockId : lockIds) {
+            fv = cw.visitField(ACC_PUBLIC + ACC_FINAL + ACC_STATIC, JvmCodeGenUtil.getLockVarName(lockId), lockClass,
+                               null, null);
+            fv.visitEnd();
+        }
+    }
+
+    private static void initLocksForVariables(MethodVisitor mv, String className, Set<Integer> lockIds) {
+
+        String lockClass = "L" + LOCK_VALUE + ";";
+        for (Integer lockId : lockIds) {
+            mv.visitTypeInsn(NEW, LOCK_VALUE);
+            mv.visitInsn(DUP);
+            mv.visitMethodInsn(INVOKESPECIAL, LOCK_VALUE, JVM_INIT_METHOD, "()V", false);
+            mv.visitFieldInsn(PUTSTATIC, className, JvmCodeGenUtil.getLockVarName(lockId), lockClass);
+        }
+    }
+
+    /**
+     * Collects the ids of the locks used by the lock statements of the module, so that a lock instance can be
+     * generated per id and referenced directly by the generated code.
+     */
+    private static Set<Integer> collectLockIds(BIRPackage module) {
+
+        Set<Integer> lockIds = new TreeSet<>();
+        for (BIRFunction func : module.functions) {
+            collectLockIds(func, lockIds);
+        }
+        for (BIRTypeDefinition typeDef : module.typeDefs) {
+            for (BIRFunction func : typeDef.attachedFuncs) {
+                collectLockIds(func, lockIds);
+            }
+        }
+        return lockIds;
+    }
+
+    private static void collectLockIds(BIRFunction func, Set<Integer> lockIds) {
+
+        if (func == null) {
+            return;
+        }
+        for (BIRNode.BIRBasicBlock bb : func.basicBlocks) {
+            if (bb.terminator instanceof BIRTerminator.Lock) {
+                lockIds.add(((BIRTerminator.Lock) bb.terminator).lockId);
+            }
+        }
     }
 
     private static void generateStaticInitializer(ClassWriter cw, String className,
                                                   BIRPackage module, boolean isInitClass,
-                                                  boolean serviceEPAvailable, AsyncDataCollector asyncDataCollector) {
+                                                  boolean serviceEPAvailable, AsyncDataCollector asyncDataCollector,
+                                                  Set<Integer> lockIds) {
 
         if (!isInitClass && asyncDataCollector.getStrandMetadata().isEmpty()) {
             return;
@@ -246,6 +301,7 @@ public class JvmPackageGen {
             mv.visitInsn(DUP);
             mv.visitMethodInsn(INVOKESPECIAL, LOCK_STORE, JVM_INIT_METHOD, "()V", false);
             mv.visitFieldInsn(PUTSTATIC, className, LOCK_STORE_VAR_NAME, lockStoreClass);
+            initLocksForVariables(mv, className, lockIds);
             setServiceEPAvailableField(cw, mv, serviceEPAvailable, className);
             setModuleStatusField(cw, mv, className);
         }
@@ -285,11 +341,6 @@ public class JvmPackageGen {
         }
     }
 
-    static String computeLockNameFromString(String varName) {
-
-        return "$lock" + varName;
-    }
-
     public static String cleanupPackageName(String pkgName) {
 
         int index = pkgName.lastIndexOf("/");
@@ -308,7 +359,7 @@ public class JvmPackageGen {
 
         BType retType = functionTypeDesc.retType;
         if (isExternFunc(currentFunc) && Symbols.isFlagOn(retType.flags, Flags.PARAMETERIZED)) {
-            retType = typeBuilder.build(retType);
+            retType = TYPE_BUILDER.get().build(retType);
         }
 
         String jvmMethodDescription;
@@ -389,17 +440,20 @@ public class JvmPackageGen {
 
     CompiledJarFile generate(BIRNode.BIRPackage module, InteropValidator interopValidator, boolean isEntry) {
 
-
+        // Modules are generated concurrently, hence only the errors logged while generating this module count.
+        int initialErrorCount = dlog.threadErrorCount();
         Set<PackageID> moduleImports = new LinkedHashSet<>();
 
         addBuiltinImports(module, moduleImports);
 
-        for (BIRNode.BIRImportModule importModule : module.importModules) {
-            BPackageSymbol pkgSymbol = packageCache.getSymbol(getBvmAlias(importModule.org.value,
-                    importModule.name.value));
-            generateDependencyList(pkgSymbol, interopValidator);
-            if (dlog.errorCount() > 0) {
-                return new CompiledJarFile(Collections.emptyMap());
+        synchronized (DEPENDENCY_LOCK) {
+            for (BIRNode.BIRImportModule importModule : module.importModules) {
+                BPackageSymbol pkgSymbol = packageCache.getSymbol(getBvmAlias(importModule.org.value,
+                        importModule.name.value));
+                generateDependencyList(pkgSymbol, interopValidator);
+                if (dlog.threadErrorCount() > initialErrorCount) {
+                    return new CompiledJarFile(Collections.emptyMap());
+                }
             }
         }
 
@@ -411,7 +465,7 @@ public class JvmPackageGen {
         String pkgName = JvmCodeGenUtil.getPackageName(module);
         Map<String, JavaClass> jvmClassMapping = generateClassNameLinking(module, pkgName, moduleInitClass,
                                                                           interopValidator, isEntry);
-        if (!isEntry || dlog.errorCount() > 0) {
+        if (!isEntry || dlog.threadErrorCount() > initialErrorCount) {
             return new CompiledJarFile(Collections.emptyMap());
         }
 
@@ -454,6 +508,7 @@ public class JvmPackageGen {
     private void generateModuleClasses(BIRPackage module, Map<String, byte[]> jarEntries, String moduleInitClass,
                                        Map<String, JavaClass> jvmClassMapping, List<PackageID> moduleImports) {
 
+        Set<Integer> lockIds = collectLockIds(module);
         jvmClassMapping.entrySet().parallelStream().forEach(entry -> {
             String moduleClass = entry.getKey();
             JavaClass javaClass = entry.getValue();
@@ -490,7 +545,7 @@ public class JvmPackageGen {
                 }
                 jvmMethodGen.generateLambdaForPackageInits(cw, module, moduleClass, moduleImports);
 
-                generateLockForVariable(cw);
+                generateLockForVariable(cw, lockIds);
                 generateCreateTypesMethod(cw, module.typeDefs, moduleInitClass, symbolTable);
                 jvmMethodGen.generateModuleInitializer(cw, module, moduleInitClass);
                 jvmMethodGen.generateExecutionStopMethod(cw, moduleInitClass, module, moduleImports,
@@ -513,7 +568,7 @@ public class JvmPackageGen {
             }
             JvmCodeGenUtil.visitStrandMetadataField(cw, asyncDataCollector);
             generateStaticInitializer(cw, moduleClass, module, isInitClass, serviceEPAvailable,
-                                      asyncDataCollector);
+                                      asyncDataCollector, lockIds);
             cw.visitEnd();
 
             byte[] bytes = getBytes(cw, module);
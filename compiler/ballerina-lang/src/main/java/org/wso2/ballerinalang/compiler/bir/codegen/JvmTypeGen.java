@@ -181,7 +181,8 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.getTypeVal
  */
 class JvmTypeGen {
 
-    private static ResolvedTypeBuilder typeBuilder = new ResolvedTypeBuilder();
+    private static final ThreadLocal<ResolvedTypeBuilder> TYPE_BUILDER =
+            ThreadLocal.withInitial(ResolvedTypeBuilder::new);
 
     /**
      * Create static fields to hold the user defined types.
@@ -1571,7 +1572,7 @@ class JvmTypeGen {
 
         BType retType;
         if (Symbols.isFlagOn(bType.retType.flags, Flags.PARAMETERIZED)) {
-            retType = typeBuilder.build(bType.retType);
+            retType = TYPE_BUILDER.get().build(bType.retType);
         } else {
             retType = bType.retType;
         }
@@ -51,7 +51,6 @@ import java.util.Map;
 import static org.ballerinalang.jvm.IdentifierUtils.decodeIdentifier;
 import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.AALOAD;
-import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PROTECTED;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
@@ -95,6 +94,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BINITIAL_
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BLANG_RUNTIME_EXCEPTION;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BTYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_STRING_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLOSED_RECORD_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.COLLECTION;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ERROR_UTILS;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GET_VALUE_METHOD;
@@ -103,7 +103,6 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_TO_ST
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LINKED_HASH_MAP;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LINKED_HASH_SET;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LIST;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAPPING_INITIAL_VALUE_ENTRY;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_ENTRY;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_SIMPLE_ENTRY;
@@ -125,7 +124,6 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.UNSUPPORT
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.VALUE_CLASS_PREFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmDesugarPhase.addDefaultableBooleanVarsToSignature;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmDesugarPhase.enrichWithDefaultableParamInits;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmPackageGen.computeLockNameFromString;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeGen.getTypeDesc;
 import static org.wso2.ballerinalang.compiler.bir.codegen.interop.ExternalMethodGen.desugarOldExternFuncs;
 import static org.wso2.ballerinalang.compiler.bir.codegen.interop.ExternalMethodGen.lookupBIRFunctionWrapper;
@@ -322,10 +320,6 @@ class JvmValueGen {
             }
             FieldVisitor fvb = cw.visitField(0, field.name.value, getTypeDesc(field.type), null, null);
             fvb.visitEnd();
-            String lockClass = "L" + LOCK_VALUE + ";";
-            FieldVisitor fv = cw.visitField(ACC_PUBLIC + ACC_FINAL, computeLockNameFromString(field.name.value),
-                                            lockClass, null, null);
-            fv.visitEnd();
         }
     }
 
@@ -342,7 +336,7 @@ class JvmValueGen {
         }
     }
 
-    private void createObjectInit(ClassWriter cw, Map<String, BField> fields, String className) {
+    private void createObjectInit(ClassWriter cw) {
 
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, JVM_INIT_METHOD, String.format("(L%s;)V", OBJECT_TYPE), null,
                 null);
@@ -356,21 +350,6 @@ class JvmValueGen {
         mv.visitMethodInsn(INVOKESPECIAL, ABSTRACT_OBJECT_VALUE, JVM_INIT_METHOD, String.format("(L%s;)V", OBJECT_TYPE),
                 false);
 
-        String lockClass = "L" + LOCK_VALUE + ";";
-        for (BField field : fields.values()) {
-            if (field == null) {
-                continue;
-            }
-
-            Label fLabel = new Label();
-            mv.visitLabel(fLabel);
-            mv.visitVarInsn(ALOAD, 0);
-            mv.visitTypeInsn(NEW, LOCK_VALUE);
-            mv.visitInsn(DUP);
-            mv.visitMethodInsn(INVOKESPECIAL, LOCK_VALUE, JVM_INIT_METHOD, "()V", false);
-            mv.visitFieldInsn(PUTFIELD, className, computeLockNameFromString(field.name.value), lockClass);
-        }
-
         mv.visitInsn(RETURN);
         mv.visitMaxs(5, 5);
         mv.visitEnd();
@@ -667,9 +646,11 @@ class JvmValueGen {
             cw.visitSource(className, null);
         }
         AsyncDataCollector asyncDataCollector = new AsyncDataCollector(className);
+        // Closed records never need a map for their fields, so they extend the compact base class instead.
+        String superClass = recordType.sealed ? CLOSED_RECORD_VALUE : MAP_VALUE_IMPL;
         cw.visit(V1_8, ACC_PUBLIC + ACC_SUPER, className,
-                String.format("<K:L%s;V:L%s;>L%s<TK;TV;>;L%s<TK;TV;>;", OBJECT, OBJECT, MAP_VALUE_IMPL, MAP_VALUE),
-                MAP_VALUE_IMPL, new String[]{MAP_VALUE});
+                String.format("<K:L%s;V:L%s;>L%s<TK;TV;>;L%s<TK;TV;>;", OBJECT, OBJECT, superClass, MAP_VALUE),
+                superClass, new String[]{MAP_VALUE});
 
         List<BIRNode.BIRFunction> attachedFuncs = typeDef.attachedFuncs;
         if (attachedFuncs != null) {
@@ -678,19 +659,19 @@ class JvmValueGen {
 
         Map<String, BField> fields = recordType.fields;
         this.createRecordFields(cw, fields);
-        this.createRecordGetMethod(cw, fields, className);
-        this.createRecordSetMethod(cw, fields, className);
-        this.createRecordEntrySetMethod(cw, fields, className);
-        this.createRecordContainsKeyMethod(cw, fields, className);
-        this.createRecordGetValuesMethod(cw, fields, className);
-        this.createGetSizeMethod(cw, fields, className);
+        this.createRecordGetMethod(cw, fields, className, superClass);
+        this.createRecordSetMethod(cw, fields, className, superClass);
+        this.createRecordEntrySetMethod(cw, fields, className, superClass);
+        this.createRecordContainsKeyMethod(cw, fields, className, superClass);
+        this.createRecordGetValuesMethod(cw, fields, className, superClass);
+        this.createGetSizeMethod(cw, fields, className, superClass);
         this.createRecordRemoveMethod(cw);
-        this.createRecordClearMethod(cw, fields, className);
-        this.createRecordGetKeysMethod(cw, fields, className);
-        this.createRecordPopulateInitialValuesMethod(cw);
+        this.createRecordClearMethod(cw, fields, className, superClass);
+        this.createRecordGetKeysMethod(cw, fields, className, superClass);
+        this.createRecordPopulateInitialValuesMethod(cw, superClass);
 
-        this.createRecordConstructor(cw, TYPEDESC_VALUE);
-        this.createRecordConstructor(cw, BTYPE);
+        this.createRecordConstructor(cw, TYPEDESC_VALUE, superClass);
+        this.createRecordConstructor(cw, BTYPE, superClass);
         this.createRecordInitWrapper(cw, className, typeDef);
         this.createLambdas(cw, asyncDataCollector);
         JvmCodeGenUtil.visitStrandMetadataField(cw, asyncDataCollector);
@@ -731,7 +712,7 @@ class JvmValueGen {
         mv.visitEnd();
     }
 
-    private void createRecordConstructor(ClassWriter cw, String argumentClass) {
+    private void createRecordConstructor(ClassWriter cw, String argumentClass, String superClass) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, JVM_INIT_METHOD, String.format("(L%s;)V", argumentClass),
                 null, null);
         mv.visitCode();
@@ -741,7 +722,7 @@ class JvmValueGen {
         // load type
         mv.visitVarInsn(ALOAD, 1);
         // invoke `super(type)`;
-        mv.visitMethodInsn(INVOKESPECIAL, MAP_VALUE_IMPL, JVM_INIT_METHOD, String.format("(L%s;)V", argumentClass),
+        mv.visitMethodInsn(INVOKESPECIAL, superClass, JVM_INIT_METHOD, String.format("(L%s;)V", argumentClass),
                 false);
 
         mv.visitInsn(RETURN);
@@ -839,7 +820,8 @@ class JvmValueGen {
         return (field.symbol.flags & BAL_OPTIONAL) == BAL_OPTIONAL;
     }
 
-    private void createRecordGetMethod(ClassWriter cw, Map<String, BField> fields, String className) {
+    private void createRecordGetMethod(ClassWriter cw, Map<String, BField> fields, String className,
+                                       String superClass) {
 
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "get",
                                               String.format("(L%s;)L%s;", OBJECT, OBJECT),
@@ -891,12 +873,13 @@ class JvmValueGen {
             i += 1;
         }
 
-        this.createRecordGetDefaultCase(mv, defaultCaseLabel, fieldNameRegIndex);
+        this.createRecordGetDefaultCase(mv, defaultCaseLabel, fieldNameRegIndex, superClass);
         mv.visitMaxs(0, 0);
         mv.visitEnd();
     }
 
-    private void createRecordSetMethod(ClassWriter cw, Map<String, BField> fields, String className) {
+    private void createRecordSetMethod(ClassWriter cw, Map<String, BField> fields, String className,
+                                       String superClass) {
 
         MethodVisitor mv = cw.visitMethod(ACC_PROTECTED, "putValue",
                                               String.format("(L%s;L%s;)L%s;", OBJECT, OBJECT, OBJECT), "(TK;TV;)TV;",
@@ -952,34 +935,36 @@ class JvmValueGen {
             i += 1;
         }
 
-        this.createRecordPutDefaultCase(mv, defaultCaseLabel, fieldNameRegIndex, valueRegIndex);
+        this.createRecordPutDefaultCase(mv, defaultCaseLabel, fieldNameRegIndex, valueRegIndex, superClass);
         mv.visitMaxs(0, 0);
         mv.visitEnd();
     }
 
     private void createRecordPutDefaultCase(MethodVisitor mv, Label defaultCaseLabel, int nameRegIndex,
-                                            int valueRegIndex) {
+                                            int valueRegIndex, String superClass) {
 
         mv.visitLabel(defaultCaseLabel);
         mv.visitVarInsn(ALOAD, 0);
         mv.visitVarInsn(ALOAD, nameRegIndex);
         mv.visitVarInsn(ALOAD, valueRegIndex);
-        mv.visitMethodInsn(INVOKESPECIAL, MAP_VALUE_IMPL, "putValue",
+        mv.visitMethodInsn(INVOKESPECIAL, superClass, "putValue",
                 String.format("(L%s;L%s;)L%s;", OBJECT, OBJECT, OBJECT), false);
         mv.visitInsn(ARETURN);
     }
 
-    private void createRecordGetDefaultCase(MethodVisitor mv, Label defaultCaseLabel, int nameRegIndex) {
+    private void createRecordGetDefaultCase(MethodVisitor mv, Label defaultCaseLabel, int nameRegIndex,
+                                            String superClass) {
 
         mv.visitLabel(defaultCaseLabel);
         mv.visitVarInsn(ALOAD, 0);
         mv.visitVarInsn(ALOAD, nameRegIndex);
-        mv.visitMethodInsn(INVOKESPECIAL, MAP_VALUE_IMPL, "get", String.format("(L%s;)L%s;", OBJECT, OBJECT),
+        mv.visitMethodInsn(INVOKESPECIAL, superClass, "get", String.format("(L%s;)L%s;", OBJECT, OBJECT),
                 false);
         mv.visitInsn(ARETURN);
     }
 
-    private void createRecordEntrySetMethod(ClassWriter cw, Map<String, BField> fields, String className) {
+    private void createRecordEntrySetMethod(ClassWriter cw, Map<String, BField> fields, String className,
+                                            String superClass) {
 
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "entrySet",
                                           String.format("()L%s;", SET),
@@ -1031,7 +1016,8 @@ class JvmValueGen {
         // Add all from super.enrtySet() to the current entry set.
         mv.visitVarInsn(ALOAD, entrySetVarIndex);
         mv.visitVarInsn(ALOAD, 0);
-        mv.visitMethodInsn(INVOKESPECIAL, LINKED_HASH_MAP, "entrySet", String.format("()L%s;", SET), false);
+        mv.visitMethodInsn(INVOKESPECIAL, getRecordStorageClass(superClass), "entrySet", String.format("()L%s;", SET),
+                           false);
         mv.visitMethodInsn(INVOKEINTERFACE, SET, "addAll", String.format("(L%s;)Z", COLLECTION), true);
         mv.visitInsn(POP);
 
@@ -1042,7 +1028,8 @@ class JvmValueGen {
 
     }
 
-    private void createRecordContainsKeyMethod(ClassWriter cw, Map<String, BField> fields, String className) {
+    private void createRecordContainsKeyMethod(ClassWriter cw, Map<String, BField> fields, String className,
+                                               String superClass) {
 
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "containsKey", String.format("(L%s;)Z", OBJECT), null, null);
         mv.visitCode();
@@ -1090,14 +1077,15 @@ class JvmValueGen {
         mv.visitLabel(defaultCaseLabel);
         mv.visitVarInsn(ALOAD, 0);
         mv.visitVarInsn(ALOAD, fieldNameRegIndex);
-        mv.visitMethodInsn(INVOKESPECIAL, MAP_VALUE_IMPL, "containsKey", String.format("(L%s;)Z", OBJECT), false);
+        mv.visitMethodInsn(INVOKESPECIAL, superClass, "containsKey", String.format("(L%s;)Z", OBJECT), false);
         mv.visitInsn(IRETURN);
 
         mv.visitMaxs(0, 0);
         mv.visitEnd();
     }
 
-    private void createRecordGetValuesMethod(ClassWriter cw, Map<String, BField> fields, String className) {
+    private void createRecordGetValuesMethod(ClassWriter cw, Map<String, BField> fields, String className,
+                                             String superClass) {
 
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "values", String.format("()L%s;", COLLECTION),
                                           String.format("()L%s<TV;>;", COLLECTION), null);
@@ -1132,7 +1120,7 @@ class JvmValueGen {
 
         mv.visitVarInsn(ALOAD, valuesVarIndex);
         mv.visitVarInsn(ALOAD, 0); // this
-        mv.visitMethodInsn(INVOKESPECIAL, MAP_VALUE_IMPL, "values", String.format("()L%s;", COLLECTION), false);
+        mv.visitMethodInsn(INVOKESPECIAL, superClass, "values", String.format("()L%s;", COLLECTION), false);
         mv.visitMethodInsn(INVOKEINTERFACE, LIST, "addAll", String.format("(L%s;)Z", COLLECTION), true);
         mv.visitInsn(POP);
 
@@ -1142,14 +1130,15 @@ class JvmValueGen {
         mv.visitEnd();
     }
 
-    private void createGetSizeMethod(ClassWriter cw, Map<String, BField> fields, String className) {
+    private void createGetSizeMethod(ClassWriter cw, Map<String, BField> fields, String className,
+                                     String superClass) {
 
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "size", "()I", null, null);
         mv.visitCode();
         int sizeVarIndex = 1;
 
         mv.visitVarInsn(ALOAD, 0);
-        mv.visitMethodInsn(INVOKESPECIAL, MAP_VALUE_IMPL, "size", "()I", false);
+        mv.visitMethodInsn(INVOKESPECIAL, superClass, "size", "()I", false);
         mv.visitVarInsn(ISTORE, sizeVarIndex);
 
         int requiredFieldsCount = 0;
@@ -1188,7 +1177,8 @@ class JvmValueGen {
         mv.visitEnd();
     }
 
-    private void createRecordClearMethod(ClassWriter cw, Map<String, BField> fields, String className) {
+    private void createRecordClearMethod(ClassWriter cw, Map<String, BField> fields, String className,
+                                         String superClass) {
         // throw an UnsupportedOperationException, since remove is not supported by for records.
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "remove", String.format("(L%s;)L%s;", OBJECT, OBJECT),
                                           String.format("(L%s;)TV;", OBJECT), null);
@@ -1205,7 +1195,7 @@ class JvmValueGen {
         mv.visitVarInsn(ASTORE, strKeyVarIndex);
 
         mv.visitVarInsn(ALOAD, 0);
-        mv.visitMethodInsn(INVOKESPECIAL, MAP_VALUE_IMPL, "validateFreezeStatus", "()V", false);
+        mv.visitMethodInsn(INVOKESPECIAL, superClass, "validateFreezeStatus", "()V", false);
 
         // sort the fields before generating switch case
         List<BField> sortedFields = new ArrayList<>(fields.values());
@@ -1255,7 +1245,7 @@ class JvmValueGen {
         mv.visitLabel(defaultCaseLabel);
         mv.visitVarInsn(ALOAD, 0);
         mv.visitVarInsn(ALOAD, fieldNameRegIndex);
-        mv.visitMethodInsn(INVOKESPECIAL, MAP_VALUE_IMPL, "remove",
+        mv.visitMethodInsn(INVOKESPECIAL, superClass, "remove",
                 String.format("(L%s;)L%s;", OBJECT, OBJECT), false);
         mv.visitInsn(ARETURN);
 
@@ -1263,6 +1253,17 @@ class JvmValueGen {
         mv.visitEnd();
     }
 
+    /**
+     * Returns the class whose entrySet and keySet give the entries and keys which are not fields of the record.
+     * {@link org.ballerinalang.jvm.values.MapValueImpl} keeps those in the {@code LinkedHashMap} it extends.
+     *
+     * @param superClass the super class of the record value class
+     * @return the class to invoke entrySet and keySet on
+     */
+    private static String getRecordStorageClass(String superClass) {
+        return MAP_VALUE_IMPL.equals(superClass) ? LINKED_HASH_MAP : superClass;
+    }
+
     private boolean checkIfValueIsJReferenceType(BType bType) {
 
         switch (bType.getKind()) {
@@ -1276,7 +1277,8 @@ class JvmValueGen {
         }
     }
 
-    private void createRecordGetKeysMethod(ClassWriter cw, Map<String, BField> fields, String className) {
+    private void createRecordGetKeysMethod(ClassWriter cw, Map<String, BField> fields, String className,
+                                           String superClass) {
 
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "getKeys", String.format("()[L%s;", OBJECT), "()[TK;", null);
         mv.visitCode();
@@ -1310,7 +1312,8 @@ class JvmValueGen {
 
         mv.visitVarInsn(ALOAD, keysVarIndex);
         mv.visitVarInsn(ALOAD, 0); // this
-        mv.visitMethodInsn(INVOKESPECIAL, LINKED_HASH_MAP, "keySet", String.format("()L%s;", SET), false);
+        mv.visitMethodInsn(INVOKESPECIAL, getRecordStorageClass(superClass), "keySet", String.format("()L%s;", SET),
+                           false);
         mv.visitMethodInsn(INVOKEINTERFACE, SET, "addAll", String.format("(L%s;)Z", COLLECTION), true);
         mv.visitInsn(POP);
 
@@ -1325,7 +1328,7 @@ class JvmValueGen {
         mv.visitEnd();
     }
 
-    private void createRecordPopulateInitialValuesMethod(ClassWriter cw) {
+    private void createRecordPopulateInitialValuesMethod(ClassWriter cw, String superClass) {
 
         MethodVisitor mv = cw.visitMethod(ACC_PROTECTED, POPULATE_INITIAL_VALUES_METHOD,
                                           String.format("([L%s;)V", MAPPING_INITIAL_VALUE_ENTRY), null, null);
@@ -1333,7 +1336,7 @@ class JvmValueGen {
 
         mv.visitVarInsn(ALOAD, 0);
         mv.visitVarInsn(ALOAD, 1);
-        mv.visitMethodInsn(INVOKESPECIAL, MAP_VALUE_IMPL, POPULATE_INITIAL_VALUES_METHOD,
+        mv.visitMethodInsn(INVOKESPECIAL, superClass, POPULATE_INITIAL_VALUES_METHOD,
                            String.format("([L%s;)V", MAPPING_INITIAL_VALUE_ENTRY), false);
 
         mv.visitInsn(RETURN);
@@ -1387,7 +1390,7 @@ class JvmValueGen {
                                      asyncDataCollector);
         }
 
-        this.createObjectInit(cw, fields, className);
+        this.createObjectInit(cw);
         this.createCallMethod(cw, attachedFuncs, className, isService);
         this.createObjectGetMethod(cw, fields, className);
         this.createObjectSetMethod(cw, fields, className);
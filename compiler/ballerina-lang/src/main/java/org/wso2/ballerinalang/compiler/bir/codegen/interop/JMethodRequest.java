@@ -46,7 +46,8 @@ class JMethodRequest {
     boolean restParamExist = false;
     BType receiverType = null;
 
-    private static ResolvedTypeBuilder typeBuilder = new ResolvedTypeBuilder();
+    private static final ThreadLocal<ResolvedTypeBuilder> TYPE_BUILDER =
+            ThreadLocal.withInitial(ResolvedTypeBuilder::new);
 
     private JMethodRequest() {
 
@@ -83,7 +84,7 @@ class JMethodRequest {
         jMethodReq.bFuncParamCount = paramTypes.size();
         jMethodReq.bParamTypes = paramTypes.toArray(new BType[0]);
 
-        BType returnType = typeBuilder.build(bFuncType.retType);
+        BType returnType = TYPE_BUILDER.get().build(bFuncType.retType);
         jMethodReq.bReturnType = returnType;
         if (returnType.tag == TypeTags.UNION) {
             for (BType bType : ((BUnionType) returnType).getMemberTypes()) {
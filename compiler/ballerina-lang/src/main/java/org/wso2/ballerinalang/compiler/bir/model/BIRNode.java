@@ -125,6 +125,10 @@ public abstract class BIRNode {
         public VarKind kind;
         public VarScope scope;
         public boolean ignoreVariable;
+        // True for the maps holding the variables captured by lambdas, whose values always belong to the
+        // `any|error` constraint of the map. Not written to BIR files, so it is only set for functions generated from
+        // the source.
+        public boolean closureMap;
         public BIRBasicBlock endBB;
         public BIRBasicBlock startBB;
         public int insOffset;
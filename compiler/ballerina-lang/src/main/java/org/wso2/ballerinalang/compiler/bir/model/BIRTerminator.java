@@ -301,6 +301,12 @@ public abstract class BIRTerminator extends BIRAbstractInstruction implements BI
 
         public Integer lockId = -1;
 
+        /**
+         * True if none of the locks sharing this lock id write to the guarded state, in which case the lock can be
+         * acquired in shared mode.
+         */
+        public boolean shared;
+
         public Lock(DiagnosticPos pos, BIRBasicBlock lockedBB) {
             super(pos, InstructionKind.LOCK);
             this.lockedBB = lockedBB;
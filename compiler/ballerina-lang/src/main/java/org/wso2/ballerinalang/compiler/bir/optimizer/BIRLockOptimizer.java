@@ -19,11 +19,18 @@
 package org.wso2.ballerinalang.compiler.bir.optimizer;
 
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +43,23 @@ import java.util.Set;
  */
 public class BIRLockOptimizer extends BIRVisitor {
 
+    /**
+     * Instructions that do not mutate any value that exists outside the lock block.
+     */
+    private static final Set<InstructionKind> READ_ONLY_INSTRUCTIONS = EnumSet.of(
+            InstructionKind.MOVE, InstructionKind.CONST_LOAD, InstructionKind.STRING_LOAD,
+            InstructionKind.MAP_LOAD, InstructionKind.ARRAY_LOAD, InstructionKind.OBJECT_LOAD,
+            InstructionKind.TABLE_LOAD, InstructionKind.XML_LOAD, InstructionKind.XML_LOAD_ALL,
+            InstructionKind.XML_SEQ_LOAD, InstructionKind.XML_ATTRIBUTE_LOAD, InstructionKind.TYPE_CAST,
+            InstructionKind.IS_LIKE, InstructionKind.TYPE_TEST, InstructionKind.TYPEOF, InstructionKind.ADD,
+            InstructionKind.SUB, InstructionKind.MUL, InstructionKind.DIV, InstructionKind.MOD,
+            InstructionKind.EQUAL, InstructionKind.NOT_EQUAL, InstructionKind.GREATER_THAN,
+            InstructionKind.GREATER_EQUAL, InstructionKind.LESS_THAN, InstructionKind.LESS_EQUAL,
+            InstructionKind.AND, InstructionKind.OR, InstructionKind.REF_EQUAL, InstructionKind.REF_NOT_EQUAL,
+            InstructionKind.NOT, InstructionKind.NEGATE, InstructionKind.BITWISE_AND, InstructionKind.BITWISE_OR,
+            InstructionKind.BITWISE_XOR, InstructionKind.BITWISE_LEFT_SHIFT, InstructionKind.BITWISE_RIGHT_SHIFT,
+            InstructionKind.BITWISE_UNSIGNED_RIGHT_SHIFT);
+
     private final List<BIRTerminator.Lock> lockList = new ArrayList<>();
     private final Map<BIRTerminator.Lock, Integer> lockToSetMap = new HashMap<>();
     private final Map<Integer, List<BIRTerminator.Lock>> setToLockMap = new HashMap<>();
@@ -52,6 +76,7 @@ public class BIRLockOptimizer extends BIRVisitor {
     private void optimizeLocks() {
         analyzeLocks();
         propagateLocks();
+        markSharedLocks();
     }
 
     private void analyzeLocks() {
@@ -73,6 +98,81 @@ public class BIRLockOptimizer extends BIRVisitor {
         }
     }
 
+    /**
+     * A lock set can be acquired in shared mode only if none of the lock blocks using it can write, since nested
+     * lock blocks of the same set would otherwise try to upgrade a shared lock.
+     */
+    private void markSharedLocks() {
+        for (List<BIRTerminator.Lock> lockSet : setToLockMap.values()) {
+            boolean shared = true;
+            for (BIRTerminator.Lock lock : lockSet) {
+                if (!isReadOnlyLockBlock(lock)) {
+                    shared = false;
+                    break;
+                }
+            }
+            for (BIRTerminator.Lock lock : lockSet) {
+                lock.shared = shared;
+            }
+        }
+    }
+
+    private boolean isReadOnlyLockBlock(BIRTerminator.Lock lock) {
+        if (lock.lockVariables.isEmpty()) {
+            return false;
+        }
+
+        Set<BIRNode.BIRBasicBlock> visited = new HashSet<>();
+        Deque<BIRNode.BIRBasicBlock> pending = new ArrayDeque<>();
+        pending.push(lock.lockedBB);
+        while (!pending.isEmpty()) {
+            BIRNode.BIRBasicBlock bb = pending.pop();
+            if (!visited.add(bb)) {
+                continue;
+            }
+
+            for (BIRNonTerminator instruction : bb.instructions) {
+                if (!isReadOnlyInstruction(instruction)) {
+                    return false;
+                }
+            }
+
+            BIRTerminator terminator = bb.terminator;
+            if (terminator == null) {
+                return false;
+            }
+            switch (terminator.kind) {
+                case UNLOCK:
+                    if (((BIRTerminator.Unlock) terminator).relatedLock == lock) {
+                        continue;
+                    }
+                    break;
+                case GOTO:
+                case BRANCH:
+                case LOCK:
+                    break;
+                default:
+                    // calls and other terminators can mutate state we cannot see from here
+                    return false;
+            }
+            for (BIRNode.BIRBasicBlock nextBB : terminator.getNextBasicBlocks()) {
+                pending.push(nextBB);
+            }
+        }
+        return true;
+    }
+
+    private boolean isReadOnlyInstruction(BIRNonTerminator instruction) {
+        if (!READ_ONLY_INSTRUCTIONS.contains(instruction.kind)) {
+            return false;
+        }
+        if (instruction instanceof BIRNonTerminator.FieldAccess && ((BIRNonTerminator.FieldAccess) instruction)
+                .fillingRead) {
+            return false;
+        }
+        return instruction.lhsOp == null || instruction.lhsOp.variableDcl.kind != VarKind.GLOBAL;
+    }
+
     private void analyzeVisitedLock(int lockListIndex) {
         BIRTerminator.Lock currentLock = lockList.get(lockListIndex);
         int previousSetId = setId;
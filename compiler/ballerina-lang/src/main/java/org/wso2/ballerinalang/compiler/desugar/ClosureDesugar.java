@@ -1134,8 +1134,11 @@ public class ClosureDesugar extends BLangNodeVisitor {
      * @return map symbol created
      */
     private BVarSymbol createMapSymbol(String mapName, SymbolEnv symbolEnv) {
-        return new BVarSymbol(0, names.fromString(mapName), symbolEnv.scope.owner.pkgID,
-                              symTable.mapAllType, symbolEnv.scope.owner, symTable.builtinPos, VIRTUAL);
+        BVarSymbol mapSymbol = new BVarSymbol(0, names.fromString(mapName), symbolEnv.scope.owner.pkgID,
+                                              symTable.mapAllType, symbolEnv.scope.owner, symTable.builtinPos,
+                                              VIRTUAL);
+        mapSymbol.closureMap = true;
+        return mapSymbol;
     }
 
     /**
@@ -1813,7 +1813,7 @@ public class Desugar extends BLangNodeVisitor {
     }
 
     private BLangInvocation getToStringInvocationOnExpr(BLangExpression expression) {
-        BInvokableSymbol symbol = (BInvokableSymbol) symTable.langValueModuleSymbol.scope
+        BInvokableSymbol symbol = (BInvokableSymbol) symTable.getLangValueModuleSymbol().scope
                 .lookup(names.fromString(TO_STRING_FUNCTION_NAME)).symbol;
 
         List<BLangExpression> requiredArgs = new ArrayList<BLangExpression>() {{
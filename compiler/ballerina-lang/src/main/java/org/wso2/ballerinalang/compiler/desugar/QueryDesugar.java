@@ -20,6 +20,7 @@ import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.clauses.OrderKeyNode;
 import org.ballerinalang.model.tree.IdentifierNode;
 import org.ballerinalang.model.tree.NodeKind;
+import org.ballerinalang.model.tree.OperatorKind;
 import org.ballerinalang.model.tree.expressions.RecordLiteralNode;
 import org.ballerinalang.model.tree.statements.VariableDefinitionNode;
 import org.ballerinalang.model.tree.types.TypeNode;
@@ -29,15 +30,18 @@ import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolEnv;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BInvokableSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BOperatorSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BRecordTypeSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BVarSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SymTag;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BArrayType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BStreamType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BStructureType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BTableType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BTypedescType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BUnionType;
@@ -166,11 +170,13 @@ import org.wso2.ballerinalang.compiler.tree.types.BLangLetVariable;
 import org.wso2.ballerinalang.compiler.tree.types.BLangRecordTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangUnionTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangValueType;
+import org.wso2.ballerinalang.compiler.util.BArrayState;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
 import org.wso2.ballerinalang.compiler.util.diagnotic.DiagnosticPos;
+import org.wso2.ballerinalang.util.Flags;
 import org.wso2.ballerinalang.util.Lists;
 
 import java.util.ArrayList;
@@ -189,6 +195,7 @@ import static org.ballerinalang.model.symbols.SymbolOrigin.VIRTUAL;
  */
 public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_CREATE_PIPELINE_FUNCTION = new Name("createPipeline");
+    private static final Name QUERY_CREATE_INDEXED_COLLECTION_FUNCTION = new Name("createIndexedCollection");
     private static final Name QUERY_CREATE_INPUT_FUNCTION = new Name("createInputFunction");
     private static final Name QUERY_CREATE_NESTED_FROM_FUNCTION = new Name("createNestedFromFunction");
     private static final Name QUERY_CREATE_LET_FUNCTION = new Name("createLetFunction");
@@ -206,6 +213,7 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_TO_XML_FUNCTION = new Name("toXML");
     private static final Name QUERY_ADD_TO_TABLE_FUNCTION = new Name("addToTable");
     private static final Name QUERY_GET_STREAM_FROM_PIPELINE_FUNCTION = new Name("getStreamFromPipeline");
+    private static final Name QUERY_CHECK_LIMIT_FUNCTION = new Name("checkLimit");
     private static final String FRAME_PARAMETER_NAME = "$frame$";
     private static final CompilerContext.Key<QueryDesugar> QUERY_DESUGAR_KEY = new CompilerContext.Key<>();
     private BLangExpression onConflictExpr;
@@ -247,6 +255,10 @@ public class QueryDesugar extends BLangNodeVisitor {
     BLangStatementExpression desugar(BLangQueryExpr queryExpr, SymbolEnv env) {
         List<BLangNode> clauses = queryExpr.getQueryClauses();
         DiagnosticPos pos = clauses.get(0).pos;
+        this.env = env;
+        if (canDesugarToLoop(queryExpr)) {
+            return desugarToLoop(queryExpr, (BArrayType) getArrayResultType(queryExpr.type));
+        }
         BLangBlockStmt queryBlock = ASTBuilderUtil.createBlockStmt(pos);
         BLangVariableReference streamRef = buildStream(clauses, queryExpr.type, env, queryBlock);
         BLangStatementExpression streamStmtExpr;
@@ -270,12 +282,7 @@ public class QueryDesugar extends BLangNodeVisitor {
             } else if (TypeTags.isStringTypeTag(queryExpr.type.tag)) {
                 result = getStreamFunctionVariableRef(queryBlock, QUERY_TO_STRING_FUNCTION, Lists.of(streamRef), pos);
             } else {
-                BType arrayType = queryExpr.type;
-                if (arrayType.tag == TypeTags.UNION) {
-                    arrayType = ((BUnionType) arrayType).getMemberTypes()
-                            .stream().filter(m -> m.tag == TypeTags.ARRAY)
-                            .findFirst().orElse(symTable.arrayType);
-                }
+                BType arrayType = getArrayResultType(queryExpr.type);
                 BLangArrayLiteral arr = (BLangArrayLiteral) TreeBuilder.createArrayLiteralExpressionNode();
                 arr.exprs = new ArrayList<>();
                 arr.type = arrayType;
@@ -319,8 +326,9 @@ public class QueryDesugar extends BLangNodeVisitor {
     BLangVariableReference buildStream(List<BLangNode> clauses, BType resultType, SymbolEnv env, BLangBlockStmt block) {
         this.env = env;
         BLangFromClause initFromClause = (BLangFromClause) clauses.get(0);
+        BLangExpression initCollection = addIndexedCollection(block, initFromClause, clauses);
         final BLangVariableReference initPipeline = addPipeline(block, initFromClause.pos,
-                initFromClause.collection, resultType);
+                initCollection, resultType);
         BLangVariableReference initFrom = addInputFunction(block, initFromClause);
         addStreamFunction(block, initPipeline, initFrom);
         for (BLangNode clause : clauses.subList(1, clauses.size())) {
@@ -374,6 +382,328 @@ public class QueryDesugar extends BLangNodeVisitor {
         return addGetStreamFromPipeline(block, initPipeline);
     }
 
+    // ---- Util methods to lower simple queries to a loop. ---- //
+    /**
+     * Check whether the query expression can be desugared to a single loop instead of a _StreamPipeline. This is the
+     * case for queries constructing a list from an array or a table, using only let, where, limit and select clauses
+     * whose expressions do not need to be evaluated within a lambda.
+     *
+     * @param queryExpr query expression to be desugared.
+     * @return whether the query can be desugared to a loop.
+     */
+    private boolean canDesugarToLoop(BLangQueryExpr queryExpr) {
+        if (queryExpr.isStream || queryExpr.isTable) {
+            return false;
+        }
+        BType arrayType = getArrayResultType(queryExpr.type);
+        if (arrayType.tag != TypeTags.ARRAY || ((BArrayType) arrayType).state != BArrayState.UNSEALED) {
+            return false;
+        }
+
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        int collectionTag = fromClause.collection.type.tag;
+        if ((collectionTag != TypeTags.ARRAY && collectionTag != TypeTags.TABLE)
+                || findIndexableComparison(fromClause, clauses) != null) {
+            // Tables which may be narrowed down by an index are left to the pipeline.
+            return false;
+        }
+
+        List<BVarSymbol> querySymbols = new ArrayList<>(getIntroducedSymbols((BLangVariable)
+                fromClause.variableDefinitionNode.getVariable()));
+        for (BLangNode clause : clauses) {
+            if (clause.getKind() == NodeKind.LET_CLAUSE) {
+                querySymbols.addAll(getIntroducedSymbols((BLangLetClause) clause));
+            }
+        }
+        if (!canEvaluateInLoop(fromClause.collection, querySymbols)) {
+            return false;
+        }
+        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+            switch (clause.getKind()) {
+                case LET_CLAUSE:
+                    for (BLangLetVariable letVariable : ((BLangLetClause) clause).letVarDeclarations) {
+                        if (letVariable.definitionNode.getKind() != NodeKind.VARIABLE_DEF
+                                || !canEvaluateInLoop((BLangExpression)
+                                letVariable.definitionNode.getVariable().getInitialExpression(), querySymbols)) {
+                            return false;
+                        }
+                    }
+                    break;
+                case WHERE:
+                    if (!canEvaluateInLoop(((BLangWhereClause) clause).expression, querySymbols)) {
+                        return false;
+                    }
+                    break;
+                case LIMIT:
+                    if (!canEvaluateInLoop(((BLangLimitClause) clause).expression, querySymbols)) {
+                        return false;
+                    }
+                    break;
+                case SELECT:
+                    if (!canEvaluateInLoop(((BLangSelectClause) clause).expression, querySymbols)) {
+                        return false;
+                    }
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Only expressions which neither return early (i.e. check), define functions nor contain other queries are
+     * evaluated within the loop, as the latter would otherwise see the query variables as frame values. Likewise,
+     * variables must either be introduced by the query or be visible from the enclosing env, which is not the case
+     * for the variables of an outer query, when nested in one of its clauses.
+     */
+    private boolean canEvaluateInLoop(BLangExpression expr, List<BVarSymbol> querySymbols) {
+        if (expr == null) {
+            return true;
+        }
+        switch (expr.getKind()) {
+            case LITERAL:
+            case NUMERIC_LITERAL:
+            case CONSTANT_REF:
+                return true;
+            case SIMPLE_VARIABLE_REF:
+                BLangSimpleVarRef varRef = (BLangSimpleVarRef) expr;
+                BSymbol symbol = varRef.symbol;
+                if (symbol == null || (symbol.tag & SymTag.VARIABLE) != SymTag.VARIABLE
+                        || querySymbols.contains(symbol)) {
+                    return true;
+                }
+                return symbol == symResolver.lookupClosureVarSymbol(env, names.fromIdNode(varRef.variableName),
+                        SymTag.VARIABLE);
+            case FIELD_BASED_ACCESS_EXPR:
+                return canEvaluateInLoop(((BLangFieldBasedAccess) expr).expr, querySymbols);
+            case INDEX_BASED_ACCESS_EXPR:
+                BLangIndexBasedAccess indexAccess = (BLangIndexBasedAccess) expr;
+                return canEvaluateInLoop(indexAccess.expr, querySymbols)
+                        && canEvaluateInLoop(indexAccess.indexExpr, querySymbols);
+            case BINARY_EXPR:
+                BLangBinaryExpr binaryExpr = (BLangBinaryExpr) expr;
+                return canEvaluateInLoop(binaryExpr.lhsExpr, querySymbols)
+                        && canEvaluateInLoop(binaryExpr.rhsExpr, querySymbols);
+            case ELVIS_EXPR:
+                BLangElvisExpr elvisExpr = (BLangElvisExpr) expr;
+                return canEvaluateInLoop(elvisExpr.lhsExpr, querySymbols)
+                        && canEvaluateInLoop(elvisExpr.rhsExpr, querySymbols);
+            case TERNARY_EXPR:
+                BLangTernaryExpr ternaryExpr = (BLangTernaryExpr) expr;
+                return canEvaluateInLoop(ternaryExpr.expr, querySymbols)
+                        && canEvaluateInLoop(ternaryExpr.thenExpr, querySymbols)
+                        && canEvaluateInLoop(ternaryExpr.elseExpr, querySymbols);
+            case UNARY_EXPR:
+                return canEvaluateInLoop(((BLangUnaryExpr) expr).expr, querySymbols);
+            case GROUP_EXPR:
+                return canEvaluateInLoop(((BLangGroupExpr) expr).expression, querySymbols);
+            case TYPE_CONVERSION_EXPR:
+                return canEvaluateInLoop(((BLangTypeConversionExpr) expr).expr, querySymbols);
+            case TYPE_TEST_EXPR:
+                return canEvaluateInLoop(((BLangTypeTestExpr) expr).expr, querySymbols);
+            case TRAP_EXPR:
+                return canEvaluateInLoop(((BLangTrapExpr) expr).expr, querySymbols);
+            case CHECK_PANIC_EXPR:
+                return canEvaluateInLoop(((BLangCheckPanickedExpr) expr).expr, querySymbols);
+            case NAMED_ARGS_EXPR:
+                return canEvaluateInLoop(((BLangNamedArgsExpression) expr).expr, querySymbols);
+            case REST_ARGS_EXPR:
+                return canEvaluateInLoop(((BLangRestArgsExpression) expr).expr, querySymbols);
+            case STRING_TEMPLATE_LITERAL:
+                return canEvaluateInLoop(((BLangStringTemplateLiteral) expr).exprs, querySymbols);
+            case LIST_CONSTRUCTOR_EXPR:
+            case ARRAY_LITERAL_EXPR:
+            case TUPLE_LITERAL_EXPR:
+                return canEvaluateInLoop(((BLangListConstructorExpr) expr).exprs, querySymbols);
+            case RECORD_LITERAL_EXPR:
+                for (RecordLiteralNode.RecordField field : ((BLangRecordLiteral) expr).fields) {
+                    if (field.isKeyValueField()) {
+                        BLangRecordKeyValueField keyValue = (BLangRecordKeyValueField) field;
+                        if ((keyValue.key.computedKey && !canEvaluateInLoop(keyValue.key.expr, querySymbols))
+                                || !canEvaluateInLoop(keyValue.valueExpr, querySymbols)) {
+                            return false;
+                        }
+                    } else if (field.getKind() == NodeKind.RECORD_LITERAL_SPREAD_OP) {
+                        if (!canEvaluateInLoop(((BLangRecordSpreadOperatorField) field).expr, querySymbols)) {
+                            return false;
+                        }
+                    }
+                }
+                return true;
+            case INVOCATION:
+                BLangInvocation invocation = (BLangInvocation) expr;
+                if (invocation.async || invocation instanceof BLangInvocation.BLangActionInvocation) {
+                    return false;
+                }
+                return canEvaluateInLoop(invocation.expr, querySymbols)
+                        && canEvaluateInLoop(invocation.argExprs, querySymbols);
+            default:
+                return false;
+        }
+    }
+
+    private boolean canEvaluateInLoop(List<BLangExpression> exprs, List<BVarSymbol> querySymbols) {
+        for (BLangExpression expr : exprs) {
+            if (!canEvaluateInLoop(expr, querySymbols)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Desugar query expression to below, evaluating the clauses in place for each member of the collection.
+     * Type[] $result = [];
+     * int $count = 0;
+     * int $limitCount = 0;
+     * foreach var x in collection {
+     *     int y = x * 2;
+     *     if (x > 0) {
+     *         int $limit = checkLimit(lmt);
+     *         if ($limitCount >= $limit) {
+     *             break;
+     *         }
+     *         $limitCount = $limitCount + 1;
+     *         $result[$count] = y;
+     *         $count = $count + 1;
+     *     }
+     * }
+     *
+     * @param queryExpr query expression to be desugared.
+     * @param arrayType type of the resulting list.
+     * @return desugared query expression.
+     */
+    private BLangStatementExpression desugarToLoop(BLangQueryExpr queryExpr, BArrayType arrayType) {
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        DiagnosticPos pos = fromClause.pos;
+        BLangBlockStmt queryBlock = ASTBuilderUtil.createBlockStmt(pos);
+
+        BLangArrayLiteral arr = (BLangArrayLiteral) TreeBuilder.createArrayLiteralExpressionNode();
+        arr.exprs = new ArrayList<>();
+        arr.type = arrayType;
+        arr.pos = pos;
+        BVarSymbol resultSymbol = defineLoopVariable(queryBlock, pos, arrayType, arr);
+        BVarSymbol countSymbol = defineLoopVariable(queryBlock, pos, symTable.intType,
+                ASTBuilderUtil.createLiteral(pos, symTable.intType, 0L));
+
+        BLangForeach foreach = (BLangForeach) TreeBuilder.createForeachNode();
+        foreach.pos = pos;
+        foreach.collection = fromClause.collection;
+        foreach.variableDefinitionNode = fromClause.variableDefinitionNode;
+        foreach.varType = fromClause.varType;
+        foreach.resultType = fromClause.resultType;
+        foreach.nillableResultType = fromClause.nillableResultType;
+        foreach.isDeclaredWithVar = fromClause.isDeclaredWithVar;
+        foreach.body = ASTBuilderUtil.createBlockStmt(pos);
+        queryBlock.addStatement(foreach);
+
+        // Each whereClause nests the clauses after it, so that the rows it filters out skip to the next member.
+        BLangBlockStmt body = foreach.body;
+        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+            switch (clause.getKind()) {
+                case LET_CLAUSE:
+                    for (BLangLetVariable letVariable : ((BLangLetClause) clause).letVarDeclarations) {
+                        body.addStatement((BLangStatement) letVariable.definitionNode);
+                    }
+                    break;
+                case WHERE:
+                    BLangBlockStmt whereBody = ASTBuilderUtil.createBlockStmt(clause.pos);
+                    body.addStatement(ASTBuilderUtil.createIfElseStmt(clause.pos,
+                            ((BLangWhereClause) clause).expression, whereBody, null));
+                    body = whereBody;
+                    break;
+                case LIMIT:
+                    addLimitCheck(queryBlock, body, (BLangLimitClause) clause);
+                    break;
+                case SELECT:
+                    // $result[$count] = select-expr;
+                    DiagnosticPos selectPos = clause.pos;
+                    BLangIndexBasedAccess resultAccess = ASTBuilderUtil.createIndexAccessExpr(
+                            ASTBuilderUtil.createVariableRef(selectPos, resultSymbol),
+                            ASTBuilderUtil.createVariableRef(selectPos, countSymbol));
+                    resultAccess.pos = selectPos;
+                    resultAccess.type = arrayType.eType;
+                    body.addStatement(ASTBuilderUtil.createAssignmentStmt(selectPos, resultAccess,
+                            desugar.addConversionExprIfRequired(((BLangSelectClause) clause).expression,
+                                    arrayType.eType)));
+                    body.addStatement(createIncrementStmt(selectPos, countSymbol));
+                    break;
+            }
+        }
+
+        BLangStatementExpression stmtExpr = ASTBuilderUtil.createStatementExpression(queryBlock,
+                desugar.addConversionExprIfRequired(ASTBuilderUtil.createVariableRef(pos, resultSymbol),
+                        queryExpr.type));
+        stmtExpr.type = queryExpr.type;
+        return stmtExpr;
+    }
+
+    /**
+     * Desugar limitClause to below, where the counter is defined before the loop.
+     * int $limit = checkLimit(lmt);
+     * if ($limitCount >= $limit) {
+     *     break;
+     * }
+     * $limitCount = $limitCount + 1;
+     *
+     * @param queryBlock block to define the counter in.
+     * @param body       loop body to write to.
+     * @param limitClause limit clause to be desugared.
+     */
+    private void addLimitCheck(BLangBlockStmt queryBlock, BLangBlockStmt body, BLangLimitClause limitClause) {
+        DiagnosticPos pos = limitClause.pos;
+        BVarSymbol limitCountSymbol = defineLoopVariable(queryBlock, pos, symTable.intType,
+                ASTBuilderUtil.createLiteral(pos, symTable.intType, 0L));
+        BLangVariableReference limitRef = getStreamFunctionVariableRef(body, QUERY_CHECK_LIMIT_FUNCTION,
+                Lists.of(desugar.addConversionExprIfRequired(limitClause.expression, symTable.intType)), pos);
+
+        BLangBinaryExpr limitReached = ASTBuilderUtil.createBinaryExpr(pos,
+                ASTBuilderUtil.createVariableRef(pos, limitCountSymbol), limitRef, symTable.booleanType,
+                OperatorKind.GREATER_EQUAL, null);
+        limitReached.opSymbol = (BOperatorSymbol) symResolver.resolveBinaryOperator(OperatorKind.GREATER_EQUAL,
+                symTable.intType, symTable.intType);
+        BLangBlockStmt breakBody = ASTBuilderUtil.createBlockStmt(pos);
+        BLangBreak breakNode = (BLangBreak) TreeBuilder.createBreakNode();
+        breakNode.pos = pos;
+        breakBody.addStatement(breakNode);
+        body.addStatement(ASTBuilderUtil.createIfElseStmt(pos, limitReached, breakBody, null));
+        body.addStatement(createIncrementStmt(pos, limitCountSymbol));
+    }
+
+    private BVarSymbol defineLoopVariable(BLangBlockStmt blockStmt, DiagnosticPos pos, BType type,
+                                          BLangExpression initExpr) {
+        String name = getNewVarName();
+        BVarSymbol varSymbol = new BVarSymbol(0, names.fromString(name), env.scope.owner.pkgID, type,
+                env.scope.owner, pos, VIRTUAL);
+        BLangSimpleVariable variable = ASTBuilderUtil.createVariable(pos, name, type, initExpr, varSymbol);
+        blockStmt.addStatement(ASTBuilderUtil.createVariableDef(pos, variable));
+        return varSymbol;
+    }
+
+    private BLangAssignment createIncrementStmt(DiagnosticPos pos, BVarSymbol varSymbol) {
+        BLangBinaryExpr increment = ASTBuilderUtil.createBinaryExpr(pos,
+                ASTBuilderUtil.createVariableRef(pos, varSymbol),
+                ASTBuilderUtil.createLiteral(pos, symTable.intType, 1L), symTable.intType, OperatorKind.ADD,
+                (BOperatorSymbol) symResolver.resolveBinaryOperator(OperatorKind.ADD, symTable.intType,
+                        symTable.intType));
+        return ASTBuilderUtil.createAssignmentStmt(pos, ASTBuilderUtil.createVariableRef(pos, varSymbol), increment);
+    }
+
+    /**
+     * Returns the list type to construct for a query expression of the given type.
+     */
+    private BType getArrayResultType(BType type) {
+        if (type.tag == TypeTags.UNION) {
+            return ((BUnionType) type).getMemberTypes()
+                    .stream().filter(m -> m.tag == TypeTags.ARRAY)
+                    .findFirst().orElse(symTable.arrayType);
+        }
+        return type;
+    }
+
     // ---- Util methods to create the stream pipeline. ---- //
     /**
      * Desugar fromClause/joinClause to below and return a reference to created join _StreamPipeline.
@@ -408,6 +738,191 @@ public class QueryDesugar extends BLangNodeVisitor {
                 Lists.of(valueVarRef, typedescExpr), pos);
     }
 
+    /**
+     * Desugar the collection of the initial fromClause to below, if it is a table and a whereClause compares a field
+     * of the from variable with a value which does not depend on the query, and return the collection to iterate.
+     * (Type[]|table<Type>) collection = createIndexedCollection(tbl, "field", operator, value);
+     * The table is narrowed down using a secondary index on the field, if there is one. The whereClause is desugared
+     * as usual regardless, hence the index only serves to skip the members which cannot satisfy it.
+     *
+     * @param blockStmt  parent block to write to.
+     * @param fromClause initial fromClause of the query.
+     * @param clauses    list of query clauses.
+     * @return the collection to iterate.
+     */
+    BLangExpression addIndexedCollection(BLangBlockStmt blockStmt, BLangFromClause fromClause,
+                                         List<BLangNode> clauses) {
+        BLangExpression collection = fromClause.collection;
+        BLangBinaryExpr comparison = findIndexableComparison(fromClause, clauses);
+        if (comparison == null) {
+            return collection;
+        }
+        BVarSymbol fromVarSymbol = ((BLangSimpleVariable) fromClause.variableDefinitionNode.getVariable()).symbol;
+        DiagnosticPos pos = comparison.pos;
+        boolean fieldOnLhs = isFieldAccessOf(unwrapGroup(comparison.lhsExpr), fromVarSymbol);
+        BLangFieldBasedAccess fieldAccess = (BLangFieldBasedAccess)
+                unwrapGroup(fieldOnLhs ? comparison.lhsExpr : comparison.rhsExpr);
+        BLangExpression value = copyIndexLookupValue(pos,
+                unwrapGroup(fieldOnLhs ? comparison.rhsExpr : comparison.lhsExpr));
+        BLangLiteral fieldName = ASTBuilderUtil.createLiteral(pos, symTable.stringType,
+                fieldAccess.field.value);
+        BLangLiteral operator = ASTBuilderUtil.createLiteral(pos, symTable.intType,
+                (long) getIndexLookupOperator(comparison.opKind, fieldOnLhs));
+        BType indexedType = BUnionType.create(null, collection.type,
+                new BArrayType(((BTableType) collection.type).constraint));
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_INDEXED_COLLECTION_FUNCTION, indexedType,
+                Lists.of(collection, fieldName, operator,
+                        desugar.addConversionExprIfRequired(value, symTable.anydataType)), pos);
+    }
+
+    /**
+     * Returns the comparison of the first whereClause before any limitClause, which can be answered by a secondary
+     * index of the table iterated by the initial fromClause.
+     */
+    private BLangBinaryExpr findIndexableComparison(BLangFromClause fromClause, List<BLangNode> clauses) {
+        BLangExpression collection = fromClause.collection;
+        if (collection.type.tag != TypeTags.TABLE
+                || ((BTableType) collection.type).constraint.tag != TypeTags.RECORD
+                || fromClause.variableDefinitionNode.getVariable().getKind() != NodeKind.VARIABLE) {
+            return null;
+        }
+        BVarSymbol fromVarSymbol = ((BLangSimpleVariable) fromClause.variableDefinitionNode.getVariable()).symbol;
+
+        List<BVarSymbol> introducedSymbols = new ArrayList<>();
+        for (BLangNode clause : clauses) {
+            if (clause.getKind() == NodeKind.FROM || clause.getKind() == NodeKind.JOIN) {
+                introducedSymbols.addAll(getIntroducedSymbols((BLangVariable)
+                        ((BLangInputClause) clause).variableDefinitionNode.getVariable()));
+            } else if (clause.getKind() == NodeKind.LET_CLAUSE) {
+                introducedSymbols.addAll(getIntroducedSymbols((BLangLetClause) clause));
+            }
+        }
+
+        for (BLangNode clause : clauses) {
+            if (clause.getKind() == NodeKind.LIMIT) {
+                break;
+            }
+            if (clause.getKind() != NodeKind.WHERE) {
+                continue;
+            }
+            BLangBinaryExpr comparison = findIndexableComparison(((BLangWhereClause) clause).expression,
+                    fromVarSymbol, introducedSymbols);
+            if (comparison != null) {
+                return comparison;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns a comparison of a field of the from variable with a value which can be evaluated before the query,
+     * looking into the operands of logical and expressions.
+     */
+    private BLangBinaryExpr findIndexableComparison(BLangExpression expr, BVarSymbol fromVarSymbol,
+                                                    List<BVarSymbol> introducedSymbols) {
+        expr = unwrapGroup(expr);
+        if (expr.getKind() != NodeKind.BINARY_EXPR) {
+            return null;
+        }
+        BLangBinaryExpr binaryExpr = (BLangBinaryExpr) expr;
+        switch (binaryExpr.opKind) {
+            case AND:
+                BLangBinaryExpr comparison = findIndexableComparison(binaryExpr.lhsExpr, fromVarSymbol,
+                        introducedSymbols);
+                return comparison != null ? comparison :
+                        findIndexableComparison(binaryExpr.rhsExpr, fromVarSymbol, introducedSymbols);
+            case EQUAL:
+            case LESS_THAN:
+            case LESS_EQUAL:
+            case GREATER_THAN:
+            case GREATER_EQUAL:
+                BLangExpression lhsExpr = unwrapGroup(binaryExpr.lhsExpr);
+                BLangExpression rhsExpr = unwrapGroup(binaryExpr.rhsExpr);
+                if ((isFieldAccessOf(lhsExpr, fromVarSymbol) && isIndexLookupValue(rhsExpr, introducedSymbols))
+                        || (isFieldAccessOf(rhsExpr, fromVarSymbol)
+                        && isIndexLookupValue(lhsExpr, introducedSymbols))) {
+                    return binaryExpr;
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private boolean isFieldAccessOf(BLangExpression expr, BVarSymbol varSymbol) {
+        if (expr.getKind() != NodeKind.FIELD_BASED_ACCESS_EXPR) {
+            return false;
+        }
+        BLangFieldBasedAccess fieldAccess = (BLangFieldBasedAccess) expr;
+        return !fieldAccess.optionalFieldAccess && fieldAccess.expr.getKind() == NodeKind.SIMPLE_VARIABLE_REF
+                && ((BLangSimpleVarRef) fieldAccess.expr).symbol == varSymbol;
+    }
+
+    /**
+     * Only literals, constants and final variables of immutable types declared outside the query are used to look
+     * up an index. The lookup value is evaluated once before the query, so it has to be the value the where clause
+     * would see for every row.
+     */
+    private boolean isIndexLookupValue(BLangExpression expr, List<BVarSymbol> introducedSymbols) {
+        switch (expr.getKind()) {
+            case LITERAL:
+            case NUMERIC_LITERAL:
+            case CONSTANT_REF:
+                return true;
+            case SIMPLE_VARIABLE_REF:
+                BSymbol symbol = ((BLangSimpleVarRef) expr).symbol;
+                if (symbol == null || introducedSymbols.contains(symbol)) {
+                    return false;
+                }
+                if ((symbol.tag & SymTag.CONSTANT) == SymTag.CONSTANT) {
+                    return true;
+                }
+                return (symbol.tag & SymTag.VARIABLE) == SymTag.VARIABLE
+                        && Symbols.isFlagOn(symbol.flags, Flags.FINAL)
+                        && (types.isInherentlyImmutableType(symbol.type)
+                                || Symbols.isFlagOn(symbol.type.flags, Flags.READONLY));
+            default:
+                return false;
+        }
+    }
+
+    private BLangExpression copyIndexLookupValue(DiagnosticPos pos, BLangExpression expr) {
+        switch (expr.getKind()) {
+            case LITERAL:
+            case NUMERIC_LITERAL:
+                return ASTBuilderUtil.createLiteral(pos, expr.type, ((BLangLiteral) expr).value);
+            case CONSTANT_REF:
+                return ASTBuilderUtil.createLiteral(pos, expr.type, ((BLangConstRef) expr).value);
+            default:
+                BLangSimpleVarRef varRef = ASTBuilderUtil.createVariableRef(pos, ((BLangSimpleVarRef) expr).symbol);
+                varRef.type = expr.type;
+                return varRef;
+        }
+    }
+
+    private int getIndexLookupOperator(OperatorKind opKind, boolean fieldOnLhs) {
+        // In sync with lang.query:createIndexedCollection.
+        switch (opKind) {
+            case LESS_THAN:
+                return fieldOnLhs ? 1 : 3;
+            case LESS_EQUAL:
+                return fieldOnLhs ? 2 : 4;
+            case GREATER_THAN:
+                return fieldOnLhs ? 3 : 1;
+            case GREATER_EQUAL:
+                return fieldOnLhs ? 4 : 2;
+            default:
+                return 0;
+        }
+    }
+
+    private BLangExpression unwrapGroup(BLangExpression expr) {
+        while (expr.getKind() == NodeKind.GROUP_EXPR) {
+            expr = ((BLangGroupExpr) expr).expression;
+        }
+        return expr;
+    }
+
     /**
      * Desugar inputClause to below and return a reference to created from _StreamFunction.
      * _StreamFunction xsFrom = createFromFunction(function(_Frame frame) returns _Frame|error? {
@@ -928,7 +1443,7 @@ public class QueryDesugar extends BLangNodeVisitor {
      * @return symbol for the function.
      */
     private BInvokableSymbol getQueryLibInvokableSymbol(Name functionName) {
-        return (BInvokableSymbol) symTable.langQueryModuleSymbol.scope
+        return (BInvokableSymbol) symTable.getLangQueryModuleSymbol().scope
                 .lookup(functionName).symbol;
     }
 
@@ -1227,7 +1742,7 @@ public class QueryDesugar extends BLangNodeVisitor {
      * @return _Frame type symbol.
      */
     private BRecordTypeSymbol getFrameTypeSymbol() {
-        return (BRecordTypeSymbol) symTable.langQueryModuleSymbol
+        return (BRecordTypeSymbol) symTable.getLangQueryModuleSymbol()
                 .scope.lookup(names.fromString("_Frame")).symbol;
     }
 
@@ -327,7 +327,7 @@ public class TransactionDesugar extends BLangNodeVisitor {
     private BLangSimpleVariable createPrevAttemptVariable(SymbolEnv env, DiagnosticPos pos) {
         // transactions:Info? prevAttempt = ();
         BSymbol infoRecordSymbol = symResolver.
-                lookupSymbolInMainSpace(symTable.pkgEnvMap.get(symTable.langTransactionModuleSymbol),
+                lookupSymbolInMainSpace(symTable.pkgEnvMap.get(symTable.getLangTransactionModuleSymbol()),
                 TRANSACTION_INFO_RECORD);
         BType infoRecordType = BUnionType.create(null, infoRecordSymbol.type, symTable.nilType);
         BVarSymbol prevAttemptVarSymbol = new BVarSymbol(0, new Name("prevAttempt" + uniqueId),
@@ -344,7 +344,7 @@ public class TransactionDesugar extends BLangNodeVisitor {
     private void createRollbackIfFailed(DiagnosticPos pos, BLangBlockStmt transactionBlockStmt,
                                         BSymbol trxFuncResultSymbol) {
         BLangIf rollbackCheck = ASTBuilderUtil.createIfStmt(pos, transactionBlockStmt);
-        BConstructorSymbol transactionErrorSymbol = (BConstructorSymbol) symTable.langTransactionModuleSymbol
+        BConstructorSymbol transactionErrorSymbol = (BConstructorSymbol) symTable.getLangTransactionModuleSymbol()
                 .scope.lookup(names.fromString("TransactionError")).symbol;
         BType errorType = transactionErrorSymbol.type;
         BLangErrorType trxErrorTypeNode = (BLangErrorType) TreeBuilder.createErrorTypeNode();
@@ -571,6 +571,6 @@ public class TransactionDesugar extends BLangNodeVisitor {
      * @return symbol for the function.
      */
     public BSymbol getTransactionLibInvokableSymbol(Name name) {
-        return symTable.langTransactionModuleSymbol.scope.lookup(name).symbol;
+        return symTable.getLangTransactionModuleSymbol().scope.lookup(name).symbol;
     }
 }
@@ -31,6 +31,8 @@ import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.diagnotic.DiagnosticPos;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.ResourceBundle;
 
@@ -47,9 +49,13 @@ public class BLangDiagnosticLog implements DiagnosticLog {
     private static final String NOTE_PREFIX = "note";
     private static final ResourceBundle MESSAGES = ResourceBundle.getBundle("compiler", Locale.getDefault());
 
-    private int errorCount = 0;
+    // Diagnostics may be logged concurrently while generating the code of independent modules.
+    private volatile int errorCount = 0;
     private PackageCache packageCache;
     private boolean isMute = false;
+    private final ThreadLocal<List<DeferredDiagnostic>> deferredDiagnostics = new ThreadLocal<>();
+    // Errors logged by each thread, so that concurrent tasks can tell apart the errors they logged themselves.
+    private final ThreadLocal<int[]> threadErrorCount = ThreadLocal.withInitial(() -> new int[1]);
 
     private BLangDiagnosticLog(CompilerContext context) {
         context.put(DIAGNOSTIC_LOG_KEY, this);
@@ -110,6 +116,16 @@ public class BLangDiagnosticLog implements DiagnosticLog {
         return this.errorCount;
     }
 
+    /**
+     * Get the number of errors logged by the current thread. Unlike {@link #errorCount()}, this does not include
+     * the errors logged concurrently by other threads, e.g. while generating the code of other modules.
+     *
+     * @return Number of errors logged by the current thread.
+     */
+    public int threadErrorCount() {
+        return this.threadErrorCount.get()[0];
+    }
+
     /**
      * Set the error count.
      * 
@@ -141,6 +157,30 @@ public class BLangDiagnosticLog implements DiagnosticLog {
         this.isMute = false;
     }
 
+    /**
+     * Runs the given action, holding back the diagnostics it logs on the current thread instead of logging them.
+     * This lets analyses run concurrently and have their diagnostics logged in a fixed order afterwards.
+     *
+     * @param action action to run
+     * @return diagnostics held back while running the action, to be logged with {@link #logDeferredDiagnostics}
+     */
+    public List<DeferredDiagnostic> deferDiagnostics(Runnable action) {
+        List<DeferredDiagnostic> diagnostics = new ArrayList<>();
+        this.deferredDiagnostics.set(diagnostics);
+        try {
+            action.run();
+        } finally {
+            this.deferredDiagnostics.remove();
+        }
+        return diagnostics;
+    }
+
+    public synchronized void logDeferredDiagnostics(List<DeferredDiagnostic> diagnostics) {
+        for (DeferredDiagnostic diagnostic : diagnostics) {
+            logDiagnostic(diagnostic.pkgId, diagnostic.diagnostic);
+        }
+    }
+
     @Override
     public void logDiagnostic(Kind kind, DiagnosticPosition pos, CharSequence message) {
         DiagnosticSeverity severity;
@@ -166,9 +206,15 @@ public class BLangDiagnosticLog implements DiagnosticLog {
      * @param pkgId Package ID of the diagnostic associated with
      * @param diagnostic the diagnostic to be logged
      */
-    public void logDiagnostic(PackageID pkgId, Diagnostic diagnostic) {
+    public synchronized void logDiagnostic(PackageID pkgId, Diagnostic diagnostic) {
+        List<DeferredDiagnostic> deferred = this.deferredDiagnostics.get();
+        if (deferred != null) {
+            deferred.add(new DeferredDiagnostic(pkgId, diagnostic));
+            return;
+        }
+
         if (diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR) {
-            this.errorCount++;
+            countError();
         }
 
         storeDiagnosticInPackage(pkgId, diagnostic);
@@ -181,13 +227,12 @@ public class BLangDiagnosticLog implements DiagnosticLog {
         return MessageFormat.format(msgKey, args);
     }
 
-    private void reportDiagnostic(DiagnosticCode diagnosticCode, DiagnosticPos pos, String msg,
+    private synchronized void reportDiagnostic(DiagnosticCode diagnosticCode, DiagnosticPos pos, String msg,
                                   DiagnosticSeverity severity) {
-        if (severity == DiagnosticSeverity.ERROR) {
-            this.errorCount++;
-        }
-
         if (this.isMute) {
+            if (severity == DiagnosticSeverity.ERROR) {
+                countError();
+            }
             return;
         }
 
@@ -197,12 +242,30 @@ public class BLangDiagnosticLog implements DiagnosticLog {
         BLangDiagnosticLocation diagnosticLocation =
                 new BLangDiagnosticLocation(pos.getSource().cUnitName, pos.sLine, pos.eLine, pos.sCol, pos.eCol);
         BLangDiagnostic diagnostic = new BLangDiagnostic(diagnosticLocation, msg, diagInfo, diagnosticCode);
-        storeDiagnosticInPackage(pos.src.pkgID, diagnostic);
+        logDiagnostic(pos.src.pkgID, diagnostic);
+    }
 
+    private void countError() {
+        this.errorCount++;
+        this.threadErrorCount.get()[0]++;
     }
 
     private void storeDiagnosticInPackage(PackageID pkgId, Diagnostic diagnostic) {
         BLangPackage pkgNode = this.packageCache.get(pkgId);
         pkgNode.addDiagnostic(diagnostic);
     }
+
+    /**
+     * A diagnostic held back by {@link #deferDiagnostics}, along with the package it belongs to.
+     */
+    public static class DeferredDiagnostic {
+
+        private final PackageID pkgId;
+        private final Diagnostic diagnostic;
+
+        private DeferredDiagnostic(PackageID pkgId, Diagnostic diagnostic) {
+            this.pkgId = pkgId;
+            this.diagnostic = diagnostic;
+        }
+    }
 }
@@ -636,21 +636,15 @@ public class SymbolResolver extends BLangNodeVisitor {
                 bSymbol = symTable.notFoundSymbol;
         }
         if (bSymbol == symTable.notFoundSymbol) {
-            bSymbol = lookupLangLibMethodInModule(symTable.langValueModuleSymbol, name);
+            bSymbol = lookupLangLibMethodInModule(symTable.getLangValueModuleSymbol(), name);
         }
 
         if (bSymbol == symTable.notFoundSymbol) {
             bSymbol = lookupLangLibMethodInModule(symTable.langInternalModuleSymbol, name);
         }
 
-        if (bSymbol == symTable.notFoundSymbol) {
-            bSymbol = lookupLangLibMethodInModule(symTable.langTransactionModuleSymbol, name);
-        }
-
-        if (bSymbol == symTable.notFoundSymbol) {
-            bSymbol = lookupLangLibMethodInModule(symTable.langQueryModuleSymbol, name);
-        }
-
+        // The transaction and query modules are not the lang module of any type, hence are not looked up here. This
+        // also keeps a method which is not found from loading them.
         return bSymbol;
     }
 
@@ -73,6 +73,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import static org.ballerinalang.model.symbols.SymbolOrigin.BUILTIN;
 import static org.ballerinalang.model.symbols.SymbolOrigin.VIRTUAL;
@@ -196,6 +197,7 @@ public class SymbolTable {
     private Names names;
     public Map<BPackageSymbol, SymbolEnv> pkgEnvMap = new HashMap<>();
     public Map<Name, BPackageSymbol> predeclaredModules = new HashMap<>();
+    private Function<PackageID, BPackageSymbol> langModuleLoader;
 
     public static SymbolTable getInstance(CompilerContext context) {
         SymbolTable symTable = context.get(SYM_TABLE_KEY);
@@ -357,6 +359,46 @@ public class SymbolTable {
         throw new IllegalStateException("LangLib Subtype not found: " + name);
     }
 
+    /**
+     * Sets the loader of the lang modules which are loaded when they are first used, rather than along with the
+     * other lang modules. These are the lang modules which are neither predeclared nor imported by the other lang
+     * modules, hence most programs do not need them to be loaded. The getters of these modules are synchronized, since
+     * the language server may use a compiler context from more than one thread.
+     *
+     * @param langModuleLoader function loading the symbol of a lang module
+     */
+    public void setLangModuleLoader(Function<PackageID, BPackageSymbol> langModuleLoader) {
+        this.langModuleLoader = langModuleLoader;
+    }
+
+    public synchronized BPackageSymbol getLangValueModuleSymbol() {
+        if (this.langValueModuleSymbol == null) {
+            this.langValueModuleSymbol = loadLangModule(PackageID.VALUE);
+        }
+        return this.langValueModuleSymbol;
+    }
+
+    public synchronized BPackageSymbol getLangQueryModuleSymbol() {
+        if (this.langQueryModuleSymbol == null) {
+            this.langQueryModuleSymbol = loadLangModule(PackageID.QUERY);
+        }
+        return this.langQueryModuleSymbol;
+    }
+
+    public synchronized BPackageSymbol getLangTransactionModuleSymbol() {
+        if (this.langTransactionModuleSymbol == null) {
+            this.langTransactionModuleSymbol = loadLangModule(PackageID.TRANSACTION);
+        }
+        return this.langTransactionModuleSymbol;
+    }
+
+    private BPackageSymbol loadLangModule(PackageID langModuleID) {
+        if (this.langModuleLoader == null) {
+            return null;
+        }
+        return this.langModuleLoader.apply(langModuleID);
+    }
+
     public void loadPredeclaredModules() {
         Map<Name, BPackageSymbol> modules = new HashMap<>();
         modules.put(Names.BOOLEAN, this.langBooleanModuleSymbol);
@@ -36,6 +36,9 @@ public class BVarSymbol extends BSymbol implements VariableSymbol {
     // Only used for type-narrowing. Cache of the original symbol.
     public BVarSymbol originalSymbol;
 
+    // Set for the maps created by the closure desugar to hold the variables captured by lambdas.
+    public boolean closureMap = false;
+
 
     /**
      * This indicate the indicated (by programmer) taintedness of a variable.
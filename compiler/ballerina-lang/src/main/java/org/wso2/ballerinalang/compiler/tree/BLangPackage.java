@@ -43,6 +43,7 @@ import org.wso2.ballerinalang.compiler.tree.expressions.BLangLambdaFunction;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Queue;
@@ -97,7 +98,8 @@ public class BLangPackage extends BLangNode implements PackageNode {
 
         this.objAttachedFunctions = new ArrayList<>();
         this.topLevelNodes = new ArrayList<>();
-        this.completedPhases = EnumSet.noneOf(CompilerPhase.class);
+        // Analyses of a package may run concurrently, each marking its phase as completed.
+        this.completedPhases = Collections.synchronizedSet(EnumSet.noneOf(CompilerPhase.class));
         this.testablePkgs = new ArrayList<>();
         this.flagSet = EnumSet.noneOf(Flag.class);
         this.diagnostics = new TreeSet<>(new DiagnosticComparator());
@@ -46,19 +46,37 @@ public class Filter {
     public static ArrayValue filter(ArrayValue arr, FPValue<Object, Boolean> func) {
         ArrayValue newArr = new ArrayValueImpl((BArrayType) arr.getType());
         int size = arr.size();
-        AtomicInteger newArraySize = new AtomicInteger(-1);
-        AtomicInteger index = new AtomicInteger(-1);
         Strand parentStrand = Scheduler.getStrand();
-        AsyncUtils.invokeFunctionPointerAsyncIteratively(func, null, METADATA, size,
-                                                         () -> new Object[]{parentStrand,
-                                                                 arr.get(index.incrementAndGet()),
-                                                                 true},
-                                                         result -> {
-                                                             if ((Boolean) result) {
-                                                                 newArr.add(newArraySize.incrementAndGet(),
-                                                                            arr.get(index.get()));
-                                                             }
-                                                         }, () -> newArr, Scheduler.getStrand().scheduler);
+        if (AsyncUtils.canInvokeInParallel(func, size)) {
+            boolean[] selected = new boolean[size];
+            AsyncUtils.invokeFunctionPointerAsyncInParallel(func, null, METADATA, size,
+                                                            i -> new Object[]{parentStrand, arr.get(i), true},
+                                                            (result, i) -> selected[i] = (Boolean) result,
+                                                            () -> {
+                                                                int newArraySize = 0;
+                                                                for (int i = 0; i < size; i++) {
+                                                                    if (selected[i]) {
+                                                                        newArr.add(newArraySize++, arr.get(i));
+                                                                    }
+                                                                }
+                                                                return newArr;
+                                                            }, parentStrand.scheduler);
+            return newArr;
+        }
+
+        AtomicInteger newArraySize = new AtomicInteger(-1);
+        // the member passed to the last invocation, which is added to the new array if it is selected
+        Object[] member = new Object[1];
+        AsyncUtils.invokeFunctionPointerAsyncInOrder(func, null, METADATA, size,
+                                                     i -> {
+                                                         member[0] = arr.get(i);
+                                                         return new Object[]{parentStrand, member[0], true};
+                                                     },
+                                                     (result, i) -> {
+                                                         if ((Boolean) result) {
+                                                             newArr.add(newArraySize.incrementAndGet(), member[0]);
+                                                         }
+                                                     }, () -> newArr, parentStrand.scheduler);
         return newArr;
     }
 }
@@ -19,7 +19,9 @@
 package org.ballerinalang.langlib.array;
 
 import org.ballerinalang.jvm.TypeChecker;
+import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.utils.GetFunction;
 
@@ -44,6 +46,31 @@ public class IndexOf {
         int size = arr.size();
         GetFunction getFn = getElementAccessFunction(arrType, "indexOf()");
 
+        // Compare the members of int and float arrays without boxing them. Equal ints and floats are those with the
+        // same value and the same bits respectively, as with `TypeChecker.isEqual`.
+        if (arrType.getTag() == TypeTags.ARRAY_TAG) {
+            int elementTypeTag = ((BArrayType) arrType).getElementType().getTag();
+            if (TypeTags.isIntegerTypeTag(elementTypeTag) && val instanceof Long) {
+                long intVal = (Long) val;
+                for (long i = startIndex; i < size; i++) {
+                    if (arr.getInt(i) == intVal) {
+                        return i;
+                    }
+                }
+                return null;
+            }
+
+            if (elementTypeTag == TypeTags.FLOAT_TAG && val instanceof Double) {
+                long floatBits = Double.doubleToLongBits((Double) val);
+                for (long i = startIndex; i < size; i++) {
+                    if (Double.doubleToLongBits(arr.getFloat(i)) == floatBits) {
+                        return i;
+                    }
+                }
+                return null;
+            }
+        }
+
         for (long i = startIndex; i < size; i++) {
             if (TypeChecker.isEqual(val, getFn.get(arr, i))) {
                 return i;
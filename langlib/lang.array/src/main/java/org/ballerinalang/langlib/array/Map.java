@@ -31,8 +31,6 @@ import org.ballerinalang.jvm.values.ArrayValueImpl;
 import org.ballerinalang.jvm.values.FPValue;
 import org.ballerinalang.jvm.values.utils.GetFunction;
 
-import java.util.concurrent.atomic.AtomicInteger;
-
 import static org.ballerinalang.jvm.util.BLangConstants.ARRAY_LANG_LIB;
 import static org.ballerinalang.jvm.util.BLangConstants.BALLERINA_BUILTIN_PKG_PREFIX;
 import static org.ballerinalang.jvm.values.utils.ArrayUtils.createOpNotSupportedError;
@@ -72,15 +70,25 @@ public class Map {
             default:
                 throw createOpNotSupportedError(arrType, "map()");
         }
-        AtomicInteger index = new AtomicInteger(-1);
         Strand parentStrand = Scheduler.getStrand();
-        AsyncUtils
-                .invokeFunctionPointerAsyncIteratively(func, null, METADATA, size,
-                                                       () -> new Object[]{parentStrand,
-                                                               getFn.get(arr, index.incrementAndGet()), true},
-                                                       result -> retArr.add(index.get(), result),
-                                                       () -> retArr, Scheduler.getStrand().scheduler);
+        if (AsyncUtils.canInvokeInParallel(func, size)) {
+            Object[] results = new Object[size];
+            AsyncUtils.invokeFunctionPointerAsyncInParallel(func, null, METADATA, size,
+                                                            i -> new Object[]{parentStrand, getFn.get(arr, i), true},
+                                                            (result, i) -> results[i] = result,
+                                                            () -> {
+                                                                for (int i = 0; i < size; i++) {
+                                                                    retArr.add(i, results[i]);
+                                                                }
+                                                                return retArr;
+                                                            }, parentStrand.scheduler);
+            return retArr;
+        }
 
+        AsyncUtils.invokeFunctionPointerAsyncInOrder(func, null, METADATA, size,
+                                                     i -> new Object[]{parentStrand, getFn.get(arr, i), true},
+                                                     (result, i) -> retArr.add(i, result), () -> retArr,
+                                                     parentStrand.scheduler);
         return retArr;
     }
 }
@@ -27,7 +27,6 @@ import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.FPValue;
 import org.ballerinalang.jvm.values.utils.GetFunction;
 
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.ballerinalang.jvm.util.BLangConstants.ARRAY_LANG_LIB;
@@ -50,15 +49,13 @@ public class Reduce {
         int size = arr.size();
         GetFunction getFn = getElementAccessFunction(arrType, "reduce()");
         AtomicReference<Object> accum = new AtomicReference<>(initial);
-        AtomicInteger index = new AtomicInteger(-1);
         Strand parentStrand = Scheduler.getStrand();
-        AsyncUtils
-                .invokeFunctionPointerAsyncIteratively(func, null, METADATA, size,
-                                                       () -> new Object[]{parentStrand, accum.get(), true,
-                                                               getFn.get(arr, index.incrementAndGet()), true},
-                                                       accum::set, accum::get, Scheduler.getStrand().scheduler);
+        // The accumulated value is read for an iteration only after the result of the previous one is set.
+        AsyncUtils.invokeFunctionPointerAsyncInOrder(func, null, METADATA, size,
+                                                     i -> new Object[]{parentStrand, accum.get(), true,
+                                                             getFn.get(arr, i), true},
+                                                     (result, i) -> accum.set(result), accum::get,
+                                                     parentStrand.scheduler);
         return accum.get();
-
-        
     }
 }
@@ -28,16 +28,18 @@ import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.BUnionType;
 import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
 import org.ballerinalang.jvm.values.FPValue;
 
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.PrimitiveIterator;
+import java.util.function.IntBinaryOperator;
 
 import static org.ballerinalang.jvm.util.BLangConstants.ARRAY_LANG_LIB;
 import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.INVALID_TYPE_TO_SORT;
 import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.getModulePrefixedReason;
 import static org.ballerinalang.jvm.values.utils.ArrayUtils.checkIsArrayOnlyOperation;
+import static org.ballerinalang.jvm.values.utils.ArrayUtils.codePointCompare;
 
 /**
  * Native implementation of lang.array:sort((any|error)[], direction, function).
@@ -55,27 +57,34 @@ public class Sort {
             isAscending = false;
         }
 
-        Object[][] sortArr = new Object[arr.size()][2];
-        Object[][] sortArrClone = new Object[arr.size()][2];
+        // Arrays of basic ordered types are sorted in place, without boxing their members.
+        if (function == null && arr instanceof ArrayValueImpl && ((ArrayValueImpl) arr).sortValues(isAscending)) {
+            return arr;
+        }
+
+        int size = arr.size();
+        Object[] values = new Object[size];
+        Object[] keys = values;
         if (function != null) {
+            keys = new Object[size];
             boolean elementTypeIdentified = false;
             elemType = ((BFunctionType) function.getType()).retType;
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = function.call(new Object[]{Scheduler.getStrand(), arr.get(i), true});
-                // Get the type of the sortArr elements when there is an arrow expression as the key function
+            for (int i = 0; i < size; i++) {
+                values[i] = arr.get(i);
+                keys[i] = function.call(new Object[]{Scheduler.getStrand(), values[i], true});
+                // Get the type of the keys when there is an arrow expression as the key function
                 if (!elementTypeIdentified && elemType.getTag() == TypeTags.UNION_TAG &&
                         ((BUnionType) elemType).getMemberTypes().size() > 2) {
-                    BType sortArrElemType = TypeChecker.getType(sortArr[i][0]);
-                    if (sortArrElemType.getTag() != TypeTags.NULL_TAG) {
-                        elemType = sortArrElemType;
+                    BType keyType = TypeChecker.getType(keys[i]);
+                    if (keyType.getTag() != TypeTags.NULL_TAG) {
+                        elemType = keyType;
                         elementTypeIdentified = true;
                     }
                 }
-                sortArr[i][1] = arr.get(i);
             }
         } else {
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = sortArr[i][1] = arr.get(i);
+            for (int i = 0; i < size; i++) {
+                values[i] = arr.get(i);
             }
         }
 
@@ -90,15 +99,64 @@ public class Sort {
             }
         }
 
-        mergesort(sortArr, sortArrClone, 0, sortArr.length - 1, isAscending, elemType);
+        // The indexes of the members are sorted instead of the members themselves, so each member is read and
+        // written back once.
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        mergesort(order, new int[size], 0, size - 1, getKeyComparator(keys, elemType, isAscending));
 
-        for (int k = 0; k < sortArr.length; k++) {
-            arr.add(k, sortArr[k][1]);
+        for (int k = 0; k < size; k++) {
+            arr.add(k, values[order[k]]);
         }
 
         return arr;
     }
 
+    /**
+     * Returns a comparator of the keys at two indexes, where a negative result means the key at the first index
+     * should be placed before the key at the second index. Integer and float keys are unboxed once, up front, when
+     * none of them is nil.
+     */
+    private static IntBinaryOperator getKeyComparator(Object[] keys, BType type, boolean isAscending) {
+        if (!containsNil(keys)) {
+            if (TypeTags.isIntegerTypeTag(type.getTag())) {
+                long[] intKeys = new long[keys.length];
+                for (int i = 0; i < keys.length; i++) {
+                    intKeys[i] = (long) keys[i];
+                }
+                if (isAscending) {
+                    return (i, j) -> Long.compare(intKeys[i], intKeys[j]);
+                }
+                return (i, j) -> Long.compare(intKeys[j], intKeys[i]);
+            }
+            if (type.getTag() == TypeTags.FLOAT_TAG) {
+                double[] floatKeys = new double[keys.length];
+                for (int i = 0; i < keys.length; i++) {
+                    floatKeys[i] = (double) keys[i];
+                }
+                if (isAscending) {
+                    return (i, j) -> floatSortFunc(floatKeys[i], floatKeys[j], true);
+                }
+                return (i, j) -> floatSortFunc(floatKeys[j], floatKeys[i], false);
+            }
+        }
+        if (isAscending) {
+            return (i, j) -> sortFunc(keys[i], keys[j], type, true);
+        }
+        return (i, j) -> sortFunc(keys[j], keys[i], type, false);
+    }
+
+    private static boolean containsNil(Object[] keys) {
+        for (Object key : keys) {
+            if (key == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static BType getMemberType(BUnionType unionType) {
         List<BType> memberTypes = unionType.getMemberTypes();
         for (BType type : memberTypes) {
@@ -110,39 +168,32 @@ public class Sort {
     }
 
     // Adapted from https://algs4.cs.princeton.edu/22mergesort/Merge.java.html
-    private static void mergesort(Object[][] input, Object[][] aux, int lo, int hi, boolean isAscending, BType type) {
+    private static void mergesort(int[] input, int[] aux, int lo, int hi, IntBinaryOperator comparator) {
         if (hi <= lo) {
             return;
         }
 
         int mid = lo + (hi - lo) / 2;
 
-        mergesort(input, aux, lo, mid, isAscending, type);
-        mergesort(input, aux, mid + 1, hi, isAscending, type);
+        mergesort(input, aux, lo, mid, comparator);
+        mergesort(input, aux, mid + 1, hi, comparator);
 
-        merge(input, aux, lo, mid, hi, isAscending, type);
+        merge(input, aux, lo, mid, hi, comparator);
     }
 
-    private static void merge(Object[][] input, Object[][] aux, int lo, int mid, int hi, boolean isAscending,
-                              BType type) {
-        if (hi + 1 - lo >= 0) {
-            System.arraycopy(input, lo, aux, lo, hi + 1 - lo);
-        }
+    private static void merge(int[] input, int[] aux, int lo, int mid, int hi, IntBinaryOperator comparator) {
+        System.arraycopy(input, lo, aux, lo, hi + 1 - lo);
 
         for (int i = lo, j = mid + 1, k = lo; k <= hi; k++) {
-            int index;
             if (i > mid) {
-                index = j++;
+                input[k] = aux[j++];
             } else if (j > hi) {
-                index = i++;
-            } else if (isAscending && sortFunc(aux[j][0], aux[i][0], type, true) < 0) {
-                index = j++;
-            } else if (!isAscending && sortFunc(aux[i][0], aux[j][0], type, false) < 0) {
-                index = j++;
+                input[k] = aux[i++];
+            } else if (comparator.applyAsInt(aux[j], aux[i]) < 0) {
+                input[k] = aux[j++];
             } else {
-                index = i++;
+                input[k] = aux[i++];
             }
-            input[k] = aux[index];
         }
     }
 
@@ -166,27 +217,7 @@ public class Sort {
         if (TypeTags.isIntegerTypeTag(type.getTag())) {
             return Long.compare((long) value1, (long) value2);
         } else if (type.getTag() == TypeTags.FLOAT_TAG) {
-            // NaN should be placed last or one before the last when () is present irrespective of the sort direction.
-            if (Double.isNaN((double) value1)) {
-                if (Double.isNaN((double) value2)) {
-                    return 0;
-                }
-                if (isAscending) {
-                    return 1;
-                }
-                return -1;
-            }
-            if (Double.isNaN((double) value2)) {
-                if (isAscending) {
-                    return -1;
-                }
-                return 1;
-            }
-            // -0.0 = +0.0
-            if ((double) value1 == 0 && (double) value2 == 0) {
-                return 0;
-            }
-            return Double.compare((double) value1, (double) value2);
+            return floatSortFunc((double) value1, (double) value2, isAscending);
         } else if (type.getTag() == TypeTags.DECIMAL_TAG) {
             return new BigDecimal(value1.toString()).compareTo(new BigDecimal(value2.toString()));
         } else if (type.getTag() == TypeTags.BOOLEAN_TAG) {
@@ -227,24 +258,27 @@ public class Sort {
                                                                        type.toString() + "'"));
     }
 
-    private static int codePointCompare(String str1, String str2) {
-        PrimitiveIterator.OfInt iterator1 = str1.codePoints().iterator();
-        PrimitiveIterator.OfInt iterator2 = str2.codePoints().iterator();
-        while (iterator1.hasNext()) {
-            if (!iterator2.hasNext()) {
+    private static int floatSortFunc(double value1, double value2, boolean isAscending) {
+        // NaN should be placed last or one before the last when () is present irrespective of the sort direction.
+        if (Double.isNaN(value1)) {
+            if (Double.isNaN(value2)) {
+                return 0;
+            }
+            if (isAscending) {
                 return 1;
             }
-            Integer codePoint1 = iterator1.next();
-            Integer codePoint2 = iterator2.next();
-
-            int cmp = codePoint1.compareTo(codePoint2);
-            if (cmp != 0) {
-                return cmp;
+            return -1;
+        }
+        if (Double.isNaN(value2)) {
+            if (isAscending) {
+                return -1;
             }
+            return 1;
         }
-        if (iterator2.hasNext()) {
-            return -1;
+        // -0.0 = +0.0
+        if (value1 == 0 && value2 == 0) {
+            return 0;
         }
-        return 0;
+        return Double.compare(value1, value2);
     }
 }
@@ -22,6 +22,7 @@ import org.ballerinalang.jvm.api.BStringUtils;
 import org.ballerinalang.jvm.api.BValueCreator;
 import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.IteratorValue;
+import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.jvm.values.MapValueImpl;
 import org.ballerinalang.jvm.values.ObjectValue;
 
@@ -41,7 +42,7 @@ public class Next {
     //TODO: refactor hard coded values
     public static Object next(ObjectValue m) {
         IteratorValue mapIterator = (IteratorValue) m.getNativeData("&iterator&");
-        MapValueImpl mapValue = (MapValueImpl) m.get(BStringUtils.fromString("m"));
+        MapValue<?, ?> mapValue = (MapValue<?, ?>) m.get(BStringUtils.fromString("m"));
         if (mapIterator == null) {
             mapIterator = mapValue.getIterator();
             m.addNativeData("&iterator&", mapIterator);
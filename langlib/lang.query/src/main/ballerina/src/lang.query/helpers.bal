@@ -25,6 +25,39 @@ function createPipeline(
     return new _StreamPipeline(collection, resType);
 }
 
+// Comparison operators of `createIndexedCollection`, in sync with QueryDesugar.
+// 0 for `==`, 1 for `<`, 2 for `<=`, 3 for `>` and 4 for `>=`.
+function createIndexedCollection(table<map<Type>> collection, string fieldName, int operator, anydata value)
+        returns Type[]|table<map<Type>> = @java:Method {
+    'class: "org.ballerinalang.langlib.query.IndexedCollection",
+    name: "createIndexedCollection"
+} external;
+
+function createJoinIndex() returns handle = @java:Method {
+    'class: "org.ballerinalang.langlib.query.JoinIndex",
+    name: "createJoinIndex"
+} external;
+
+function addToJoinIndex(handle index, any key) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.JoinIndex",
+    name: "addKey"
+} external;
+
+function probeJoinIndex(handle index, any key) returns int = @java:Method {
+    'class: "org.ballerinalang.langlib.query.JoinIndex",
+    name: "probe"
+} external;
+
+function nextJoinIndexMatch(handle index, int position) returns int = @java:Method {
+    'class: "org.ballerinalang.langlib.query.JoinIndex",
+    name: "nextMatch"
+} external;
+
+function resetJoinIndex(handle index) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.JoinIndex",
+    name: "reset"
+} external;
+
 function createInputFunction(function(_Frame _frame) returns _Frame|error? inputFunc)
         returns _StreamFunction {
     return new _InputFunction(inputFunc);
@@ -77,6 +110,14 @@ function createLimitFunction(function (_Frame _frame) returns int limitFunction)
     return new _LimitFunction(limitFunction);
 }
 
+// Validates the value of a limit clause, for both the pipeline and the queries lowered to a loop.
+function checkLimit(int lmt) returns int {
+    if (lmt < 1) {
+        panic error("Invalid limit", message = "limit cannot be < 1.");
+    }
+    return lmt;
+}
+
 function addStreamFunction(@tainted _StreamPipeline pipeline, @tainted _StreamFunction streamFunction) {
     pipeline.addStreamFunction(streamFunction);
 }
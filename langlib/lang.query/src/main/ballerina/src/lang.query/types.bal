@@ -298,8 +298,7 @@ class _InnerJoinFunction {
     *_StreamFunction;
     function (_Frame _frame) returns any lhsKeyFunction;
     function (_Frame _frame) returns any rhsKeyFunction;
-    _FrameMultiMap rhsFramesMap = new;
-    _Frame[]? rhsCandidates;
+    _JoinIndex rhsFrames = new;
     _Frame|error? lhsFrame;
 
     function init(
@@ -308,12 +307,11 @@ class _InnerJoinFunction {
             function (_Frame _frame) returns any rhsKeyFunction) {
         self.lhsKeyFunction = lhsKeyFunction;
         self.rhsKeyFunction = rhsKeyFunction;
-        self.rhsCandidates = ();
         self.prevFunc = ();
         self.lhsFrame = ();
         _Frame|error? f = pipelineToJoin.next();
         while (f is _Frame) {
-            self.rhsFramesMap.put(rhsKeyFunction(f).toString(), f);
+            self.rhsFrames.put(rhsKeyFunction(f), f);
             f = pipelineToJoin.next();
         }
     }
@@ -325,33 +323,26 @@ class _InnerJoinFunction {
     public function process() returns _Frame|error? {
         function (_Frame _frame) returns any lhsKF = self.lhsKeyFunction;
         _StreamFunction pf = <_StreamFunction>self.prevFunc;
-         _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
-        _Frame[]? rhsCandidates = self.rhsCandidates;
+        _JoinIndex rhsFrames = self.rhsFrames;
         _Frame|error? lhsFrame = self.lhsFrame;
-        string lhsKey = "";
 
         if (lhsFrame is ()) {
             lhsFrame = pf.process();
             self.lhsFrame = lhsFrame;
+            if (lhsFrame is _Frame) {
+                rhsFrames.probe(lhsKF(lhsFrame));
+            }
         }
 
         if (lhsFrame is _Frame) {
-            lhsKey = lhsKF(lhsFrame).toString();
-            if (rhsCandidates is ()) {
-                rhsCandidates = rhsFramesMap.get(lhsKey);
-                self.rhsCandidates = rhsCandidates;
-            }
-            if (rhsCandidates is _Frame[] && rhsCandidates.length() > 0) {
-                _Frame rhsFrame = rhsCandidates.shift();
-                self.rhsCandidates = rhsCandidates;
+            _Frame? rhsFrame = rhsFrames.nextMatch();
+            if (rhsFrame is _Frame) {
                 _Frame joinedFrame = {...lhsFrame, ...rhsFrame};
                 return joinedFrame;
-            } else {
-                // Move to next lhs frame
-                self.lhsFrame = ();
-                self.rhsCandidates = ();
-                return self.process();
             }
+            // Move to next lhs frame
+            self.lhsFrame = ();
+            return self.process();
         }
         return lhsFrame;
     }
@@ -359,7 +350,7 @@ class _InnerJoinFunction {
     public function reset() {
         // Reset the state of lhsFrame
         self.lhsFrame = ();
-        self.rhsCandidates = ();
+        self.rhsFrames.reset();
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -371,9 +362,9 @@ class _OuterJoinFunction {
     *_StreamFunction;
     function (_Frame _frame) returns any lhsKeyFunction;
     function (_Frame _frame) returns any rhsKeyFunction;
-    _FrameMultiMap rhsFramesMap = new;
-    _Frame[]? rhsCandidates;
+    _JoinIndex rhsFrames = new;
     _Frame|error? lhsFrame;
+    boolean lhsFrameMatched = false;
     _Frame nilFrame;
 
     function init(
@@ -382,13 +373,12 @@ class _OuterJoinFunction {
             function (_Frame _frame) returns any rhsKeyFunction, _Frame nilFrame) {
         self.lhsKeyFunction = lhsKeyFunction;
         self.rhsKeyFunction = rhsKeyFunction;
-        self.rhsCandidates = ();
         self.prevFunc = ();
         self.lhsFrame = ();
         self.nilFrame = nilFrame;
         _Frame|error? f = pipelineToJoin.next();
         while (f is _Frame) {
-            self.rhsFramesMap.put(rhsKeyFunction(f).toString(), f);
+            self.rhsFrames.put(rhsKeyFunction(f), f);
             f = pipelineToJoin.next();
         }
     }
@@ -400,41 +390,32 @@ class _OuterJoinFunction {
     public function process() returns _Frame|error? {
         function (_Frame _frame) returns any lhsKF = self.lhsKeyFunction;
         _StreamFunction pf = <_StreamFunction>self.prevFunc;
-         _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
-        _Frame[]? rhsCandidates = self.rhsCandidates;
+        _JoinIndex rhsFrames = self.rhsFrames;
         _Frame|error? lhsFrame = self.lhsFrame;
-        _Frame nilFrame = self.nilFrame;
-        string lhsKey = "";
 
         if (lhsFrame is ()) {
             lhsFrame = pf.process();
             self.lhsFrame = lhsFrame;
+            if (lhsFrame is _Frame) {
+                rhsFrames.probe(lhsKF(lhsFrame));
+                self.lhsFrameMatched = false;
+            }
         }
 
         if (lhsFrame is _Frame) {
-            lhsKey = lhsKF(lhsFrame).toString();
-            if (rhsCandidates is ()) {
-                rhsCandidates = rhsFramesMap.get(lhsKey);
-                self.rhsCandidates = rhsCandidates;
-            }
-
-            if (rhsCandidates is _Frame[]) {
-                _Frame rhsFrame = rhsCandidates.shift();
-                if (rhsCandidates.length() > 0) {
-                    self.rhsCandidates = rhsCandidates;
-                } else {
-                    // Move to next lhs frame in next iteration.
-                    self.rhsCandidates = ();
-                    self.lhsFrame = ();
-                }
+            _Frame? rhsFrame = rhsFrames.nextMatch();
+            if (rhsFrame is _Frame) {
+                self.lhsFrameMatched = true;
                 _Frame joinedFrame = {...lhsFrame, ...rhsFrame};
                 return joinedFrame;
-            } else {
-                // rhsCandidates is nil, move to next lhs frame in next iteration.
-                _Frame joinedFrame = {...lhsFrame, ...nilFrame};
-                self.lhsFrame = ();
-                return joinedFrame;
             }
+            // Move to next lhs frame in next iteration.
+            self.lhsFrame = ();
+            if (self.lhsFrameMatched) {
+                return self.process();
+            }
+            _Frame joinedFrame = {...lhsFrame, ...self.nilFrame};
+            return joinedFrame;
         }
         return lhsFrame;
     }
@@ -442,7 +423,7 @@ class _OuterJoinFunction {
     public function reset() {
         // Reset the state of lhsFrame
         self.lhsFrame = ();
-        self.rhsCandidates = ();
+        self.rhsFrames.reset();
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -618,10 +599,7 @@ class _LimitFunction {
         function (_Frame _frame) returns int limitFunc = self.limitFunc;
         _Frame|error? pFrame = pf.process();
         if (pFrame is _Frame) {
-            int lmt = limitFunc(pFrame);
-            if (lmt < 1) {
-                panic error("Invalid limit", message = "limit cannot be < 1.");
-            }
+            int lmt = checkLimit(limitFunc(pFrame));
             if (self.count < lmt) {
                 self.count += 1;
                 return pFrame;
@@ -642,33 +620,40 @@ class _LimitFunction {
 
 // ---- helper types ----
 
-class _FrameMultiMap {
-    map<_Frame[]> m;
+# Frames on the right hand side of a join clause, indexed by their key.
+class _JoinIndex {
+    handle index;
+    _Frame[] frames = [];
+    int cursor = -1;
 
     function init() {
-        self.m = {};
+        self.index = createJoinIndex();
     }
 
-    function put(string k, _Frame v) {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            vals.push(v);
-        } else {
-            self.m[k] = [v];
-        }
+    function put(any k, _Frame v) {
+        addToJoinIndex(self.index, k);
+        self.frames.push(v);
     }
 
-    function get(string k) returns _Frame[]? {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            _Frame[] frames = [];
-            foreach _Frame v in vals {
-                frames.push(v);
-            }
-            return frames;
+    # Starts iterating the frames with a key equal to the given key.
+    function probe(any k) {
+        self.cursor = probeJoinIndex(self.index, k);
+    }
+
+    # + return - the next frame with a key equal to the last probed key, if any.
+    function nextMatch() returns _Frame? {
+        int cursor = self.cursor;
+        if (cursor < 0) {
+            return ();
         }
+        self.cursor = nextJoinIndexMatch(self.index, cursor);
+        return self.frames[cursor];
     }
 
+    function reset() {
+        self.cursor = -1;
+        resetJoinIndex(self.index);
+    }
 }
 
 class IterHelper {
@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import org.ballerinalang.jvm.api.values.BString;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BTableType;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.TableValueImpl;
+
+import java.util.List;
+
+/**
+ * Implementation of lang.query:createIndexedCollection(table&lt;map&lt;Type&gt;&gt;, string, int, anydata).
+ * <p>
+ * Narrows down the members of a table to the ones that may satisfy a comparison of a field with a value, using a
+ * secondary index of the table. The table is returned as is if the field does not have a suitable index.
+ *
+ * @since 2.0.0
+ */
+public class IndexedCollection {
+
+    // Comparison operators, in sync with QueryDesugar.
+    private static final long EQUAL = 0;
+    private static final long LESS_THAN = 1;
+    private static final long LESS_THAN_OR_EQUAL = 2;
+    private static final long GREATER_THAN = 3;
+    private static final long GREATER_THAN_OR_EQUAL = 4;
+
+    public static Object createIndexedCollection(TableValueImpl tbl, BString fieldName, long operator,
+                                                 Object value) {
+        String field = fieldName.getValue();
+        List<?> members;
+        if (operator == EQUAL) {
+            members = tbl.lookup(field, value);
+        } else if (value == null) {
+            // Ordering comparisons with nil are false for every member, leave it to the filter.
+            return tbl;
+        } else if (operator == LESS_THAN || operator == LESS_THAN_OR_EQUAL) {
+            members = tbl.lookupRange(field, null, false, value, operator == LESS_THAN_OR_EQUAL);
+        } else if (operator == GREATER_THAN || operator == GREATER_THAN_OR_EQUAL) {
+            members = tbl.lookupRange(field, value, operator == GREATER_THAN_OR_EQUAL, null, false);
+        } else {
+            return tbl;
+        }
+
+        if (members == null) {
+            return tbl;
+        }
+        return new ArrayValueImpl(members.toArray(), new BArrayType(((BTableType) tbl.getType())
+                .getConstrainedType()));
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import org.ballerinalang.jvm.TypeChecker;
+import org.ballerinalang.jvm.api.values.BString;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.DecimalValue;
+import org.ballerinalang.jvm.values.MapValue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the keys of the frames on the right hand side of a join clause, backing lang.query:_JoinIndex.
+ * <p>
+ * Keys are added in the order of the frames, and are identified by their position in that order. Probing the index
+ * with a key of a frame on the left hand side returns the position of the first key equal to it, while the rest are
+ * iterated with {@link #nextMatch(JoinIndex, long)}. Keys are compared with Ballerina equality.
+ * <p>
+ * As long as both the added keys and the probed keys are of the same basic type and in ascending order, the index is
+ * probed by merging the two, which avoids hashing the keys altogether. Otherwise, the keys are hashed and chained by
+ * equality, on the first probe which cannot be merged.
+ *
+ * @since 2.0.0
+ */
+public class JoinIndex {
+
+    private static final int NOT_ORDERED = 0;
+    private static final int MAX_HASH_DEPTH = 8;
+
+    private final List<Object> keys = new ArrayList<>();
+
+    /**
+     * Kind of the keys if all of them are of the same ordered type and were added in ascending order.
+     */
+    private int orderKind = -1;
+
+    private Object probeKey;
+    private boolean merging = true;
+
+    // State of the merge, the position of the first key not less than the last probed key.
+    private int mergePosition = 0;
+    private Object lastMergedKey;
+
+    // State of the hash join, where each key points to the position of the next key equal to it.
+    private Map<HashKey, int[]> chains;
+    private int[] nextEqual;
+
+    public static JoinIndex createJoinIndex() {
+        return new JoinIndex();
+    }
+
+    public static void addKey(JoinIndex index, Object key) {
+        index.add(key);
+    }
+
+    /**
+     * Returns the position of the first key equal to the given key, or -1 if there is none.
+     */
+    public static long probe(JoinIndex index, Object key) {
+        return index.probe(key);
+    }
+
+    /**
+     * Returns the position of the next key equal to the last probed key, after the given position, or -1 if there is
+     * none.
+     */
+    public static long nextMatch(JoinIndex index, long position) {
+        return index.nextMatch((int) position);
+    }
+
+    public static void reset(JoinIndex index) {
+        index.probeKey = null;
+        index.mergePosition = 0;
+        index.lastMergedKey = null;
+    }
+
+    private void add(Object key) {
+        if (chains != null) {
+            // Keys are not expected after the first probe, keep the chains consistent nonetheless.
+            chain(keys.size(), key);
+        }
+        if (orderKind != NOT_ORDERED) {
+            int kind = getOrderKind(key);
+            if (keys.isEmpty()) {
+                orderKind = kind;
+            } else if (kind != orderKind || compare(keys.get(keys.size() - 1), key) > 0) {
+                orderKind = NOT_ORDERED;
+            }
+        }
+        keys.add(key);
+    }
+
+    private int probe(Object key) {
+        probeKey = key;
+        if (keys.isEmpty()) {
+            return -1;
+        }
+        if (merging && !canMerge(key)) {
+            merging = false;
+            buildChains();
+        }
+        if (!merging) {
+            int[] chain = chains.get(new HashKey(key));
+            return chain == null ? -1 : chain[0];
+        }
+
+        lastMergedKey = key;
+        while (mergePosition < keys.size() && compare(keys.get(mergePosition), key) < 0) {
+            mergePosition++;
+        }
+        return nextMergeMatch(mergePosition);
+    }
+
+    private int nextMatch(int position) {
+        if (position < 0) {
+            return -1;
+        }
+        return merging ? nextMergeMatch(position + 1) : nextEqual[position];
+    }
+
+    private boolean canMerge(Object key) {
+        return orderKind != NOT_ORDERED && getOrderKind(key) == orderKind
+                && (lastMergedKey == null || compare(lastMergedKey, key) <= 0);
+    }
+
+    private int nextMergeMatch(int position) {
+        // Keys which compare as equal are adjacent, but are not necessarily equal (e.g. decimals of a different kind).
+        for (int i = position; i < keys.size() && compare(keys.get(i), probeKey) == 0; i++) {
+            if (TypeChecker.isEqual(probeKey, keys.get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void buildChains() {
+        chains = new HashMap<>();
+        nextEqual = new int[Math.max(keys.size(), 16)];
+        for (int i = 0; i < keys.size(); i++) {
+            chain(i, keys.get(i));
+        }
+    }
+
+    private void chain(int position, Object key) {
+        if (position >= nextEqual.length) {
+            nextEqual = Arrays.copyOf(nextEqual, nextEqual.length * 2);
+        }
+        nextEqual[position] = -1;
+        HashKey hashKey = new HashKey(key);
+        int[] chain = chains.get(hashKey);
+        if (chain == null) {
+            chains.put(hashKey, new int[]{position, position});
+        } else {
+            nextEqual[chain[1]] = position;
+            chain[1] = position;
+        }
+    }
+
+    private static int getOrderKind(Object key) {
+        if (key instanceof Long) {
+            return 1;
+        }
+        if (key instanceof Double) {
+            return 2;
+        }
+        if (key instanceof BString) {
+            return 3;
+        }
+        if (key instanceof DecimalValue) {
+            return 4;
+        }
+        return NOT_ORDERED;
+    }
+
+    /**
+     * Compares two keys of the same order kind. Floats are compared such that NaN is equal to itself and -0.0 is
+     * less than 0.0, in line with Ballerina equality.
+     */
+    private static int compare(Object lhs, Object rhs) {
+        if (lhs instanceof Long) {
+            return Long.compare((Long) lhs, (Long) rhs);
+        }
+        if (lhs instanceof Double) {
+            return Double.compare((Double) lhs, (Double) rhs);
+        }
+        if (lhs instanceof BString) {
+            return ((BString) lhs).getValue().compareTo(((BString) rhs).getValue());
+        }
+        return ((DecimalValue) lhs).decimalValue().compareTo(((DecimalValue) rhs).decimalValue());
+    }
+
+    /**
+     * Hashes a key such that keys which are equal in Ballerina, including numbers of different types, have the same
+     * hash.
+     */
+    private static int hash(Object key, int depth) {
+        if (key == null || depth > MAX_HASH_DEPTH) {
+            return 0;
+        }
+        if (key instanceof BString) {
+            return ((BString) key).getValue().hashCode();
+        }
+        if (key instanceof Long || key instanceof Integer) {
+            return Long.hashCode(((Number) key).longValue());
+        }
+        if (key instanceof Double) {
+            double value = (Double) key;
+            if (value == Math.rint(value) && value >= Long.MIN_VALUE && value <= Long.MAX_VALUE) {
+                return Long.hashCode((long) value);
+            }
+            return Double.hashCode(value);
+        }
+        if (key instanceof DecimalValue) {
+            BigDecimal value = ((DecimalValue) key).decimalValue();
+            if (value.signum() == 0) {
+                return 0;
+            }
+            value = value.stripTrailingZeros();
+            if (value.scale() <= 0 && value.precision() - value.scale() <= 18) {
+                return Long.hashCode(value.longValue());
+            }
+            return value.hashCode();
+        }
+        if (key instanceof MapValue) {
+            // Mappings are equal regardless of the order of their fields.
+            int result = 0;
+            for (Map.Entry<?, ?> field : ((MapValue<?, ?>) key).entrySet()) {
+                result += hash(field.getKey(), depth + 1) ^ hash(field.getValue(), depth + 1);
+            }
+            return result;
+        }
+        if (key instanceof ArrayValue) {
+            ArrayValue list = (ArrayValue) key;
+            int result = 1;
+            for (int i = 0; i < list.size(); i++) {
+                result = 31 * result + hash(list.get(i), depth + 1);
+            }
+            return result;
+        }
+        if (key instanceof Boolean) {
+            return key.hashCode();
+        }
+        // Equality of the remaining values is left to Ballerina equality alone.
+        return 1;
+    }
+
+    /**
+     * Wraps a key so that it can be used as a {@link HashMap} key with Ballerina equality.
+     */
+    private static class HashKey {
+
+        private final Object value;
+        private final int hash;
+
+        HashKey(Object value) {
+            this.value = value;
+            this.hash = JoinIndex.hash(value, 0);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof HashKey && TypeChecker.isEqual(value, ((HashKey) o).value);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
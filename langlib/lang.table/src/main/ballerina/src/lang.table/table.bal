@@ -216,3 +216,19 @@ public isolated function nextKey(table<any|error> key<int> t) returns int = @jav
     'class: "org.ballerinalang.langlib.table.NextKey",
     name: "nextKey"
 } external;
+
+# Creates a secondary index on field `fieldName` of the members of table `t`.
+# The index is kept up to date as members are added, replaced and removed, and is
+# used by query expressions to evaluate `where` clauses that compare the field with
+# a value, instead of iterating over all the members.
+# A hash index supports equality comparisons, while a sorted index additionally
+# supports range comparisons and requires the field to be of an ordered type.
+# It panics if the field is not a readonly field of the members.
+#
+# + t - the table
+# + fieldName - the name of the field to index
+# + sorted - true to create a sorted index rather than a hash index
+public isolated function addIndex(table<map<any|error>> t, string fieldName, boolean sorted = false) = @java:Method {
+    'class: "org.ballerinalang.langlib.table.AddIndex",
+    name: "addIndex"
+} external;
@@ -218,11 +218,11 @@ public class CloneWithType {
                 return newMap;
             case TypeTags.RECORD_TYPE_TAG:
                 BRecordType recordType = (BRecordType) targetType;
-                MapValueImpl<BString, Object> newRecord;
+                MapValue<BString, Object> newRecord;
                 if (t != null && t.getDescribingType() == targetType) {
-                    newRecord = (MapValueImpl<BString, Object>) t.instantiate(strand);
+                    newRecord = (MapValue<BString, Object>) t.instantiate(strand);
                 } else {
-                    newRecord = (MapValueImpl<BString, Object>) BValueCreator
+                    newRecord = (MapValue<BString, Object>) BValueCreator
                             .createRecordValue(recordType.getPackage(), recordType.getName());
                 }
 
@@ -18,9 +18,11 @@
 package org.ballerinalang.langlib.value;
 
 import org.ballerinalang.jvm.JSONParser;
+import org.ballerinalang.jvm.TypedJSONParser;
 import org.ballerinalang.jvm.api.BErrorCreator;
 import org.ballerinalang.jvm.api.BStringUtils;
 import org.ballerinalang.jvm.api.values.BString;
+import org.ballerinalang.jvm.scheduling.Scheduler;
 import org.ballerinalang.jvm.util.exceptions.BallerinaException;
 import org.ballerinalang.jvm.values.TypedescValue;
 
@@ -40,10 +42,15 @@ public class FromJsonStringWithType {
         try {
             if (str.equals("null")) {
                 return FromJsonWithType.fromJsonWithType(null, t);
-            } else {
-                Object jsonFromString = JSONParser.parse(str);
-                return FromJsonWithType.fromJsonWithType(jsonFromString, t);
             }
+            // Bind records, maps and arrays straight from the string, falling back to converting the parsed JSON
+            // value on a mismatch, which also reports the reason.
+            Object result = TypedJSONParser.parse(str, t, Scheduler.getStrandIfAvailable());
+            if (result != TypedJSONParser.MISMATCH) {
+                return result;
+            }
+            Object jsonFromString = JSONParser.parse(str);
+            return FromJsonWithType.fromJsonWithType(jsonFromString, t);
         } catch (BallerinaException e) {
             return BErrorCreator.createError(VALUE_LANG_LIB_CONVERSION_ERROR,
                                              BStringUtils.fromString(e.getMessage()));
@@ -159,11 +159,11 @@ public class FromJsonWithType {
                 return newMap;
             case TypeTags.RECORD_TYPE_TAG:
                 BRecordType recordType = (BRecordType) targetType;
-                MapValueImpl<BString, Object> newRecord;
+                MapValue<BString, Object> newRecord;
                 if (t.getDescribingType() == targetType) {
-                    newRecord = (MapValueImpl<BString, Object>) t.instantiate(Scheduler.getStrand());
+                    newRecord = (MapValue<BString, Object>) t.instantiate(Scheduler.getStrand());
                 } else {
-                    newRecord = (MapValueImpl<BString, Object>) BValueCreator
+                    newRecord = (MapValue<BString, Object>) BValueCreator
                             .createRecordValue(recordType.getPackage(), recordType.getName());
                 }
 
@@ -219,7 +219,7 @@ public class FromJsonWithType {
                 BTableType tableType = (BTableType) targetType;
                 TableValueImpl newTable = new TableValueImpl(tableType);
                 for (int i = 0; i < array.size(); i++) {
-                    MapValueImpl mapValue = (MapValueImpl) convert(array.get(i), tableType.getConstrainedType(),
+                    MapValue mapValue = (MapValue) convert(array.get(i), tableType.getConstrainedType(),
                             unresolvedValues, t);
                     newTable.add(mapValue);
                 }
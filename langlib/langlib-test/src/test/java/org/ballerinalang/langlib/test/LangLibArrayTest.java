@@ -551,4 +551,19 @@ public class LangLibArrayTest {
     public void testSort10() {
         BRunUtil.invoke(compileResult, "testSort10");
     }
+
+    @Test
+    public void testSort11() {
+        BRunUtil.invoke(compileResult, "testSort11");
+    }
+
+    @Test
+    public void testIntSubtypeArrays() {
+        BRunUtil.invoke(compileResult, "testIntSubtypeArrays");
+    }
+
+    @Test
+    public void testNilableIntAndDecimalArrays() {
+        BRunUtil.invoke(compileResult, "testNilableIntAndDecimalArrays");
+    }
 }
@@ -138,6 +138,27 @@ public class LangLibTableTest {
         assertEquals(((BInteger) returns[0]).intValue(), 101);
     }
 
+    @Test
+    public void testSecondaryIndexes() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testSecondaryIndexes");
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+    }
+
+    @Test
+    public void testIndexLookupValueChangedInQuery() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testIndexLookupValueChangedInQuery");
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+    }
+
+    @Test(expectedExceptions = BLangRuntimeException.class,
+            expectedExceptionsMessageRegExp =
+                    ".*OperationNotSupported \\{\"message\":\"cannot create an index on field 'note' which " +
+                            "is not readonly\"\\}.*")
+    public void testIndexOnMutableField() {
+        BRunUtil.invoke(compileResult, "testIndexOnMutableField");
+        Assert.fail();
+    }
+
     @Test(expectedExceptions = BLangRuntimeException.class,
             expectedExceptionsMessageRegExp =
                     "error: \\{ballerina/lang.table\\}KeyNotFound \\{\"message\":\"cannot find key 'AAA'\"\\}.*")
@@ -333,6 +333,9 @@ public class LangLibValueTest {
                 { "testFromJsonStringWithTypeStringArray" },
                 { "testFromJsonStringWithTypeArrayNegative" },
                 { "testFromJsonStringWithTypeIntArray" },
+                { "testFromJsonStringWithTypeNestedRecord" },
+                { "testFromJsonStringWithTypeDefaultableFields" },
+                { "testFromJsonStringWithTypeRecordArrayNegative" },
         };
     }
 
@@ -1061,6 +1061,37 @@ function testSort10() {
     assertValueEquality(sortedArr6, arr3);
 }
 
+function testSort11() {
+    float nan = 0.0 / 0.0;
+    float[] floats = [3.5, nan, -0.0, 1.0, 0.0, -5.0];
+    float[] sortedFloats = floats.sort(array:DESCENDING);
+    assertValueEquality(sortedFloats, floats);
+    assertValueEquality(3.5, floats[0]);
+    assertValueEquality(1.0, floats[1]);
+    assertTrue(1.0 / floats[2] < 0.0);
+    assertTrue(1.0 / floats[3] > 0.0);
+    assertValueEquality(-5.0, floats[4]);
+    assertTrue(floats[5].isNaN());
+
+    byte[] bytes = [200, 1, 0, 255, 7];
+    assertValueEquality([0, 1, 7, 200, 255], bytes.sort());
+    assertValueEquality([255, 200, 7, 1, 0], bytes.sort(array:DESCENDING));
+
+    boolean[] flags = [true, false, true, false];
+    assertValueEquality([false, false, true, true], flags.sort());
+    assertValueEquality([true, true, false, false], flags.sort(array:DESCENDING));
+
+    string[] strs = ["\u{1F600}", "\u{E000}", "b", "a"];
+    assertValueEquality(["a", "b", "\u{E000}", "\u{1F600}"], strs.sort());
+
+    string[] words = ["ccc", "a", "bb", "dd", "e"];
+    assertValueEquality(["a", "e", "bb", "dd", "ccc"], words.sort(array:ASCENDING, (w) => w.length()));
+
+    [string, float][] pairs = [["a", 2.5], ["b", -0.0], ["c", nan], ["d", 0.0], ["e", 2.5]];
+    [string, float][] sortedPairs = pairs.sort(array:DESCENDING, (p) => p[1]);
+    assertValueEquality(["a", "e", "b", "d", "c"], sortedPairs.map((p) => p[0]));
+}
+
 const ASSERTION_ERROR_REASON = "AssertionError";
 
 function assertTrue(any|error actual) {
@@ -1117,3 +1148,81 @@ function testAsyncFpArgsWithArrays() returns [int, int[]] {
 function getRandomNumber(int i) returns int {
     return i + 2;
 }
+
+function testIntSubtypeArrays() {
+    ints:Signed32[] s32 = [2147483647, -2147483648, 0];
+    s32.push(-5);
+    ints:Signed16[] s16 = [32767, -32768];
+    s16[3] = 7;
+    ints:Signed8[] s8 = [127, -128, 1];
+    ints:Unsigned16[] u16 = [65535, 0];
+    ints:Unsigned8[] u8 = [255, 0, 128];
+
+    assertValueEquality(-2147483648, s32[1]);
+    assertValueEquality(4, s32.length());
+    assertValueEquality([32767, -32768, 0, 7], s16);
+    assertValueEquality(2, s8.indexOf(1));
+    assertValueEquality((), s8.indexOf(2));
+    assertValueEquality(0, u16.indexOf(65535));
+    assertValueEquality(255, u8.shift());
+    assertValueEquality([0, 128], u8);
+    assertValueEquality("[2147483647,-2147483648,0,-5]", s32.toString());
+
+    ints:Signed32[] s32Clone = s32.clone();
+    s32Clone[0] = 1;
+    assertTrue(s32Clone is ints:Signed32[]);
+    assertValueEquality(2147483647, s32[0]);
+    assertValueEquality([-2147483648, 0], s32.slice(1, 3));
+    assertValueEquality(0, s8.reduce(function (int total, ints:Signed8 i) returns int => total + i, 0));
+    assertValueEquality([128], u8.filter(function (ints:Unsigned8 i) returns boolean => i > 0));
+
+    ints:Signed8[] sorted = s8.sort();
+    assertValueEquality([-128, 1, 127], sorted);
+
+    int[] ints = [1, 2, 3];
+    float nan = 0.0 / 0.0;
+    float[] floats = [1.5, -0.0, 0.0, nan];
+    assertValueEquality(2, ints.indexOf(3));
+    assertValueEquality((), ints.indexOf(3, 3));
+    assertValueEquality(2, floats.indexOf(0.0));
+    assertValueEquality(3, floats.indexOf(nan));
+}
+
+function testNilableIntAndDecimalArrays() {
+    int?[] nilableInts = [1, (), 3];
+    nilableInts.push(());
+    nilableInts[6] = 7;
+    assertValueEquality([1, (), 3, (), (), (), 7], nilableInts);
+    assertValueEquality(1, nilableInts.shift());
+    nilableInts.unshift((), 0);
+    assertValueEquality([(), 0, (), 3, (), (), (), 7], nilableInts);
+    assertValueEquality(3, nilableInts.indexOf(3));
+    assertValueEquality([(), 3, ()], nilableInts.slice(2, 5));
+    // The members removed by shortening the array are not seen again when it is extended.
+    nilableInts.setLength(2);
+    nilableInts.setLength(4);
+    assertValueEquality([(), 0, (), ()], nilableInts);
+    assertValueEquality("[null,0,null,null]", nilableInts.toString());
+
+    int?[] nilableIntsClone = nilableInts.clone();
+    nilableIntsClone[0] = 5;
+    assertValueEquality((), nilableInts[0]);
+    assertValueEquality([0], nilableIntsClone.filter(function (int? i) returns boolean => i is int && i < 5));
+    assertValueEquality([-1, 0, -1, -1], nilableInts.map(function (int? i) returns int => i ?: -1));
+
+    decimal[] decimals = [1.5, 0, -2.25];
+    decimals[4] = 10;
+    assertValueEquality([1.5d, 0d, -2.25d, 0d, 10d], decimals);
+    assertValueEquality(9.25d, decimals.reduce(function (decimal total, decimal d) returns decimal => total + d, 0d));
+    assertValueEquality(-2.25d, decimals.sort()[0]);
+    assertValueEquality(1.5d, decimals.shift());
+
+    // Has more digits than fit in a long, so all the members are kept as decimal values from now on.
+    decimal large = 12345678901234567890.123456789;
+    decimals.push(large);
+    assertValueEquality([0d, -2.25d, 0d, 10d, large], decimals);
+    assertValueEquality(3, decimals.indexOf(10));
+    decimal[] decimalsClone = decimals.clone();
+    decimalsClone[0] = 1;
+    assertValueEquality(0d, decimals[0]);
+}
@@ -690,3 +690,64 @@ function testPutValidDataToKeylessTbl() returns boolean {
     testPassed = testPassed && tableToList[2] == intern1;
     return testPassed;
 }
+
+type Account record {|
+    readonly int id;
+    readonly string email;
+    readonly int balance;
+    string note = "";
+|};
+
+function testSecondaryIndexes() returns boolean {
+    table<Account> key(id) accounts = table [
+      { id: 1, email: "a@x.com", balance: 300 },
+      { id: 2, email: "b@x.com", balance: 100 },
+      { id: 3, email: "c@x.com", balance: 200 }
+    ];
+    accounts.addIndex("email");
+    accounts.addIndex("balance", true);
+    accounts.add({ id: 4, email: "b@x.com", balance: 150 });
+    accounts.put({ id: 1, email: "d@x.com", balance: 50 });
+    _ = accounts.remove(3);
+
+    int[] byEmail = from var a in accounts where a.email == "b@x.com" select a.id;
+    int[] byNewEmail = from var a in accounts where "d@x.com" == a.email select a.id;
+    int[] byOldEmail = from var a in accounts where a.email == "a@x.com" select a.id;
+    final int maxBalance = 150;
+    int[] byBalance = from var a in accounts where a.balance <= maxBalance && a.id > 1 select a.id;
+    int[] byRange = from var a in accounts where a.balance > 50 select a.id;
+    return byEmail == [2, 4] && byNewEmail == [1] && byOldEmail.length() == 0 && byBalance == [2, 4] &&
+        byRange == [2, 4];
+}
+
+int minBalance = 0;
+
+function lowerMinBalance() returns boolean {
+    minBalance -= 100;
+    return true;
+}
+
+function testIndexLookupValueChangedInQuery() returns boolean {
+    table<Account> key(id) indexed = table [
+      { id: 1, email: "a@x.com", balance: 300 },
+      { id: 2, email: "b@x.com", balance: 100 },
+      { id: 3, email: "c@x.com", balance: 200 },
+      { id: 4, email: "d@x.com", balance: 150 }
+    ];
+    table<Account> key(id) notIndexed = indexed.clone();
+    indexed.addIndex("balance", true);
+
+    // The where clause lowers the minimum balance after each match, so rows below the initial minimum match too.
+    minBalance = 200;
+    int[] fromIndexed = from var a in indexed where a.balance >= minBalance && lowerMinBalance() select a.id;
+    minBalance = 200;
+    int[] fromNotIndexed = from var a in notIndexed where a.balance >= minBalance && lowerMinBalance() select a.id;
+    return fromIndexed == fromNotIndexed && fromIndexed == [1, 2, 3, 4];
+}
+
+function testIndexOnMutableField() {
+    table<Account> key(id) accounts = table [
+      { id: 1, email: "a@x.com", balance: 300 }
+    ];
+    accounts.addIndex("note");
+}
@@ -936,6 +936,65 @@ function testFromJsonStringWithTypeIntArray() {
     assert(intArr[1], 2);
 }
 
+type Course record {|
+    string code;
+    float credits;
+    decimal fee;
+    string? lecturer;
+|};
+
+type CourseArray Course[];
+
+type Enrolment record {
+    int id;
+    string name;
+    Course[] courses;
+    map<int> grades = {};
+    string email?;
+};
+
+function testFromJsonStringWithTypeNestedRecord() {
+    string s = "{\"id\": 1, \"name\": \"Anne\", \"courses\": [" +
+        "{\"code\": \"CS101\", \"credits\": 3, \"fee\": 250.5, \"lecturer\": null}, " +
+        "{\"code\": \"CS102\", \"credits\": 2.5, \"fee\": 100, \"lecturer\": \"Bob\"}], " +
+        "\"grades\": {\"CS101\": 75}, \"year\": 2}";
+    Enrolment|error result = s.fromJsonStringWithType(Enrolment);
+    assert(result is Enrolment, true);
+    Enrolment enrolment = <Enrolment> result;
+    assert(enrolment.id, 1);
+    assert(enrolment.name, "Anne");
+    assert(enrolment.courses.length(), 2);
+    assert(enrolment.courses[0].credits, 3.0);
+    assert(enrolment.courses[0].fee, 250.5d);
+    assert(enrolment.courses[0].lecturer, ());
+    assert(enrolment.courses[1].credits, 2.5);
+    assert(enrolment.courses[1].fee, 100d);
+    assert(enrolment.courses[1].lecturer, "Bob");
+    assert(enrolment.grades["CS101"], 75);
+    assert(enrolment?.email, ());
+    assert(enrolment["year"], 2);
+}
+
+function testFromJsonStringWithTypeDefaultableFields() {
+    string s = "{\"id\": 2, \"name\": \"Ben\", \"courses\": []}";
+    Enrolment|error result = s.fromJsonStringWithType(Enrolment);
+    assert(result is Enrolment, true);
+    Enrolment enrolment = <Enrolment> result;
+    assert(enrolment.courses.length(), 0);
+    assert(enrolment.grades, {});
+    assert(enrolment?.email, ());
+}
+
+function testFromJsonStringWithTypeRecordArrayNegative() {
+    string s = "[{\"code\": \"CS101\", \"credits\": 3, \"fee\": 1, \"lecturer\": null, \"room\": \"A\"}]";
+    Course[]|error result = s.fromJsonStringWithType(CourseArray);
+    assert(result is error, true);
+
+    s = "{\"id\": \"3\", \"name\": \"Cid\", \"courses\": []}";
+    Enrolment|error enrolment = s.fromJsonStringWithType(Enrolment);
+    assert(enrolment is error, true);
+}
+
 /////////////////////////// Tests for `toJson()` ///////////////////////////
 
 function testToJsonWithRecord1() {
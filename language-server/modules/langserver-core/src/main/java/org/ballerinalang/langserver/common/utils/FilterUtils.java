@@ -193,8 +193,8 @@ public class FilterUtils {
      */
     public static List<Scope.ScopeEntry> getLangLibScopeEntries(BType bType, SymbolTable symTable, Types types) {
         List<Scope.ScopeEntry> entries = new ArrayList<>();
-        entries.addAll(symTable.langValueModuleSymbol.scope.entries.values());
-        entries.addAll(symTable.langQueryModuleSymbol.scope.entries.values());
+        entries.addAll(symTable.getLangValueModuleSymbol().scope.entries.values());
+        entries.addAll(symTable.getLangQueryModuleSymbol().scope.entries.values());
         switch (bType.tag) {
             case TypeTags.ARRAY:
             case TypeTags.TUPLE:
@@ -33,6 +33,7 @@ public enum JVMValueType {
     J_OBJECT("java.lang.Object"),
     BMPSTRING("org.ballerinalang.jvm.values.BmpStringValue"),
     NONBMPSTRING("org.ballerinalang.jvm.values.NonBmpStringValue"),
+    ROPESTRING("org.ballerinalang.jvm.values.RopeStringValue"),
     DECIMAL("org.ballerinalang.jvm.values.DecimalValue"), // todo - parent var name
     OBJECT_VALUE("org.ballerinalang.jvm.values.ObjectValue"),
     ARRAY_VALUE("org.ballerinalang.jvm.values.ArrayValue"),
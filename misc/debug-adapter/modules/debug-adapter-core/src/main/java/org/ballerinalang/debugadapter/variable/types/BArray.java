@@ -19,12 +19,16 @@ package org.ballerinalang.debugadapter.variable.types;
 import com.sun.jdi.ArrayReference;
 import com.sun.jdi.Field;
 import com.sun.jdi.IntegerValue;
+import com.sun.jdi.LongValue;
 import com.sun.jdi.ObjectReference;
+import com.sun.jdi.ReferenceType;
 import com.sun.jdi.Value;
 import org.ballerinalang.debugadapter.SuspendedContext;
 import org.ballerinalang.debugadapter.variable.BCompoundVariable;
 import org.ballerinalang.debugadapter.variable.BVariableType;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -66,19 +70,26 @@ public class BArray extends BCompoundVariable {
                 return new HashMap<>();
             }
             ObjectReference jvmValueRef = (ObjectReference) jvmValue;
-            List<Field> fields = jvmValueRef.referenceType().allFields();
-            Field arrayValueField = jvmValueRef.getValues(fields).entrySet().stream().filter(fieldValueEntry ->
-                    fieldValueEntry.getValue() != null && fieldValueEntry.getKey().toString().endsWith("Values"))
-                    .map(Map.Entry::getKey).collect(Collectors.toList()).get(0);
+            int arraySize = getArraySize(jvmValueRef);
+            List<Value> compactMembers = getCompactMembers(jvmValueRef, arraySize);
+            List<Value> valueSubList;
+            if (compactMembers != null) {
+                valueSubList = compactMembers;
+            } else {
+                List<Field> fields = jvmValueRef.referenceType().allFields();
+                Field arrayValueField = jvmValueRef.getValues(fields).entrySet().stream().filter(fieldValueEntry ->
+                        fieldValueEntry.getValue() != null && fieldValueEntry.getKey().toString().endsWith("Values"))
+                        .map(Map.Entry::getKey).collect(Collectors.toList()).get(0);
 
-            List<Value> valueList = ((ArrayReference) jvmValueRef.getValue(arrayValueField)).getValues();
-            // List length is 100 by default. Create a sub list with actual array size.
-            List<Value> valueSubList = valueList.subList(0, getArraySize(jvmValueRef));
+                List<Value> valueList = ((ArrayReference) jvmValueRef.getValue(arrayValueField)).getValues();
+                // List length is 100 by default. Create a sub list with actual array size.
+                valueSubList = valueList.subList(0, arraySize);
+            }
             Map<String, Value> values = new TreeMap<>();
             AtomicInteger nextVarIndex = new AtomicInteger(0);
             valueSubList.forEach(item -> {
                 int varIndex = nextVarIndex.getAndIncrement();
-                values.put(String.format("[%d]", varIndex), valueSubList.get(varIndex));
+                values.put(String.format("[%d]", varIndex), item);
             });
             return values;
         } catch (Exception ignored) {
@@ -86,6 +97,54 @@ public class BArray extends BCompoundVariable {
         }
     }
 
+    /**
+     * Returns the members of a given ballerina int? or decimal array, which are not kept as values of their own.
+     *
+     * @param arrayRef  object reference of the array instance.
+     * @param arraySize size of the array.
+     * @return members of the array, or null if the members are kept as values.
+     */
+    private List<Value> getCompactMembers(ObjectReference arrayRef, int arraySize) {
+        ReferenceType arrayType = arrayRef.referenceType();
+        Field nilableIntValuesField = arrayType.fieldByName("nilableIntValues");
+        Field unscaledDecimalValuesField = arrayType.fieldByName("unscaledDecimalValues");
+        if (nilableIntValuesField == null || unscaledDecimalValuesField == null) {
+            return null;
+        }
+
+        List<Value> members = new ArrayList<>(arraySize);
+        Value nilableIntValues = arrayRef.getValue(nilableIntValuesField);
+        if (nilableIntValues != null) {
+            // The words of the bit set which marks the members which are not nil.
+            ObjectReference nonNilMembers = (ObjectReference) arrayRef.getValue(arrayType.fieldByName(
+                    "nonNilIntMembers"));
+            ArrayReference words = (ArrayReference) nonNilMembers.getValue(nonNilMembers.referenceType()
+                    .fieldByName("words"));
+            List<Value> ints = ((ArrayReference) nilableIntValues).getValues(0, arraySize);
+            for (int i = 0; i < arraySize; i++) {
+                int word = i >> 6;
+                boolean isNil = word >= words.length() ||
+                        (((LongValue) words.getValue(word)).value() & (1L << i)) == 0;
+                members.add(isNil ? null : ints.get(i));
+            }
+            return members;
+        }
+
+        Value unscaledDecimalValues = arrayRef.getValue(unscaledDecimalValuesField);
+        if (unscaledDecimalValues != null) {
+            List<Value> unscaledValues = ((ArrayReference) unscaledDecimalValues).getValues(0, arraySize);
+            List<Value> scales = ((ArrayReference) arrayRef.getValue(arrayType.fieldByName("decimalScales")))
+                    .getValues(0, arraySize);
+            for (int i = 0; i < arraySize; i++) {
+                BigDecimal decimal = BigDecimal.valueOf(((LongValue) unscaledValues.get(i)).value(),
+                                                        ((IntegerValue) scales.get(i)).value());
+                members.add(arrayRef.virtualMachine().mirrorOf(decimal.toString()));
+            }
+            return members;
+        }
+        return null;
+    }
+
     /**
      * Returns the type of a given ballerina array typed variable.
      *
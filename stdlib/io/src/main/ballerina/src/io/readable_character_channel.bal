@@ -64,6 +64,18 @@ public class ReadableCharacterChannel {
         return readXmlExtern(self);
     }
 
+    # Reads the elements with the given names from an XML in the given channel. The content is read once, and only
+    # the selected elements are kept, so this needs far less memory than reading the whole XML.
+    # ```ballerina
+    # xml|io:Error result = readableCharChannel.readXmlElements("book", "{http://example.com/ns}author");
+    # ```
+    #
+    # + elementNames - Names of the elements to read, in the `{namespace}localName` form for namespaced elements
+    # + return - The selected elements in document order or else an `io:Error`
+    public function readXmlElements(string... elementNames) returns @tainted xml|Error {
+        return readXmlElementsExtern(self, elementNames);
+    }
+
     # Reads a property from a .properties file with a default value.
     # ```ballerina
     # string|io:Error result = readableCharChannel.readProperty(key, defaultValue);
@@ -118,6 +130,12 @@ function readXmlExtern(ReadableCharacterChannel characterChannel) returns @taint
     'class: "org.ballerinalang.stdlib.io.nativeimpl.CharacterChannelUtils"
 } external;
 
+function readXmlElementsExtern(ReadableCharacterChannel characterChannel, string[] elementNames)
+                               returns @tainted xml|Error = @java:Method {
+    name: "readXmlElements",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.CharacterChannelUtils"
+} external;
+
 function readPropertyExtern(ReadableCharacterChannel characterChannel, string key, string defaultValue) returns
                             @tainted string|Error = @java:Method {
     name: "readProperty",
@@ -106,6 +106,15 @@ public class CharacterChannel implements IOChannel {
         return channel;
     }
 
+    /**
+     * Gets the character set used to encode and decode the characters of the channel.
+     *
+     * @return the character set of the channel.
+     */
+    public Charset getCharset() {
+        return byteEncoder.charset();
+    }
+
     /**
      * Gets number of characters left in the character buffer.
      *
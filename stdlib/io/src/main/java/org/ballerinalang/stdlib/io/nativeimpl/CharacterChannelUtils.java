@@ -19,12 +19,17 @@
 package org.ballerinalang.stdlib.io.nativeimpl;
 
 import org.ballerinalang.jvm.JSONParser;
+import org.ballerinalang.jvm.JSONWriter;
+import org.ballerinalang.jvm.TypeChecker;
 import org.ballerinalang.jvm.XMLFactory;
 import org.ballerinalang.jvm.api.BStringUtils;
 import org.ballerinalang.jvm.api.values.BMap;
 import org.ballerinalang.jvm.api.values.BObject;
 import org.ballerinalang.jvm.api.values.BString;
+import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.util.exceptions.BallerinaException;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ErrorValue;
 import org.ballerinalang.jvm.values.XMLValue;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.channels.base.CharacterChannel;
@@ -38,6 +43,8 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.channels.ClosedChannelException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 import static org.ballerinalang.stdlib.io.utils.IOConstants.CHARACTER_CHANNEL_NAME;
 
@@ -107,6 +114,18 @@ public class CharacterChannelUtils {
         }
     }
 
+    public static Object readXmlElements(BObject channel, ArrayValue elementNames) {
+        CharacterChannel charChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
+        CharacterChannelReader reader = new CharacterChannelReader(charChannel);
+        try {
+            return XMLFactory.parseDescendants(reader, Arrays.asList(elementNames.getStringArray()));
+        } catch (BallerinaException e) {
+            return IOUtils.createError(e);
+        } catch (ErrorValue e) {
+            return IOUtils.createError(e.getMessage());
+        }
+    }
+
     public static Object readProperty(BObject channel, BString key, BString defaultValue) {
         CharacterChannel charChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
         CharacterChannelReader reader = new CharacterChannelReader(charChannel);
@@ -152,13 +171,32 @@ public class CharacterChannelUtils {
         try {
             CharacterChannel characterChannel = (CharacterChannel) characterChannelObj
                     .getNativeData(CHARACTER_CHANNEL_NAME);
+            Channel channel = characterChannel.getChannel();
+            if (channel != null && StandardCharsets.UTF_8.equals(characterChannel.getCharset()) &&
+                    isJsonStructure(content)) {
+                // Encode structured values straight into the channel, rather than through a string.
+                JSONWriter.write(content, channel.getByteChannel());
+                return null;
+            }
             IOUtils.writeFull(characterChannel, BStringUtils.getJsonString(content));
-        } catch (BallerinaIOException e) {
+        } catch (BallerinaIOException | IOException e) {
             return IOUtils.createError(e);
         }
         return null;
     }
 
+    /**
+     * Checks whether a value is serialized as JSON, rather than as its string value, by
+     * {@link BStringUtils#getJsonString(Object)}.
+     */
+    private static boolean isJsonStructure(Object content) {
+        if (content == null) {
+            return false;
+        }
+        int tag = TypeChecker.getType(content).getTag();
+        return tag == TypeTags.MAP_TAG || tag == TypeTags.ARRAY_TAG;
+    }
+
     public static Object writeXml(BObject characterChannelObj, XMLValue content) {
         try {
             CharacterChannel characterChannel = (CharacterChannel) characterChannelObj
@@ -385,6 +385,24 @@ public class IOTest {
         BRunUtil.invoke(characterInputOutputProgramFile, "closeReadableChannel");
     }
 
+    @Test(description = "Test 'readXmlElements' function in ballerina/io package")
+    public void testXmlElements() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/text/cd_catalog.xml";
+
+        //Will initialize the channel
+        BValue[] args = { new BString(getAbsoluteFilePath(resourceToRead)), new BString("UTF-8") };
+        BRunUtil.invoke(characterInputOutputProgramFile, "initReadableChannel", args);
+
+        BValue[] returns = BRunUtil.invoke(characterInputOutputProgramFile, "readXmlTitles");
+        String titles = returns[0].stringValue();
+        Assert.assertTrue(titles.startsWith("<TITLE>Empire Burlesque</TITLE><TITLE>Hide your heart</TITLE>"), titles);
+        Assert.assertTrue(titles.endsWith("<TITLE>Unchain my heart</TITLE>"), titles);
+        Assert.assertEquals(titles.split("<TITLE>").length - 1, 26);
+        Assert.assertFalse(titles.contains("ARTIST"), titles);
+
+        BRunUtil.invoke(characterInputOutputProgramFile, "closeReadableChannel");
+    }
+
     @Test(description = "Test function to convert string to json")
     public void convertStringToJsonTest() throws URISyntaxException {
         String content = "{\n" + "  \"test\": { \"name\": \"Foo\" }\n" + "}";
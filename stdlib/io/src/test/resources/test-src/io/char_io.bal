@@ -130,6 +130,15 @@ function readXml() returns @tainted xml|error {
     return e;
 }
 
+function readXmlTitles() returns @tainted xml|error {
+    var rCha = rch;
+    if(rCha is io:ReadableCharacterChannel){
+        return rCha.readXmlElements("TITLE");
+    }
+    io:GenericError e = io:GenericError("Character channel not initialized properly");
+    return e;
+}
+
 function readAvailableProperty(string key) returns @tainted string?|error {
     var rCha = rch;
     if(rCha is io:ReadableCharacterChannel) {
@@ -73,6 +73,7 @@ import org.ballerinalang.jvm.values.AbstractObjectValue;
 import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.ArrayValueImpl;
 import org.ballerinalang.jvm.values.BmpStringValue;
+import org.ballerinalang.jvm.values.ClosedRecordValue;
 import org.ballerinalang.jvm.values.DecimalValue;
 import org.ballerinalang.jvm.values.ErrorValue;
 import org.ballerinalang.jvm.values.FPValue;
@@ -82,6 +83,7 @@ import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.jvm.values.MapValueImpl;
 import org.ballerinalang.jvm.values.NonBmpStringValue;
 import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.jvm.values.RopeStringValue;
 import org.ballerinalang.jvm.values.StreamValue;
 import org.ballerinalang.jvm.values.TypedescValue;
 import org.ballerinalang.jvm.values.XMLSequence;
@@ -143,6 +145,8 @@ public class BRunUtil {
                 paramTypes[i] = BmpStringValue.class;
             } else if (arg instanceof NonBmpStringValue) {
                 paramTypes[i] = NonBmpStringValue.class;
+            } else if (arg instanceof RopeStringValue) {
+                paramTypes[i] = RopeStringValue.class;
             } else if (arg instanceof ArrayValue) {
                 paramTypes[i] = ArrayValue.class;
             } else if (arg instanceof Integer) {
@@ -916,14 +920,17 @@ public class BRunUtil {
             case org.ballerinalang.jvm.types.TypeTags.RECORD_TYPE_TAG:
             case org.ballerinalang.jvm.types.TypeTags.JSON_TAG:
             case org.ballerinalang.jvm.types.TypeTags.MAP_TAG:
-                MapValueImpl<?, ?> jvmMap = (MapValueImpl) value;
+                MapValue<?, ?> jvmMap = (MapValue<?, ?>) value;
                 BMap<Object, BRefType> bmap = new BMap<>(getBVMType(jvmMap.getType(), new Stack<>()));
                 bvmValueMap.put(String.valueOf(value.hashCode()), bmap);
                 for (Map.Entry entry : jvmMap.entrySet()) {
                     Object key = entry.getKey().toString();
                     bmap.put(key, getBVMValue(entry.getValue(), bvmValueMap));
                 }
-                bmap.getNativeData().putAll(jvmMap.getNativeDataMap());
+                // Closed records are not MapValueImpls.
+                bmap.getNativeData().putAll(jvmMap instanceof ClosedRecordValue ?
+                                                    ((ClosedRecordValue<?, ?>) jvmMap).getNativeDataMap() :
+                                                    ((MapValueImpl<?, ?>) jvmMap).getNativeDataMap());
                 return bmap;
             case org.ballerinalang.jvm.types.TypeTags.ERROR_TAG:
                 ErrorValue errorValue = (ErrorValue) value;
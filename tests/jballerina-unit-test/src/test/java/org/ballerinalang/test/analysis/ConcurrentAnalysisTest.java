@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.analysis;
+
+import io.ballerina.tools.diagnostics.Diagnostic;
+import org.ballerinalang.compiler.CompilerPhase;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.Compiler;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.ballerinalang.compiler.CompilerOptionName.COMPILER_PHASE;
+import static org.ballerinalang.compiler.CompilerOptionName.EXPERIMENTAL_FEATURES_ENABLED;
+import static org.ballerinalang.compiler.CompilerOptionName.OFFLINE;
+import static org.ballerinalang.compiler.CompilerOptionName.PARALLEL_ANALYSIS;
+import static org.ballerinalang.compiler.CompilerOptionName.PRESERVE_WHITESPACE;
+import static org.ballerinalang.compiler.CompilerOptionName.PROJECT_DIR;
+
+/**
+ * Test cases to check that running the isolation, documentation and taint analyses concurrently reports the same
+ * diagnostics as running them one after the other.
+ *
+ * @since 2.0.0
+ */
+public class ConcurrentAnalysisTest {
+
+    private static final String SOURCE_ROOT = "src/test/resources/test-src/analysis";
+
+    @DataProvider(name = "sources")
+    public Object[][] sources() {
+        return new Object[][] {
+                // Isolation errors and documentation warnings. Taint analysis is not run since there are errors.
+                { "concurrent-analyses-isolation-negative.bal" },
+                // Documentation warnings and taint errors.
+                { "concurrent-analyses-taint-negative.bal" },
+        };
+    }
+
+    // The analyses complete in a different order from one compilation to another, so each source is compiled a few
+    // times.
+    @Test(dataProvider = "sources", invocationCount = 5)
+    public void testSameDiagnosticsAsSerialAnalysis(String sourceFile) {
+        BLangPackage serial = compile(sourceFile, false);
+        BLangPackage parallel = compile(sourceFile, true);
+
+        Assert.assertTrue(serial.getErrorCount() > 0);
+        Assert.assertTrue(serial.getWarnCount() > 0);
+        Assert.assertEquals(describe(parallel.getDiagnostics()), describe(serial.getDiagnostics()));
+        Assert.assertEquals(parallel.getErrorCount(), serial.getErrorCount());
+        Assert.assertEquals(parallel.getWarnCount(), serial.getWarnCount());
+    }
+
+    private static BLangPackage compile(String sourceFile, boolean parallelAnalysis) {
+        CompilerContext context = new CompilerContext();
+        CompilerOptions options = CompilerOptions.getInstance(context);
+        options.put(PROJECT_DIR, Paths.get(SOURCE_ROOT).toAbsolutePath().toString());
+        options.put(COMPILER_PHASE, CompilerPhase.TAINT_ANALYZE.toString());
+        options.put(PRESERVE_WHITESPACE, Boolean.FALSE.toString());
+        options.put(EXPERIMENTAL_FEATURES_ENABLED, Boolean.TRUE.toString());
+        options.put(OFFLINE, Boolean.TRUE.toString());
+        options.put(PARALLEL_ANALYSIS, Boolean.toString(parallelAnalysis));
+        return Compiler.getInstance(context).compile(sourceFile);
+    }
+
+    private static List<String> describe(List<Diagnostic> diagnostics) {
+        List<String> descriptions = new ArrayList<>();
+        for (Diagnostic diagnostic : diagnostics) {
+            descriptions.add(diagnostic.diagnosticInfo().severity() + " " + diagnostic.location().lineRange() + " " +
+                                     diagnostic.message());
+        }
+        return descriptions;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.test.bir;
+
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.optimizer.BIRLockOptimizer;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test to confirm that the {@link BIRLockOptimizer} marks only read only lock blocks as shared.
+ */
+public class BIRLockOptimizerTest {
+
+    private final Map<String, List<BIRTerminator.Lock>> functionLocks = new HashMap<>();
+
+    @BeforeClass
+    public void setup() {
+        CompileResult result = BCompileUtil.compileAndGetBIR("test-src/bir/lock_optimizer.bal");
+        Assert.assertEquals(result.getErrorCount(), 0);
+        for (BIRNode.BIRFunction function : ((BLangPackage) result.getAST()).symbol.bir.functions) {
+            List<BIRTerminator.Lock> locks = new ArrayList<>();
+            for (BIRNode.BIRBasicBlock bb : function.basicBlocks) {
+                if (bb.terminator != null && bb.terminator.kind == InstructionKind.LOCK) {
+                    locks.add((BIRTerminator.Lock) bb.terminator);
+                }
+            }
+            functionLocks.put(function.name.value, locks);
+        }
+    }
+
+    @DataProvider(name = "lockBlocks")
+    public Object[][] lockBlocks() {
+        return new Object[][] {
+                { "readName", true },
+                { "readScore", true },
+                { "isDefaultName", true },
+                // Reads of variables which are written by another lock block of the same lock set.
+                { "readCounter", false },
+                { "readMaxCount", false },
+                { "incrementCounter", false },
+                { "updateTotal", false },
+                { "countCall", false },
+        };
+    }
+
+    @Test(description = "Test the lock mode of lock blocks", dataProvider = "lockBlocks")
+    public void testLockMode(String function, boolean shared) {
+        List<BIRTerminator.Lock> locks = functionLocks.get(function);
+        Assert.assertNotNull(locks, "function not found: " + function);
+        Assert.assertEquals(locks.size(), 1);
+        Assert.assertEquals(locks.get(0).shared, shared, "lock mode of the lock block in " + function);
+    }
+
+    @Test(description = "Test that lock blocks guarding the same variables use the same lock")
+    public void testLockSets() {
+        int counterLock = functionLocks.get("readCounter").get(0).lockId;
+        Assert.assertEquals((int) functionLocks.get("incrementCounter").get(0).lockId, counterLock);
+        Assert.assertEquals((int) functionLocks.get("readMaxCount").get(0).lockId, counterLock);
+        Assert.assertNotEquals((int) functionLocks.get("readName").get(0).lockId, counterLock);
+    }
+}
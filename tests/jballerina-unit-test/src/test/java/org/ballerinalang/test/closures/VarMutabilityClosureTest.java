@@ -18,8 +18,10 @@
 package org.ballerinalang.test.closures;
 
 import org.ballerinalang.core.model.values.BError;
+import org.ballerinalang.core.model.values.BFloat;
 import org.ballerinalang.core.model.values.BInteger;
 import org.ballerinalang.core.model.values.BMap;
+import org.ballerinalang.core.model.values.BString;
 import org.ballerinalang.core.model.values.BValue;
 import org.ballerinalang.core.model.values.BValueArray;
 import org.ballerinalang.core.model.values.BXMLSequence;
@@ -167,4 +169,26 @@ public class VarMutabilityClosureTest {
         Assert.assertEquals(s, "{accountID:222}");
     }
 
+    @Test(description = "Test mutating values of different types held in closure maps of functions, blocks and " +
+            "parameters")
+    public void testVarMutabilityWithClosureMaps() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "test14", new BValue[] { new BInteger(4), new BString("x") });
+        Assert.assertEquals(returns[0].stringValue(), "x1x2x3x4");
+        Assert.assertEquals(returns[1].stringValue(), "many");
+        Assert.assertEquals(((BFloat) returns[2]).floatValue(), 1.0);
+        Assert.assertEquals(returns[3].stringValue(), "[4, 4]");
+        Assert.assertEquals(returns[4].stringValue(), "x4");
+
+        returns = BRunUtil.invoke(compileResult, "test14", new BValue[] { new BInteger(1), null });
+        Assert.assertEquals(returns[0].stringValue(), "item1");
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 1);
+        Assert.assertEquals(((BFloat) returns[2]).floatValue(), 1.0);
+        Assert.assertEquals(returns[3].stringValue(), "[0, 0]");
+        Assert.assertNull(returns[4]);
+
+        returns = BRunUtil.invoke(compileResult, "test14", new BValue[] { new BInteger(0), null });
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 0);
+        Assert.assertTrue(returns[2] instanceof BError);
+    }
+
 }
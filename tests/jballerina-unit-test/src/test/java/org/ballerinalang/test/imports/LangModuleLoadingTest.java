@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.imports;
+
+import org.ballerinalang.core.model.values.BInteger;
+import org.ballerinalang.core.model.values.BValue;
+import org.ballerinalang.test.util.BAssertUtil;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+
+import java.io.PrintStream;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test cases for the lang modules which are loaded when they are first used, rather than when the compiler starts.
+ *
+ * @since 2.0.0
+ */
+public class LangModuleLoadingTest {
+
+    private static final String SOURCE_ROOT =
+            Paths.get("src/test/resources/test-src/imports/lang-modules").toAbsolutePath().toString();
+
+    @Test(description = "Test that the query and transaction lang modules are not loaded when they are not used")
+    public void testUnusedLangModulesNotLoaded() {
+        CompilerContext context = new CompilerContext();
+        CompileResult result = BCompileUtil.compileOnJBallerina(context, SOURCE_ROOT, "unused-lang-modules.bal",
+                                                                false, true);
+        Assert.assertEquals(result.getErrorCount(), 0);
+
+        SymbolTable symTable = SymbolTable.getInstance(context);
+        Assert.assertNull(symTable.langQueryModuleSymbol);
+        Assert.assertNull(symTable.langTransactionModuleSymbol);
+
+        BValue[] returns = BRunUtil.invoke(result, "testArithmetic");
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 110);
+        returns = BRunUtil.invoke(result, "testStrings");
+        Assert.assertEquals(returns[0].stringValue(), "Hello, Ballerina! 110");
+    }
+
+    @Test(description = "Test that the query and transaction lang modules are loaded when they are first used")
+    public void testLangModulesLoadedOnFirstUse() {
+        CompilerContext context = new CompilerContext();
+        CompileResult result = BCompileUtil.compileOnJBallerina(context, SOURCE_ROOT, "used-lang-modules.bal",
+                                                                false, true);
+        Assert.assertEquals(result.getErrorCount(), 0);
+
+        SymbolTable symTable = SymbolTable.getInstance(context);
+        Assert.assertNotNull(symTable.langQueryModuleSymbol);
+        Assert.assertNotNull(symTable.langTransactionModuleSymbol);
+        Assert.assertSame(symTable.getLangQueryModuleSymbol(), symTable.langQueryModuleSymbol);
+        Assert.assertSame(symTable.getLangTransactionModuleSymbol(), symTable.langTransactionModuleSymbol);
+
+        BValue[] returns = BRunUtil.invoke(result, "testQuery");
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 60);
+        returns = BRunUtil.invoke(result, "testTransaction");
+        Assert.assertEquals(returns[0].stringValue(), "start inTrx committed");
+    }
+
+    @Test(description = "Test that a method which is not found does not load the query and transaction lang modules")
+    public void testUndefinedMethodDoesNotLoadLangModules() {
+        CompilerContext context = new CompilerContext();
+        CompileResult result = BCompileUtil.compileOnJBallerina(context, SOURCE_ROOT, "undefined-lang-lib-method.bal",
+                                                                false, true);
+        // These are functions of the transaction and query modules, which are not methods of any type.
+        int index = 0;
+        BAssertUtil.validateError(result, index++, "undefined function 'setRollbackOnly' in type 'int'", 21, 7);
+        BAssertUtil.validateError(result, index++, "undefined function 'toArray' in type 'string'", 22, 7);
+        BAssertUtil.validateError(result, index++, "undefined function 'getInfo' in type 'int[]'", 23, 9);
+        Assert.assertEquals(result.getErrorCount(), index);
+
+        SymbolTable symTable = SymbolTable.getInstance(context);
+        Assert.assertNotNull(symTable.langValueModuleSymbol);
+        Assert.assertNull(symTable.langQueryModuleSymbol);
+        Assert.assertNull(symTable.langTransactionModuleSymbol);
+    }
+
+    @Test(description = "Test the time taken to load the query and transaction lang modules on first use")
+    public void testLangModuleLoadTime() {
+        CompilerContext context = new CompilerContext();
+        long start = System.nanoTime();
+        CompileResult result = BCompileUtil.compileOnJBallerina(context, SOURCE_ROOT, "unused-lang-modules.bal",
+                                                                false, true);
+        long compileTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        Assert.assertEquals(result.getErrorCount(), 0);
+
+        // This is the time which a program that does not use these modules no longer spends loading them.
+        SymbolTable symTable = SymbolTable.getInstance(context);
+        start = System.nanoTime();
+        Assert.assertNotNull(symTable.getLangQueryModuleSymbol());
+        Assert.assertNotNull(symTable.getLangTransactionModuleSymbol());
+        long loadTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        PrintStream out = System.out;
+        out.println("Compiling without the query and transaction lang modules: " + compileTime +
+                " ms, loading them on first use: " + loadTime + " ms");
+    }
+}
@@ -17,10 +17,29 @@
  */
 package org.ballerinalang.test.jvm;
 
+import io.ballerina.tools.diagnostics.Diagnostic;
+import org.ballerinalang.compiler.CompilerPhase;
 import org.ballerinalang.test.util.BAssertUtil;
 import org.ballerinalang.test.util.BCompileUtil;
 import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
 import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.Compiler;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import static org.ballerinalang.compiler.CompilerOptionName.COMPILER_PHASE;
+import static org.ballerinalang.compiler.CompilerOptionName.OFFLINE;
+import static org.ballerinalang.compiler.CompilerOptionName.PRESERVE_WHITESPACE;
+import static org.ballerinalang.compiler.CompilerOptionName.PROJECT_DIR;
+import static org.ballerinalang.compiler.CompilerOptionName.SKIP_MODULE_DEPENDENCIES;
 
 /**
  * Test cases to cover scenarios where backend-jvm code generates errors.
@@ -53,4 +72,41 @@ public class CodegenErrorsTest {
         CompileResult result = BCompileUtil.compileOnly("test-src/jvm/too-large-package-variable.bal");
         BAssertUtil.validateError(result, 0, "method is too large: '..<init>'", ".", 1, 1);
     }
+
+    // The code of modules which do not import each other is generated concurrently, so the project is compiled a few
+    // times to cover different orders of completion.
+    @Test(description = "Test a code generation error in one of the sibling modules of a project", invocationCount = 5)
+    public void testCodegenErrorInSiblingModule() {
+        CompilerContext context = new CompilerContext();
+        CompilerOptions options = CompilerOptions.getInstance(context);
+        options.put(PROJECT_DIR, Paths.get("src/test/resources/test-src/jvm/CodegenErrorProject").toAbsolutePath()
+                .toString());
+        options.put(COMPILER_PHASE, CompilerPhase.CODE_GEN.toString());
+        options.put(PRESERVE_WHITESPACE, Boolean.FALSE.toString());
+        options.put(OFFLINE, Boolean.TRUE.toString());
+        options.put(SKIP_MODULE_DEPENDENCIES, Boolean.TRUE.toString());
+
+        Map<String, BLangPackage> modules = new HashMap<>();
+        for (BLangPackage module : Compiler.getInstance(context).compilePackages(false)) {
+            modules.put(module.packageID.name.value, module);
+        }
+        Assert.assertEquals(modules.keySet(), new HashSet<>(Arrays.asList("app", "broken", "common", "dependent", "healthy")));
+
+        // The error is only reported for the module it belongs to, and only stops generating the code of that module.
+        BLangPackage broken = modules.get("broken");
+        Assert.assertEquals(broken.getErrorCount(), 1);
+        Diagnostic error = broken.getDiagnostics().get(0);
+        Assert.assertTrue(error.message().startsWith("{ballerina/java}CLASS_NOT_FOUND"), error.message());
+        Assert.assertTrue(broken.symbol.compiledJarFile.getJarEntries().isEmpty());
+        // The code of a module importing it is not generated either, and the error is not reported again.
+        BLangPackage dependent = modules.get("dependent");
+        Assert.assertEquals(dependent.getErrorCount(), 0);
+        Assert.assertTrue(dependent.symbol.compiledJarFile.getJarEntries().isEmpty());
+        for (String moduleName : new String[] { "app", "common", "healthy" }) {
+            BLangPackage module = modules.get(moduleName);
+            Assert.assertEquals(module.getErrorCount(), 0, "errors in " + moduleName);
+            Assert.assertFalse(module.symbol.compiledJarFile.getJarEntries().isEmpty(),
+                               "code of " + moduleName + " is not generated");
+        }
+    }
 }
@@ -66,6 +66,18 @@ public class JoinClauseTest {
         Assert.assertTrue(((BBoolean) values[0]).booleanValue());
     }
 
+    @Test(description = "Test join clause with duplicate keys on both sides, in no particular order")
+    public void testJoinClauseWithDuplicateAndUnorderedKeys() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseWithDuplicateAndUnorderedKeys");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test join clause with keys compared by value")
+    public void testJoinClauseWithRecordKeys() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseWithRecordKeys");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
     @Test(description = "Test query expr with join and limit clause")
     public void testJoinClauseWithLimit() {
         BValue[] values = BRunUtil.invoke(result, "testJoinClauseWithLimit");
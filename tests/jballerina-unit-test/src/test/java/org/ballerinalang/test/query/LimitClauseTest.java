@@ -21,6 +21,7 @@ import org.ballerinalang.core.model.values.BBoolean;
 import org.ballerinalang.core.model.values.BInteger;
 import org.ballerinalang.core.model.values.BMap;
 import org.ballerinalang.core.model.values.BValue;
+import org.ballerinalang.core.util.exceptions.BLangRuntimeException;
 import org.ballerinalang.test.util.BCompileUtil;
 import org.ballerinalang.test.util.BRunUtil;
 import org.ballerinalang.test.util.CompileResult;
@@ -153,6 +154,25 @@ public class LimitClauseTest {
         Assert.assertTrue(((BBoolean) values[0]).booleanValue());
     }
 
+    @Test(description = "Test limit clause after a where clause, when the query builds a list")
+    public void testLimitClauseAfterWhereClauseInList() {
+        BValue[] values = BRunUtil.invoke(result, "testLimitClauseAfterWhereClauseInList");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test limit clause is evaluated for each row")
+    public void testLimitClauseEvaluatedForEachRow() {
+        BValue[] values = BRunUtil.invoke(result, "testLimitClauseEvaluatedForEachRow");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test limit clause with a value less than one",
+          expectedExceptions = BLangRuntimeException.class,
+          expectedExceptionsMessageRegExp = ".*Invalid limit \\{\"message\":\"limit cannot be < 1.\"\\}.*")
+    public void testLimitClauseWithInvalidValueInList() {
+        BRunUtil.invoke(result, "testLimitClauseWithInvalidValueInList");
+    }
+
     @Test(description = "Test limit clause with incompatible types", groups = {"disableOnOldParser"})
     public void testNegativeScenarios() {
         negativeResult = BCompileUtil.compile("test-src/query/limit-clause-negative.bal");
@@ -23,6 +23,8 @@ import org.ballerinalang.core.model.values.BInteger;
 import org.ballerinalang.core.model.values.BMap;
 import org.ballerinalang.core.model.values.BString;
 import org.ballerinalang.core.model.values.BValue;
+import org.ballerinalang.jvm.api.BStringUtils;
+import org.ballerinalang.jvm.values.ClosedRecordValue;
 import org.ballerinalang.test.util.BAssertUtil;
 import org.ballerinalang.test.util.BCompileUtil;
 import org.ballerinalang.test.util.BRunUtil;
@@ -310,4 +312,33 @@ public class ClosedRecordTest {
     public void removeIfHasKeyRest() {
         BRunUtil.invoke(compileResult, "removeIfHasKeyRest");
     }
+
+    @Test(description = "Test field access through a variable of a structurally equivalent record type")
+    public void testFieldAccessOfStructurallyEquivalentRecords() {
+        BRunUtil.invoke(compileResult, "testFieldAccessOfStructurallyEquivalentRecords");
+    }
+
+    @Test(description = "Test updating a field of a read-only record value")
+    public void testFieldUpdateOfReadOnlyRecordValue() {
+        BRunUtil.invoke(compileResult, "testFieldUpdateOfReadOnlyRecordValue");
+    }
+
+    @Test(description = "Test that closed record values do not carry a map for their fields")
+    public void testClosedRecordValueClass() {
+        Object point = BRunUtil.invokeAndGetJVMResult(compileResult, "getPoint");
+        Assert.assertTrue(point instanceof ClosedRecordValue, point.getClass().getName());
+
+        ClosedRecordValue<?, ?> record = (ClosedRecordValue<?, ?>) point;
+        Assert.assertEquals(record.size(), 3);
+        Assert.assertEquals(record.get(BStringUtils.fromString("x")), 1L);
+        Assert.assertEquals(record.get(BStringUtils.fromString("y")), 2.5);
+        Assert.assertEquals(record.get(BStringUtils.fromString("label")).toString(), "p");
+        Assert.assertFalse(record.containsKey(BStringUtils.fromString("z")));
+        Assert.assertNull(record.getNativeData("data"));
+    }
+
+    @Test(description = "Test using a closed record value as a mapping")
+    public void testClosedRecordAsMapping() {
+        BRunUtil.invoke(compileResult, "testClosedRecordAsMapping");
+    }
 }
@@ -0,0 +1,51 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+int count = 0;
+
+# Increments the count.
+#
+# + step - step to increment by
+# + other - no such parameter
+isolated function increment(int step) {
+    count += step;
+}
+
+# Returns the count.
+#
+# + return - the count
+# + return - the count, again
+isolated function getCount() returns int {
+    return nonIsolatedGetCount();
+}
+
+function nonIsolatedGetCount() returns int => count;
+
+# Documentation of a record.
+#
+# + a - field a
+# + a - field a, again
+type Rec record {
+    int a;
+    int b = count;
+};
+
+public function main(string... args) {
+    secureFunction(args[0]);
+}
+
+function secureFunction(@untainted string secureIn) {
+}
@@ -0,0 +1,38 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+public function main(string... args) {
+    secureFunction(args[0], args[1]);
+    string value = getValue(args[0]);
+    secureFunction(value, value);
+}
+
+# Uses the arguments securely.
+#
+# + secureIn - input which has to be untainted
+# + other - no such parameter
+function secureFunction(@untainted string secureIn, string insecureIn) {
+}
+
+# Returns the given value.
+#
+# + value - the value
+# + value - the value, again
+# + return - the given value
+function getValue(string value) returns string {
+    secureFunction(value, value);
+    return value;
+}
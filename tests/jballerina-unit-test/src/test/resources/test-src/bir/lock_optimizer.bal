@@ -0,0 +1,94 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+int counter = 0;
+int maxCount = 10;
+string name = "ballerina";
+map<int> scores = {"a": 1};
+map<int> totals = {"a": 1};
+int calls = 0;
+
+// Read only lock blocks over variables which are not guarded by any other lock block.
+
+function readName() returns string {
+    string value = "";
+    lock {
+        value = name;
+    }
+    return value;
+}
+
+function readScore() returns int? {
+    int? value = ();
+    lock {
+        value = scores["a"];
+    }
+    return value;
+}
+
+function isDefaultName() returns boolean {
+    boolean isDefault = false;
+    lock {
+        if (name == "ballerina") {
+            isDefault = true;
+        }
+    }
+    return isDefault;
+}
+
+// Lock blocks sharing a variable with a lock block which writes to it.
+
+function readCounter() returns int {
+    int value = 0;
+    lock {
+        value = counter + maxCount;
+    }
+    return value;
+}
+
+function incrementCounter() {
+    lock {
+        counter = counter + 1;
+    }
+}
+
+function readMaxCount() returns int {
+    int value = 0;
+    lock {
+        value = maxCount;
+    }
+    return value;
+}
+
+// Lock blocks which write to the guarded value or call a function.
+
+function updateTotal() {
+    lock {
+        totals["a"] = 2;
+    }
+}
+
+function countCall() returns int {
+    int value = 0;
+    lock {
+        value = twice(calls);
+    }
+    return value;
+}
+
+function twice(int i) returns int {
+    return i * 2;
+}
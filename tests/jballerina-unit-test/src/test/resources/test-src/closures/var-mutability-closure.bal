@@ -327,3 +327,35 @@ function test13() returns AccountNotFoundError {
     error? err = addFunc1();
     return accountNotFoundError;
 }
+
+// CLOSURE MAPS OF FUNCTIONS, BLOCKS AND PARAMETERS
+
+function test14(int count, string? prefix) returns [string, int|string, float|error, int[] & readonly, string?] {
+    int|string total = 0;
+    float|error average = error("no items");
+    int[] & readonly bounds = [0, 0];
+    string? last = ();
+    string names = "";
+    foreach int i in 1 ... count {
+        string name = (prefix ?: "item") + i.toString();
+        var addItem = function () {
+            names = names + name;
+            var addTotal = function () {
+                int|string current = total;
+                total = current is int && current < 5 ? current + i : "many";
+            };
+            addTotal();
+            average = <float> i / <float> count;
+        };
+        addItem();
+        if (i % 2 == 0) {
+            string? even = name;
+            var setLast = function () {
+                last = even;
+                bounds = [count, i];
+            };
+            setLast();
+        }
+    }
+    return [names, total, average, bounds, last];
+}
@@ -0,0 +1,39 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+function testQuery() returns int {
+    int[] values = [1, 2, 3, 4];
+    int[] evens = from var value in values
+                  where value % 2 == 0
+                  select value * 10;
+    int total = 0;
+    foreach int value in evens {
+        total += value;
+    }
+    return total;
+}
+
+function testTransaction() returns string {
+    string result = "start";
+    transaction {
+        result += " inTrx";
+        var err = commit;
+        if err is () {
+            result += " committed";
+        }
+    }
+    return result;
+}
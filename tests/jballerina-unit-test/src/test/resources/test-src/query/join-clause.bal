@@ -439,3 +439,48 @@ function getDeptName(int id) returns string {
         return "Operations";
     }
 }
+
+function testJoinClauseWithDuplicateAndUnorderedKeys() returns boolean {
+    Person p1 = {id: 3, fname: "Alex", lname: "George"};
+    Person p2 = {id: 1, fname: "Ranjan", lname: "Fonseka"};
+    Person p3 = {id: 3, fname: "John", lname: "David"};
+    Person p4 = {id: 4, fname: "Max", lname: "Gomaz"};
+
+    Department d1 = {id: 1, name:"HR"};
+    Department d2 = {id: 3, name:"Operations"};
+    Department d3 = {id: 3, name:"Engineering"};
+
+    Person[] personList = [p1, p2, p3, p4];
+    Department[] deptList = [d1, d2, d3];
+
+    string[] deptPersonList =
+       from var person in personList
+       join Department dept in deptList
+       on person.id equals dept.id
+       select person.fname + ":" + dept.name;
+
+    return deptPersonList == ["Alex:Operations", "Alex:Engineering", "Ranjan:HR", "John:Operations",
+                              "John:Engineering"];
+}
+
+type PersonName record {|
+    string fname;
+    string lname;
+|};
+
+function testJoinClauseWithRecordKeys() returns boolean {
+    Person p1 = {id: 1, fname: "Alex", lname: "George"};
+    Person p2 = {id: 2, fname: "Ranjan", lname: "Fonseka"};
+
+    Person[] personList = [p1, p2];
+    PersonName[] names = [{lname: "Fonseka", fname: "Ranjan"}, {fname: "Alex", lname: "David"}];
+
+    int[] ids =
+       from var person in personList
+       let PersonName personName = {fname: person.fname, lname: person.lname}
+       join PersonName name in names
+       on personName equals name
+       select person.id;
+
+    return ids == [2];
+}
@@ -243,3 +243,31 @@ function testLetExpressionWithLimitClause() returns boolean {
     testPassed = testPassed && p.firstName == "John" && p.lastName == "David" && p.age == 34;
     return testPassed;
 }
+
+function testLimitClauseAfterWhereClauseInList() returns boolean {
+    int[] nums = [1, 2, 3, 4, 5, 6, 7, 8];
+    int[] doubledEvens =
+            from int n in nums
+            let int doubled = n * 2
+            where n % 2 == 0
+            limit 3
+            select doubled;
+    return doubledEvens == [4, 8, 12];
+}
+
+function testLimitClauseEvaluatedForEachRow() returns boolean {
+    int[] nums = [5, 4, 3, 2, 1];
+    int[] selected =
+            from int n in nums
+            limit n
+            select n;
+    return selected == [5, 4, 3];
+}
+
+function testLimitClauseWithInvalidValueInList() returns int[] {
+    int[] nums = [1, 2, 3];
+    int limitValue = 0;
+    return from int n in nums
+           limit limitValue
+           select n;
+}
@@ -380,3 +380,81 @@ function removeIfHasKeyRest() {
          panic error("Returned value should be nil.");
     }
 }
+
+type Point record {|
+    int x;
+    float y;
+    int|string label;
+|};
+
+type PointLabel Point;
+
+function testFieldAccessOfStructurallyEquivalentRecords() {
+    record {| int x; float y; int|string label; |} anon = {x: 1, y: 2.5, label: "a"};
+    Point p = anon;
+    p.x = p.x + 10;
+    p.y = p.y * 2;
+    p.label = 5;
+
+    PointLabel q = {x: 3, y: 4.0, label: "q"};
+    Point r = q;
+    r.x += 1;
+    r.label = "r";
+
+    if !(anon.x == 11 && anon.y == 5.0 && anon.label == 5 && q.x == 4 && q.label == "r") {
+        panic error("Fields should be updated through the variable of the structurally equivalent type.");
+    }
+
+    int|string label = p.label;
+    if (label != 5 || r["x"] != 4) {
+        panic error("Fields should be read through the variable of the structurally equivalent type.");
+    }
+}
+
+function setPointX(Point p, int x) {
+    p.x = x;
+}
+
+function testFieldUpdateOfReadOnlyRecordValue() {
+    Point p = {x: 1, y: 2.0, label: "p"};
+    setPointX(p, 2);
+
+    Point frozen = p.cloneReadOnly();
+    error? result = trap setPointX(frozen, 3);
+    if !(result is error) {
+        panic error("Updating a field of a read-only record value should panic.");
+    }
+
+    if (p.x != 2 || frozen.x != 2) {
+        panic error("A failed update should not change the field.");
+    }
+}
+
+function getPoint() returns Point {
+    return {x: 1, y: 2.5, label: "p"};
+}
+
+function testClosedRecordAsMapping() {
+    Point p = {x: 1, y: 2.5, label: "p"};
+    map<anydata> m = p;
+    if (m.length() != 3 || m.keys() != ["x", "y", "label"] || m["label"] != "p" || m.hasKey("z")) {
+        panic error("A closed record should have exactly its fields.");
+    }
+
+    int count = 0;
+    foreach anydata value in m {
+        count += 1;
+    }
+
+    Point copy = p.clone();
+    Point converted = checkpanic p.cloneWithType(Point);
+    if (count != 3 || copy != p || converted != p) {
+        panic error("A closed record should be iterated, copied and converted as a mapping.");
+    }
+
+    map<json> j = <map<json>> p.toJson();
+    record {| int x; float y; int|string label; int...; |} spread = {...p, "z": 3};
+    if (j["x"] != 1 || j["label"] != "p" || spread.x != 1 || spread["z"] != 3) {
+        panic error("A closed record should be converted to JSON and spread as a mapping.");
+    }
+}